@@ -0,0 +1,71 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package eu.tsystems.mms.tic.testframework.adapters;
+
+import eu.tsystems.mms.tic.testframework.report.model.MethodContext;
+import eu.tsystems.mms.tic.testframework.report.model.context.SyntheticContexts;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the report model export of synthetic method contexts
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ContextExporterBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int testSteps;
+
+    @Param({"10", "100"})
+    public int logMessagesPerStep;
+
+    private ContextExporter contextExporter;
+    private eu.tsystems.mms.tic.testframework.report.model.context.MethodContext methodContext;
+
+    @Setup
+    public void setup() {
+        contextExporter = new ContextExporter();
+        methodContext = SyntheticContexts.createMethodContext("export", testSteps, logMessagesPerStep);
+    }
+
+    @Benchmark
+    public MethodContext buildMethodContext() {
+        return contextExporter.buildMethodContext(methodContext).build();
+    }
+}
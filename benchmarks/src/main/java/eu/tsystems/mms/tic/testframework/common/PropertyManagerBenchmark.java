@@ -0,0 +1,82 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package eu.tsystems.mms.tic.testframework.common;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the property resolution of {@link PropertyManager} with and without placeholders
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PropertyManagerBenchmark {
+
+    @Setup
+    public void setup() {
+        System.setProperty("benchmark.host", "localhost");
+        System.setProperty("benchmark.port", "4444");
+        System.setProperty("benchmark.plain", "http://localhost:4444/wd/hub");
+        System.setProperty("benchmark.url", "http://{benchmark.host}:{benchmark.port}/wd/hub");
+        System.setProperty("benchmark.nested", "{benchmark.url}/session?host={benchmark.host}");
+    }
+
+    @Benchmark
+    public String plainProperty() {
+        return PropertyManager.getProperty("benchmark.plain");
+    }
+
+    @Benchmark
+    public String placeholderProperty() {
+        return PropertyManager.getProperty("benchmark.url");
+    }
+
+    @Benchmark
+    public String nestedPlaceholderProperty() {
+        return PropertyManager.getProperty("benchmark.nested");
+    }
+
+    @Benchmark
+    public String missingPropertyWithDefault() {
+        return PropertyManager.getProperty("benchmark.missing", "default");
+    }
+
+    @Benchmark
+    public int intProperty() {
+        return PropertyManager.getIntProperty("benchmark.port", 0);
+    }
+}
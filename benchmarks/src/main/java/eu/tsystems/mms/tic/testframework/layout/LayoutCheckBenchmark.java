@@ -0,0 +1,123 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package eu.tsystems.mms.tic.testframework.layout;
+
+import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the pixel based {@link LayoutCheck} including reading the images.
+ * The distance image is written lazily by {@link LayoutCheck#toReport(LayoutCheck.MatchStep)} and not part of it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LayoutCheckBenchmark {
+
+    private static final String TARGET_IMAGE_NAME = "Benchmark";
+
+    @Param({"1280x720", "1920x1080"})
+    public String size;
+
+    /**
+     * Percentage of pixels that differ from the reference
+     */
+    @Param({"0", "5"})
+    public int differencePercent;
+
+    private File baseDir;
+    private File screenshot;
+
+    @Setup
+    public void setup() throws IOException {
+        baseDir = Files.createTempDirectory("layoutcheck-benchmark").toFile();
+        System.setProperty(TesterraProperties.LAYOUTCHECK_REFERENCE_PATH, new File(baseDir, "reference").getAbsolutePath());
+        System.setProperty(TesterraProperties.LAYOUTCHECK_ACTUAL_PATH, new File(baseDir, "actual").getAbsolutePath());
+        System.setProperty(TesterraProperties.LAYOUTCHECK_DISTANCE_PATH, new File(baseDir, "distance").getAbsolutePath());
+
+        String[] dimensions = size.split("x");
+        int width = Integer.parseInt(dimensions[0]);
+        int height = Integer.parseInt(dimensions[1]);
+        Random random = new Random(42);
+
+        BufferedImage reference = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                // Blocks of colors like a web page
+                reference.setRGB(x, y, ((x / 64) * 0x101010 + (y / 32) * 0x080808) & 0xFFFFFF);
+            }
+        }
+        BufferedImage actual = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        actual.setData(reference.getData());
+        int differentPixels = width * height / 100 * differencePercent;
+        for (int i = 0; i < differentPixels; ++i) {
+            actual.setRGB(random.nextInt(width), random.nextInt(height), 0xFF0000);
+        }
+
+        File referenceDir = LayoutCheck.getDir(System.getProperty(TesterraProperties.LAYOUTCHECK_REFERENCE_PATH)).toFile();
+        ImageIO.write(reference, "PNG", new File(referenceDir, "Reference" + TARGET_IMAGE_NAME + ".png"));
+        screenshot = new File(baseDir, "screenshot.png");
+        ImageIO.write(actual, "PNG", screenshot);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(baseDir);
+    }
+
+    @Benchmark
+    public double matchPixels() {
+        return LayoutCheck.matchPixels(screenshot, TARGET_IMAGE_NAME).distance;
+    }
+
+    /**
+     * Stops comparing as soon as the distance is known to be above or below 1%
+     */
+    @Benchmark
+    public double matchPixelsWithMaxDistance() {
+        return LayoutCheck.matchPixels(screenshot, TARGET_IMAGE_NAME, 1).distance;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.layout;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link PixelComparator} with the former single threaded
+ * {@link BufferedImage#getRGB(int, int)} based comparison, without reading and writing files.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PixelComparatorBenchmark {
+
+    @Param({"1920x1080", "3840x2160"})
+    public String size;
+
+    /**
+     * Percentage of pixels that differ from the reference
+     */
+    @Param({"0", "5"})
+    public int differencePercent;
+
+    private BufferedImage reference;
+    private BufferedImage actual;
+
+    @Setup
+    public void setup() {
+        String[] dimensions = size.split("x");
+        int width = Integer.parseInt(dimensions[0]);
+        int height = Integer.parseInt(dimensions[1]);
+        Random random = new Random(42);
+
+        // ImageIO reads PNG screenshots as 3BYTE_BGR
+        reference = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                reference.setRGB(x, y, ((x / 64) * 0x101010 + (y / 32) * 0x080808) & 0xFFFFFF);
+            }
+        }
+        actual = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+        actual.setData(reference.getData());
+        int differentPixels = width * height / 100 * differencePercent;
+        for (int i = 0; i < differentPixels; ++i) {
+            actual.setRGB(random.nextInt(width), random.nextInt(height), 0xFF0000);
+        }
+    }
+
+    @Benchmark
+    public Object pixelComparator() {
+        PixelComparator pixelComparator = new PixelComparator(reference, actual).compare();
+        if (pixelComparator.hasDifferences()) {
+            return pixelComparator.createDistanceImage();
+        }
+        return pixelComparator.getDistance();
+    }
+
+    /**
+     * The comparison as it was implemented in {@link LayoutCheck} before
+     */
+    @Benchmark
+    public Object legacy() {
+        int width = Math.max(reference.getWidth(), actual.getWidth());
+        int height = Math.max(reference.getHeight(), actual.getHeight());
+        BufferedImage distanceImage = new BufferedImage(width, height, reference.getType());
+        int pixelsInError = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                boolean insideReference = reference.getWidth() > x && reference.getHeight() > y;
+                boolean insideActual = actual.getWidth() > x && actual.getHeight() > y;
+                if (insideReference) {
+                    distanceImage.setRGB(x, y, reference.getRGB(x, y));
+                }
+                if (insideReference && insideActual) {
+                    if (!LayoutCheck.doRGBsMatch(reference.getRGB(x, y), actual.getRGB(x, y))) {
+                        distanceImage.setRGB(x, y, Color.RED.getRGB());
+                        pixelsInError++;
+                    }
+                } else {
+                    distanceImage.setRGB(x, y, Color.BLUE.getRGB());
+                }
+            }
+        }
+        return pixelsInError;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package eu.tsystems.mms.tic.testframework.logging;
+
+import eu.tsystems.mms.tic.testframework.report.model.context.MethodContext;
+import eu.tsystems.mms.tic.testframework.report.model.context.SyntheticContexts;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.core.LogEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@link MethodContextLogAppender#append(LogEvent)} for the logging thread
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MethodContextLogAppenderBenchmark {
+
+    /**
+     * Amount of messages after which the method context gets replaced to keep the heap bounded
+     */
+    private static final int MESSAGES_PER_METHOD = 10_000;
+
+    @Param({"sync", "async"})
+    public String mode;
+
+    private MethodContextLogAppender appender;
+    private MethodContext methodContext;
+    private int messages = 0;
+
+    @Setup
+    public void setup() {
+        if (mode.equals("async")) {
+            appender = new MethodContextLogAppender(8192, MethodContextLogAppender.OverflowPolicy.BLOCK);
+        } else {
+            appender = new MethodContextLogAppender();
+        }
+        appender.start();
+        methodContext = SyntheticContexts.createMethodContext("appender");
+    }
+
+    @TearDown
+    public void tearDown() {
+        appender.flush();
+        appender.stop();
+    }
+
+    @Benchmark
+    public void append() {
+        if (++messages >= MESSAGES_PER_METHOD) {
+            methodContext = SyntheticContexts.createMethodContext("appender");
+            messages = 0;
+        }
+        appender.append(SyntheticContexts.createLogEvent("Message {} of {}", messages, methodContext));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package eu.tsystems.mms.tic.testframework.report.model.context;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of resolving child contexts against the number of methods per class.
+ * The linear variants reproduce the former stream based lookup of {@link AbstractContext#getOrCreateContext}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ContextLookupBenchmark {
+
+    private static class ChildContext extends AbstractContext {
+    }
+
+    private static class ParentContext extends AbstractContext {
+        private final Queue<ChildContext> childContexts = new ConcurrentLinkedQueue<>();
+        private final Map<String, ChildContext> childContextsByName = new ConcurrentHashMap<>();
+
+        private ChildContext getChildContext(String name) {
+            return getOrCreateContext(childContextsByName, childContexts, name, ChildContext::new, null);
+        }
+
+        private ChildContext scanChildContext(String name) {
+            return scanOrCreateContext(childContexts, name);
+        }
+    }
+
+    private static ChildContext scanOrCreateContext(Collection<ChildContext> contexts, String name) {
+        List<ChildContext> list = contexts.stream()
+                .filter(context -> name.equals(context.getName()))
+                .collect(Collectors.toList());
+        if (list.size() == 0) {
+            ChildContext context = new ChildContext();
+            context.setName(name);
+            contexts.add(context);
+            return context;
+        }
+        return list.get(0);
+    }
+
+    @Param({"10", "100", "1000", "10000"})
+    public int methodsPerClass;
+
+    private String[] names;
+    private ParentContext parentContext;
+    private int next = 0;
+
+    @Setup
+    public void setup() {
+        names = new String[methodsPerClass];
+        parentContext = new ParentContext();
+        for (int i = 0; i < methodsPerClass; ++i) {
+            names[i] = "method" + i;
+            parentContext.getChildContext(names[i]);
+        }
+    }
+
+    private String nextName() {
+        if (next >= names.length) {
+            next = 0;
+        }
+        return names[next++];
+    }
+
+    @Benchmark
+    public ChildContext indexedLookup() {
+        return parentContext.getChildContext(nextName());
+    }
+
+    @Benchmark
+    public ChildContext linearLookup() {
+        return parentContext.scanChildContext(nextName());
+    }
+
+    /**
+     * Resolves every method of a class once, like the invocations of a data provider heavy class
+     */
+    @Benchmark
+    public ParentContext indexedClassSetup() {
+        ParentContext classContext = new ParentContext();
+        for (String name : names) {
+            classContext.getChildContext(name);
+        }
+        return classContext;
+    }
+
+    @Benchmark
+    public ParentContext linearClassSetup() {
+        ParentContext classContext = new ParentContext();
+        for (String name : names) {
+            classContext.scanChildContext(name);
+        }
+        return classContext;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package eu.tsystems.mms.tic.testframework.report.model.context;
+
+import eu.tsystems.mms.tic.testframework.report.model.steps.TestStep;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+
+/**
+ * Creates context trees without running TestNG
+ */
+public final class SyntheticContexts {
+
+    private static ClassContext classContext;
+
+    private SyntheticContexts() {
+    }
+
+    private static synchronized ClassContext getClassContext() {
+        if (classContext == null) {
+            ExecutionContext executionContext = new ExecutionContext();
+            SuiteContext suiteContext = new SuiteContext(executionContext);
+            TestContext testContext = new TestContext(suiteContext);
+            classContext = new ClassContext(SyntheticContexts.class, testContext);
+        }
+        return classContext;
+    }
+
+    /**
+     * Creates an empty method context which is not referenced by its class context
+     */
+    public static MethodContext createMethodContext(String name) {
+        return new MethodContext(name, MethodContext.Type.TEST_METHOD, getClassContext());
+    }
+
+    /**
+     * Creates a method context with the given amount of test steps, each having one action with log messages
+     */
+    public static MethodContext createMethodContext(String name, int testSteps, int logMessagesPerStep) {
+        MethodContext methodContext = createMethodContext(name);
+        for (int step = 0; step < testSteps; ++step) {
+            TestStep testStep = methodContext.getTestStep("Step " + step);
+            for (int i = 0; i < logMessagesPerStep; ++i) {
+                methodContext.addLogMessage(new LogMessage(createLogEvent("Message {} of step {}", i, step)));
+            }
+            testStep.close();
+        }
+        return methodContext;
+    }
+
+    public static LogEvent createLogEvent(String pattern, Object... parameters) {
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName(SyntheticContexts.class.getName())
+                .setLevel(Level.INFO)
+                .setMessage(new ParameterizedMessage(pattern, parameters))
+                .setThreadName(Thread.currentThread().getName())
+                .setTimeMillis(System.currentTimeMillis())
+                .build();
+    }
+}
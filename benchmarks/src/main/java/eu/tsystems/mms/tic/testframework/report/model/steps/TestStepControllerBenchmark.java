@@ -0,0 +1,74 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package eu.tsystems.mms.tic.testframework.report.model.steps;
+
+import eu.tsystems.mms.tic.testframework.report.model.context.LogMessage;
+import eu.tsystems.mms.tic.testframework.report.model.context.SyntheticContexts;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures adding log messages to the current test step
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TestStepControllerBenchmark {
+
+    /**
+     * Amount of messages after which the controller gets replaced to keep the heap bounded
+     */
+    private static final int MESSAGES_PER_CONTROLLER = 10_000;
+
+    private TestStepController testStepController;
+    private LogMessage logMessage;
+    private int messages = 0;
+
+    @Setup
+    public void setup() {
+        testStepController = new TestStepController();
+        logMessage = new LogMessage(SyntheticContexts.createLogEvent("Message {}", 1));
+    }
+
+    @Benchmark
+    public TestStepAction addLogMessage() {
+        if (++messages >= MESSAGES_PER_CONTROLLER) {
+            testStepController = new TestStepController();
+            messages = 0;
+        }
+        return testStepController.addLogMessage(logMessage);
+    }
+}
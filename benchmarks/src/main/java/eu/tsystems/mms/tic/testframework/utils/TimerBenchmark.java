@@ -0,0 +1,111 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package eu.tsystems.mms.tic.testframework.utils;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of {@link Timer#executeSequence(Timer.Sequence)}
+ * and the latency until a delayed condition is detected.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TimerBenchmark {
+
+    private static final long CONDITION_DELAY_MS = 120;
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object immediateSuccess() {
+        Timer timer = new Timer(500, 5000);
+        return timer.executeSequence(new Timer.Sequence<Object>() {
+            @Override
+            public void run() {
+                setPassState(true);
+            }
+        });
+    }
+
+    /**
+     * The difference to {@link #CONDITION_DELAY_MS} is the latency caused by polling
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object delayedCondition() {
+        return executeDelayedCondition(new Timer(100, 5000));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object delayedConditionWithBackoff() {
+        Timer timer = new Timer(100, 5000);
+        timer.setPollingStrategy(new BackoffPollingStrategy(10, 100));
+        return executeDelayedCondition(timer);
+    }
+
+    /**
+     * Simulates a wake-up signal that fires when the condition becomes true
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object delayedConditionWithWakeUp() {
+        final long fulfilledAt = System.currentTimeMillis() + CONDITION_DELAY_MS;
+        Timer timer = new Timer(100, 5000);
+        timer.setWakeUpSignal(timeoutInMs -> {
+            long remainingTimeInMs = fulfilledAt - System.currentTimeMillis();
+            if (remainingTimeInMs < timeoutInMs) {
+                Thread.sleep(Math.max(0, remainingTimeInMs));
+                return true;
+            }
+            Thread.sleep(timeoutInMs);
+            return false;
+        });
+        return executeDelayedCondition(timer, fulfilledAt);
+    }
+
+    private Object executeDelayedCondition(Timer timer) {
+        return executeDelayedCondition(timer, System.currentTimeMillis() + CONDITION_DELAY_MS);
+    }
+
+    private Object executeDelayedCondition(Timer timer, long fulfilledAt) {
+        return timer.executeSequence(new Timer.Sequence<Object>() {
+            @Override
+            public void run() {
+                setPassState(System.currentTimeMillis() >= fulfilledAt);
+            }
+        });
+    }
+}
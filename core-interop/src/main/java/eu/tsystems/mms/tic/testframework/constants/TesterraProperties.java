@@ -77,6 +77,19 @@ public final class TesterraProperties {
      */
     public static final String SCREENSHOTTER_ACTIVE = "tt.screenshotter.active";
 
+    /**
+     * Persist screenshots and page sources in background, only the capturing happens in the test thread.
+     */
+    public static final String SCREENSHOTTER_ASYNC_ACTIVE = "tt.screenshotter.async.active";
+    /**
+     * Amount of threads persisting screenshots in background.
+     */
+    public static final String SCREENSHOTTER_ASYNC_THREADS = "tt.screenshotter.async.threads";
+    /**
+     * Amount of screenshots waiting to be persisted, before the test threads persist them by themselves.
+     */
+    public static final String SCREENSHOTTER_ASYNC_QUEUE_SIZE = "tt.screenshotter.async.queue.size";
+
     /**
      * Key of reportDir Property.
      */
@@ -113,6 +126,26 @@ public final class TesterraProperties {
      */
     public static final String WEBDRIVER_WINDOW_SWITCH_MAX_DURATION = "tt.wdm.timeouts.seconds.window.switch.duration";
 
+    /**
+     * WDM: Keep shut down sessions in a pool and reuse them for new sessions with equal capabilities.
+     */
+    public static final String WEBDRIVER_POOL_ACTIVE = "tt.wdm.pool.active";
+
+    /**
+     * WDM: Maximum number of idle sessions per capability set.
+     */
+    public static final String WEBDRIVER_POOL_SIZE = "tt.wdm.pool.size";
+
+    /**
+     * WDM: Number of sessions started in background per capability set.
+     */
+    public static final String WEBDRIVER_POOL_PREWARM = "tt.wdm.pool.prewarm";
+
+    /**
+     * WDM: Idle pooled sessions are quit after this duration.
+     */
+    public static final String WEBDRIVER_POOL_IDLE_TIMEOUT_SECONDS = "tt.wdm.pool.idle.timeout.seconds";
+
     /**
      * Visually marks every GuiElement that is being processed. Might break a LayoutTest.
      */
@@ -134,6 +167,40 @@ public final class TesterraProperties {
 
     public static final String REPORT_SCREENSHOTS_PREVIEW = "tt.report.screenshots.preview";
 
+    /**
+     * Writes every finalized method context to the report model immediately instead of building the whole model at the end of the execution.
+     */
+    public static final String REPORT_MODEL_STREAMING = "tt.report.model.streaming";
+
+    /**
+     * Moves log messages exceeding {@link #REPORT_LOG_MEMORY_MESSAGES} from heap to memory mapped files.
+     */
+    public static final String REPORT_LOG_SPILL_ACTIVE = "tt.report.log.spill.active";
+    /**
+     * Size of a single memory mapped log segment file in megabytes.
+     */
+    public static final String REPORT_LOG_SPILL_SEGMENT_MB = "tt.report.log.spill.segment.mb";
+    /**
+     * Amount of the most recent log messages per method kept in heap.
+     */
+    public static final String REPORT_LOG_MEMORY_MESSAGES = "tt.report.log.memory.messages";
+    /**
+     * Maximum amount of log messages per method. Further messages are dropped.
+     */
+    public static final String REPORT_LOG_MAX_MESSAGES = "tt.report.log.max.messages";
+    /**
+     * Captures log messages in a ring buffer and adds them to the report model in a background thread.
+     */
+    public static final String REPORT_LOG_ASYNC_ACTIVE = "tt.report.log.async.active";
+    /**
+     * Amount of log events the asynchronous ring buffer can hold.
+     */
+    public static final String REPORT_LOG_ASYNC_BUFFER_SIZE = "tt.report.log.async.buffer.size";
+    /**
+     * What happens when the asynchronous ring buffer is full: {@code block} or {@code drop}.
+     */
+    public static final String REPORT_LOG_ASYNC_OVERFLOW = "tt.report.log.async.overflow";
+
     /**
      * Module source root
      */
@@ -183,6 +250,35 @@ public final class TesterraProperties {
     public static final String DRY_RUN = "tt.dryrun";
 
     public static final String GUIELEMENT_CHECK_RULE = "tt.guielement.checkrule";
+    /**
+     * Checks all {@code @Check} GuiElements of a page by a single script per polling iteration.
+     */
+    public static final String GUIELEMENT_CHECK_BATCH = "tt.guielement.check.batch";
+
+    /**
+     * Polls GuiElement sequences with exponential backoff instead of a fixed interval.
+     */
+    public static final String GUIELEMENT_POLLING_BACKOFF = "tt.guielement.polling.backoff";
+    /**
+     * Sleep time after the first failed GuiElement sequence iteration when polling with backoff.
+     */
+    public static final String GUIELEMENT_POLLING_INITIAL_MILLIS = "tt.guielement.polling.initial.millis";
+    /**
+     * Upper bound of the sleep time between GuiElement sequence iterations when polling with backoff.
+     */
+    public static final String GUIELEMENT_POLLING_MAX_MILLIS = "tt.guielement.polling.max.millis";
+    /**
+     * Ends the sleep between GuiElement sequence iterations early on DOM mutations.
+     */
+    public static final String GUIELEMENT_POLLING_WAKEUP_ON_DOM_MUTATION = "tt.guielement.polling.wakeup.dom";
+    /**
+     * Reuses the found WebElement of a GuiElement for subsequent actions.
+     */
+    public static final String GUIELEMENT_CACHE_ACTIVE = "tt.guielement.cache.active";
+    /**
+     * Time in milliseconds a found WebElement is reused.
+     */
+    public static final String GUIELEMENT_CACHE_TTL_MILLIS = "tt.guielement.cache.ttl.millis";
 
     public static final String BROWSER_MAXIMIZE = "tt.browser.maximize";
     public static final String BROWSER_MAXIMIZE_POSITION = "tt.browser.maximize.position";
@@ -266,6 +362,14 @@ public final class TesterraProperties {
      * distanceBetweenMultipleMatchesToProduceWarning
      */
     public static final String LAYOUTCHECK_DISTANCE_MULTIPLE_MATCHES = "tt.layoutcheck.distance.multiple.matches";
+    /**
+     * Number of decoded reference images kept in memory for annotated layout checks
+     */
+    public static final String LAYOUTCHECK_REFERENCE_CACHE_SIZE = "tt.layoutcheck.reference.cache.size";
+    /**
+     * Number of templates matched concurrently for annotated layout checks
+     */
+    public static final String LAYOUTCHECK_MATCHING_THREADS = "tt.layoutcheck.matching.threads";
     public static final String LAYOUTCHECK_IGNORE_AMBIGUOUS_MOVEMENT = "tt.layoutcheck.ignore.ambiguous.movement";
     public static final String LAYOUTCHECK_IGNORE_MOVEMENT = "tt.layoutcheck.ignore.movement";
     public static final String LAYOUTCHECK_IGNORE_GROUP_MOVEMENT = "tt.layoutcheck.ignore.group.movement";
@@ -33,6 +33,8 @@ public class ThrowablePackedResponse<T> {
     private final boolean successful;
     private TimeoutException timeoutExceptionOrNull;
     private boolean logError = true;
+    private int iterations = 0;
+    private long durationInMs = 0;
 
     public ThrowablePackedResponse(T response, Throwable throwable, boolean successful, TimeoutException timeoutExceptionOrNull) {
         this.response = response;
@@ -86,6 +88,28 @@ public class ThrowablePackedResponse<T> {
         this.logError = logError;
     }
 
+    /**
+     * @return Amount of sequence iterations it took to create this response
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    /**
+     * @return Time in milliseconds it took to create this response
+     */
+    public long getDurationInMs() {
+        return durationInMs;
+    }
+
+    public void setDurationInMs(long durationInMs) {
+        this.durationInMs = durationInMs;
+    }
+
     @Override
     public String toString() {
         return "ThrowablePackedResponse{" +
@@ -24,11 +24,12 @@ import eu.tsystems.mms.tic.testframework.exceptions.SystemException;
 import eu.tsystems.mms.tic.testframework.logging.Loggable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
 /**
  * Path Parser utility class.
@@ -36,11 +37,118 @@ import java.util.stream.Stream;
  * Created by peter on 01.09.14.
  */
 public final class PropertiesParser implements Loggable {
-    private static final Pattern patternReplace = Pattern.compile("\\{[^\\}]*\\}");
-    private final Supplier<Stream<PropertyResolver>> propertyResolvers;
+    /**
+     * Generation which disables the {@link #resolvedProperties} cache
+     */
+    static final long UNCACHED = -1;
+    private static final int MAX_TEMPLATES = 4096;
+    private final Supplier<List<PropertyResolver>> propertyResolvers;
+    private final LongSupplier cacheGeneration;
+    private final PropertyResolver untrackedPropertyResolver;
+    private final Map<String, ResolvedProperty> resolvedProperties = new ConcurrentHashMap<>();
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    /**
+     * A resolved property value of a cache generation, including its parsed value.
+     * Keeps the values of the untracked resolver for all keys the value depends on.
+     */
+    private static class ResolvedProperty {
+        private final long generation;
+        private final String value;
+        private final String[] dependencies;
+        private volatile Object parsedValue;
+
+        private ResolvedProperty(long generation, String value, List<String> dependencies) {
+            this.generation = generation;
+            this.value = value;
+            this.dependencies = (dependencies != null) ? dependencies.toArray(new String[0]) : new String[0];
+        }
+
+        private boolean isUpToDate(long generation, PropertyResolver untrackedPropertyResolver) {
+            if (this.generation != generation) {
+                return false;
+            }
+            for (int i = 0; i < dependencies.length; i += 2) {
+                if (!Objects.equals(untrackedPropertyResolver.resolveProperty(dependencies[i]).orElse(null), dependencies[i + 1])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A line split into literals and replacement marks: "{...}"
+     */
+    private static class Template {
+        private final String[] parts;
+        private final boolean[] marks;
+
+        private Template(String line) {
+            List<String> parts = new ArrayList<>();
+            List<Boolean> marks = new ArrayList<>();
+            int position = 0;
+            int start;
+            while ((start = line.indexOf('{', position)) >= 0) {
+                int end = line.indexOf('}', start + 1);
+                if (end < 0) {
+                    break;
+                }
+                if (start > position) {
+                    parts.add(line.substring(position, start));
+                    marks.add(false);
+                }
+                parts.add(line.substring(start + 1, end));
+                marks.add(true);
+                position = end + 1;
+            }
+            if (position < line.length()) {
+                parts.add(line.substring(position));
+                marks.add(false);
+            }
+            this.parts = parts.toArray(new String[0]);
+            this.marks = new boolean[parts.size()];
+            for (int i = 0; i < this.marks.length; ++i) {
+                this.marks[i] = marks.get(i);
+            }
+        }
+
+        private boolean hasMarks() {
+            for (boolean mark : marks) {
+                if (mark) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 
-    PropertiesParser(Supplier<Stream<PropertyResolver>> propertyResolversSupplier) {
+    /**
+     * @param propertyResolversSupplier Supplies the resolvers in order of their priority
+     * @param cacheGenerationSupplier Supplies the generation of the resolved properties or {@link #UNCACHED}
+     * @param untrackedPropertyResolver Resolver whose changes are not covered by the generation.
+     *                                  Its values are compared on every cache access.
+     */
+    PropertiesParser(
+            Supplier<List<PropertyResolver>> propertyResolversSupplier,
+            LongSupplier cacheGenerationSupplier,
+            PropertyResolver untrackedPropertyResolver
+    ) {
         this.propertyResolvers = propertyResolversSupplier;
+        this.cacheGeneration = cacheGenerationSupplier;
+        this.untrackedPropertyResolver = untrackedPropertyResolver;
+    }
+
+    private Template getTemplate(String line) {
+        Template template = templates.get(line);
+        if (template == null) {
+            if (templates.size() >= MAX_TEMPLATES) {
+                templates.clear();
+            }
+            template = new Template(line);
+            templates.put(line, template);
+        }
+        return template;
     }
 
     /**
@@ -51,51 +159,52 @@ public final class PropertiesParser implements Loggable {
      *
      * @param line            the current line.
      * @param searchedStrings a list of replacement marks already replaced (loop detection).
+     * @param dependencies    collects the keys and untracked values of all found properties, can be null.
      *
      * @return the line with substitutions.
      */
-    private String parseLine(String line, List<String> searchedStrings) {
+    private String parseLine(String line, List<String> searchedStrings, List<String> dependencies) {
+        Template template = getTemplate(line);
+        if (!template.hasMarks()) {
+            return line;
+        }
         if (searchedStrings == null) {
             searchedStrings = new ArrayList<>(1);
         }
 
-        Matcher matcherReplace = patternReplace.matcher(line);
-        List<String> matches = new ArrayList<>(1);
-        while (matcherReplace.find()) {
-            String match = line.substring(matcherReplace.start(), matcherReplace.end());
-            matches.add(match);
-        }
-        for (String match : matches) {
-            String key = match.substring(1, match.length() - 1);
+        StringBuilder builder = new StringBuilder(line.length());
+        for (int i = 0; i < template.parts.length; ++i) {
+            String part = template.parts[i];
+            if (!template.marks[i]) {
+                builder.append(part);
+                continue;
+            }
 
             /*
             Check for loop
              */
-            if (searchedStrings.contains(key)) {
-                throw new SystemException("Loop detected while replacing a property: " + match);
+            if (searchedStrings.contains(part)) {
+                throw new SystemException("Loop detected while replacing a property: {" + part + "}");
+            }
+
+            /*
+            ask
+             */
+            String value = findProperty(part, dependencies);
+            if (value == null) {
+                log().warn("Property {" + part + "} not found");
+                builder.append('{').append(part).append('}');
             } else {
-                /*
-                ask
-                 */
-                String value = findProperty(key).orElse(null);
-
-                if (value == null) {
-                    log().warn("Property " + match + " not found");
-                } else {
-                    // 1. remember the key because it was replaced
-                    List<String> listCopy = new ArrayList<>(searchedStrings.size() + 1);
-                    listCopy.addAll(searchedStrings);
-                    // 2. check recursive replacements
-                    listCopy.add(key);
-                    value = parseLine(value, listCopy);
-                    // 3. finally replace
-                    line = line.replace(match, value);
-
-                    //log().trace("Replace '" + match + "' by '" + value + "'");
-                }
+                // 1. remember the key because it was replaced
+                List<String> listCopy = new ArrayList<>(searchedStrings.size() + 1);
+                listCopy.addAll(searchedStrings);
+                // 2. check recursive replacements
+                listCopy.add(part);
+                // 3. finally replace
+                builder.append(parseLine(value, listCopy, dependencies));
             }
         }
-        return line;
+        return builder.toString();
     }
 
     /**
@@ -108,18 +217,11 @@ public final class PropertiesParser implements Loggable {
      * @return the line with substitutions.
      */
     public String parseLine(String line) {
-        return parseLine(line, null);
+        return parseLine(line, null, null);
     }
 
     public String getProperty(String key) {
-        String value = findProperty(key).orElse(null);
-
-        // replace marked system properties in this value (bla_{huhu} to bla_blubb if huhu=blubb)
-        if (value != null) {
-            value = parseLine(value);
-        }
-
-        return value;
+        return resolveProperty(key).value;
     }
 
     public String getProperty(String key, Object defaultValue) {
@@ -131,13 +233,49 @@ public final class PropertiesParser implements Loggable {
         return value;
     }
 
-    private Optional<String> findProperty(String key) {
-        // TODO: Use Optional.stream
-        return this.propertyResolvers.get()
-                .map(properties -> properties.resolveProperty(key))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .findFirst();
+    /**
+     * Resolves the property from the cache, as long as the cache generation
+     * and the untracked values of its dependencies didn't change.
+     */
+    private ResolvedProperty resolveProperty(String key) {
+        long generation = cacheGeneration.getAsLong();
+        if (generation == UNCACHED) {
+            return new ResolvedProperty(generation, resolvePropertyValue(key, null), null);
+        }
+
+        ResolvedProperty resolvedProperty = resolvedProperties.get(key);
+        if (resolvedProperty == null || !resolvedProperty.isUpToDate(generation, untrackedPropertyResolver)) {
+            List<String> dependencies = new ArrayList<>(2);
+            resolvedProperty = new ResolvedProperty(generation, resolvePropertyValue(key, dependencies), dependencies);
+            resolvedProperties.put(key, resolvedProperty);
+        }
+        return resolvedProperty;
+    }
+
+    private String resolvePropertyValue(String key, List<String> dependencies) {
+        String value = findProperty(key, dependencies);
+
+        // replace marked system properties in this value (bla_{huhu} to bla_blubb if huhu=blubb)
+        if (value != null) {
+            value = parseLine(value, null, dependencies);
+        }
+
+        return value;
+    }
+
+    private String findProperty(String key, List<String> dependencies) {
+        if (dependencies != null) {
+            // Read the untracked value before resolving, so that a concurrent change invalidates the result
+            dependencies.add(key);
+            dependencies.add(untrackedPropertyResolver.resolveProperty(key).orElse(null));
+        }
+        for (PropertyResolver propertyResolver : this.propertyResolvers.get()) {
+            Optional<String> value = propertyResolver.resolveProperty(key);
+            if (value.isPresent()) {
+                return value.get();
+            }
+        }
+        return null;
     }
 
     /**
@@ -149,12 +287,21 @@ public final class PropertiesParser implements Loggable {
      * @return property value
      */
     public int getIntProperty(String key, Object defaultValue) {
-        String prop = getProperty(key);
+        ResolvedProperty resolvedProperty = resolveProperty(key);
+        Object parsedValue = resolvedProperty.parsedValue;
+        if (parsedValue instanceof Integer) {
+            return (Integer) parsedValue;
+        }
+        String prop = resolvedProperty.value;
         if (prop == null) {
             prop = defaultValue.toString();
         }
         try {
-            return Integer.parseInt(prop);
+            int value = Integer.parseInt(prop);
+            if (resolvedProperty.value != null) {
+                resolvedProperty.parsedValue = value;
+            }
+            return value;
         } catch (final NumberFormatException e) {
             return (Integer)defaultValue;
         }
@@ -180,12 +327,21 @@ public final class PropertiesParser implements Loggable {
      * @return property value
      */
     public double getDoubleProperty(String key, Object defaultValue) {
-        String prop = getProperty(key);
+        ResolvedProperty resolvedProperty = resolveProperty(key);
+        Object parsedValue = resolvedProperty.parsedValue;
+        if (parsedValue instanceof Double) {
+            return (Double) parsedValue;
+        }
+        String prop = resolvedProperty.value;
         if (prop == null) {
             prop = defaultValue.toString();
         }
         try {
-            return Double.parseDouble(prop);
+            double value = Double.parseDouble(prop);
+            if (resolvedProperty.value != null) {
+                resolvedProperty.parsedValue = value;
+            }
+            return value;
         } catch (final NumberFormatException e) {
             return (Double)defaultValue;
         }
@@ -211,12 +367,21 @@ public final class PropertiesParser implements Loggable {
      * @return property value
      */
     public long getLongProperty(String key, Object defaultValue) {
-        String prop = getProperty(key);
+        ResolvedProperty resolvedProperty = resolveProperty(key);
+        Object parsedValue = resolvedProperty.parsedValue;
+        if (parsedValue instanceof Long) {
+            return (Long) parsedValue;
+        }
+        String prop = resolvedProperty.value;
         if (prop == null) {
             prop = defaultValue.toString();
         }
         try {
-            return Long.parseLong(prop);
+            long value = Long.parseLong(prop);
+            if (resolvedProperty.value != null) {
+                resolvedProperty.parsedValue = value;
+            }
+            return value;
         } catch (final NumberFormatException e) {
             return (Long)defaultValue;
         }
@@ -255,11 +420,18 @@ public final class PropertiesParser implements Loggable {
      * @return property value
      */
     public boolean getBooleanProperty(final String key, Object defaultValue) {
-        String prop = getProperty(key);
+        ResolvedProperty resolvedProperty = resolveProperty(key);
+        Object parsedValue = resolvedProperty.parsedValue;
+        if (parsedValue instanceof Boolean) {
+            return (Boolean) parsedValue;
+        }
+        String prop = resolvedProperty.value;
         if (prop == null) {
-            prop = defaultValue.toString();
+            return Boolean.parseBoolean(defaultValue.toString().trim());
         }
-        return Boolean.parseBoolean(prop.trim());
+        boolean value = Boolean.parseBoolean(prop.trim());
+        resolvedProperty.parsedValue = value;
+        return value;
     }
 
 }
@@ -30,9 +30,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
-import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,11 +47,16 @@ import org.slf4j.LoggerFactory;
 public final class PropertyManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PropertyManager.class);
-    private static final Properties FILEPROPERTIES = new Properties();
+    private static final TrackedProperties FILEPROPERTIES = new TrackedProperties();
     private static final PropertiesParser propertiesParser;
     private static final ThreadLocalPropertyResolver threadLocalPropertyResolver = new ThreadLocalPropertyResolver();
     private static final PropertyResolver filePropertyResolver = new PropertiesPropertyResolver(FILEPROPERTIES);
-    private static final PropertyResolver systemPropertyResolver = new PropertiesPropertyResolver(System.getProperties());
+    private static final PropertyResolver systemPropertyResolver = property -> Optional.ofNullable(System.getProperty(property));
+    private static final List<PropertyResolver> defaultPropertyResolvers = Arrays.asList(
+            threadLocalPropertyResolver,
+            systemPropertyResolver,
+            filePropertyResolver
+    );
     private static final ThreadLocal<List<PropertyResolver>> priorityPropertyResolvers = new ThreadLocal<>();
     private static final String TEST_PROPERTIES = "test.properties";
 
@@ -61,15 +68,13 @@ public final class PropertyManager {
     static {
         propertiesParser = new PropertiesParser(() -> {
             List<PropertyResolver> propertyResolvers = priorityPropertyResolvers.get();
-            return Stream.concat(
-                    (propertyResolvers != null?propertyResolvers.stream():Stream.empty()),
-                    Stream.of(
-                            threadLocalPropertyResolver,
-                            systemPropertyResolver,
-                            filePropertyResolver
-                    )
-            );
-        });
+            if (propertyResolvers == null) {
+                return defaultPropertyResolvers;
+            }
+            List<PropertyResolver> allPropertyResolvers = new ArrayList<>(propertyResolvers);
+            allPropertyResolvers.addAll(defaultPropertyResolvers);
+            return allPropertyResolvers;
+        }, PropertyManager::getCacheGeneration, systemPropertyResolver);
         // set static properties
         pLoadPropertiesFromResource(FILEPROPERTIES, TEST_PROPERTIES);
         initializeSystemProperties();
@@ -91,6 +96,18 @@ public final class PropertyManager {
         }
     }
 
+    /**
+     * Resolved properties are cached as long as no file property changes.
+     * Changes of system properties are detected by the {@link PropertiesParser} itself.
+     * Threads with prioritized resolvers or own test local properties don't use the cache.
+     */
+    private static long getCacheGeneration() {
+        if (priorityPropertyResolvers.get() != null || threadLocalPropertyResolver.hasProperties()) {
+            return PropertiesParser.UNCACHED;
+        }
+        return FILEPROPERTIES.getGeneration();
+    }
+
     /**
      * Loads properties from a file and sets them as system properties when not already defined
      */
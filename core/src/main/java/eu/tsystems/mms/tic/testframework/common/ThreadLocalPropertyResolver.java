@@ -50,6 +50,11 @@ class ThreadLocalPropertyResolver implements PropertyResolver {
         return threadLocalProperties.get();
     }
 
+    public boolean hasProperties() {
+        Properties properties = threadLocalProperties.get();
+        return properties != null && !properties.isEmpty();
+    }
+
     public void clearProperties() {
         threadLocalProperties.remove();
     }
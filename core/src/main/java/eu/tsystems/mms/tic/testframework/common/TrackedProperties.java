@@ -0,0 +1,170 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package eu.tsystems.mms.tic.testframework.common;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * {@link Properties} which increase their generation on every modification.
+ * Used by the {@link PropertyManager} to invalidate resolved properties.
+ * Modifications through the key, value or entry views are not tracked.
+ */
+class TrackedProperties extends Properties {
+
+    private static final long serialVersionUID = 1L;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @return The generation, which changes whenever these properties have been modified
+     */
+    long getGeneration() {
+        return generation.get();
+    }
+
+    private void modified() {
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public Object put(Object key, Object value) {
+        try {
+            return super.put(key, value);
+        } finally {
+            modified();
+        }
+    }
+
+    @Override
+    public void putAll(Map<?, ?> t) {
+        try {
+            super.putAll(t);
+        } finally {
+            modified();
+        }
+    }
+
+    @Override
+    public Object putIfAbsent(Object key, Object value) {
+        try {
+            return super.putIfAbsent(key, value);
+        } finally {
+            modified();
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        try {
+            return super.remove(key);
+        } finally {
+            modified();
+        }
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        try {
+            return super.remove(key, value);
+        } finally {
+            modified();
+        }
+    }
+
+    @Override
+    public Object replace(Object key, Object value) {
+        try {
+            return super.replace(key, value);
+        } finally {
+            modified();
+        }
+    }
+
+    @Override
+    public boolean replace(Object key, Object oldValue, Object newValue) {
+        try {
+            return super.replace(key, oldValue, newValue);
+        } finally {
+            modified();
+        }
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super Object, ? super Object, ?> function) {
+        try {
+            super.replaceAll(function);
+        } finally {
+            modified();
+        }
+    }
+
+    @Override
+    public Object compute(Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        try {
+            return super.compute(key, remappingFunction);
+        } finally {
+            modified();
+        }
+    }
+
+    @Override
+    public Object computeIfAbsent(Object key, Function<? super Object, ?> mappingFunction) {
+        try {
+            return super.computeIfAbsent(key, mappingFunction);
+        } finally {
+            modified();
+        }
+    }
+
+    @Override
+    public Object computeIfPresent(Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        try {
+            return super.computeIfPresent(key, remappingFunction);
+        } finally {
+            modified();
+        }
+    }
+
+    @Override
+    public Object merge(Object key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        try {
+            return super.merge(key, value, remappingFunction);
+        } finally {
+            modified();
+        }
+    }
+
+    @Override
+    public void clear() {
+        try {
+            super.clear();
+        } finally {
+            modified();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.events;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Serializes a subscriber per shard (like a context) instead of globally.
+ * Event subscribers are called concurrently when they are annotated with {@link com.google.common.eventbus.AllowConcurrentEvents}.
+ * Subscribers that are not thread safe for the same context can use this lock to run one at a time per context,
+ * while events of other contexts are not blocked.
+ * The lock also counts how often a thread had to wait for it.
+ */
+public final class SubscriberLock {
+
+    private static final Map<String, SubscriberLock> LOCKS = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final Map<Object, ReentrantLock> shards = Collections.synchronizedMap(new WeakHashMap<>());
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder contentions = new LongAdder();
+    private final LongAdder waitTimeInNanos = new LongAdder();
+
+    private SubscriberLock(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the lock for the given subscriber class
+     */
+    public static SubscriberLock of(Class<?> subscriberClass) {
+        return LOCKS.computeIfAbsent(subscriberClass.getName(), SubscriberLock::new);
+    }
+
+    public static Stream<SubscriberLock> readLocks() {
+        return LOCKS.values().stream();
+    }
+
+    /**
+     * Runs the given runnable exclusively for the given shard.
+     * @param shard The object to serialize on, like a {@link eu.tsystems.mms.tic.testframework.report.model.context.ClassContext}
+     */
+    public void run(Object shard, Runnable runnable) {
+        ReentrantLock lock = shards.computeIfAbsent(shard, key -> new ReentrantLock());
+        invocations.increment();
+        if (!lock.tryLock()) {
+            contentions.increment();
+            long start = System.nanoTime();
+            lock.lock();
+            waitTimeInNanos.add(System.nanoTime() - start);
+        }
+        try {
+            runnable.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    /**
+     * @return The number of invocations that had to wait for another thread
+     */
+    public long getContentions() {
+        return contentions.sum();
+    }
+
+    public long getWaitTimeInMs() {
+        return TimeUnit.NANOSECONDS.toMillis(waitTimeInNanos.sum());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d/%d invocations waited %d ms", name, getContentions(), getInvocations(), getWaitTimeInMs());
+    }
+}
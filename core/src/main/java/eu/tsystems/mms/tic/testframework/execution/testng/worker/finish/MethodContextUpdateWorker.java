@@ -21,6 +21,7 @@
  */
 package eu.tsystems.mms.tic.testframework.execution.testng.worker.finish;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.annotations.Fails;
 import eu.tsystems.mms.tic.testframework.events.MethodEndEvent;
@@ -45,6 +46,7 @@ public class MethodContextUpdateWorker implements MethodEndEvent.Listener {
     private static final Map<Class<?>, Object> VALIDATOR_SINGLETONS = new ConcurrentHashMap<>();
 
     @Subscribe
+    @AllowConcurrentEvents
     @Override
     public void onMethodEnd(MethodEndEvent event) {
         MethodContext methodContext = event.getMethodContext();
@@ -22,6 +22,7 @@
 
 package eu.tsystems.mms.tic.testframework.execution.testng.worker.finish;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.common.PropertyManager;
 import eu.tsystems.mms.tic.testframework.events.MethodEndEvent;
@@ -41,6 +42,7 @@ public class MethodEndWorker implements MethodEndEvent.Listener, Loggable {
     private final Formatter formatter = new DefaultFormatter();
 
     @Subscribe
+    @AllowConcurrentEvents
     @Override
     public void onMethodEnd(MethodEndEvent event) {
         ITestResult testResult = event.getTestResult();
@@ -21,6 +21,7 @@
  */
 package eu.tsystems.mms.tic.testframework.execution.testng.worker.start;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.events.MethodStartEvent;
 import eu.tsystems.mms.tic.testframework.execution.testng.RetryAnalyzer;
@@ -39,6 +40,7 @@ public class MethodStartWorker implements Loggable, MethodStartEvent.Listener {
 
     @Override
     @Subscribe
+    @AllowConcurrentEvents
     public void onMethodStart(MethodStartEvent event) {
         ITestNGMethod testMethod = event.getTestMethod();
         if (testMethod.isTest()) {
@@ -21,6 +21,7 @@
  */
 package eu.tsystems.mms.tic.testframework.execution.testng.worker.start;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.annotations.InDevelopment;
 import eu.tsystems.mms.tic.testframework.events.InterceptMethodsEvent;
@@ -41,6 +42,7 @@ import java.util.stream.Collectors;
 public class OmitInDevelopmentMethodInterceptor implements Loggable, InterceptMethodsEvent.Listener {
 
     @Subscribe
+    @AllowConcurrentEvents
     public void onInterceptMethods(InterceptMethodsEvent event) {
         if (Flags.EXECUTION_OMIT_IN_DEVELOPMENT) {
             event.getMethodInstances().removeIf(methodInstance -> {
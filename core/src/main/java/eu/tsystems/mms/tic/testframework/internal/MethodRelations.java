@@ -131,6 +131,14 @@ public class MethodRelations {
         }
     }
 
+    /**
+     * @return TRUE if the given method context is part of the current thread's relation group, which has not been flushed yet
+     */
+    public static boolean isPending(MethodContext methodContext) {
+        List<MethodContext> methodContexts = EXECUTION_CONTEXT.get(getThreadId());
+        return methodContexts != null && methodContexts.contains(methodContext);
+    }
+
     public static void flushAll() {
         synchronized (EXECUTION_CONTEXT) {
             for (Long key : EXECUTION_CONTEXT.keySet()) {
@@ -0,0 +1,124 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package eu.tsystems.mms.tic.testframework.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free queue for multiple producers and a single consumer.
+ * Every slot carries a sequence number, which tells producers and the consumer whether the slot is free or published.
+ * @see <a href="https://www.1024cores.net/home/lock-free-algorithms/queues/bounded-mpmc-queue">Bounded MPMC queue</a>
+ */
+public class MpscRingBuffer<T> {
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerPosition = new AtomicLong();
+    private final AtomicLong consumerPosition = new AtomicLong();
+
+    /**
+     * @param capacity Gets rounded up to the next power of two
+     */
+    public MpscRingBuffer(int capacity) {
+        int powerOfTwo = 1;
+        while (powerOfTwo < capacity) {
+            powerOfTwo <<= 1;
+        }
+        this.capacity = powerOfTwo;
+        this.mask = powerOfTwo - 1;
+        this.slots = new AtomicReferenceArray<>(powerOfTwo);
+        this.sequences = new AtomicLongArray(powerOfTwo);
+        for (int i = 0; i < powerOfTwo; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Can be called by any thread
+     * @return FALSE if the buffer is full
+     */
+    public boolean offer(T item) {
+        long position = producerPosition.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, item);
+                    // Publish the slot to the consumer
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = producerPosition.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = producerPosition.get();
+            }
+        }
+    }
+
+    /**
+     * Must only be called by the consumer thread
+     * @return The next item or NULL if the buffer is empty
+     */
+    public T poll() {
+        long position = consumerPosition.get();
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        T item = slots.get(index);
+        slots.lazySet(index, null);
+        // Release the slot for the next round of producers
+        sequences.set(index, position + capacity);
+        consumerPosition.set(position + 1);
+        return item;
+    }
+
+    public boolean isEmpty() {
+        return consumerPosition.get() >= producerPosition.get();
+    }
+
+    /**
+     * @return Amount of items offered successfully so far
+     */
+    public long getProducedCount() {
+        return producerPosition.get();
+    }
+
+    /**
+     * @return Amount of items polled so far
+     */
+    public long getConsumedCount() {
+        return consumerPosition.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -21,24 +21,19 @@
  */
 package eu.tsystems.mms.tic.testframework.internal;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class Timings {
 
     public static final long LARGE_LIMIT = 2000;
 
-    public static final Map<Integer, Long> TIMING_GUIELEMENT_FIND = new ConcurrentHashMap<Integer, Long>();
-    public static final Map<Integer, Long> TIMING_GUIELEMENT_FIND_WITH_PARENT = new ConcurrentHashMap<Integer, Long>();
-
-    private static int findCounter = 0;
+    private static final AtomicInteger findCounter = new AtomicInteger();
 
     private Timings() {
 
     }
 
-    public static synchronized int raiseFindCounter() {
-        findCounter++;
-        return findCounter;
+    public static int raiseFindCounter() {
+        return findCounter.incrementAndGet();
     }
 }
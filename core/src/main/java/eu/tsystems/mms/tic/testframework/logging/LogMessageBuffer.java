@@ -0,0 +1,84 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package eu.tsystems.mms.tic.testframework.logging;
+
+import eu.tsystems.mms.tic.testframework.common.PropertyManager;
+import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
+import eu.tsystems.mms.tic.testframework.report.model.context.LogMessage;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the amount of {@link LogMessage}s kept in heap for a single context.
+ * When a {@link LogMessageStore} is set, only the most recent messages are kept in memory,
+ * older ones are moved to the store.
+ * @see TesterraProperties#REPORT_LOG_MEMORY_MESSAGES
+ * @see TesterraProperties#REPORT_LOG_MAX_MESSAGES
+ */
+public class LogMessageBuffer {
+    private static final int MEMORY_MESSAGES = PropertyManager.getIntProperty(TesterraProperties.REPORT_LOG_MEMORY_MESSAGES, 1000);
+    private static final int MAX_MESSAGES = PropertyManager.getIntProperty(TesterraProperties.REPORT_LOG_MAX_MESSAGES, -1);
+    private static final AtomicLong droppedMessages = new AtomicLong();
+    private static LogMessageStore logMessageStore;
+
+    private final Queue<LogMessage> memoryMessages = new ArrayDeque<>();
+    private int messageCount = 0;
+
+    /**
+     * @return FALSE if the message has been dropped because of {@link TesterraProperties#REPORT_LOG_MAX_MESSAGES}
+     */
+    public synchronized boolean add(LogMessage logMessage) {
+        if (MAX_MESSAGES >= 0 && messageCount >= MAX_MESSAGES) {
+            droppedMessages.incrementAndGet();
+            return false;
+        }
+        messageCount++;
+
+        LogMessageStore store = logMessageStore;
+        if (store != null) {
+            memoryMessages.add(logMessage);
+            if (memoryMessages.size() > MEMORY_MESSAGES) {
+                memoryMessages.poll().moveTo(store);
+            }
+        }
+        return true;
+    }
+
+    public static void setLogMessageStore(LogMessageStore store) {
+        logMessageStore = store;
+    }
+
+    public static Optional<LogMessageStore> getLogMessageStore() {
+        return Optional.ofNullable(logMessageStore);
+    }
+
+    /**
+     * @return Amount of all log messages dropped so far
+     */
+    public static long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package eu.tsystems.mms.tic.testframework.logging;
+
+import java.util.Optional;
+
+/**
+ * Storage for the payload of {@link eu.tsystems.mms.tic.testframework.report.model.context.LogMessage}s
+ * which should not be kept in heap until the report has been generated.
+ * @see LogMessageBuffer#setLogMessageStore(LogMessageStore)
+ */
+public interface LogMessageStore {
+
+    /**
+     * Reference to a stored log message payload
+     */
+    interface Entry {
+        String getMessage();
+        Optional<Throwable> getThrown();
+    }
+
+    /**
+     * Stores the given payload
+     * @return The entry or NULL if the payload could not be stored
+     */
+    Entry store(String message, Throwable thrown);
+
+    /**
+     * @return Amount of bytes stored so far
+     */
+    long getStoredBytes();
+
+    /**
+     * @return Amount of entries stored so far
+     */
+    long getStoredEntries();
+
+    /**
+     * Releases all stored payloads, which makes the entries unreadable.
+     */
+    void close();
+}
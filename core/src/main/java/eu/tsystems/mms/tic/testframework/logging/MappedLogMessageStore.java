@@ -0,0 +1,184 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package eu.tsystems.mms.tic.testframework.logging;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Append-only {@link LogMessageStore} based on memory mapped segment files.
+ * The operating system decides when the segment pages are written to disk and evicted from memory.
+ * Throwables are stored by java serialization, not serializable ones are kept in heap.
+ */
+public class MappedLogMessageStore implements LogMessageStore, Loggable {
+
+    private final File directory;
+    private final int segmentSize;
+    private final AtomicLong storedBytes = new AtomicLong();
+    private final AtomicLong storedEntries = new AtomicLong();
+    private MappedByteBuffer currentSegment;
+    private int segmentCount = 0;
+
+    private class MappedEntry implements Entry {
+        private final ByteBuffer segment;
+        private final int position;
+        private final int messageLength;
+        private final int thrownLength;
+        private final Throwable thrown;
+
+        private MappedEntry(ByteBuffer segment, int position, int messageLength, int thrownLength, Throwable thrown) {
+            this.segment = segment;
+            this.position = position;
+            this.messageLength = messageLength;
+            this.thrownLength = thrownLength;
+            this.thrown = thrown;
+        }
+
+        @Override
+        public String getMessage() {
+            return new String(read(position, messageLength), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Optional<Throwable> getThrown() {
+            if (thrownLength == 0) {
+                return Optional.ofNullable(thrown);
+            }
+            try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(read(position + messageLength, thrownLength)))) {
+                return Optional.of((Throwable) inputStream.readObject());
+            } catch (Exception e) {
+                log().error("Unable to read stored throwable", e);
+                return Optional.empty();
+            }
+        }
+
+        private byte[] read(int offset, int length) {
+            byte[] bytes = new byte[length];
+            synchronized (MappedLogMessageStore.this) {
+                ByteBuffer view = segment.duplicate();
+                view.position(offset);
+                view.get(bytes);
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * @param directory Directory for the segment files
+     * @param segmentSize Size of a single segment file in bytes
+     */
+    public MappedLogMessageStore(File directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        directory.mkdirs();
+    }
+
+    @Override
+    public synchronized Entry store(String message, Throwable thrown) {
+        byte[] messageBytes = (message != null ? message : "").getBytes(StandardCharsets.UTF_8);
+        byte[] thrownBytes = serialize(thrown);
+        int length = messageBytes.length + thrownBytes.length;
+
+        try {
+            ByteBuffer segment = getSegment(length);
+            int position = segment.position();
+            segment.put(messageBytes);
+            segment.put(thrownBytes);
+            storedBytes.addAndGet(length);
+            storedEntries.incrementAndGet();
+            return new MappedEntry(segment, position, messageBytes.length, thrownBytes.length, (thrownBytes.length == 0 ? thrown : null));
+        } catch (IOException e) {
+            log().error("Unable to store log message", e);
+            return null;
+        }
+    }
+
+    /**
+     * @return A segment with at least the given amount of remaining bytes
+     */
+    private ByteBuffer getSegment(int length) throws IOException {
+        if (currentSegment != null && currentSegment.remaining() >= length) {
+            return currentSegment;
+        }
+        File segmentFile = new File(directory, String.format("segment-%d.log", ++segmentCount));
+        segmentFile.deleteOnExit();
+        try (FileChannel channel = FileChannel.open(segmentFile.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentSize, length));
+            // Records larger than the segment size get their own segment
+            if (length <= segmentSize) {
+                currentSegment = segment;
+            }
+            return segment;
+        }
+    }
+
+    private byte[] serialize(Throwable thrown) {
+        if (thrown == null) {
+            return new byte[0];
+        }
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(byteStream)) {
+            outputStream.writeObject(thrown);
+        } catch (IOException e) {
+            // Not serializable throwables are kept in heap
+            return new byte[0];
+        }
+        return byteStream.toByteArray();
+    }
+
+    @Override
+    public long getStoredBytes() {
+        return storedBytes.get();
+    }
+
+    @Override
+    public long getStoredEntries() {
+        return storedEntries.get();
+    }
+
+    /**
+     * Deletes the directory with all segment files.
+     */
+    @Override
+    public synchronized void close() {
+        currentSegment = null;
+        try {
+            FileUtils.deleteDirectory(directory);
+        } catch (IOException e) {
+            log().warn("Unable to delete log message store " + directory, e);
+        }
+    }
+}
@@ -21,44 +21,216 @@
 
 package eu.tsystems.mms.tic.testframework.logging;
 
+import eu.tsystems.mms.tic.testframework.internal.MpscRingBuffer;
 import eu.tsystems.mms.tic.testframework.report.model.context.LogMessage;
 import eu.tsystems.mms.tic.testframework.report.model.context.MethodContext;
+import eu.tsystems.mms.tic.testframework.report.model.steps.TestStep;
+import eu.tsystems.mms.tic.testframework.report.model.steps.TestStepAction;
+import eu.tsystems.mms.tic.testframework.report.model.steps.TestStepHandler;
 import eu.tsystems.mms.tic.testframework.report.utils.ExecutionContextController;
-import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.appender.AbstractAppender;
-import org.apache.logging.log4j.message.Message;
 
+/**
+ * Appends log events to the current {@link MethodContext}.
+ *
+ * In asynchronous mode, the logging thread only formats the message and captures the {@link MethodContext},
+ * the current {@link TestStep} and the action context of the {@link TestStepHandler}s, and passes them to a bounded ring buffer.
+ * A single consumer thread resolves the {@link TestStepAction} and adds the messages to the report model.
+ * The message is formatted on the logging thread, because mutable parameters may change until the consumer handles it.
+ * The test step and the action context are captured there, because the test may begin a new step
+ * and the handlers inspect the stack of the logging thread.
+ * Call {@link #flush()} before reading log messages from the report model.
+ */
 public class MethodContextLogAppender extends AbstractAppender {
 
+    public enum OverflowPolicy {
+        /**
+         * The logging thread waits until the consumer has freed a slot
+         */
+        BLOCK,
+        /**
+         * The log event gets dropped
+         */
+        DROP
+    }
+
+    private static final long CONSUMER_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static class CapturedEvent {
+        private final LogMessage logMessage;
+        private final MethodContext methodContext;
+        private final TestStep testStep;
+        private final String actionContext;
+
+        private CapturedEvent(LogMessage logMessage, MethodContext methodContext, TestStep testStep, String actionContext) {
+            this.logMessage = logMessage;
+            this.methodContext = methodContext;
+            this.testStep = testStep;
+            this.actionContext = actionContext;
+        }
+    }
+
+    private final MpscRingBuffer<CapturedEvent> ringBuffer;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong processedEvents = new AtomicLong();
+    private volatile Thread consumerThread;
+    private volatile boolean consumerWaiting = false;
+    private volatile boolean consuming = false;
+
     public MethodContextLogAppender() {
         super("MethodContextLogAppender", null, null, true, null);
+        this.ringBuffer = null;
+        this.overflowPolicy = null;
+    }
+
+    /**
+     * Creates an asynchronous appender
+     * @param bufferSize Amount of log events the ring buffer can hold
+     */
+    public MethodContextLogAppender(int bufferSize, OverflowPolicy overflowPolicy) {
+        super("MethodContextLogAppender", null, null, true, null);
+        this.ringBuffer = new MpscRingBuffer<>(bufferSize);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        if (ringBuffer != null && consumerThread == null) {
+            consuming = true;
+            consumerThread = new Thread(this::consume, "Testerra Log Consumer");
+            consumerThread.setDaemon(true);
+            consumerThread.start();
+        }
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        boolean stopped = super.stop(timeout, timeUnit);
+        Thread thread = consumerThread;
+        if (thread != null) {
+            consuming = false;
+            LockSupport.unpark(thread);
+            try {
+                thread.join(timeUnit.toMillis(timeout));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            consumerThread = null;
+        }
+        return stopped;
     }
 
     @Override
     public void append(final LogEvent event) {
-        final LogMessage logMessage = new LogMessage(event);
-        Optional<MethodContext> optionalMethodContext;
-        final Message message = event.getMessage();
-        if (message.getParameters() != null) {
-            optionalMethodContext = Arrays.stream(event.getMessage().getParameters())
-                    .filter(MethodContext.class::isInstance)
-                    .map(o -> (MethodContext) o)
-                    .findFirst();
+        if (ringBuffer == null || Thread.currentThread() == consumerThread) {
+            appendLogMessage(new LogMessage(event), findMethodContext(event));
+            return;
+        }
+
+        // Log4j may reuse the event instance, so the message gets copied and formatted here
+        LogMessage logMessage = new LogMessage(event);
+        Optional<MethodContext> optionalMethodContext = findMethodContext(event);
+        CapturedEvent capturedEvent;
+        if (optionalMethodContext.isPresent()) {
+            MethodContext methodContext = optionalMethodContext.get();
+            String actionContext = methodContext.getTestStepActionContext(logMessage);
+            capturedEvent = new CapturedEvent(logMessage, methodContext, methodContext.getCurrentTestStep(), actionContext);
         } else {
-            optionalMethodContext = Optional.empty();
+            capturedEvent = new CapturedEvent(logMessage, null, null, null);
         }
 
-        // Otherwise, we take the current method context from execution context
-        if (!optionalMethodContext.isPresent()) {
-            optionalMethodContext = ExecutionContextController.getMethodContextForThread();
+        while (!ringBuffer.offer(capturedEvent)) {
+            if (overflowPolicy == OverflowPolicy.DROP) {
+                droppedEvents.incrementAndGet();
+                return;
+            }
+            if (consumerWaiting) {
+                LockSupport.unpark(consumerThread);
+            }
+            Thread.yield();
         }
+        if (consumerWaiting) {
+            LockSupport.unpark(consumerThread);
+        }
+    }
 
+    private Optional<MethodContext> findMethodContext(LogEvent event) {
+        final Object[] parameters = event.getMessage().getParameters();
+        if (parameters != null) {
+            for (Object parameter : parameters) {
+                if (parameter instanceof MethodContext) {
+                    return Optional.of((MethodContext) parameter);
+                }
+            }
+        }
+
+        // Otherwise, we take the current method context from execution context
+        return ExecutionContextController.getMethodContextForThread();
+    }
+
+    private void appendLogMessage(LogMessage logMessage, Optional<MethodContext> optionalMethodContext) {
         if (optionalMethodContext.isPresent()) {
             optionalMethodContext.get().addLogMessage(logMessage);
         } else {
             ExecutionContextController.getCurrentExecutionContext().addLogMessage(logMessage);
         }
     }
+
+    private void consume() {
+        while (consuming || !ringBuffer.isEmpty()) {
+            CapturedEvent capturedEvent = ringBuffer.poll();
+            if (capturedEvent == null) {
+                consumerWaiting = true;
+                if (ringBuffer.isEmpty() && consuming) {
+                    LockSupport.parkNanos(this, CONSUMER_IDLE_NANOS);
+                }
+                consumerWaiting = false;
+                continue;
+            }
+            try {
+                if (capturedEvent.methodContext != null) {
+                    capturedEvent.methodContext.addLogMessage(capturedEvent.testStep, capturedEvent.actionContext, capturedEvent.logMessage);
+                } else {
+                    ExecutionContextController.getCurrentExecutionContext().addLogMessage(capturedEvent.logMessage);
+                }
+            } catch (Throwable t) {
+                error("Unable to append log message", null, t);
+            } finally {
+                processedEvents.lazySet(processedEvents.get() + 1);
+            }
+        }
+    }
+
+    /**
+     * Waits until all log events appended so far have been added to the report model.
+     */
+    public void flush() {
+        Thread thread = consumerThread;
+        if (ringBuffer == null || thread == null || Thread.currentThread() == thread) {
+            return;
+        }
+        long producedCount = ringBuffer.getProducedCount();
+        while (processedEvents.get() < producedCount && thread.isAlive()) {
+            LockSupport.unpark(thread);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+    }
+
+    public boolean isAsync() {
+        return ringBuffer != null;
+    }
+
+    /**
+     * @return Amount of log events dropped by {@link OverflowPolicy#DROP}
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.report;
+
+import eu.tsystems.mms.tic.testframework.common.PropertyManager;
+import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes evidences like screenshots and page sources in background, after they have been captured in the test thread.
+ * The amount of queued tasks is limited. When the queue is full, the task runs in the calling thread.
+ * All pending tasks are awaited by {@link #flush()} before the report gets finalized.
+ */
+public final class EvidencePipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EvidencePipeline.class);
+    private static final Set<CompletableFuture<Void>> PENDING = ConcurrentHashMap.newKeySet();
+    private static final ThreadLocal<Boolean> PROCESSING = ThreadLocal.withInitial(() -> false);
+
+    private static class ExecutorHolder {
+        private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+        private static ThreadPoolExecutor createExecutor() {
+            int threads = Math.max(1, PropertyManager.getIntProperty(TesterraProperties.SCREENSHOTTER_ASYNC_THREADS, 2));
+            int queueSize = Math.max(1, PropertyManager.getIntProperty(TesterraProperties.SCREENSHOTTER_ASYNC_QUEUE_SIZE, 32));
+            AtomicInteger threadCount = new AtomicInteger();
+            return new ThreadPoolExecutor(
+                    threads,
+                    threads,
+                    0,
+                    TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueSize),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "Testerra Evidence " + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.CallerRunsPolicy()
+            );
+        }
+    }
+
+    private EvidencePipeline() {
+    }
+
+    public static boolean isActive() {
+        return PropertyManager.getBooleanProperty(TesterraProperties.SCREENSHOTTER_ASYNC_ACTIVE, false);
+    }
+
+    /**
+     * @return TRUE when the current thread is running a task of this pipeline
+     */
+    public static boolean isProcessing() {
+        return PROCESSING.get();
+    }
+
+    /**
+     * Runs the task in background, or in the calling thread when the pipeline is not active or its queue is full.
+     * Failures are logged and never passed to the caller.
+     *
+     * @return Future, which completes when the task has finished
+     */
+    public static CompletableFuture<Void> submit(Runnable task) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Runnable job = () -> {
+            PROCESSING.set(true);
+            try {
+                task.run();
+            } catch (Throwable throwable) {
+                LOGGER.error("Unable to process evidence", throwable);
+            } finally {
+                PROCESSING.set(false);
+                PENDING.remove(future);
+                future.complete(null);
+            }
+        };
+
+        if (isActive()) {
+            PENDING.add(future);
+            ExecutorHolder.EXECUTOR.execute(job);
+        } else {
+            job.run();
+        }
+        return future;
+    }
+
+    /**
+     * Waits until all tasks submitted so far have finished.
+     */
+    public static void flush() {
+        CompletableFuture.allOf(PENDING.toArray(new CompletableFuture<?>[0])).join();
+    }
+}
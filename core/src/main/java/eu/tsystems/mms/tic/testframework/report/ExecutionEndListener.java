@@ -22,6 +22,7 @@
 
 package eu.tsystems.mms.tic.testframework.report;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.events.ContextUpdateEvent;
@@ -46,6 +47,7 @@ final class ExecutionEndListener implements
 {
     @Override
     @Subscribe
+    @AllowConcurrentEvents
     public void onExecutionAbort(ExecutionAbortEvent event) {
         ExecutionContextController.getCurrentExecutionContext().setCrashed(true);
         finalizeExecutionContext();
@@ -53,6 +55,7 @@ final class ExecutionEndListener implements
 
     @Override
     @Subscribe
+    @AllowConcurrentEvents
     public void onExecutionFinish(ExecutionFinishEvent event) {
         // set the testRunFinished flag
         finalizeExecutionContext();
@@ -60,6 +63,10 @@ final class ExecutionEndListener implements
 
     private void finalizeExecutionContext() {
         MethodRelations.flushAll();
+        // Make sure that all captured log messages are part of the report model
+        TesterraListener.getLogAppender().flush();
+        // Make sure that all screenshots are persisted
+        EvidencePipeline.flush();
 
         ExecutionContext currentExecutionContext = ExecutionContextController.getCurrentExecutionContext();
         currentExecutionContext.updateEndTimeRecursive(new Date());
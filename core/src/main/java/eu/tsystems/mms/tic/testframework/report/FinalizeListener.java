@@ -22,6 +22,7 @@
 
 package eu.tsystems.mms.tic.testframework.report;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.events.FinalizeExecutionEvent;
 
@@ -34,6 +35,7 @@ final class FinalizeListener implements FinalizeExecutionEvent.Listener {
 
     @Override
     @Subscribe
+    @AllowConcurrentEvents
     public void onFinalizeExecution(FinalizeExecutionEvent event) {
         TesterraListener.getReport().finalizeReport();
     }
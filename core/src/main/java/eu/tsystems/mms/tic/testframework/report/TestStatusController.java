@@ -22,6 +22,7 @@
 
 package eu.tsystems.mms.tic.testframework.report;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.events.ContextUpdateEvent;
 import eu.tsystems.mms.tic.testframework.events.TestStatusUpdateEvent;
@@ -129,6 +130,7 @@ public class TestStatusController implements TestStatusUpdateEvent.Listener, Log
     }
 
     @Subscribe
+    @AllowConcurrentEvents
     @Override
     public void onTestStatusUpdate(TestStatusUpdateEvent event) {
         MethodContext methodContext = event.getMethodContext();
@@ -141,9 +143,7 @@ public class TestStatusController implements TestStatusUpdateEvent.Listener, Log
     }
 
     private void incrementFailureCorridor(Class failureCorridorClass) {
-        int failureCorridorCount = getFailureCorridorCount(failureCorridorClass);
-        failureCorridorCount++;
-        failureCorridorCounts.put(failureCorridorClass, failureCorridorCount);
+        failureCorridorCounts.merge(failureCorridorClass, 1, Integer::sum);
     }
 
     public StatusCounter getStatusCounter() {
@@ -42,7 +42,10 @@ import eu.tsystems.mms.tic.testframework.execution.testng.worker.start.MethodSta
 import eu.tsystems.mms.tic.testframework.execution.testng.worker.start.OmitInDevelopmentMethodInterceptor;
 import eu.tsystems.mms.tic.testframework.execution.testng.worker.start.SortMethodsByPriorityMethodInterceptor;
 import eu.tsystems.mms.tic.testframework.internal.BuildInformation;
+import eu.tsystems.mms.tic.testframework.logging.LogMessageBuffer;
 import eu.tsystems.mms.tic.testframework.logging.Loggable;
+import eu.tsystems.mms.tic.testframework.logging.LogMessageStore;
+import eu.tsystems.mms.tic.testframework.logging.MappedLogMessageStore;
 import eu.tsystems.mms.tic.testframework.logging.MethodContextLogAppender;
 import eu.tsystems.mms.tic.testframework.monitor.JVMMonitor;
 import eu.tsystems.mms.tic.testframework.report.hooks.ConfigMethodHook;
@@ -52,6 +55,8 @@ import eu.tsystems.mms.tic.testframework.report.model.context.MethodContext;
 import eu.tsystems.mms.tic.testframework.report.model.steps.TestStep;
 import eu.tsystems.mms.tic.testframework.report.utils.DefaultTestNGContextGenerator;
 import eu.tsystems.mms.tic.testframework.report.utils.ExecutionContextController;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Optional;
@@ -133,8 +138,24 @@ public class TesterraListener implements
         DefaultConfiguration defaultConfiguration = new DefaultConfiguration();
         loggerContext = Configurator.initialize(defaultConfiguration);
 
+        if (PropertyManager.getBooleanProperty(TesterraProperties.REPORT_LOG_SPILL_ACTIVE, false)) {
+            try {
+                int segmentSize = PropertyManager.getIntProperty(TesterraProperties.REPORT_LOG_SPILL_SEGMENT_MB, 32) * 1024 * 1024;
+                LogMessageBuffer.setLogMessageStore(new MappedLogMessageStore(Files.createTempDirectory("testerra-logs").toFile(), segmentSize));
+            } catch (IOException e) {
+                loggerContext.getRootLogger().error("Unable to create log message store", e);
+            }
+        }
+
         // Enable report formatter here
-        logAppender = new MethodContextLogAppender();
+        if (PropertyManager.getBooleanProperty(TesterraProperties.REPORT_LOG_ASYNC_ACTIVE, false)) {
+            MethodContextLogAppender.OverflowPolicy overflowPolicy = MethodContextLogAppender.OverflowPolicy.valueOf(
+                    PropertyManager.getProperty(TesterraProperties.REPORT_LOG_ASYNC_OVERFLOW, "block").trim().toUpperCase(Locale.ROOT)
+            );
+            logAppender = new MethodContextLogAppender(PropertyManager.getIntProperty(TesterraProperties.REPORT_LOG_ASYNC_BUFFER_SIZE, 8192), overflowPolicy);
+        } else {
+            logAppender = new MethodContextLogAppender();
+        }
         logAppender.start();
         loggerContext.getRootLogger().addAppender(logAppender);
 
@@ -174,6 +195,7 @@ public class TesterraListener implements
              */
             JVMMonitor.stop();
             Booter.shutdown();
+            LogMessageBuffer.getLogMessageStore().ifPresent(LogMessageStore::close);
         }));
     }
 
@@ -185,6 +207,10 @@ public class TesterraListener implements
         return loggerContext;
     }
 
+    public static MethodContextLogAppender getLogAppender() {
+        return logAppender;
+    }
+
     public static BuildInformation getBuildInformation() {
         return buildInformation;
     }
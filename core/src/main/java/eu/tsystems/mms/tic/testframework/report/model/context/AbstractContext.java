@@ -30,11 +30,9 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Date;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 public abstract class AbstractContext implements Loggable {
     private String name;
@@ -83,50 +81,49 @@ public abstract class AbstractContext implements Loggable {
      * Gets an context for a specified name.
      * If it not exists, it will be created by a supplier,
      * preconfigured by setting the name,
-     * added to the given queue of contexts and supplied to a consumer.
+     * added to the given index and queue of contexts and supplied to a consumer.
+     * The creation is atomic per name, so concurrent callers will always get the same context.
      *
-     * @param contexts           The queue to add the context when created
+     * @param contextIndex       The index of contexts by their raw name
+     * @param contexts           The queue to add the context when created, keeps the order for reporting
      * @param newContextSupplier Supplier for the new context
      * @param whenAddedToQueue   Consumer when added to the queue
      * @return {@link AbstractContext} or NULL if the context doesn't exists or should not be created
      */
     protected <T extends AbstractContext> T getOrCreateContext(
+            Map<String, T> contextIndex,
             Collection<T> contexts,
             String name,
             Supplier<T> newContextSupplier,
             Consumer<T> whenAddedToQueue
     ) {
         /**
-         * We have to filter by raw {@link #name} instead of {@link #getName()}
+         * We have to index by raw {@link #name} instead of {@link #getName()}
          * which could be generated.
          */
-        List<T> list = contexts.stream()
-                .filter(context -> name.equals(context.getName()))
-                .collect(Collectors.toList());
-
-        if (list.size() == 0) {
-            if (newContextSupplier == null) {
-                return null;
-            }
-            try {
-                T context = newContextSupplier.get();
-                context.setName(name);
-                contexts.add(context);
-
-                if (whenAddedToQueue != null) {
-                    whenAddedToQueue.accept(context);
-                }
-                return context;
-            } catch (Exception e) {
-                throw new SystemException("Error creating Context Class", e);
-            }
-        } else {
-            T first = list.get(0);
-            if (list.size() > 1) {
-                log().warn("Found " + list.size() + " duplicate items of " + first.getClass().getSimpleName() + ", picking first one");
-            }
-            return first;
+        T context = contextIndex.get(name);
+        if (context != null || newContextSupplier == null) {
+            return context;
         }
+
+        final boolean[] created = {false};
+        try {
+            context = contextIndex.computeIfAbsent(name, key -> {
+                T newContext = newContextSupplier.get();
+                newContext.setName(key);
+                contexts.add(newContext);
+                created[0] = true;
+                return newContext;
+            });
+        } catch (Exception e) {
+            throw new SystemException("Error creating Context Class", e);
+        }
+
+        // Called outside of the index to prevent recursive updates
+        if (created[0] && whenAddedToQueue != null) {
+            whenAddedToQueue.accept(context);
+        }
+        return context;
     }
 
     public String getDurationAsString() {
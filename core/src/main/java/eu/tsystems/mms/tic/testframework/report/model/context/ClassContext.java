@@ -37,8 +37,10 @@ import org.testng.SkipException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -50,6 +52,10 @@ import java.util.stream.Stream;
  */
 public class ClassContext extends AbstractContext implements Loggable {
     private final Queue<MethodContext> methodContexts = new ConcurrentLinkedQueue<>();
+    /**
+     * Index of method contexts by their TestNG result, which doesn't override {@link Object#equals(Object)}
+     */
+    private final Map<ITestResult, MethodContext> methodContextsByTestResult = new ConcurrentHashMap<>();
     private final Class testClass;
     private TestClassContext testClassContext = null;
 
@@ -98,83 +104,93 @@ public class ClassContext extends AbstractContext implements Loggable {
             ITestNGMethod testNGMethod,
             Object[] parameters
     ) {
+        if (testResult != null) {
+            MethodContext methodContext = methodContextsByTestResult.get(testResult);
+            if (methodContext != null) {
+                return methodContext;
+            }
+            final boolean[] created = {false};
+            methodContext = methodContextsByTestResult.computeIfAbsent(testResult, key -> {
+                created[0] = true;
+                return createMethodContext(testResult, testNGMethod, TesterraListener.getContextGenerator().getMethodContextName(testResult));
+            });
+            if (created[0]) {
+                postMethodContextCreated(methodContext);
+            }
+            return methodContext;
+        }
+
         final List<Object> parametersList = Arrays.stream(parameters).collect(Collectors.toList());
+        // TODO: (!!!!) this is not eindeutig
+        Optional<MethodContext> found = methodContexts.stream()
+                .filter(methodContext -> methodContext.getTestNgResult().isPresent())
+                .filter(methodContext -> {
+                    ITestResult iTestResult = methodContext.getTestNgResult().get();
+                    return testContext == iTestResult.getTestContext() && testNGMethod == iTestResult.getMethod();
+                })
+                .filter(methodContext -> methodContext.getParameterValues().containsAll(parametersList))
+                .findFirst();
+
+        String methodContextName = TesterraListener.getContextGenerator().getMethodContextName(testContext, testNGMethod, parameters);
+
+        if (found.isPresent()) {
+            return found.get();
+        }
+        MethodContext methodContext = createMethodContext(testResult, testNGMethod, methodContextName);
+        postMethodContextCreated(methodContext);
+        return methodContext;
+    }
 
-        Optional<MethodContext> found;
-        String methodContextName;
+    private MethodContext createMethodContext(ITestResult testResult, ITestNGMethod testNGMethod, String methodContextName) {
+        MethodContext.Type methodType;
 
-        if (testResult != null) {
-            found = methodContexts.stream()
-                    .filter(methodContext -> methodContext.getTestNgResult().isPresent())
-                    .filter(methodContext -> testResult == methodContext.getTestNgResult().get())
-                    .findFirst();
-            methodContextName = TesterraListener.getContextGenerator().getMethodContextName(testResult);
+        if (testNGMethod.isTest()) {
+            methodType = MethodContext.Type.TEST_METHOD;
         } else {
-            // TODO: (!!!!) this is not eindeutig
-            found = methodContexts.stream()
-                    .filter(methodContext -> methodContext.getTestNgResult().isPresent())
-                    .filter(methodContext -> {
-                        ITestResult iTestResult = methodContext.getTestNgResult().get();
-                        return testContext == iTestResult.getTestContext() && testNGMethod == iTestResult.getMethod();
-                    })
-                    .filter(methodContext -> methodContext.getParameterValues().containsAll(parametersList))
-                    .findFirst();
-
-            methodContextName = TesterraListener.getContextGenerator().getMethodContextName(testContext, testNGMethod, parameters);
+            methodType = MethodContext.Type.CONFIGURATION_METHOD;
         }
 
-        MethodContext methodContext;
-        if (!found.isPresent()) {
-            MethodContext.Type methodType;
+        MethodContext methodContext = new MethodContext(methodContextName, methodType, this);
+        //methodContext.name = name;
+        //fillBasicContextValues(methodContext, this, name);
 
-            if (testNGMethod.isTest()) {
-                methodType = MethodContext.Type.TEST_METHOD;
-            } else {
-                methodType = MethodContext.Type.CONFIGURATION_METHOD;
-            }
-
-            methodContext = new MethodContext(methodContextName, methodType, this);
-            //methodContext.name = name;
-            //fillBasicContextValues(methodContext, this, name);
-
-            methodContext.setTestNgResult(testResult);
-            methodContext.setParameterValues(testResult.getParameters());
+        methodContext.setTestNgResult(testResult);
+        methodContext.setParameterValues(testResult.getParameters());
 //
 //            if (parameters.length > 0) {
 //                methodContext.parameters = Arrays.stream(parameters).map(o -> o == null ? "" : o.toString()).collect(Collectors.toList());
 //            }
 
-                /*
-                link to merged context
-                 */
+        /*
+        link to merged context
+         */
 //            if (isMerged()) {
 //                mergedIntoClassContext.methodContexts.add(methodContext);
 //            }
 
-            // also check for annotations
-            Method method = testNGMethod.getConstructorOrMethod().getMethod();
-            if (method.isAnnotationPresent(FailureCorridor.High.class)) {
-                methodContext.setFailureCorridorClass(FailureCorridor.High.class);
-            } else if (method.isAnnotationPresent(FailureCorridor.Mid.class)) {
-                methodContext.setFailureCorridorClass(FailureCorridor.Mid.class);
-            } else if (method.isAnnotationPresent(FailureCorridor.Low.class)) {
-                methodContext.setFailureCorridorClass(FailureCorridor.Low.class);
-            }
-
-            /*
-            add to method contexts
-             */
-            methodContexts.add(methodContext);
-
-            EventBus eventBus = TesterraListener.getEventBus();
-            eventBus.post(new ContextUpdateEvent().setContext(methodContext));
-            eventBus.post(new ContextUpdateEvent().setContext(this));
-        } else {
-            methodContext = found.get();
+        // also check for annotations
+        Method method = testNGMethod.getConstructorOrMethod().getMethod();
+        if (method.isAnnotationPresent(FailureCorridor.High.class)) {
+            methodContext.setFailureCorridorClass(FailureCorridor.High.class);
+        } else if (method.isAnnotationPresent(FailureCorridor.Mid.class)) {
+            methodContext.setFailureCorridorClass(FailureCorridor.Mid.class);
+        } else if (method.isAnnotationPresent(FailureCorridor.Low.class)) {
+            methodContext.setFailureCorridorClass(FailureCorridor.Low.class);
         }
+
+        /*
+        add to method contexts
+         */
+        methodContexts.add(methodContext);
         return methodContext;
     }
 
+    private void postMethodContextCreated(MethodContext methodContext) {
+        EventBus eventBus = TesterraListener.getEventBus();
+        eventBus.post(new ContextUpdateEvent().setContext(methodContext));
+        eventBus.post(new ContextUpdateEvent().setContext(this));
+    }
+
     public MethodContext safeAddSkipMethod(ITestResult testResult) {
         MethodContext methodContext = getMethodContext(testResult);
         methodContext.addError(new SkipException("Skipped"));
@@ -23,16 +23,21 @@
 
 import com.google.common.eventbus.EventBus;
 import eu.tsystems.mms.tic.testframework.events.ContextUpdateEvent;
+import eu.tsystems.mms.tic.testframework.internal.LatencyHistogram;
+import eu.tsystems.mms.tic.testframework.logging.LogMessageBuffer;
 import eu.tsystems.mms.tic.testframework.report.TesterraListener;
 import org.testng.ITestContext;
 import org.testng.ITestResult;
 
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Stream;
 
 public class ExecutionContext extends AbstractContext {
     private final Queue<SuiteContext> suiteContexts = new ConcurrentLinkedQueue<>();
+    private final Map<String, SuiteContext> suiteContextsByName = new ConcurrentHashMap<>();
     /**
      * @deprecated Use {@link #getRunConfig()} instead
      */
@@ -47,6 +52,8 @@ public class ExecutionContext extends AbstractContext {
      */
     public int estimatedTestMethodCount;
     private final ConcurrentLinkedQueue<LogMessage> methodContextLessLogs = new ConcurrentLinkedQueue<>();
+    private final LogMessageBuffer logMessageBuffer = new LogMessageBuffer();
+    private final Map<String, LatencyHistogram> guiElementFindDurations = new ConcurrentHashMap<>();
 
     public ExecutionContext() {
         setName(runConfig.RUNCFG);
@@ -77,7 +84,9 @@ public class ExecutionContext extends AbstractContext {
     }
 
     public ExecutionContext addLogMessage(LogMessage logMessage) {
-        this.methodContextLessLogs.add(logMessage);
+        if (this.logMessageBuffer.add(logMessage)) {
+            this.methodContextLessLogs.add(logMessage);
+        }
         return this;
     }
 
@@ -89,8 +98,9 @@ public class ExecutionContext extends AbstractContext {
         return getSuiteContext(TesterraListener.getContextGenerator().getSuiteContextName(testResult));
     }
 
-    private synchronized SuiteContext getSuiteContext(String suiteContextName) {
+    private SuiteContext getSuiteContext(String suiteContextName) {
         return getOrCreateContext(
+                suiteContextsByName,
                 suiteContexts,
                 suiteContextName,
                 () -> new SuiteContext(this),
@@ -123,4 +133,11 @@ public class ExecutionContext extends AbstractContext {
     public void setEstimatedTestMethodCount(int count) {
         this.estimatedTestMethodCount = count;
     }
+
+    /**
+     * @return Durations of the GuiElement find() calls per locator
+     */
+    public Map<String, LatencyHistogram> getGuiElementFindDurations() {
+        return this.guiElementFindDurations;
+    }
 }
@@ -20,12 +20,15 @@
  */
  package eu.tsystems.mms.tic.testframework.report.model.context;
 
+import eu.tsystems.mms.tic.testframework.logging.LogMessageStore;
 import eu.tsystems.mms.tic.testframework.logging.Loggable;
 import eu.tsystems.mms.tic.testframework.logging.Prompt;
 import java.util.Arrays;
 import java.util.Optional;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.core.LogEvent;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import org.apache.logging.log4j.message.Message;
 
@@ -38,8 +41,12 @@ public class LogMessage implements Serializable, Loggable {
     private final long timestamp;
     private final String threadName;
     private final String loggerName;
-    private final Throwable thrown;
-    private final String message;
+    private Throwable thrown;
+    private String message;
+    /**
+     * Not serializable, {@link #writeObject(ObjectOutputStream)} writes the stored payload instead
+     */
+    private transient LogMessageStore.Entry storeEntry;
     private final Level level;
     private final boolean prompt;
 
@@ -77,15 +84,54 @@ public class LogMessage implements Serializable, Loggable {
         return this.loggerName;
     }
 
-    public String getMessage() {
+    public synchronized String getMessage() {
+        if (this.storeEntry != null) {
+            return this.storeEntry.getMessage();
+        }
         return this.message;
     }
 
-    public Optional<Throwable> getThrown() {
+    public synchronized Optional<Throwable> getThrown() {
+        if (this.storeEntry != null) {
+            return this.storeEntry.getThrown();
+        }
         return Optional.ofNullable(this.thrown);
     }
 
+    /**
+     * Moves the message and the throwable to the given store to release them from heap.
+     */
+    public synchronized void moveTo(LogMessageStore store) {
+        if (this.storeEntry != null) {
+            return;
+        }
+        this.storeEntry = store.store(getMessage(), this.thrown);
+        if (this.storeEntry != null) {
+            this.message = null;
+            this.thrown = null;
+        }
+    }
+
+    public synchronized boolean isStored() {
+        return this.storeEntry != null;
+    }
+
     public boolean isPrompt() {
         return prompt;
     }
+
+    private synchronized void writeObject(ObjectOutputStream outputStream) throws IOException {
+        if (this.storeEntry == null) {
+            outputStream.defaultWriteObject();
+            return;
+        }
+        this.message = this.storeEntry.getMessage();
+        this.thrown = this.storeEntry.getThrown().orElse(null);
+        try {
+            outputStream.defaultWriteObject();
+        } finally {
+            this.message = null;
+            this.thrown = null;
+        }
+    }
 }
@@ -174,6 +174,20 @@ public class MethodContext extends AbstractContext {
         return testStepController.addLogMessage(logMessage);
     }
 
+    /**
+     * @see TestStepController#getTestStepActionContext(LogMessage)
+     */
+    public String getTestStepActionContext(LogMessage logMessage) {
+        return testStepController.getTestStepActionContext(logMessage);
+    }
+
+    /**
+     * @see TestStepController#addLogMessage(TestStep, String, LogMessage)
+     */
+    public TestStepAction addLogMessage(TestStep testStep, String actionContext, LogMessage logMessage) {
+        return testStepController.addLogMessage(testStep, actionContext, logMessage);
+    }
+
     public TestStep getTestStep(String name) {
         return this.testStepController.getTestStep(name);
     }
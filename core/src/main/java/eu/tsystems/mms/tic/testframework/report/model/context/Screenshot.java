@@ -21,9 +21,12 @@
  package eu.tsystems.mms.tic.testframework.report.model.context;
 
 import eu.tsystems.mms.tic.testframework.logging.Loggable;
+import eu.tsystems.mms.tic.testframework.report.EvidencePipeline;
 import java.io.File;
 import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class Screenshot extends Attachment implements Loggable {
 
@@ -40,6 +43,7 @@ public class Screenshot extends Attachment implements Loggable {
         public static final String SOURCE_FILE_NAME="SourceFileName";
     }
     private File pageSourceFile;
+    private volatile CompletableFuture<Void> processing;
 
     public Screenshot() {
         this("Screenshot");
@@ -65,7 +69,11 @@ public class Screenshot extends Attachment implements Loggable {
         super.setFile(file);
     }
 
+    /**
+     * Waits until the screenshot file has been processed.
+     */
     public File getScreenshotFile() {
+        awaitProcessing();
         if (this.file == null) {
             this.file = createTempFile(".png");
         }
@@ -78,11 +86,43 @@ public class Screenshot extends Attachment implements Loggable {
         return this;
     }
 
+    /**
+     * Waits until the page source file has been processed.
+     */
     public Optional<File> getPageSourceFile() {
+        awaitProcessing();
         return Optional.ofNullable(pageSourceFile);
     }
 
+    /**
+     * Waits until the meta data has been completed by the processing.
+     */
+    @Override
+    public Map<String, String> getMetaData() {
+        awaitProcessing();
+        return super.getMetaData();
+    }
+
     public File createPageSourceFile() {
         return this.pageSourceFile = this.createTempFile(".html");
     }
+
+    /**
+     * @param processing Completes when the files and meta data have been processed in background
+     */
+    public Screenshot setProcessing(CompletableFuture<Void> processing) {
+        this.processing = processing;
+        return this;
+    }
+
+    /**
+     * Waits until the files and meta data of this screenshot are final.
+     * Doesn't wait, when called by the processing itself.
+     */
+    public Screenshot awaitProcessing() {
+        if (processing != null && !EvidencePipeline.isProcessing()) {
+            processing.join();
+        }
+        return this;
+    }
 }
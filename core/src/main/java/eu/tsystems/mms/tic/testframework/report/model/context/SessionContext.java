@@ -21,6 +21,7 @@
  */
 package eu.tsystems.mms.tic.testframework.report.model.context;
 
+import eu.tsystems.mms.tic.testframework.internal.LatencyHistogram;
 import eu.tsystems.mms.tic.testframework.model.NodeInfo;
 import eu.tsystems.mms.tic.testframework.webdrivermanager.WebDriverRequest;
 
@@ -39,6 +40,7 @@ public class SessionContext extends AbstractContext {
     private final WebDriverRequest webDriverRequest;
     private final Queue<MethodContext> methodContexts = new ConcurrentLinkedQueue<>();
     private String remoteSessionId;
+    private final LatencyHistogram guiElementFindDurations = new LatencyHistogram();
     public static final String EXCLUSIVE_PREFIX = "EXCLUSIVE_";
 
     public SessionContext(WebDriverRequest webDriverRequest) {
@@ -121,6 +123,13 @@ public class SessionContext extends AbstractContext {
         return this;
     }
 
+    /**
+     * @return Durations of the GuiElement find() calls in this session
+     */
+    public LatencyHistogram getGuiElementFindDurations() {
+        return guiElementFindDurations;
+    }
+
     void addMethodContext(MethodContext methodContext) {
         this.methodContexts.add(methodContext);
     }
@@ -27,12 +27,15 @@ import eu.tsystems.mms.tic.testframework.report.TesterraListener;
 import org.testng.ITestContext;
 import org.testng.ITestResult;
 
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Stream;
 
 public class SuiteContext extends AbstractContext {
     private final Queue<TestContext> testContexts = new ConcurrentLinkedQueue<>();
+    private final Map<String, TestContext> testContextsByName = new ConcurrentHashMap<>();
 
     public SuiteContext(ExecutionContext executionContext) {
         this.setParentContext(executionContext);
@@ -54,8 +57,9 @@ public class SuiteContext extends AbstractContext {
         return getTestContext(TesterraListener.getContextGenerator().getTestContextName(testContext));
     }
 
-    private synchronized TestContext getTestContext(String testContextName) {
+    private TestContext getTestContext(String testContextName) {
         return getOrCreateContext(
+                testContextsByName,
                 testContexts,
                 testContextName,
                 () -> new TestContext(this),
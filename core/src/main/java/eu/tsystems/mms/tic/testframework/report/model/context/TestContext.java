@@ -32,7 +32,9 @@ import org.testng.ITestContext;
 import org.testng.ITestNGMethod;
 import org.testng.ITestResult;
 
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Stream;
 
@@ -41,6 +43,7 @@ import java.util.stream.Stream;
  */
 public class TestContext extends AbstractContext {
     private final Queue<ClassContext> classContexts = new ConcurrentLinkedQueue<>();
+    private final Map<String, ClassContext> classContextsByName = new ConcurrentHashMap<>();
 
     public TestContext(SuiteContext suiteContext) {
         this.setParentContext(suiteContext);
@@ -68,11 +71,12 @@ public class TestContext extends AbstractContext {
         return this.pGetClassContext(testClass, testClass.getRealClass().getSimpleName());
     }
 
-    private synchronized ClassContext pGetClassContext(IClass testClass, String classContextName) {
+    private ClassContext pGetClassContext(IClass testClass, String classContextName) {
 
         final Class<?> realClass = testClass.getRealClass();
 
         return getOrCreateContext(
+                this.classContextsByName,
                 this.classContexts,
                 classContextName,
                 () -> {
@@ -79,9 +79,10 @@ public class TestStep implements Serializable, Loggable {
     }
 
     /**
+     * Synchronized, because the asynchronous log appender resolves actions on its consumer thread.
      * @return The last action if it matches the name, otherwise a new action is returned.
      */
-    public TestStepAction getTestStepAction(String name) {
+    public synchronized TestStepAction getTestStepAction(String name) {
         if (name==null || name.isEmpty()) {
             name = INTERNAL;
         }
@@ -124,7 +125,7 @@ public class TestStep implements Serializable, Loggable {
         return testStepActions.get(testStepActions.size() - 1);
     }
 
-    public TestStepAction getCurrentTestStepAction() {
+    public synchronized TestStepAction getCurrentTestStepAction() {
         if (testStepActions.size() == 0) {
             return getTestStepAction(INTERNAL);
         }
@@ -30,8 +30,8 @@ import org.apache.logging.log4j.core.LogEvent;
 
 import java.io.Serializable;
 import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -41,7 +41,7 @@ public class TestStepAction implements Serializable {
 
     private final String name;
     private final long timestamp;
-    private final List<Object> entries = new LinkedList<>();
+    private final Queue<Object> entries = new ConcurrentLinkedQueue<>();
 
 
     public TestStepAction(String name) {
@@ -21,25 +21,30 @@
  */
  package eu.tsystems.mms.tic.testframework.report.model.steps;
 
+import eu.tsystems.mms.tic.testframework.logging.LogMessageBuffer;
 import eu.tsystems.mms.tic.testframework.report.model.Serial;
 import eu.tsystems.mms.tic.testframework.report.model.context.LogMessage;
 import eu.tsystems.mms.tic.testframework.utils.StringUtils;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class TestStepController implements Serializable {
 
     private static final long serialVersionUID = Serial.SERIAL;
 
-    private static final List<TestStepHandler> handlers = new LinkedList<>();
+    private static final List<TestStepHandler> handlers = new CopyOnWriteArrayList<>();
 
     /*
     Test Steps Contexts
      */
 
     private final List<TestStep> testSteps = new LinkedList<>();
+    private transient LogMessageBuffer logMessageBuffer = new LogMessageBuffer();
 
     public TestStep getCurrentTestStep() {
         // if there are no active test step yet, create a new initial one
@@ -58,24 +63,40 @@ public class TestStepController implements Serializable {
     }
 
     public TestStepAction addLogMessage(LogMessage logMessage) {
-        String actionContext = null;
+        String actionContext = getTestStepActionContext(logMessage);
+        return addLogMessage(getCurrentTestStep(), actionContext, logMessage);
+    }
 
+    /**
+     * Returns the action context of the first {@link TestStepHandler} responsible for the log message.
+     * This needs to be called from the thread which created the log message,
+     * because {@link TestStepHandler}s may inspect the current stack.
+     */
+    public String getTestStepActionContext(LogMessage logMessage) {
         for (TestStepHandler listener : handlers) {
             String context = listener.getTestStepActionContext(logMessage);
             if (context != null) {
-                actionContext = context;
-                break;
+                return context;
             }
         }
+        return null;
+    }
 
-        TestStep currentTestStep = getCurrentTestStep();
+    /**
+     * Adds the log message to the action of the given test step, when it was not dropped by the {@link LogMessageBuffer}.
+     * @param testStep The test step which was current when the log message was created
+     * @param actionContext The result of {@link #getTestStepActionContext(LogMessage)}
+     */
+    public TestStepAction addLogMessage(TestStep testStep, String actionContext, LogMessage logMessage) {
         TestStepAction testStepAction;
         if (actionContext==null) {
-            testStepAction = currentTestStep.getCurrentTestStepAction();
+            testStepAction = testStep.getCurrentTestStepAction();
         } else {
-            testStepAction = currentTestStep.getTestStepAction(actionContext);
+            testStepAction = testStep.getTestStepAction(actionContext);
+        }
+        if (logMessageBuffer.add(logMessage)) {
+            testStepAction.addLogMessage(logMessage);
         }
-        testStepAction.addLogMessage(logMessage);
         return testStepAction;
     }
 
@@ -115,4 +136,9 @@ public class TestStepController implements Serializable {
     public static void addHandler(TestStepHandler handler) {
         handlers.add(handler);
     }
+
+    private void readObject(ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
+        inputStream.defaultReadObject();
+        logMessageBuffer = new LogMessageBuffer();
+    }
 }
@@ -68,16 +68,9 @@ public final class PerfTestContainer {
      */
     public static void addPageLoadInfo(Long threadID, List<TimingInfo> timingInfos, String testMethodName) {
         // add the pageLoadInfo in a map with test method name as key
-        if (!PAGE_LOAD_INFOS_PER_TEST_METHOD.containsKey(testMethodName)) {
-
-            Map<Long, List<TimingInfo>> map = Collections.synchronizedMap(new HashMap<Long, List<TimingInfo>>());
-            map.put(threadID, timingInfos);
-            PAGE_LOAD_INFOS_PER_TEST_METHOD.put(testMethodName, map);
-        } else {
-            Map<Long, List<TimingInfo>> map = PAGE_LOAD_INFOS_PER_TEST_METHOD.get(testMethodName);
-            map.put(threadID, timingInfos);
-            PAGE_LOAD_INFOS_PER_TEST_METHOD.put(testMethodName, map);
-        }
+        PAGE_LOAD_INFOS_PER_TEST_METHOD
+                .computeIfAbsent(testMethodName, name -> Collections.synchronizedMap(new HashMap<Long, List<TimingInfo>>()))
+                .put(threadID, timingInfos);
     }
 //
 //    /**
@@ -21,7 +21,9 @@
  */
  package eu.tsystems.mms.tic.testframework.report.utils;
 
+import eu.tsystems.mms.tic.testframework.events.SubscriberLock;
 import eu.tsystems.mms.tic.testframework.internal.Flags;
+import eu.tsystems.mms.tic.testframework.logging.LogMessageBuffer;
 import eu.tsystems.mms.tic.testframework.report.FailureCorridor;
 import eu.tsystems.mms.tic.testframework.report.Status;
 import eu.tsystems.mms.tic.testframework.report.StatusCounter;
@@ -33,6 +35,7 @@ import eu.tsystems.mms.tic.testframework.report.model.context.MethodContext;
 import eu.tsystems.mms.tic.testframework.report.model.context.SessionContext;
 import eu.tsystems.mms.tic.testframework.report.model.context.SuiteContext;
 import eu.tsystems.mms.tic.testframework.report.model.context.TestContext;
+import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.ITestContext;
@@ -252,6 +255,19 @@ public class ExecutionContextController {
 
         LOGGER.info(statsPrefix + "Duration: " + executionContext.getDurationAsString());
 
+        LogMessageBuffer.getLogMessageStore().ifPresent(logMessageStore -> {
+            LOGGER.info(statsPrefix + "Spilled log messages: " + logMessageStore.getStoredEntries() + " (" + FileUtils.byteCountToDisplaySize(logMessageStore.getStoredBytes()) + ")");
+        });
+        if (LogMessageBuffer.getDroppedMessages() > 0) {
+            LOGGER.info(statsPrefix + "Dropped log messages: " + LogMessageBuffer.getDroppedMessages());
+        }
+        if (TesterraListener.getLogAppender().getDroppedEvents() > 0) {
+            LOGGER.info(statsPrefix + "Dropped log events: " + TesterraListener.getLogAppender().getDroppedEvents());
+        }
+        SubscriberLock.readLocks()
+                .filter(subscriberLock -> subscriberLock.getContentions() > 0)
+                .forEach(subscriberLock -> LOGGER.info(statsPrefix + "Subscriber contention " + subscriberLock));
+
         LOGGER.info(statsPrefix + "**********************************************");
     }
 
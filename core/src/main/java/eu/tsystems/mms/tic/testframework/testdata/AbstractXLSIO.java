@@ -54,6 +54,10 @@ public abstract class AbstractXLSIO {
     /** sdf for reading dates */
     private SimpleDateFormat simpleDateFormat = new SimpleDateFormat("dd.MM.yyyy");
 
+    /**
+     * Only guards writing workbooks. Reading opens a separate workbook per instance and doesn't need a global lock.
+     * For large or concurrently used data sources, consider {@link TestDataProviders}.
+     */
     protected static final Object LOCK = new Object();
 
     /**
@@ -175,28 +179,26 @@ public abstract class AbstractXLSIO {
      */
     protected XLSWriter openFileFromResource(final String fileInResources, final String sheetName) {
         LOGGER.info("Reading from " + fileInResources);
-        synchronized (LOCK) {
-            InputStream resourceAsStream = Thread.currentThread().getContextClassLoader()
-                    .getResourceAsStream(fileInResources);
+        InputStream resourceAsStream = Thread.currentThread().getContextClassLoader()
+                .getResourceAsStream(fileInResources);
 
-            if (resourceAsStream == null) {
-                throw new SystemException("Error reading resource file " + fileInResources);
-            }
+        if (resourceAsStream == null) {
+            throw new SystemException("Error reading resource file " + fileInResources);
+        }
 
-            try {
-                workbook = WorkbookFactory.create(resourceAsStream);
-            } catch (IOException e) {
-                throw new SystemException("Cannot read xls(x) file: " + fileInResources, e);
-            } catch (InvalidFormatException e) {
-                throw new SystemException("Cannot read xls(x) file: " + fileInResources, e);
-            }
-            // Get data sheet by name
-            sheet = workbook.getSheet(sheetName);
-            if (sheet == null) {
-                throw new SystemException("No sheet with name " + sheetName + " found.");
-            }
-            return null;
+        try (InputStream inputStream = resourceAsStream) {
+            workbook = WorkbookFactory.create(inputStream);
+        } catch (IOException e) {
+            throw new SystemException("Cannot read xls(x) file: " + fileInResources, e);
+        } catch (InvalidFormatException e) {
+            throw new SystemException("Cannot read xls(x) file: " + fileInResources, e);
         }
+        // Get data sheet by name
+        sheet = workbook.getSheet(sheetName);
+        if (sheet == null) {
+            throw new SystemException("No sheet with name " + sheetName + " found.");
+        }
+        return null;
     }
 
     /**
@@ -210,23 +212,20 @@ public abstract class AbstractXLSIO {
      */
     protected XLSWriter openFileAbsolute(final String filename, final String sheetName) {
         LOGGER.info("Reading from " + filename);
-        synchronized (LOCK) {
-            try {
-                FileInputStream fileInputStream = new FileInputStream(filename);
-                workbook = WorkbookFactory.create(fileInputStream);
-            } catch (IOException e) {
-                throw new SystemException("Cannot read xls(x) file: " + filename, e);
-            } catch (InvalidFormatException e) {
-                throw new SystemException("Cannot read xls(x) file: " + filename, e);
-            }
-            // Get data sheet by name
-            sheet = workbook.getSheet(sheetName);
-            if (sheet == null) {
-                throw new SystemException("No sheet with name " + sheetName + " found.");
-            }
-
-            return null;
+        try (FileInputStream fileInputStream = new FileInputStream(filename)) {
+            workbook = WorkbookFactory.create(fileInputStream);
+        } catch (IOException e) {
+            throw new SystemException("Cannot read xls(x) file: " + filename, e);
+        } catch (InvalidFormatException e) {
+            throw new SystemException("Cannot read xls(x) file: " + filename, e);
+        }
+        // Get data sheet by name
+        sheet = workbook.getSheet(sheetName);
+        if (sheet == null) {
+            throw new SystemException("No sheet with name " + sheetName + " found.");
         }
+
+        return null;
     }
 
     /**
@@ -0,0 +1,92 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.testdata;
+
+import com.opencsv.CSVReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Streams the rows of a CSV source via {@link CSVReader#readNext()}.
+ * Rows which don't match the number of header cells are logged and skipped.
+ */
+public class CSVRowIterator extends TestDataRowIterator {
+
+    private final CSVReader csvReader;
+    private final char separator;
+    private final int headerRow;
+
+    /**
+     * @param reader Reader of the CSV content, will be closed at the end of the iteration.
+     * @param source Name of the source for logging.
+     * @param separator Column separator.
+     * @param quoteChar Quote character.
+     * @param skippedLines Lines to skip before parsing.
+     * @param headerRow Row of the header after the skipped lines, 0-based.
+     */
+    public CSVRowIterator(
+            final Reader reader,
+            final String source,
+            final char separator,
+            final char quoteChar,
+            final int skippedLines,
+            final int headerRow
+    ) {
+        super(source);
+        this.csvReader = new CSVReader(reader, separator, quoteChar, skippedLines);
+        this.separator = separator;
+        this.headerRow = headerRow;
+    }
+
+    @Override
+    protected String[] readHeader() throws IOException {
+        for (int i = 0; i < headerRow; i++) {
+            if (csvReader.readNext() == null) {
+                return null;
+            }
+        }
+        return csvReader.readNext();
+    }
+
+    @Override
+    protected String[] readRow() throws IOException {
+        final int columnCount = getColumnCount();
+        String[] cells;
+        while ((cells = csvReader.readNext()) != null) {
+            if (cells.length == columnCount) {
+                return cells;
+            }
+            final StringBuilder message = new StringBuilder("Could not read " + getSource() + "\nline: ");
+            for (String cell : cells) {
+                message.append(cell).append(separator);
+            }
+            LOGGER.error(message.toString());
+        }
+        return null;
+    }
+
+    @Override
+    protected void closeSource() throws IOException {
+        csvReader.close();
+    }
+}
@@ -28,10 +28,12 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -121,30 +123,19 @@ public class CSVTestDataReader {
         // init values
         final List<Map<String, String>> dataSetsList = new LinkedList<>();
 
-        // init reader
-        final List<String[]> content = this.readAllLinesFromCsvFile(fileInResources);
-        final String[] headerRow = content.get(this.headerRow);
-        final int nrOfHeaders = headerRow.length;
-
-        for (int j = this.headerRow + 1; j < content.size(); j++) {
-
-            final String[] cells = content.get(j);
-            /*
-            Exit with clear error print out
-             */
-            if (cells.length != nrOfHeaders) {
-
-                final StringBuilder message = new StringBuilder("Could not read " + fileInResources + "\nline: ");
-                for (String cell : cells) {
-                    message.append(cell).append(separator);
-                }
-                LOGGER.error(message.toString());
-            } else {
-                final Map<String, String> dataSet = new LinkedHashMap<>();
-                for (int i = 0; i < nrOfHeaders; i++) {
-                    dataSet.put(headerRow[i], cells[i]);
-                }
-                dataSetsList.add(dataSet);
+        LOGGER.info(String.format("Reading from %s", fileInResources));
+
+        // rows with a different number of cells than the header are logged and skipped by the iterator
+        try (CSVRowIterator rowIterator = new CSVRowIterator(
+                this.openFileFromResources(fileInResources),
+                fileInResources,
+                getSeparator(),
+                getQuoteChar(),
+                getSkippedLines(),
+                this.headerRow
+        )) {
+            while (rowIterator.hasNext()) {
+                dataSetsList.add(new LinkedHashMap<>(rowIterator.nextDataSet()));
             }
         }
 
@@ -175,22 +166,30 @@ public class CSVTestDataReader {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Scans the classpath resources only once, since this is expensive for large classpaths.
+     */
+    private static class ResourcesHolder {
+        private static final Set<String> RESOURCES = new Reflections("", new ResourcesScanner()).getResources(x -> true);
+    }
+
     private String findFileInResources(String filename) {
 
-        Reflections reflections = new Reflections("", new ResourcesScanner());
-        Set<String> resourceList = reflections.getResources(x -> true);
-        return resourceList.stream()
+        if (FileUtils.getResourceURL(filename) != null) {
+            return filename;
+        }
+        return ResourcesHolder.RESOURCES.stream()
                 .filter(path -> path.contains(filename))
                 .findFirst()
                 .orElse(null);
     }
 
-    private FileReader openFileFromResources(String fileInResources) {
+    private Reader openFileFromResources(String fileInResources) {
 
         final File resourceFile = FileUtils.getResourceFile(fileInResources);
-        FileReader resourceFileReader = null;
+        Reader resourceFileReader = null;
         try {
-            resourceFileReader = new FileReader(resourceFile);
+            resourceFileReader = new BufferedReader(new FileReader(resourceFile));
         } catch (FileNotFoundException e) {
             Assert.fail("Could not read file: " + fileInResources);
         }
@@ -292,10 +291,9 @@ public class CSVTestDataReader {
 
         LOGGER.info(String.format("Reading from %s", fileName));
 
-        final FileReader fileReader = this.openFileFromResources(fileName);
-        final CSVReader csvReader = new CSVReader(fileReader, getSeparator(), getQuoteChar(), getSkippedLines());
+        final Reader fileReader = this.openFileFromResources(fileName);
 
-        try {
+        try (CSVReader csvReader = new CSVReader(fileReader, getSeparator(), getQuoteChar(), getSkippedLines())) {
             return csvReader.readAll().stream().map(l -> Arrays.stream(l).map(String::trim).toArray(String[]::new)).collect(Collectors.toList());
         } catch (IOException e) {
             throw new RuntimeException(String.format("Could not read csv file in resources %s.", fileName), e);
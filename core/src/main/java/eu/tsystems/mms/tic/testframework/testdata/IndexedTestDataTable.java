@@ -0,0 +1,176 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.testdata;
+
+import eu.tsystems.mms.tic.testframework.exceptions.SystemException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+/**
+ * Immutable in-memory table of a test data source with a hash index on one column.
+ * Tables are loaded once per source and index column and then shared by all threads without locking.
+ *
+ * @see TestDataProviders
+ */
+public final class IndexedTestDataTable implements Iterable<Object[]> {
+
+    private static final ConcurrentMap<String, Future<IndexedTestDataTable>> CACHE = new ConcurrentHashMap<>();
+
+    private final String source;
+    private final String indexColumn;
+    private final String[] header;
+    private final List<Map<String, String>> dataSets;
+    private final Map<String, Map<String, String>> index;
+
+    private IndexedTestDataTable(final TestDataRowIterator rowIterator, final String indexColumn) {
+        this.source = rowIterator.getSource();
+        this.indexColumn = indexColumn;
+        try {
+            this.header = rowIterator.getHeader();
+            boolean hasIndexColumn = false;
+            for (String column : header) {
+                hasIndexColumn |= column.equals(indexColumn);
+            }
+            if (!hasIndexColumn) {
+                throw new SystemException("No index column >" + indexColumn + "< found in " + source);
+            }
+
+            final List<Map<String, String>> dataSets = new ArrayList<>();
+            final Map<String, Map<String, String>> index = new HashMap<>();
+            while (rowIterator.hasNext()) {
+                final Map<String, String> dataSet = rowIterator.nextDataSet();
+                dataSets.add(dataSet);
+                index.putIfAbsent(dataSet.get(indexColumn), dataSet);
+            }
+            this.dataSets = Collections.unmodifiableList(dataSets);
+            this.index = index;
+        } finally {
+            rowIterator.close();
+        }
+    }
+
+    /**
+     * Returns the cached table for the given key or loads it from the given row iterator.
+     * Concurrent callers for the same key wait for a single load, callers for other keys are not blocked.
+     *
+     * @param key Unique key of the source.
+     * @param indexColumn Header of the column to index.
+     * @param rowIteratorSupplier Opens the source, only called when the table is not cached yet.
+     */
+    public static IndexedTestDataTable get(
+            final String key,
+            final String indexColumn,
+            final Supplier<? extends TestDataRowIterator> rowIteratorSupplier
+    ) {
+        final String cacheKey = key + "#" + indexColumn;
+        Future<IndexedTestDataTable> future = CACHE.get(cacheKey);
+        if (future == null) {
+            final FutureTask<IndexedTestDataTable> task = new FutureTask<>(() -> new IndexedTestDataTable(rowIteratorSupplier.get(), indexColumn));
+            future = CACHE.putIfAbsent(cacheKey, task);
+            if (future == null) {
+                future = task;
+                task.run();
+            }
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            CACHE.remove(cacheKey, future);
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SystemException("Cannot load test data from " + key, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SystemException("Interrupted while loading test data from " + key, e);
+        }
+    }
+
+    /**
+     * Removes all cached tables.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * @param id Value of the index column.
+     * @return The first data set with the given id.
+     */
+    public Map<String, String> getDataSet(final String id) {
+        final Map<String, String> dataSet = index.get(id.trim());
+        if (dataSet == null) {
+            throw new SystemException("Could not find a dataset for >" + id + "< in column " + indexColumn + " in " + source);
+        }
+        return dataSet;
+    }
+
+    public boolean containsDataSet(final String id) {
+        return index.containsKey(id.trim());
+    }
+
+    public List<Map<String, String>> getDataSets() {
+        return dataSets;
+    }
+
+    public String[] getHeader() {
+        return header.clone();
+    }
+
+    public String getIndexColumn() {
+        return indexColumn;
+    }
+
+    public int size() {
+        return dataSets.size();
+    }
+
+    /**
+     * @return Iterator over all data sets, suitable as return value of a TestNG {@code @DataProvider}.
+     */
+    @Override
+    public Iterator<Object[]> iterator() {
+        final Iterator<Map<String, String>> iterator = dataSets.iterator();
+        return new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return new Object[]{iterator.next()};
+            }
+        };
+    }
+}
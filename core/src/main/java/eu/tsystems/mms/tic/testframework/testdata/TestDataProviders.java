@@ -0,0 +1,170 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.testdata;
+
+import eu.tsystems.mms.tic.testframework.exceptions.SystemException;
+import eu.tsystems.mms.tic.testframework.utils.FileUtils;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+
+/**
+ * Streaming test data for TestNG data providers.
+ * <pre>
+ * &#64;DataProvider
+ * public Iterator&lt;Object[]&gt; customers() {
+ *     return TestDataProviders.xlsxFromResource("testdata/customers.xlsx", "Sheet1", 1);
+ * }
+ *
+ * &#64;Test(dataProvider = "customers")
+ * public void test(Map&lt;String, String&gt; customer) { ... }
+ * </pre>
+ * The {@code indexed...} methods return a shared {@link IndexedTestDataTable} for id lookups.
+ */
+public final class TestDataProviders {
+
+    private static final char DEFAULT_SEPARATOR = ';';
+    private static final char DEFAULT_QUOTE_CHAR = '\"';
+
+    private TestDataProviders() {
+    }
+
+    /**
+     * Streams a CSV resource separated by {@code ;} with the header in the first row.
+     */
+    public static CSVRowIterator csvFromResource(final String fileInResources) {
+        return csvFromResource(fileInResources, DEFAULT_SEPARATOR, 0);
+    }
+
+    /**
+     * Streams a CSV resource.
+     *
+     * @param fileInResources Name of the file in resources.
+     * @param separator Column separator.
+     * @param headerRow Header row, 0-based.
+     */
+    public static CSVRowIterator csvFromResource(final String fileInResources, final char separator, final int headerRow) {
+        final URL resource = getResource(fileInResources);
+        try {
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream()));
+            return new CSVRowIterator(reader, fileInResources, separator, DEFAULT_QUOTE_CHAR, 0, headerRow);
+        } catch (Exception e) {
+            throw new SystemException("Could not read file: " + fileInResources, e);
+        }
+    }
+
+    /**
+     * Streams a sheet of a XLSX resource.
+     *
+     * @param fileInResources Name of the file in resources.
+     * @param sheetName Name of the sheet.
+     * @param headerRow Header row, 1-based.
+     */
+    public static XLSXRowIterator xlsxFromResource(final String fileInResources, final String sheetName, final int headerRow) {
+        final URL resource = getResource(fileInResources);
+        final OPCPackage opcPackage;
+        try {
+            if ("file".equals(resource.getProtocol())) {
+                opcPackage = OPCPackage.open(new File(resource.toURI()), PackageAccess.READ);
+            } else {
+                try (InputStream inputStream = resource.openStream()) {
+                    opcPackage = OPCPackage.open(inputStream);
+                }
+            }
+        } catch (Exception e) {
+            throw new SystemException("Cannot read xls(x) file: " + fileInResources, e);
+        }
+        return new XLSXRowIterator(opcPackage, fileInResources, sheetName, headerRow);
+    }
+
+    /**
+     * Streams a sheet of a XLSX file.
+     *
+     * @param file Path of the file.
+     * @param sheetName Name of the sheet.
+     * @param headerRow Header row, 1-based.
+     */
+    public static XLSXRowIterator xlsxFromFile(final String file, final String sheetName, final int headerRow) {
+        final OPCPackage opcPackage;
+        try {
+            opcPackage = OPCPackage.open(new File(file), PackageAccess.READ);
+        } catch (Exception e) {
+            throw new SystemException("Cannot read xls(x) file: " + file, e);
+        }
+        return new XLSXRowIterator(opcPackage, file, sheetName, headerRow);
+    }
+
+    /**
+     * @param indexColumn Header of the column to index.
+     * @see #csvFromResource(String, char, int)
+     */
+    public static IndexedTestDataTable indexedCsvFromResource(
+            final String fileInResources,
+            final char separator,
+            final int headerRow,
+            final String indexColumn
+    ) {
+        final String key = "csv:" + fileInResources + ":" + separator + ":" + headerRow;
+        return IndexedTestDataTable.get(key, indexColumn, () -> csvFromResource(fileInResources, separator, headerRow));
+    }
+
+    /**
+     * @param indexColumn Header of the column to index.
+     * @see #xlsxFromResource(String, String, int)
+     */
+    public static IndexedTestDataTable indexedXlsxFromResource(
+            final String fileInResources,
+            final String sheetName,
+            final int headerRow,
+            final String indexColumn
+    ) {
+        final String key = "xlsx:" + fileInResources + ":" + sheetName + ":" + headerRow;
+        return IndexedTestDataTable.get(key, indexColumn, () -> xlsxFromResource(fileInResources, sheetName, headerRow));
+    }
+
+    /**
+     * @param indexColumn Header of the column to index.
+     * @see #xlsxFromFile(String, String, int)
+     */
+    public static IndexedTestDataTable indexedXlsxFromFile(
+            final String file,
+            final String sheetName,
+            final int headerRow,
+            final String indexColumn
+    ) {
+        final String key = "xlsx-file:" + new File(file).getAbsolutePath() + ":" + sheetName + ":" + headerRow;
+        return IndexedTestDataTable.get(key, indexColumn, () -> xlsxFromFile(file, sheetName, headerRow));
+    }
+
+    private static URL getResource(final String fileInResources) {
+        final URL resource = FileUtils.getResourceURL(fileInResources);
+        if (resource == null) {
+            throw new SystemException("Could not load resource file. File does not exist: " + fileInResources);
+        }
+        return resource;
+    }
+}
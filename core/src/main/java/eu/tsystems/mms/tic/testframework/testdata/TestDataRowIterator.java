@@ -0,0 +1,179 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.testdata;
+
+import eu.tsystems.mms.tic.testframework.exceptions.SystemException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lazy iterator over the rows of a test data source, which can be returned by a TestNG {@code @DataProvider} directly.
+ * Every element is an {@code Object[]} holding a single {@code Map<String, String>} mapping the header to the trimmed cell values.
+ * Only the current row is kept in memory and the source is closed as soon as the last row has been read.
+ *
+ * @see TestDataProviders
+ */
+public abstract class TestDataRowIterator implements Iterator<Object[]>, Closeable {
+
+    protected static final Logger LOGGER = LoggerFactory.getLogger(TestDataRowIterator.class);
+
+    private final String source;
+    private String[] header;
+    private Map<String, String> nextDataSet;
+    private boolean closed = false;
+
+    protected TestDataRowIterator(final String source) {
+        this.source = source;
+    }
+
+    /**
+     * Skips to the header row and reads it.
+     *
+     * @return Header cells or null, if the source has no header row.
+     */
+    protected abstract String[] readHeader() throws Exception;
+
+    /**
+     * Reads the next data row.
+     *
+     * @return Row cells or null, if the end of the source has been reached.
+     */
+    protected abstract String[] readRow() throws Exception;
+
+    /**
+     * Releases the underlying source.
+     */
+    protected abstract void closeSource() throws IOException;
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @return Trimmed header cells of the source.
+     */
+    public String[] getHeader() {
+        ensureHeader();
+        return header.clone();
+    }
+
+    protected int getColumnCount() {
+        ensureHeader();
+        return header.length;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextDataSet == null && !closed) {
+            nextDataSet = readDataSet();
+        }
+        return nextDataSet != null;
+    }
+
+    /**
+     * @return The next row as data set mapping the header to the cell values.
+     */
+    public Map<String, String> nextDataSet() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final Map<String, String> dataSet = nextDataSet;
+        nextDataSet = null;
+        return dataSet;
+    }
+
+    @Override
+    public Object[] next() {
+        return new Object[]{nextDataSet()};
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            closeSource();
+        } catch (IOException e) {
+            LOGGER.warn("Unable to close " + source, e);
+        }
+    }
+
+    private void ensureHeader() {
+        if (header != null) {
+            return;
+        }
+        final String[] cells = read(true);
+        if (cells == null) {
+            close();
+            throw new SystemException("No header row found in " + source);
+        }
+        header = trim(cells, cells.length);
+    }
+
+    private Map<String, String> readDataSet() {
+        ensureHeader();
+        final String[] cells = read(false);
+        if (cells == null) {
+            close();
+            return null;
+        }
+        final String[] values = trim(cells, header.length);
+        final Map<String, String> dataSet = new LinkedHashMap<>(header.length * 2);
+        for (int i = 0; i < header.length; i++) {
+            dataSet.put(header[i], values[i]);
+        }
+        return Collections.unmodifiableMap(dataSet);
+    }
+
+    private String[] read(final boolean readHeader) {
+        try {
+            return readHeader ? readHeader() : readRow();
+        } catch (SystemException e) {
+            close();
+            throw e;
+        } catch (Exception e) {
+            close();
+            throw new SystemException("Cannot read test data from " + source, e);
+        }
+    }
+
+    /**
+     * Trims the given cells and pads or cuts them to the given length.
+     */
+    private static String[] trim(final String[] cells, final int length) {
+        final String[] trimmed = new String[length];
+        for (int i = 0; i < length; i++) {
+            trimmed[i] = (i < cells.length && cells[i] != null) ? cells[i].trim() : "";
+        }
+        return trimmed;
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.testdata;
+
+import eu.tsystems.mms.tic.testframework.exceptions.SystemException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+/**
+ * Streams the rows of a XLSX sheet by pull-parsing the sheet XML, without building the POI usermodel.
+ * Formulas are not evaluated, their cached results are read instead.
+ * Rows without any cell value are skipped.
+ */
+public class XLSXRowIterator extends TestDataRowIterator {
+
+    private final OPCPackage opcPackage;
+    private final InputStream sheetStream;
+    private final XMLStreamReader xml;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final StylesTable styles;
+    private final int headerRow;
+    private final DataFormatter dataFormatter = new DataFormatter();
+    private final SimpleDateFormat simpleDateFormat = new SimpleDateFormat("dd.MM.yyyy");
+
+    private int rowNumber = 0;
+
+    /**
+     * @param opcPackage Opened XLSX package, will be reverted at the end of the iteration.
+     * @param source Name of the source for logging.
+     * @param sheetName Name of the sheet to read.
+     * @param headerRow Header row, 1-based.
+     */
+    public XLSXRowIterator(final OPCPackage opcPackage, final String source, final String sheetName, final int headerRow) {
+        super(source);
+        this.opcPackage = opcPackage;
+        this.headerRow = headerRow;
+        try {
+            final XSSFReader xssfReader = new XSSFReader(opcPackage);
+            this.sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+            this.styles = xssfReader.getStylesTable();
+            this.sheetStream = openSheet(xssfReader, sheetName);
+            final XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+            xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            this.xml = xmlInputFactory.createXMLStreamReader(sheetStream);
+        } catch (SystemException e) {
+            opcPackage.revert();
+            throw e;
+        } catch (Exception e) {
+            opcPackage.revert();
+            throw new SystemException("Cannot read xls(x) file: " + source, e);
+        }
+    }
+
+    private static InputStream openSheet(final XSSFReader xssfReader, final String sheetName) throws Exception {
+        final XSSFReader.SheetIterator sheetIterator = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+        while (sheetIterator.hasNext()) {
+            final InputStream inputStream = sheetIterator.next();
+            if (sheetIterator.getSheetName().equals(sheetName)) {
+                return inputStream;
+            }
+            inputStream.close();
+        }
+        throw new SystemException("No sheet with name " + sheetName + " found.");
+    }
+
+    @Override
+    protected String[] readHeader() throws XMLStreamException {
+        String[] cells;
+        do {
+            cells = readNextRow();
+        } while (cells != null && rowNumber < headerRow);
+
+        if (cells == null || rowNumber != headerRow) {
+            throw new SystemException("Header row is empty. Row " + headerRow + " (1-based)");
+        }
+        return cells;
+    }
+
+    @Override
+    protected String[] readRow() throws XMLStreamException {
+        String[] cells;
+        while ((cells = readNextRow()) != null) {
+            for (String cell : cells) {
+                if (cell != null && !cell.isEmpty()) {
+                    return cells;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the cells of the next {@code <row>} element.
+     */
+    private String[] readNextRow() throws XMLStreamException {
+        List<String> cells = null;
+        String cellReference = null;
+        String cellType = null;
+        String cellStyle = null;
+        final StringBuilder value = new StringBuilder();
+
+        while (xml.hasNext()) {
+            final int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final String name = xml.getLocalName();
+                if ("row".equals(name)) {
+                    final String r = xml.getAttributeValue(null, "r");
+                    rowNumber = (r != null) ? Integer.parseInt(r) : rowNumber + 1;
+                    cells = new ArrayList<>();
+                } else if ("c".equals(name)) {
+                    cellReference = xml.getAttributeValue(null, "r");
+                    cellType = xml.getAttributeValue(null, "t");
+                    cellStyle = xml.getAttributeValue(null, "s");
+                    value.setLength(0);
+                } else if ("v".equals(name) || ("t".equals(name) && "inlineStr".equals(cellType))) {
+                    value.append(xml.getElementText());
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                final String name = xml.getLocalName();
+                if ("c".equals(name) && cells != null) {
+                    final int column = (cellReference != null) ? new CellReference(cellReference).getCol() : cells.size();
+                    while (cells.size() <= column) {
+                        cells.add("");
+                    }
+                    cells.set(column, formatCellValue(cellType, cellStyle, value.toString()));
+                } else if ("row".equals(name) && cells != null) {
+                    return cells.toArray(new String[0]);
+                }
+            }
+        }
+        return null;
+    }
+
+    private String formatCellValue(final String cellType, final String cellStyle, final String value) {
+        if (value.isEmpty()) {
+            return "";
+        }
+        if (cellType == null || "n".equals(cellType)) {
+            return formatNumericValue(cellStyle, value);
+        }
+        switch (cellType) {
+            case "s":
+                return sharedStrings.getEntryAt(Integer.parseInt(value));
+            case "b":
+                return Boolean.toString("1".equals(value));
+            case "e":
+                return "Error " + value;
+            default:
+                return value;
+        }
+    }
+
+    private String formatNumericValue(final String cellStyle, final String value) {
+        final double number = Double.parseDouble(value);
+        int formatIndex = 0;
+        String formatString = null;
+
+        if (cellStyle != null && styles != null) {
+            final XSSFCellStyle style = styles.getStyleAt(Integer.parseInt(cellStyle));
+            if (style != null) {
+                formatIndex = style.getDataFormat();
+                formatString = style.getDataFormatString();
+            }
+        }
+        if (formatString == null) {
+            formatString = BuiltinFormats.getBuiltinFormat(formatIndex);
+        }
+        if (formatString == null) {
+            formatIndex = 0;
+            formatString = "General";
+        }
+        if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(number)) {
+            return simpleDateFormat.format(DateUtil.getJavaDate(number));
+        }
+        String cellValue = dataFormatter.formatRawCellContents(number, formatIndex, formatString);
+        // The raw formatting completes scientific notations by replacing the first "E" with "E+", which breaks literals like [$EUR]
+        final String upperFormatString = formatString.toUpperCase();
+        if (!upperFormatString.equals("GENERAL") && !upperFormatString.contains("E+") && !upperFormatString.contains("E-")) {
+            cellValue = cellValue.replaceFirst("E\\+", "E");
+        }
+        return reformatCellValue(cellValue);
+    }
+
+    /**
+     * Same replacements as {@link AbstractXLSIO#reformatCellValue(String)}.
+     */
+    private static String reformatCellValue(final String cellValue) {
+        return cellValue.replace("[$EUR]", "EUR");
+    }
+
+    @Override
+    protected void closeSource() throws IOException {
+        try {
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            sheetStream.close();
+            opcPackage.revert();
+        }
+    }
+}
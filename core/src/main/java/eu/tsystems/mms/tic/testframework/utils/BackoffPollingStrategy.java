@@ -0,0 +1,87 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.utils;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter. The first iterations are probed quickly, so conditions that become true
+ * shortly after the first check don't cost a full poll interval. Later iterations back off up to an upper bound,
+ * so slow conditions don't hammer the remote end. The jitter spreads the polls of parallel waits.
+ */
+public class BackoffPollingStrategy implements PollingStrategy {
+
+    public static final double DEFAULT_MULTIPLIER = 2;
+    public static final double DEFAULT_JITTER = 0.2;
+
+    private final long initialSleepTimeInMs;
+    private final long maxSleepTimeInMs;
+    private final double multiplier;
+    private final double jitter;
+
+    public BackoffPollingStrategy(long initialSleepTimeInMs, long maxSleepTimeInMs) {
+        this(initialSleepTimeInMs, maxSleepTimeInMs, DEFAULT_MULTIPLIER, DEFAULT_JITTER);
+    }
+
+    /**
+     * @param initialSleepTimeInMs Sleep time after the first iteration
+     * @param maxSleepTimeInMs Upper bound of the sleep time
+     * @param multiplier Factor the sleep time grows by per iteration, at least 1
+     * @param jitter Relative random deviation of the sleep time between 0 and 1
+     */
+    public BackoffPollingStrategy(long initialSleepTimeInMs, long maxSleepTimeInMs, double multiplier, double jitter) {
+        if (initialSleepTimeInMs < 1 || maxSleepTimeInMs < initialSleepTimeInMs) {
+            throw new IllegalArgumentException("Invalid sleep times: initial=" + initialSleepTimeInMs + ", max=" + maxSleepTimeInMs);
+        }
+        if (multiplier < 1 || jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("Invalid backoff: multiplier=" + multiplier + ", jitter=" + jitter);
+        }
+        this.initialSleepTimeInMs = initialSleepTimeInMs;
+        this.maxSleepTimeInMs = maxSleepTimeInMs;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+    }
+
+    @Override
+    public long getSleepTimeInMs(int iteration) {
+        double sleepTimeInMs = initialSleepTimeInMs * Math.pow(multiplier, Math.max(0, iteration - 1));
+        sleepTimeInMs = Math.min(sleepTimeInMs, maxSleepTimeInMs);
+        if (jitter > 0) {
+            sleepTimeInMs *= 1 + jitter * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+        }
+        return Math.max(1, Math.min(Math.round(sleepTimeInMs), maxSleepTimeInMs));
+    }
+
+    public long getInitialSleepTimeInMs() {
+        return initialSleepTimeInMs;
+    }
+
+    public long getMaxSleepTimeInMs() {
+        return maxSleepTimeInMs;
+    }
+
+    @Override
+    public String toString() {
+        return "polling with backoff from " + initialSleepTimeInMs + " to " + maxSleepTimeInMs + " ms";
+    }
+}
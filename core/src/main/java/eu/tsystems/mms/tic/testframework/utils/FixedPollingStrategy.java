@@ -0,0 +1,45 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.utils;
+
+/**
+ * Sleeps the same time between all iterations. This is the classic {@link Timer} behaviour.
+ */
+public class FixedPollingStrategy implements PollingStrategy {
+
+    private final long sleepTimeInMs;
+
+    public FixedPollingStrategy(long sleepTimeInMs) {
+        this.sleepTimeInMs = sleepTimeInMs;
+    }
+
+    @Override
+    public long getSleepTimeInMs(int iteration) {
+        return sleepTimeInMs;
+    }
+
+    @Override
+    public String toString() {
+        return "polling every " + sleepTimeInMs + " ms";
+    }
+}
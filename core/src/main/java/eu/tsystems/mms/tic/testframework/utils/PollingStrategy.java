@@ -0,0 +1,49 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.utils;
+
+/**
+ * Decides how long a {@link Timer} sleeps between two iterations of a {@link Timer.Sequence}.
+ */
+public interface PollingStrategy {
+
+    /**
+     * @param iteration The number of the iteration that has just failed, starting with 1
+     * @return Time to sleep in milliseconds before the next iteration
+     */
+    long getSleepTimeInMs(int iteration);
+
+    /**
+     * Sleeps the same time between all iterations.
+     */
+    static PollingStrategy fixed(long sleepTimeInMs) {
+        return new FixedPollingStrategy(sleepTimeInMs);
+    }
+
+    /**
+     * Starts with short sleeps and doubles them until maxSleepTimeInMs is reached.
+     */
+    static PollingStrategy backoff(long initialSleepTimeInMs, long maxSleepTimeInMs) {
+        return new BackoffPollingStrategy(initialSleepTimeInMs, maxSleepTimeInMs);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.utils;
+
+import eu.tsystems.mms.tic.testframework.report.TesterraListener;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.reflections.Reflections;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the classes of the {@link TesterraListener#PROJECT_PACKAGE}.
+ * The classpath is scanned only once on first access and shared by all consumers,
+ * sub type queries are cached per requested type.
+ */
+public final class ProjectClassIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProjectClassIndex.class);
+
+    private static final Map<Class<?>, Set<? extends Class<?>>> SUB_TYPES_CACHE = new ConcurrentHashMap<>();
+
+    private ProjectClassIndex() {
+
+    }
+
+    private static class Holder {
+        private static final Reflections REFLECTIONS = scan();
+
+        private static Reflections scan() {
+            long start = System.currentTimeMillis();
+            Reflections reflections = new Reflections(TesterraListener.PROJECT_PACKAGE);
+            LOGGER.debug(String.format("Scanned classes of package <%s> in %dms", TesterraListener.PROJECT_PACKAGE, System.currentTimeMillis() - start));
+            return reflections;
+        }
+    }
+
+    /**
+     * @return All sub types of the given class found in the project package.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type) {
+        return (Set<Class<? extends T>>) SUB_TYPES_CACHE.computeIfAbsent(type, key -> Collections.unmodifiableSet(Holder.REFLECTIONS.getSubTypesOf(key)));
+    }
+}
@@ -23,20 +23,25 @@
 
 import eu.tsystems.mms.tic.testframework.common.PropertyManager;
 import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
-import eu.tsystems.mms.tic.testframework.report.TesterraListener;
 import eu.tsystems.mms.tic.testframework.report.model.context.ScriptSource;
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
-import org.reflections.Reflections;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,7 +55,67 @@ public final class SourceUtils {
     private static String sourceRoot = System.getProperty(TesterraProperties.MODULE_SOURCE_ROOT, "src");
     private static int linePrefetch = PropertyManager.getIntProperty(TesterraProperties.SOURCE_LINES_PREFETCH, 5);
     private static final boolean FIND_SOURCES = PropertyManager.getBooleanProperty(TesterraProperties.REPORT_ACTIVATE_SOURCES, true);
-    private static HashMap<Class, List<String>> cachedClassNames = new HashMap<>();
+    private static final Map<Class, List<String>> cachedClassNames = new ConcurrentHashMap<>();
+    private static final int LINE_TABLE_CACHE_SIZE = 64;
+
+    /**
+     * Maps the class names to their source files in the source root, created on first use.
+     */
+    private static class SourceFileIndex {
+        private static final Map<String, File> SOURCE_FILES = createIndex();
+
+        private static Map<String, File> createIndex() {
+            Map<String, File> sourceFiles = new HashMap<>();
+            // main sources take precedence over test sources
+            indexSourceFiles(Paths.get(sourceRoot, "test", "java"), sourceFiles);
+            indexSourceFiles(Paths.get(sourceRoot, "main", "java"), sourceFiles);
+            LOGGER.debug("Indexed " + sourceFiles.size() + " source files in " + sourceRoot);
+            return sourceFiles;
+        }
+
+        private static void indexSourceFiles(Path sourceDir, Map<String, File> sourceFiles) {
+            if (!Files.isDirectory(sourceDir)) {
+                return;
+            }
+            try (Stream<Path> paths = Files.walk(sourceDir)) {
+                paths
+                        .filter(path -> path.getFileName().toString().endsWith(".java"))
+                        .forEach(path -> {
+                            String relativePath = sourceDir.relativize(path).toString();
+                            String className = relativePath.substring(0, relativePath.length() - ".java".length()).replace(File.separatorChar, '.');
+                            sourceFiles.put(className, new File(sourceDir.toFile(), relativePath));
+                        });
+            } catch (IOException e) {
+                LOGGER.warn("Unable to index source files in " + sourceDir, e);
+            }
+        }
+    }
+
+    /**
+     * Byte offsets of the lines of a source file
+     */
+    private static class LineTable {
+        private final long lastModified;
+        private final int[] lineStarts;
+        private final int[] lineEnds;
+
+        private LineTable(long lastModified, int[] lineStarts, int[] lineEnds) {
+            this.lastModified = lastModified;
+            this.lineStarts = lineStarts;
+            this.lineEnds = lineEnds;
+        }
+
+        private int getLineCount() {
+            return lineStarts.length;
+        }
+    }
+
+    private static final Map<File, LineTable> LINE_TABLES = Collections.synchronizedMap(new LinkedHashMap<File, LineTable>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<File, LineTable> eldest) {
+            return size() > LINE_TABLE_CACHE_SIZE;
+        }
+    });
 
     public static ScriptSource findScriptSourceForThrowable(Throwable throwable) {
         if (!FIND_SOURCES) {
@@ -119,19 +184,7 @@ public final class SourceUtils {
         }
 
         // search for caller
-        List<String> classNames;
-        if (!cachedClassNames.containsKey(callerSubClass)) {
-            classNames = findClassNamesForSubTypesOf(callerSubClass);
-            cachedClassNames.put(callerSubClass, classNames);
-        }
-        else {
-            classNames = cachedClassNames.get(callerSubClass);
-            if (classNames.size() == 0) {
-                classNames = findClassNamesForSubTypesOf(callerSubClass);
-                cachedClassNames.remove(callerSubClass);
-                cachedClassNames.put(callerSubClass, classNames);
-            }
-        }
+        List<String> classNames = cachedClassNames.computeIfAbsent(callerSubClass, SourceUtils::findClassNamesForSubTypesOf);
 
         if (classNames.size() == 0) {
             return null;
@@ -177,29 +230,21 @@ public final class SourceUtils {
         return -1;
     }
 
-    private static List<String> findClassNamesForSubTypesOf(Class clazz) {
+    private static List<String> findClassNamesForSubTypesOf(Class<?> clazz) {
         final List<String> classnames = new ArrayList<String>();
-        Reflections reflections = new Reflections(TesterraListener.PROJECT_PACKAGE);
-        Set<Class> subTypesOf = reflections.getSubTypesOf(clazz);
-        for (Class aClass : subTypesOf) {
+        for (Class<?> aClass : ProjectClassIndex.getSubTypesOf(clazz)) {
             classnames.add(aClass.getName());
         }
         return classnames;
     }
 
     private static Optional<File> findClassFile(String className) {
-        String filePath = className.replace(".", "/").concat(".java");
-        File file = new File(sourceRoot + "/main/java/" + filePath);
-        if (file.exists()) {
-            return Optional.of(file);
-        }
-
-        file = new File(sourceRoot + "/test/java/" + filePath);
-        if (file.exists()) {
-            return Optional.of(file);
+        // nested classes are part of the source file of their top level class
+        int nestedClassIndex = className.indexOf('$');
+        if (nestedClassIndex > 0) {
+            className = className.substring(0, nestedClassIndex);
         }
-
-        return Optional.empty();
+        return Optional.ofNullable(SourceFileIndex.SOURCE_FILES.get(className));
     }
 
     private static ScriptSource getSourceFrom(String className, String filename, String methodName, int lineNr) {
@@ -222,44 +267,97 @@ public final class SourceUtils {
 
     private static ScriptSource getSource(File file, String methodName, int lineNr) {
         ScriptSource scriptSource = new ScriptSource(file.getName(), methodName);
+        if (lineNr < 1) {
+            return scriptSource;
+        }
 
         try {
-            BufferedReader br = new BufferedReader(new FileReader(file));
-            String line = br.readLine();
-            int lineCounter = 1;
-            int startAtLine = lineNr - linePrefetch;
-            if (startAtLine < 1) {
-                startAtLine = 1;
+            LineTable lineTable = getLineTable(file);
+            if (lineNr > lineTable.getLineCount()) {
+                return null;
             }
-            while (line != null) {
-                if (lineCounter >= startAtLine && lineCounter < lineNr) {
-                    /*
-                    LINE
-                     */
-                    scriptSource.addLine(new ScriptSource.Line(line, lineCounter));
-                }
-                else if (lineCounter == lineNr) {
+            int startAtLine = Math.max(1, lineNr - linePrefetch);
+
+            /*
+            read only the bytes of the requested lines
+             */
+            int offset = lineTable.lineStarts[startAtLine - 1];
+            byte[] bytes = new byte[lineTable.lineEnds[lineNr - 1] - offset];
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+                randomAccessFile.seek(offset);
+                randomAccessFile.readFully(bytes);
+            }
+
+            Charset charset = Charset.defaultCharset();
+            for (int lineCounter = startAtLine; lineCounter <= lineNr; lineCounter++) {
+                int lineStart = lineTable.lineStarts[lineCounter - 1] - offset;
+                String line = new String(bytes, lineStart, lineTable.lineEnds[lineCounter - 1] - offset - lineStart, charset);
+                ScriptSource.Line scriptSourceLine = new ScriptSource.Line(line, lineCounter);
+                if (lineCounter == lineNr) {
                     /*
                     LINE WITH ISSUE
                      */
-                    scriptSource.addLine(new ScriptSource.Line(line, lineCounter)).markLineNumber(lineCounter);
-                } else if (lineCounter > lineNr) {
-                    // stop
-                    br.close();
-
-                    return scriptSource;
+                    scriptSource.addLine(scriptSourceLine).markLineNumber(lineCounter);
+                } else {
+                    scriptSource.addLine(scriptSourceLine);
                 }
-
-                // read next line
-                line = br.readLine();
-                lineCounter++;
             }
-            br.close();
-        }
-        catch (IOException e) {
+            return scriptSource;
+        } catch (IOException e) {
             LOGGER.warn("Error reading source of " + file.getName(), e);
         }
         return null;
     }
 
+    /**
+     * Returns the cached line table of the file, or creates it when the file is unknown or has been modified.
+     */
+    private static LineTable getLineTable(File file) throws IOException {
+        long lastModified = file.lastModified();
+        LineTable lineTable = LINE_TABLES.get(file);
+        if (lineTable == null || lineTable.lastModified != lastModified) {
+            lineTable = createLineTable(file, lastModified);
+            LINE_TABLES.put(file, lineTable);
+        }
+        return lineTable;
+    }
+
+    /**
+     * Finds the line terminators like {@link java.io.BufferedReader#readLine()}: \n, \r or \r\n
+     */
+    private static LineTable createLineTable(File file, long lastModified) throws IOException {
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        int[] lineStarts = new int[64];
+        int[] lineEnds = new int[64];
+        int lineCount = 0;
+        int lineStart = 0;
+        int i = 0;
+        while (i < bytes.length) {
+            byte b = bytes[i];
+            if (b == '\n' || b == '\r') {
+                if (lineCount == lineStarts.length) {
+                    lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+                    lineEnds = Arrays.copyOf(lineEnds, lineCount * 2);
+                }
+                lineStarts[lineCount] = lineStart;
+                lineEnds[lineCount] = i;
+                lineCount++;
+                i += (b == '\r' && i + 1 < bytes.length && bytes[i + 1] == '\n') ? 2 : 1;
+                lineStart = i;
+            } else {
+                i++;
+            }
+        }
+        if (lineStart < bytes.length) {
+            if (lineCount == lineStarts.length) {
+                lineStarts = Arrays.copyOf(lineStarts, lineCount + 1);
+                lineEnds = Arrays.copyOf(lineEnds, lineCount + 1);
+            }
+            lineStarts[lineCount] = lineStart;
+            lineEnds[lineCount] = bytes.length;
+            lineCount++;
+        }
+        return new LineTable(lastModified, Arrays.copyOf(lineStarts, lineCount), Arrays.copyOf(lineEnds, lineCount));
+    }
+
 }
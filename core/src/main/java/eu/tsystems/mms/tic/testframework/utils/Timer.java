@@ -37,6 +37,10 @@ public class Timer implements Loggable {
     private long sleepTimeInMs;
     private long durationInMs;
     private String errorMessage;
+    private PollingStrategy pollingStrategy;
+    private WakeUpSignal wakeUpSignal;
+    private int iterations = 0;
+    private long elapsedTimeInMs = 0;
 
     /**
      * Creates new {@link Timer}. Will sleep for sleepTimeInMs for maximum durationInMs
@@ -108,6 +112,20 @@ public class Timer implements Loggable {
         public abstract void run() throws Throwable; // to allow to throw every kind or throwable and not only RTE
     }
 
+    /**
+     * Ends the sleep between two iterations early when something happened that could change the outcome
+     * of the sequence, like a DOM mutation.
+     */
+    public interface WakeUpSignal {
+        /**
+         * Blocks until the signal occurs or the timeout elapses.
+         *
+         * @param timeoutInMs Maximum time to block
+         * @return TRUE when woken up by the signal, FALSE on timeout
+         */
+        boolean await(long timeoutInMs) throws InterruptedException;
+    }
+
     public void setErrorMessage(String errorMessage) {
         this.errorMessage = errorMessage;
     }
@@ -135,7 +153,8 @@ public class Timer implements Loggable {
     }
 
     private void checkTimerValues() {
-        if (sleepTimeInMs < SLEEP_TIME_IN_MS_MININMAL) {
+        // Polling strategies are responsible for their sleep times on their own
+        if (pollingStrategy == null && sleepTimeInMs < SLEEP_TIME_IN_MS_MININMAL) {
             log().warn("invalid timer sleep time: " + sleepTimeInMs + ", setting it to " + SLEEP_TIME_IN_MS_MININMAL);
             sleepTimeInMs = SLEEP_TIME_IN_MS_MININMAL;
         }
@@ -158,6 +177,8 @@ public class Timer implements Loggable {
         boolean success;
         Throwable catchedThrowable = null;
         int runCount = 1;
+        iterations = 0;
+        elapsedTimeInMs = 0;
         while (!isTimeOver()) {
             try {
                 log().trace("##### Starting Sequence Iteration #" + runCount + " #####");
@@ -187,19 +208,16 @@ public class Timer implements Loggable {
                     log().debug("Sequence Iteration #" + runCount + " failed", throwable);
                 }
             }
+            iterations = runCount;
             runCount++;
 
             if (success) {
-                return new ThrowablePackedResponse<T>(sequence.getReturningObject(), null, true, null);
+                return finishSequence(new ThrowablePackedResponse<T>(sequence.getReturningObject(), null, true, null));
             }
 
-            try {
-                Thread.sleep(sleepTimeInMs);
-            } catch (InterruptedException e) {
-                // ignore
-            }
+            sleep(getNextSleepTimeInMs(iterations));
         }
-
+        finishSequence(null);
 
         if (sequence.isAddThrowableToMethodContext()) {
             addThrowableToMethodContext(catchedThrowable);
@@ -212,18 +230,52 @@ public class Timer implements Loggable {
         // give back a packed response when we have an object to give back or we have to skip throwing something
         if (sequence.getReturningObject() != null || sequence.isSkipThrowingException()) {
             // we return whatever we've got, catchedThrowable can also be null
-            return new ThrowablePackedResponse<T>(sequence.getReturningObject(), catchedThrowable, false, timeoutException);
+            ThrowablePackedResponse<T> response = new ThrowablePackedResponse<T>(sequence.getReturningObject(), catchedThrowable, false, timeoutException);
+            response.setIterations(iterations);
+            response.setDurationInMs(elapsedTimeInMs);
+            return response;
         }
 
         // throw
         throw timeoutException;
     }
 
+    private <T> ThrowablePackedResponse<T> finishSequence(ThrowablePackedResponse<T> response) {
+        elapsedTimeInMs = System.currentTimeMillis() - startTime;
+        log().trace("Sequence finished after " + iterations + " iterations in " + elapsedTimeInMs + " ms");
+        if (response != null) {
+            response.setIterations(iterations);
+            response.setDurationInMs(elapsedTimeInMs);
+        }
+        return response;
+    }
+
+    private long getNextSleepTimeInMs(int iteration) {
+        if (pollingStrategy == null) {
+            return sleepTimeInMs;
+        }
+        return pollingStrategy.getSleepTimeInMs(iteration);
+    }
+
+    private void sleep(long timeInMs) {
+        try {
+            if (wakeUpSignal != null) {
+                if (wakeUpSignal.await(timeInMs)) {
+                    log().trace("Woken up before " + timeInMs + " ms");
+                }
+            } else {
+                Thread.sleep(timeInMs);
+            }
+        } catch (InterruptedException e) {
+            // ignore
+        }
+    }
+
     private TimeoutException createTimeoutException(Throwable catchedThrowable) {
                 /*
         create timeout exception
          */
-        String message = "Sequence execution timed out " + durationInMs + " ms (polling every " + sleepTimeInMs + " ms)";
+        String message = "Sequence execution timed out " + durationInMs + " ms (" + getPollingStrategy() + ")";
         TimeoutException timeoutException;
         if (catchedThrowable != null) {
             /*
@@ -272,6 +324,42 @@ public class Timer implements Loggable {
         this.sleepTimeInMs = sleepTimeInMs;
     }
 
+    /**
+     * @return The configured polling strategy or a {@link FixedPollingStrategy} of the current sleep time
+     */
+    public PollingStrategy getPollingStrategy() {
+        if (pollingStrategy == null) {
+            return new FixedPollingStrategy(sleepTimeInMs);
+        }
+        return pollingStrategy;
+    }
+
+    public void setPollingStrategy(PollingStrategy pollingStrategy) {
+        this.pollingStrategy = pollingStrategy;
+    }
+
+    public WakeUpSignal getWakeUpSignal() {
+        return wakeUpSignal;
+    }
+
+    public void setWakeUpSignal(WakeUpSignal wakeUpSignal) {
+        this.wakeUpSignal = wakeUpSignal;
+    }
+
+    /**
+     * @return Amount of iterations of the last executed sequence
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return Time the last executed sequence took until success or timeout
+     */
+    public long getElapsedTimeInMs() {
+        return elapsedTimeInMs;
+    }
+
     public long getDurationInMs() {
         return durationInMs;
     }
@@ -285,6 +373,7 @@ public class Timer implements Loggable {
         return "Timer{" +
                 "durationInMs=" + durationInMs +
                 ", sleepTimeInMs=" + sleepTimeInMs +
+                ", pollingStrategy=" + pollingStrategy +
                 '}';
     }
 }
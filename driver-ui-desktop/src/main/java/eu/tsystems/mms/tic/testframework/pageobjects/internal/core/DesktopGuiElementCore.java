@@ -79,6 +79,12 @@ public class DesktopGuiElementCore implements GuiElementCore, Loggable {
 
     private final GuiElementData guiElementData;
 
+    /**
+     * State of the cached WebElement, see {@link WebElementCache}
+     */
+    private volatile long cacheExpiresAt = 0;
+    private volatile long cachePageGeneration;
+
     public DesktopGuiElementCore(
             By by,
             WebDriver webDriver,
@@ -89,12 +95,24 @@ public class DesktopGuiElementCore implements GuiElementCore, Loggable {
         this.guiElementData = guiElementData;
     }
 
+    /**
+     * Sets the WebElement located by by-locator, when there is no valid cached one.
+     */
+    private void find() {
+        if (isCachedWebElementValid()) {
+            // the search and the shadow root resolving are not necessary
+            WebElementCache.countHit(guiElementData.shadowRoot ? 2 : 1);
+            return;
+        }
+        findWebElements();
+    }
+
     /**
      * Executes a search without a timeout (instantaneously). This method should be called inside a sequence to provide the timeout.
      *
-     * @return the WebElement located by by-locator.
+     * @return the number of WebElements located by by-locator.
      */
-    private int find() {
+    private int findWebElements() {
         int findCounter = -1;
         int numberOfFoundElements = 0;
         long start = System.currentTimeMillis();
@@ -127,14 +145,39 @@ public class DesktopGuiElementCore implements GuiElementCore, Loggable {
         }
         throwExceptionIfWebElementIsNull(notFoundCause);
 
-        logTimings(start, findCounter);
+        logTimings(start, findCounter, parent != null);
 
         if (delayAfterFindInMilliSeconds > 0) {
             TimerUtils.sleep(delayAfterFindInMilliSeconds);
         }
+
+        if (WebElementCache.isActive()) {
+            WebElementCache.countMiss();
+            cachePageGeneration = WebElementCache.getPageGeneration(webDriver);
+            cacheExpiresAt = System.currentTimeMillis() + WebElementCache.getTtlInMs();
+        }
         return numberOfFoundElements;
     }
 
+    private boolean isCachedWebElementValid() {
+        return guiElementData.webElement != null
+                && System.currentTimeMillis() < cacheExpiresAt
+                && cachePageGeneration == WebElementCache.getPageGeneration(webDriver)
+                && WebElementCache.isActive();
+    }
+
+    private void invalidateCachedWebElement() {
+        cacheExpiresAt = 0;
+    }
+
+    /**
+     * Invalidates the cached WebElements of all GuiElements after interactions,
+     * which may change the DOM and are not reported to the {@link WebElementCache.InvalidationListener}.
+     */
+    private void invalidateCachedWebElements() {
+        WebElementCache.invalidate(webDriver);
+    }
+
     private int setWebElement(List<WebElement> elements) {
         int numberOfFoundElements = elements.size();
         if (numberOfFoundElements < guiElementData.index + 1) {
@@ -159,13 +202,13 @@ public class DesktopGuiElementCore implements GuiElementCore, Loggable {
             }
 
             // proxy the web element for logging
-            WebElementProxy webElementProxy = new WebElementProxy(webDriver, webElement);
+            WebElementProxy webElementProxy = new WebElementProxy(webDriver, webElement, this::invalidateCachedWebElement);
             Class[] interfaces = ObjectUtils.getAllInterfacesOf(webElement);
             webElement = ObjectUtils.simpleProxy(WebElement.class, webElementProxy, interfaces);
 
             // set webelement
             guiElementData.webElement = webElement;
-            GuiElementData.WEBELEMENT_MAP.put(webElement, guiElementData.guiElement);
+            WebElementRegistry.register(webDriver, webElement, guiElementData.guiElement);
 
             // find timings
             int findCounter = Timings.raiseFindCounter();
@@ -188,16 +231,11 @@ public class DesktopGuiElementCore implements GuiElementCore, Loggable {
         }
     }
 
-    private void logTimings(long start, int findCounter) {
+    private void logTimings(long start, int findCounter, boolean withParent) {
         if (findCounter != -1) {
-            GuiElementCore parent = guiElementData.parent;
             long end = System.currentTimeMillis();
             long ms = end - start;
-            if (parent != null) {
-                Timings.TIMING_GUIELEMENT_FIND_WITH_PARENT.put(findCounter, ms);
-            } else {
-                Timings.TIMING_GUIELEMENT_FIND.put(findCounter, ms);
-            }
+            GuiElementMetrics.recordFind(guiElementData, withParent, ms);
 
             final long limit = Timings.LARGE_LIMIT;
             if (ms >= limit) {
@@ -325,6 +363,7 @@ public class DesktopGuiElementCore implements GuiElementCore, Loggable {
     @Override
     public void submit() {
         getWebElement().submit();
+        invalidateCachedWebElements();
     }
 
     @Override
@@ -537,12 +576,24 @@ public class DesktopGuiElementCore implements GuiElementCore, Loggable {
 
         Actions action = new Actions(webDriver);
         action.moveToElement(webElement).build().perform();
+        invalidateCachedWebElements();
     }
 
     @Override
     public boolean isPresent() {
         try {
             LOGGER.debug("isPresent(): trying to find WebElement");
+            if (isCachedWebElementValid()) {
+                // a cached element may have been removed from the page, which makes it stale
+                try {
+                    guiElementData.webElement.getTagName();
+                    WebElementCache.countHit(guiElementData.shadowRoot ? 1 : 0);
+                    return true;
+                } catch (WebDriverException e) {
+                    LOGGER.debug("isPresent(): cached WebElement is not valid anymore", e);
+                    invalidateCachedWebElement();
+                }
+            }
             find();
         } catch (Exception e) {
             LOGGER.debug("isPresent(): Element not found: " + by, e);
@@ -613,6 +664,7 @@ public class DesktopGuiElementCore implements GuiElementCore, Loggable {
                 LOGGER.info("Retrying double click with click-click");
                 actions.moveToElement(webElement).click().click().build().perform();
             }
+            invalidateCachedWebElements();
         }
     }
 
@@ -627,6 +679,7 @@ public class DesktopGuiElementCore implements GuiElementCore, Loggable {
     @Override
     public void swipe(int offsetX, int offSetY) {
         MouseActions.swipeElement(guiElementData.guiElement, offsetX, offSetY);
+        invalidateCachedWebElements();
     }
 
     @Override
@@ -639,12 +692,13 @@ public class DesktopGuiElementCore implements GuiElementCore, Loggable {
 
     @Override
     public int getNumberOfFoundElements() {
-
-        if (isPresent()) {
-            return find();
+        // the number of elements may change without any WebDriver command, so it never gets served from the cache
+        try {
+            return findWebElements();
+        } catch (Exception e) {
+            LOGGER.debug("getNumberOfFoundElements(): Element not found: " + by, e);
+            return 0;
         }
-
-        return 0;
     }
 
     /**
@@ -662,6 +716,7 @@ public class DesktopGuiElementCore implements GuiElementCore, Loggable {
         find();
         Actions actions = new Actions(webDriver);
         actions.moveToElement(guiElementData.webElement).contextClick().build().perform();
+        invalidateCachedWebElements();
     }
 
     @Override
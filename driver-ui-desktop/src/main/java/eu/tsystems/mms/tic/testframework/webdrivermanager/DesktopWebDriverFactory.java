@@ -36,6 +36,7 @@ import eu.tsystems.mms.tic.testframework.internal.StopWatch;
 import eu.tsystems.mms.tic.testframework.internal.utils.DriverStorage;
 import eu.tsystems.mms.tic.testframework.logging.Loggable;
 import eu.tsystems.mms.tic.testframework.model.NodeInfo;
+import eu.tsystems.mms.tic.testframework.pageobjects.internal.core.WebElementCache;
 import eu.tsystems.mms.tic.testframework.report.model.context.SessionContext;
 import eu.tsystems.mms.tic.testframework.report.utils.ExecutionContextUtils;
 import eu.tsystems.mms.tic.testframework.sikuli.SikuliWebDriver;
@@ -109,6 +110,16 @@ public class DesktopWebDriverFactory extends WebDriverFactory<DesktopWebDriverRe
         return DesktopWebDriverCapabilities.createCapabilities(WebDriverManager.getConfig(), preSetCaps, desktopWebDriverRequest);
     }
 
+    @Override
+    protected String getPoolKey(DesktopWebDriverRequest request, DesiredCapabilities desiredCapabilities) {
+        return String.format(
+                "%s:%s:%s",
+                super.getPoolKey(request, desiredCapabilities),
+                request.getServerUrl().map(URL::toString).orElse("local"),
+                request.getWindowSize()
+        );
+    }
+
     @Override
     public WebDriver getRawWebDriver(DesktopWebDriverRequest request, DesiredCapabilities desiredCapabilities, SessionContext sessionContext) {
         /*
@@ -179,6 +190,9 @@ public class DesktopWebDriverFactory extends WebDriverFactory<DesktopWebDriverRe
         // add event listeners
         eventFiringWebDriver.register(new VisualEventDriverListener());
         eventFiringWebDriver.register(new EventLoggingEventDriverListener());
+        if (WebElementCache.isActive()) {
+            eventFiringWebDriver.register(new WebElementCache.InvalidationListener(eventFiringWebDriver));
+        }
 
         /*
          start StopWatch
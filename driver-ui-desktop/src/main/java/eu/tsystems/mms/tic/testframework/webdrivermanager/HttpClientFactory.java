@@ -26,8 +26,12 @@ package eu.tsystems.mms.tic.testframework.webdrivermanager;
 import com.google.common.base.Strings;
 import eu.tsystems.mms.tic.testframework.common.PropertyManager;
 import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
+import eu.tsystems.mms.tic.testframework.watchdog.WebDriverWatchDog;
+import java.io.IOException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import okhttp3.ConnectionPool;
 import okhttp3.Credentials;
 import okhttp3.Request;
@@ -45,10 +49,22 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
  * @author Eric Kubenka
  */
 class HttpClientFactory implements HttpClient.Factory {
+    private static final Pattern SESSION_ID_PATTERN = Pattern.compile("/session/([^/]+)");
     private final Duration factoryConnectionTimeout = Duration.ofSeconds(120); // Kill, when connect does not succeed in this timeout
-    private final Duration factoryReadTimeout = factoryConnectionTimeout; // Kill hanging / stuck selenium commands after this timeout.
+    private final Duration factoryReadTimeout = getReadTimeout(factoryConnectionTimeout); // Kill hanging / stuck selenium commands after this timeout.
     private final ConnectionPool pool = new ConnectionPool();
 
+    /**
+     * When the watchdog is enabled, the read timeout is longer than the watchdog timeout,
+     * so that the watchdog decides about aborting the command.
+     */
+    private static Duration getReadTimeout(Duration defaultTimeout) {
+        if (PropertyManager.getBooleanProperty(TesterraProperties.WATCHDOG_ENABLE, false)) {
+            return Duration.ofSeconds(TimingConstants.WEBDRIVER_COMMAND_TIMEOUT_SECONDS + 60);
+        }
+        return defaultTimeout;
+    }
+
     @Override
     public HttpClient.Builder builder() {
 
@@ -88,6 +104,28 @@ class HttpClientFactory implements HttpClient.Factory {
                     });
                 }
 
+                // Let the watchdog abort the whole call, including retries and redirects
+                client.addInterceptor(chain -> {
+                    Request request = chain.request();
+                    String path = request.url().encodedPath();
+                    Matcher matcher = SESSION_ID_PATTERN.matcher(path);
+                    String sessionId = matcher.find() ? matcher.group(1) : null;
+                    boolean quitCommand = sessionId != null && "DELETE".equals(request.method()) && path.endsWith("/session/" + sessionId);
+
+                    if (sessionId != null && !quitCommand && WebDriverWatchDog.isSessionAborted(sessionId)) {
+                        throw new IOException("Session " + sessionId + " has been aborted by the watchdog");
+                    }
+                    WebDriverWatchDog.WatchedCommand watchedCommand = WebDriverWatchDog.watch(sessionId, request.method() + " " + path, chain.call()::cancel);
+                    try {
+                        return chain.proceed(request);
+                    } finally {
+                        watchedCommand.close();
+                        if (quitCommand) {
+                            WebDriverWatchDog.forgetSession(sessionId);
+                        }
+                    }
+                });
+
                 client.addNetworkInterceptor(chain -> {
                     Request request = chain.request();
                     Response response = chain.proceed(request);
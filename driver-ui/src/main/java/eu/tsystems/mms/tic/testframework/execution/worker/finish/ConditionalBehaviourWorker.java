@@ -21,6 +21,7 @@
  */
  package eu.tsystems.mms.tic.testframework.execution.worker.finish;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.common.PropertyManager;
 import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
@@ -33,6 +34,7 @@ public class ConditionalBehaviourWorker implements Loggable, MethodEndEvent.List
 
     @Override
     @Subscribe
+    @AllowConcurrentEvents
     public void onMethodEnd(MethodEndEvent event) {
         if (event.getTestMethod().isTest() && event.isFailed()) {
 
@@ -1,5 +1,6 @@
 package eu.tsystems.mms.tic.testframework.execution.worker.finish;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.events.MethodEndEvent;
 import eu.tsystems.mms.tic.testframework.pageobjects.factory.PageFactory;
@@ -18,6 +19,7 @@ public class PageFactoryBufferWorker implements MethodEndEvent.Listener {
      */
     @Override
     @Subscribe
+    @AllowConcurrentEvents
     public void onMethodEnd(MethodEndEvent event) {
         PageFactory.clearLoopDetectionBuffer();
     }
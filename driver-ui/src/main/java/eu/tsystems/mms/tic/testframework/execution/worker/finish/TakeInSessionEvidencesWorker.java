@@ -21,6 +21,7 @@
  */
 package eu.tsystems.mms.tic.testframework.execution.worker.finish;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.events.MethodEndEvent;
 import eu.tsystems.mms.tic.testframework.interop.TestEvidenceCollector;
@@ -44,6 +45,7 @@ public class TakeInSessionEvidencesWorker implements MethodEndEvent.Listener {
 
     @Override
     @Subscribe
+    @AllowConcurrentEvents
     public void onMethodEnd(MethodEndEvent methodEndEvent) {
         if (methodEndEvent.isFailed()) {
             collect(methodEndEvent);
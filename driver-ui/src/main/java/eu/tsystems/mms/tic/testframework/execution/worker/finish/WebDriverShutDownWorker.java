@@ -21,6 +21,7 @@
  */
 package eu.tsystems.mms.tic.testframework.execution.worker.finish;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.events.MethodEndEvent;
 import eu.tsystems.mms.tic.testframework.pageobjects.POConfig;
@@ -32,6 +33,7 @@ public class WebDriverShutDownWorker implements MethodEndEvent.Listener {
 
     @Override
     @Subscribe
+    @AllowConcurrentEvents
     public void onMethodEnd(MethodEndEvent methodEndEvent) {
         if (WebDriverManager.hasAnySessionActive()) {
             ITestResult iTestResult = methodEndEvent.getTestResult();
@@ -21,6 +21,7 @@
  */
 package eu.tsystems.mms.tic.testframework.execution.worker.start;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.events.MethodEndEvent;
 import eu.tsystems.mms.tic.testframework.events.MethodStartEvent;
@@ -32,6 +33,7 @@ public class PerformanceTestWorker implements
         MethodEndEvent.Listener
 {
     @Subscribe
+    @AllowConcurrentEvents
     @Override
     public void onMethodStart(MethodStartEvent event) {
         if (event.getTestMethod().isTest()) {
@@ -46,6 +48,7 @@ public class PerformanceTestWorker implements
 
     @Override
     @Subscribe
+    @AllowConcurrentEvents
     public void onMethodEnd(MethodEndEvent event) {
         if (event.getTestMethod().isTest()) {
 
@@ -21,6 +21,7 @@
  */
  package eu.tsystems.mms.tic.testframework.execution.worker.start;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.events.MethodStartEvent;
 import eu.tsystems.mms.tic.testframework.logging.Loggable;
@@ -36,6 +37,7 @@ public class WebDriverLoggingStartWorker implements MethodStartEvent.Listener, L
 
     @Override
     @Subscribe
+    @AllowConcurrentEvents
     public void onMethodStart(MethodStartEvent event) {
         if (event.getTestMethod().isTest()) {
             /*
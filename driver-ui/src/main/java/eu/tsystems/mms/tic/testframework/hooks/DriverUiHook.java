@@ -34,13 +34,17 @@ import eu.tsystems.mms.tic.testframework.execution.worker.start.PerformanceTestW
 import eu.tsystems.mms.tic.testframework.interop.TestEvidenceCollector;
 import eu.tsystems.mms.tic.testframework.listeners.ShutdownSessionsListener;
 import eu.tsystems.mms.tic.testframework.listeners.WatchdogStartupListener;
+import eu.tsystems.mms.tic.testframework.pageobjects.internal.core.GuiElementMetrics;
+import eu.tsystems.mms.tic.testframework.pageobjects.internal.core.WebElementCache;
 import eu.tsystems.mms.tic.testframework.report.ScreenshotGrabber;
 import eu.tsystems.mms.tic.testframework.report.SourceGrabber;
 import eu.tsystems.mms.tic.testframework.report.TesterraListener;
 import eu.tsystems.mms.tic.testframework.report.UITestStepIntegration;
 import eu.tsystems.mms.tic.testframework.watchdog.WebDriverWatchDog;
 import eu.tsystems.mms.tic.testframework.webdrivermanager.WebDriverManager;
+import eu.tsystems.mms.tic.testframework.webdrivermanager.WebDriverSessionPool;
 import eu.tsystems.mms.tic.testframework.webdrivermanager.WebDriverSessionsManager;
+import org.slf4j.LoggerFactory;
 
 public class DriverUiHook implements ModuleHook {
 
@@ -91,6 +95,15 @@ public class DriverUiHook implements ModuleHook {
 
     @Override
     public void terminate() {
+        if (WebElementCache.isActive()) {
+            LoggerFactory.getLogger(WebElementCache.class).info(WebElementCache.getStatistics());
+        }
+        if (GuiElementMetrics.getFindHistogram().getCount() > 0 || GuiElementMetrics.getFindWithParentHistogram().getCount() > 0) {
+            LoggerFactory.getLogger(GuiElementMetrics.class).info(GuiElementMetrics.getStatistics(10));
+        }
+        if (WebDriverSessionPool.isActive()) {
+            LoggerFactory.getLogger(WebDriverSessionPool.class).info(WebDriverSessionPool.getStatistics());
+        }
         shutdownModule();
     }
 
@@ -21,6 +21,7 @@
 
 package eu.tsystems.mms.tic.testframework.listeners;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.events.ExecutionAbortEvent;
 import eu.tsystems.mms.tic.testframework.events.ExecutionFinishEvent;
@@ -34,12 +35,14 @@ public class ShutdownSessionsListener implements
 {
     @Override
     @Subscribe
+    @AllowConcurrentEvents
     public void onExecutionAbort(ExecutionAbortEvent event) {
         DriverUiHook.shutdownModule();
     }
 
     @Override
     @Subscribe
+    @AllowConcurrentEvents
     public void onExecutionFinish(ExecutionFinishEvent event) {
         DriverUiHook.shutdownModule();
     }
@@ -32,13 +32,7 @@ import eu.tsystems.mms.tic.testframework.pageobjects.internal.action.FieldWithAc
 import eu.tsystems.mms.tic.testframework.report.model.context.MethodContext;
 import eu.tsystems.mms.tic.testframework.report.utils.ExecutionContextController;
 import eu.tsystems.mms.tic.testframework.utils.UITestUtils;
-import java.lang.reflect.Field;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
 import org.openqa.selenium.WebDriver;
 
 public abstract class AbstractPage implements Loggable {
@@ -119,6 +113,14 @@ public abstract class AbstractPage implements Loggable {
         pCheckPage(inverse, fast, true);
     }
 
+    /**
+     * Performs the page check without inspecting the calling class, which requires a stack trace.
+     * Only for internal use by {@link PageFactory} on fully instantiated pages!
+     */
+    public final void checkPageOfInstance(final boolean inverse, final boolean fast) {
+        pCheckPage(inverse, fast, false);
+    }
+
     @Deprecated
     private void pCheckPage(final boolean findNot, final boolean fast, final boolean checkCaller) {
 
@@ -140,13 +142,7 @@ public abstract class AbstractPage implements Loggable {
             // Ensure that checkPage was not called from any parent page class.
             // If so, skip the check to avoid NPE on the not yet fully instantiated instance.
             // Other classes outside the Page hierarchy are allowed to call checkPage though (no risk of NPE due to unfinished initialization).
-            Class<?> classCallingCheckPage = null;
-            try {
-                classCallingCheckPage = Class.forName(stackTraceElement.getClassName());
-            } catch (ClassNotFoundException e) {
-                log().debug("Internal error: Failed to load class that called checkPage, identified by name from stacktrace.", e);
-            }
-            if (classCallingCheckPage != null && AbstractPage.class.isAssignableFrom(classCallingCheckPage)) {
+            if (PageDescriptor.isPageClass(callingClassName)) {
                 if (!callingClassName.equals(thisClassName)) {
                     log().debug("Not performing checkPage() for " + callingClassName + ", because the calling instance is of class " +
                             thisClassName + ".");
@@ -235,16 +231,6 @@ public abstract class AbstractPage implements Loggable {
         return elementTimeoutInSeconds;
     }
 
-    private PageOptions getPageOptions(List<Class<? extends AbstractPage>> allClasses) {
-        PageOptions pageOptions = null;
-        for (Class<? extends AbstractPage> c : allClasses) {
-            if (c.isAnnotationPresent(PageOptions.class)) {
-                pageOptions = c.getAnnotation(PageOptions.class);
-            }
-        }
-        return pageOptions;
-    }
-
     /**
      * Gets all @Check annotated fields of a class and executes a webdriver find().
      *
@@ -252,28 +238,22 @@ public abstract class AbstractPage implements Loggable {
      * @param fast    Fast search (minimal timeout)
      */
     private void checkAnnotatedFields(final boolean findNot, final boolean fast) {
-        List<Class<? extends AbstractPage>> allClasses = collectAllClasses(findNot);
+        PageDescriptor pageDescriptor = PageDescriptor.of(this.getClass());
 
         /*
         get and apply PageOptions
          */
-        PageOptions pageOptions = getPageOptions(allClasses);
+        PageOptions pageOptions = pageDescriptor.getPageOptions(findNot);
         if (pageOptions != null) {
             applyPageOptions(pageOptions);
         }
 
-        List<FieldWithActionConfig> fields = getFields(allClasses, findNot, fast);
+        List<FieldWithActionConfig> fields = pageDescriptor.getFields(findNot, fast);
         List<FieldAction> fieldActions = getFieldActions(fields, this);
 
-        Set<Field> fieldsMadeAccessible = makeFieldsAccessible(fields);
-
         for (FieldAction fieldAction : fieldActions) {
             fieldAction.run();
         }
-
-        for (Field field : fieldsMadeAccessible) {
-            field.setAccessible(false);
-        }
     }
 
     private void applyPageOptions(PageOptions pageOptions) {
@@ -285,66 +265,6 @@ public abstract class AbstractPage implements Loggable {
 
     protected abstract List<FieldAction> getFieldActions(List<FieldWithActionConfig> field, AbstractPage abstractPage);
 
-    private Set<Field> makeFieldsAccessible(List<FieldWithActionConfig> fields) {
-        Set<Field> fieldsMadeAccessible = new HashSet<Field>();
-        for (FieldWithActionConfig fieldWithActionConfig : fields) {
-            if (!fieldWithActionConfig.field.isAccessible()) {
-                fieldWithActionConfig.field.setAccessible(true);
-                fieldsMadeAccessible.add(fieldWithActionConfig.field);
-            }
-        }
-        return fieldsMadeAccessible;
-    }
-
-    private List<FieldWithActionConfig> getFields(List<Class<? extends AbstractPage>> allClasses, boolean findNot, boolean fast) {
-        ArrayList<FieldWithActionConfig> fieldToChecks = new ArrayList<FieldWithActionConfig>();
-        for (final Class<? extends AbstractPage> cl : allClasses) {
-            for (final Field field : cl.getDeclaredFields()) {
-                fieldToChecks.add(new FieldWithActionConfig(field, findNot, fast));
-            }
-        }
-        return fieldToChecks;
-    }
-
-    private List<Class<? extends AbstractPage>> collectAllClasses(boolean findNot) {
-        final LinkedList<Class<? extends AbstractPage>> allClasses = new LinkedList<>();
-        allClasses.add(this.getClass());
-
-        /*
-         * Find all classes in the class hierarchy.
-         */
-        if (!findNot) {
-            /*
-             * don't find superclasses when executing findNot
-             */
-            Class<?> clazz = this.getClass();
-            boolean running = true;
-            /*
-             * Find all superclasses.
-             */
-            while (running) {
-                clazz = clazz.getSuperclass();
-                try {
-                    if (clazz == null) {
-                        running = false;
-                    } else {
-                        if (clazz != AbstractPage.class) {
-                            @SuppressWarnings("unchecked") final Class<? extends AbstractPage> pageClass = (Class<? extends AbstractPage>) clazz;
-                            allClasses.add(pageClass);
-                        }
-                    }
-                } catch (final ClassCastException e) {
-                    running = false;
-                }
-            }
-        }
-          /*
-        Revert classes order to bottom up
-         */
-        Collections.reverse(allClasses);
-        return allClasses;
-    }
-
     /**
      * taking screenshot from all open windows
      */
@@ -643,6 +643,17 @@ public class GuiElement implements
         return this;
     }
 
+    /**
+     * @return TRUE if this element is located in the current document only by its {@link By}, without frames, parents, filters or shadow roots.
+     */
+    boolean isLocatedByDocumentOnly() {
+        return !hasFrameLogic()
+                && guiElementData.parent == null
+                && !guiElementData.shadowRoot
+                && guiElementData.index == -1
+                && locator.getFilter() == null;
+    }
+
     @Override
     public String toString() {
         return guiElementData.toString();
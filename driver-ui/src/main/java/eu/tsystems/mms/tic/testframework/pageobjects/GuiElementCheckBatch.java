@@ -0,0 +1,289 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.pageobjects;
+
+import eu.tsystems.mms.tic.testframework.common.PropertyManager;
+import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
+import eu.tsystems.mms.tic.testframework.enums.CheckRule;
+import eu.tsystems.mms.tic.testframework.logging.Loggable;
+import eu.tsystems.mms.tic.testframework.pageobjects.internal.action.FieldWithActionConfig;
+import eu.tsystems.mms.tic.testframework.utils.JSUtils;
+import eu.tsystems.mms.tic.testframework.utils.Timer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Checks all {@link Check} annotated GuiElements of a page with a single script execution per polling iteration,
+ * instead of searching every element on its own.
+ * Elements that cannot be checked by script are left to the regular {@link GuiElementCheckFieldAction}.
+ */
+final class GuiElementCheckBatch implements Loggable {
+
+    private enum State {
+        PENDING,
+        VERIFIED,
+        FAILED,
+    }
+
+    private static class Entry {
+        private final GuiElement guiElement;
+        private final CheckRule checkRule;
+        private final Map<String, String> locator;
+        private final int timeoutInSeconds;
+        private State state = State.PENDING;
+
+        private Entry(GuiElement guiElement, CheckRule checkRule, Map<String, String> locator, int timeoutInSeconds) {
+            this.guiElement = guiElement;
+            this.checkRule = checkRule;
+            this.locator = locator;
+            this.timeoutInSeconds = timeoutInSeconds;
+        }
+    }
+
+    private static final int SLEEP_TIME_IN_MS = 500;
+
+    private final AbstractPage page;
+    private final List<FieldWithActionConfig> fields;
+    private final boolean fast;
+    private Map<GuiElement, Entry> entries;
+
+    GuiElementCheckBatch(AbstractPage page, List<FieldWithActionConfig> fields, boolean fast) {
+        this.page = page;
+        this.fields = fields;
+        this.fast = fast;
+    }
+
+    static boolean isActive() {
+        return PropertyManager.getBooleanProperty(TesterraProperties.GUIELEMENT_CHECK_BATCH, false);
+    }
+
+    /**
+     * @return TRUE if the element has already been verified by the batch
+     */
+    boolean isVerified(GuiElement guiElement) {
+        return getState(guiElement) == State.VERIFIED;
+    }
+
+    /**
+     * @return TRUE if the batch didn't verify the element within its timeout
+     */
+    boolean hasFailed(GuiElement guiElement) {
+        return getState(guiElement) == State.FAILED;
+    }
+
+    private State getState(GuiElement guiElement) {
+        if (entries == null) {
+            entries = new IdentityHashMap<>();
+            collectEntries();
+            if (!entries.isEmpty()) {
+                checkEntries();
+            }
+        }
+        Entry entry = entries.get(guiElement);
+        return entry == null ? State.PENDING : entry.state;
+    }
+
+    private void collectEntries() {
+        for (FieldWithActionConfig fieldWithActionConfig : fields) {
+            Field field = fieldWithActionConfig.field;
+            if (!field.isAnnotationPresent(Check.class)
+                    || field.isAnnotationPresent(IfJavascriptDisabled.class)
+                    || !GuiElement.class.isAssignableFrom(field.getType())
+                    || Modifier.isStatic(field.getModifiers())
+            ) {
+                continue;
+            }
+
+            GuiElement guiElement;
+            try {
+                guiElement = (GuiElement) field.get(page);
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                continue;
+            }
+            if (guiElement == null || guiElement.getWebDriver() != page.getWebDriver() || !guiElement.isLocatedByDocumentOnly()) {
+                continue;
+            }
+
+            CheckRule checkRule = field.getAnnotation(Check.class).checkRule();
+            if (checkRule == CheckRule.DEFAULT) {
+                checkRule = POConfig.getGuiElementCheckRule();
+            }
+            if (checkRule != CheckRule.IS_PRESENT && checkRule != CheckRule.IS_DISPLAYED) {
+                continue;
+            }
+
+            Map<String, String> locator = toScriptLocator(guiElement.getBy());
+            if (locator != null) {
+                entries.put(guiElement, new Entry(guiElement, checkRule, locator, getTimeoutInSeconds(guiElement)));
+            }
+        }
+    }
+
+    /**
+     * @return The element specific timeout, which defaults to the page timeout
+     */
+    @SuppressWarnings("deprecation")
+    private int getTimeoutInSeconds(GuiElement guiElement) {
+        return guiElement.getTimeoutInSeconds();
+    }
+
+    private void checkEntries() {
+        long start = System.currentTimeMillis();
+        List<Entry> pending = new ArrayList<>(entries.values());
+        int timeoutInSeconds = pending.stream().mapToInt(entry -> entry.timeoutInSeconds).max().orElse(0);
+        int executions;
+
+        if (fast || timeoutInSeconds <= 0) {
+            checkPendingEntries(pending);
+            executions = 1;
+        } else {
+            Timer timer = new Timer(SLEEP_TIME_IN_MS, timeoutInSeconds * 1000L);
+            timer.executeSequence(new Timer.Sequence<Boolean>() {
+                @Override
+                public void run() {
+                    setSkipThrowingException(true);
+                    checkPendingEntries(pending);
+                    failTimedOutEntries(pending, start);
+                    setPassState(pending.isEmpty());
+                }
+            });
+            executions = timer.getIterations();
+        }
+
+        for (Entry entry : pending) {
+            entry.state = State.FAILED;
+        }
+        log().debug(String.format(
+                "Checked %d elements of %s with %d script executions in %d ms (%d not verified)",
+                entries.size(),
+                page.getClass().getSimpleName(),
+                executions,
+                System.currentTimeMillis() - start,
+                pending.size()
+        ));
+    }
+
+    /**
+     * Fails all pending entries whose own timeout has already passed.
+     */
+    private void failTimedOutEntries(List<Entry> pending, long start) {
+        long elapsedMs = System.currentTimeMillis() - start;
+        List<Entry> timedOut = pending.stream()
+                .filter(entry -> entry.timeoutInSeconds * 1000L <= elapsedMs)
+                .collect(Collectors.toList());
+        for (Entry entry : timedOut) {
+            entry.state = State.FAILED;
+        }
+        pending.removeAll(timedOut);
+    }
+
+    /**
+     * Checks all pending entries and removes them when they are verified or cannot be checked by script.
+     * Elements that are present but not displayed by the script's definition are left to the regular check right away,
+     * because the script's visibility check is stricter than {@link GuiElement#isDisplayed()}.
+     */
+    private void checkPendingEntries(List<Entry> pending) {
+        WebDriver webDriver = page.getWebDriver();
+        List<Map<String, String>> locators = pending.stream().map(entry -> entry.locator).collect(Collectors.toList());
+        List<List<Object>> results;
+        try {
+            results = JSUtils.checkElements(webDriver, locators);
+        } catch (WebDriverException | ClassCastException e) {
+            log().debug("Unable to check elements by script, falling back to single checks", e);
+            pending.forEach(entry -> entries.remove(entry.guiElement));
+            pending.clear();
+            return;
+        }
+
+        List<Entry> done = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            Entry entry = pending.get(i);
+            List<Object> result = results.get(i);
+            long numberOfFoundElements = ((Number) result.get(0)).longValue();
+            boolean displayed = Boolean.TRUE.equals(result.get(1));
+
+            if (numberOfFoundElements < 0) {
+                entries.remove(entry.guiElement);
+                done.add(entry);
+            } else if (numberOfFoundElements > 0
+                    && (!entry.guiElement.getLocator().isUnique() || numberOfFoundElements == 1)
+            ) {
+                if (entry.checkRule == CheckRule.IS_PRESENT || displayed) {
+                    entry.state = State.VERIFIED;
+                } else {
+                    entries.remove(entry.guiElement);
+                }
+                done.add(entry);
+            }
+        }
+        pending.removeAll(done);
+    }
+
+    /**
+     * @return The locator for {@link JSUtils#checkElements(WebDriver, List)} or NULL if not supported
+     */
+    private static Map<String, String> toScriptLocator(By by) {
+        String type;
+        if (by instanceof By.ByCssSelector) {
+            type = "css";
+        } else if (by instanceof By.ByXPath) {
+            type = "xpath";
+        } else if (by instanceof By.ById) {
+            type = "id";
+        } else if (by instanceof By.ByName) {
+            type = "name";
+        } else if (by instanceof By.ByClassName) {
+            type = "className";
+        } else if (by instanceof By.ByTagName) {
+            type = "tagName";
+        } else {
+            return null;
+        }
+
+        // The By classes don't provide their selector other than by toString(), like "By.cssSelector: #id"
+        String byString = by.toString();
+        int separator = byString.indexOf(": ");
+        if (separator < 0 || by.getClass().getPackage() != By.class.getPackage()) {
+            return null;
+        }
+        String value = byString.substring(separator + 2);
+        if (type.equals("className") && value.contains(" ")) {
+            // compound class names are not supported by WebDriver
+            return null;
+        }
+
+        Map<String, String> locator = new HashMap<>();
+        locator.put("type", type);
+        locator.put("value", value);
+        return locator;
+    }
+}
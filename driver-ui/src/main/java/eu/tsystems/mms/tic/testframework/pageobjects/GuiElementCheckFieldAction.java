@@ -34,8 +34,15 @@ import org.openqa.selenium.WebDriver;
 
 public class GuiElementCheckFieldAction extends CheckFieldAction {
 
+    private final GuiElementCheckBatch checkBatch;
+
     public GuiElementCheckFieldAction(FieldWithActionConfig field, AbstractPage declaringPage) {
+        this(field, declaringPage, null);
+    }
+
+    GuiElementCheckFieldAction(FieldWithActionConfig field, AbstractPage declaringPage, GuiElementCheckBatch checkBatch) {
         super(field, declaringPage);
+        this.checkBatch = checkBatch;
     }
 
     private void pCheckField(GuiElement guiElement, GuiElementAssert GuiElementAssert, CheckRule checkRule, boolean findNot, boolean fast) {
@@ -141,6 +148,16 @@ public class GuiElementCheckFieldAction extends CheckFieldAction {
                     " " + declaringPage + " from " + declaringClass, e);
         }
 
+        if (checkBatch != null) {
+            if (checkBatch.isVerified(guiElement)) {
+                return;
+            }
+            if (checkBatch.hasFailed(guiElement)) {
+                // the batch already waited for the element timeout, so the single check only has to create the error
+                fast = true;
+            }
+        }
+
         if (check.optional()) {
             pCheckField(guiElement, guiElement.optionalAsserts(), checkRule, findNot, fast);
         } else {
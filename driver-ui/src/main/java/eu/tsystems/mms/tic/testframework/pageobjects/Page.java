@@ -123,8 +123,12 @@ public abstract class Page extends AbstractPage {
     @Override
     protected List<FieldAction> getFieldActions(List<FieldWithActionConfig> fields, AbstractPage declaringPage) {
         List<FieldAction> fieldActions = new ArrayList<FieldAction>();
+        GuiElementCheckBatch checkBatch = null;
+        if (!fields.isEmpty() && !fields.get(0).findNot && GuiElementCheckBatch.isActive()) {
+            checkBatch = new GuiElementCheckBatch(declaringPage, fields, fields.get(0).fast);
+        }
         for (FieldWithActionConfig field : fields) {
-            GuiElementCheckFieldAction guiElementCheckFieldAction = new GuiElementCheckFieldAction(field, declaringPage);
+            GuiElementCheckFieldAction guiElementCheckFieldAction = new GuiElementCheckFieldAction(field, declaringPage, checkBatch);
             SetNameFieldAction setNameFieldAction = new SetNameFieldAction(field.field, declaringPage);
 
             /*
@@ -0,0 +1,143 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.pageobjects;
+
+import eu.tsystems.mms.tic.testframework.annotations.PageOptions;
+import eu.tsystems.mms.tic.testframework.pageobjects.internal.action.FieldWithActionConfig;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reflection metadata of a page class, which is collected only once per class and reused by every page check.
+ * Contains the (accessible) fields and the {@link PageOptions} of the class hierarchy.
+ */
+final class PageDescriptor {
+
+    private static final ClassValue<PageDescriptor> DESCRIPTORS = new ClassValue<PageDescriptor>() {
+        @Override
+        protected PageDescriptor computeValue(Class<?> type) {
+            return new PageDescriptor(type);
+        }
+    };
+
+    /**
+     * Caches if a class name identified from a stack trace belongs to a page class.
+     */
+    private static final Map<String, Boolean> PAGE_CLASS_NAMES = new ConcurrentHashMap<>();
+
+    /**
+     * Used by {@link AbstractPage#checkPage()}, checks all classes of the hierarchy.
+     */
+    private final FieldConfigs hierarchyConfigs;
+
+    /**
+     * Used by {@link AbstractPage#checkPage(boolean, boolean)} with inverse, checks the page class only.
+     */
+    private final FieldConfigs ownConfigs;
+
+    private PageDescriptor(Class<?> pageClass) {
+        hierarchyConfigs = new FieldConfigs(collectAllClasses(pageClass, false), false);
+        ownConfigs = new FieldConfigs(collectAllClasses(pageClass, true), true);
+    }
+
+    static PageDescriptor of(Class<? extends AbstractPage> pageClass) {
+        return DESCRIPTORS.get(pageClass);
+    }
+
+    static boolean isPageClass(String className) {
+        return PAGE_CLASS_NAMES.computeIfAbsent(className, name -> {
+            try {
+                return AbstractPage.class.isAssignableFrom(Class.forName(name));
+            } catch (ClassNotFoundException e) {
+                return false;
+            }
+        });
+    }
+
+    PageOptions getPageOptions(boolean findNot) {
+        return getConfigs(findNot).pageOptions;
+    }
+
+    List<FieldWithActionConfig> getFields(boolean findNot, boolean fast) {
+        FieldConfigs configs = getConfigs(findNot);
+        return fast ? configs.fastFields : configs.fields;
+    }
+
+    private FieldConfigs getConfigs(boolean findNot) {
+        return findNot ? ownConfigs : hierarchyConfigs;
+    }
+
+    /**
+     * @return The page class and, if not findNot, all its superclasses below {@link AbstractPage} in bottom up order.
+     */
+    private static List<Class<?>> collectAllClasses(Class<?> pageClass, boolean findNot) {
+        final LinkedList<Class<?>> allClasses = new LinkedList<>();
+        allClasses.add(pageClass);
+
+        /*
+         * don't find superclasses when executing findNot
+         */
+        if (!findNot) {
+            Class<?> clazz = pageClass.getSuperclass();
+            while (clazz != null && clazz != AbstractPage.class && AbstractPage.class.isAssignableFrom(clazz)) {
+                allClasses.add(clazz);
+                clazz = clazz.getSuperclass();
+            }
+        }
+        Collections.reverse(allClasses);
+        return allClasses;
+    }
+
+    private static class FieldConfigs {
+
+        private final PageOptions pageOptions;
+        private final List<FieldWithActionConfig> fields;
+        private final List<FieldWithActionConfig> fastFields;
+
+        private FieldConfigs(List<Class<?>> allClasses, boolean findNot) {
+            PageOptions pageOptions = null;
+            List<FieldWithActionConfig> fields = new ArrayList<>();
+            List<FieldWithActionConfig> fastFields = new ArrayList<>();
+
+            for (Class<?> cl : allClasses) {
+                if (cl.isAnnotationPresent(PageOptions.class)) {
+                    pageOptions = cl.getAnnotation(PageOptions.class);
+                }
+                for (Field field : cl.getDeclaredFields()) {
+                    // The fields are never shared outside of the page checks, so they stay accessible
+                    field.setAccessible(true);
+                    fields.add(new FieldWithActionConfig(field, findNot, false));
+                    fastFields.add(new FieldWithActionConfig(field, findNot, true));
+                }
+            }
+            this.pageOptions = pageOptions;
+            this.fields = Collections.unmodifiableList(fields);
+            this.fastFields = Collections.unmodifiableList(fastFields);
+        }
+    }
+}
@@ -24,8 +24,8 @@ package eu.tsystems.mms.tic.testframework.pageobjects.factory;
 import eu.tsystems.mms.tic.testframework.exceptions.NotYetImplementedException;
 import eu.tsystems.mms.tic.testframework.exceptions.SystemException;
 import eu.tsystems.mms.tic.testframework.pageobjects.Page;
-import eu.tsystems.mms.tic.testframework.report.TesterraListener;
 import eu.tsystems.mms.tic.testframework.utils.JSUtils;
+import eu.tsystems.mms.tic.testframework.utils.ProjectClassIndex;
 import eu.tsystems.mms.tic.testframework.utils.StringUtils;
 import java.lang.reflect.Modifier;
 import java.util.HashMap;
@@ -35,7 +35,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.openqa.selenium.WebDriver;
-import org.reflections.Reflections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -114,7 +113,6 @@ final class ClassFinder {
             prefix = "";
         }
 
-        final Reflections reflections = new Reflections(TesterraListener.PROJECT_PACKAGE);
         final String baseClassName = baseClass.getSimpleName();
 
         PrioritizedClassInfos<T> prioritizedClassInfos = new PrioritizedClassInfos<>();
@@ -125,7 +123,7 @@ final class ClassFinder {
         }
 
         // search for sub pages
-        Set<? extends Class<T>> subClasses = reflections.getSubTypesOf((Class) baseClass);
+        Set<? extends Class<T>> subClasses = (Set) ProjectClassIndex.getSubTypesOf(baseClass);
         for (Class<T> subClass : subClasses) {
             String classname = subClass.getSimpleName();
 
@@ -211,7 +209,9 @@ final class ClassFinder {
         /*
         log map
          */
-        prioritizedClassInfos.logContent();
+        if (LOGGER.isDebugEnabled()) {
+            prioritizedClassInfos.logContent();
+        }
 
         /*
         find best matching class
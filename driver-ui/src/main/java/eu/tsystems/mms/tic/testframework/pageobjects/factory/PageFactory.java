@@ -131,11 +131,7 @@ public final class PageFactory {
             }
 
             // check page
-            if (positiveCheck) {
-                t.checkPage();
-            } else {
-                t.checkPage(true, false);
-            }
+            t.checkPageOfInstance(!positiveCheck, false);
         } catch (Throwable overAllThrowable) {
             // modify test method container
 //            final String message = overAllThrowable.getMessage();
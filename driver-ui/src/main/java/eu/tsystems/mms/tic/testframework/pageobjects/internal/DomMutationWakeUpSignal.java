@@ -0,0 +1,74 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.pageobjects.internal;
+
+import eu.tsystems.mms.tic.testframework.logging.Loggable;
+import eu.tsystems.mms.tic.testframework.utils.JSUtils;
+import eu.tsystems.mms.tic.testframework.utils.Timer;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Wakes up a {@link Timer} on DOM mutations of the current document by an injected MutationObserver.
+ * Falls back to sleeping when the script cannot be executed, for example during page loads.
+ */
+public class DomMutationWakeUpSignal implements Timer.WakeUpSignal, Loggable {
+
+    private final WebDriver webDriver;
+    private final long minDelayInMs;
+    private volatile boolean supported;
+
+    /**
+     * @param webDriver The session to observe
+     * @param minDelayInMs Minimum time to sleep, even when the DOM mutates earlier
+     */
+    public DomMutationWakeUpSignal(WebDriver webDriver, long minDelayInMs) {
+        this.webDriver = webDriver;
+        this.minDelayInMs = minDelayInMs;
+        this.supported = webDriver instanceof JavascriptExecutor;
+    }
+
+    @Override
+    public boolean await(long timeoutInMs) throws InterruptedException {
+        if (!supported) {
+            Thread.sleep(timeoutInMs);
+            return false;
+        }
+        final long startTime = System.currentTimeMillis();
+        try {
+            return JSUtils.awaitDomMutation(webDriver, Math.min(minDelayInMs, timeoutInMs), timeoutInMs);
+        } catch (UnsupportedCommandException e) {
+            log().debug("Async scripts are not supported, sleeping instead");
+            supported = false;
+        } catch (WebDriverException e) {
+            log().trace("Unable to observe DOM mutations: " + e.getMessage());
+        }
+        long remainingTimeInMs = timeoutInMs - (System.currentTimeMillis() - startTime);
+        if (remainingTimeInMs > 0) {
+            Thread.sleep(remainingTimeInMs);
+        }
+        return false;
+    }
+}
@@ -21,7 +21,10 @@
  */
  package eu.tsystems.mms.tic.testframework.pageobjects.internal;
 
+import eu.tsystems.mms.tic.testframework.common.PropertyManager;
+import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
 import eu.tsystems.mms.tic.testframework.transfer.ThrowablePackedResponse;
+import eu.tsystems.mms.tic.testframework.utils.BackoffPollingStrategy;
 import eu.tsystems.mms.tic.testframework.utils.StringUtils;
 import eu.tsystems.mms.tic.testframework.utils.ThrowableUtils;
 import eu.tsystems.mms.tic.testframework.utils.Timer;
@@ -41,6 +44,7 @@ public class TimerWrapper {
 
     private static final int sleepTimeInMsShortInterval = 200;
     private static final int timeoutInSecondsShortInterval = 1;
+    private static final int minimalWakeUpDelayInMs = 20;
 
     private final WebDriver webDriver;
 
@@ -71,7 +75,7 @@ public class TimerWrapper {
     }
 
     public <T> ThrowablePackedResponse<T> executeShortIntervalSequence(final Timer.Sequence<T> sequence) {
-        Timer timer = new Timer(sleepTimeInMsShortInterval, timeoutInSecondsShortInterval * 1000);
+        Timer timer = createTimer(sleepTimeInMsShortInterval, timeoutInSecondsShortInterval * 1000);
         ThrowablePackedResponse<T> booleanThrowablePackedResponse = null;
 
         try {
@@ -84,11 +88,12 @@ public class TimerWrapper {
         }
 
         booleanThrowablePackedResponse.setLogError(false);
+        logTimings(timer);
         return booleanThrowablePackedResponse;
     }
 
     public <T> ThrowablePackedResponse<T> executeSequence(final Timer.Sequence<T> sequence) {
-        Timer timer = new Timer(getSleepTimeInMs(), getTimeoutInMs());
+        Timer timer = createTimer(getSleepTimeInMs(), getTimeoutInMs());
         ThrowablePackedResponse<T> booleanThrowablePackedResponse = null;
 
         try {
@@ -101,9 +106,33 @@ public class TimerWrapper {
         }
 
         booleanThrowablePackedResponse.setLogError(false);
+        logTimings(timer);
         return booleanThrowablePackedResponse;
     }
 
+    /**
+     * Creates a timer polling with the configured strategy.
+     * With backoff, the sleep time of this wrapper is the default upper bound.
+     */
+    private Timer createTimer(int sleepTimeInMs, int timeoutInMs) {
+        Timer timer = new Timer(sleepTimeInMs, timeoutInMs);
+        if (PropertyManager.getBooleanProperty(TesterraProperties.GUIELEMENT_POLLING_BACKOFF, false)) {
+            int maxSleepTimeInMs = Math.min(sleepTimeInMs, PropertyManager.getIntProperty(TesterraProperties.GUIELEMENT_POLLING_MAX_MILLIS, sleepTimeInMs));
+            int initialSleepTimeInMs = Math.min(maxSleepTimeInMs, PropertyManager.getIntProperty(TesterraProperties.GUIELEMENT_POLLING_INITIAL_MILLIS, 20));
+            timer.setPollingStrategy(new BackoffPollingStrategy(Math.max(1, initialSleepTimeInMs), Math.max(1, maxSleepTimeInMs)));
+        }
+        if (webDriver != null && PropertyManager.getBooleanProperty(TesterraProperties.GUIELEMENT_POLLING_WAKEUP_ON_DOM_MUTATION, false)) {
+            timer.setWakeUpSignal(new DomMutationWakeUpSignal(webDriver, minimalWakeUpDelayInMs));
+        }
+        return timer;
+    }
+
+    private void logTimings(Timer timer) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Sequence finished after " + timer.getIterations() + " iterations in " + timer.getElapsedTimeInMs() + " ms (" + timer.getPollingStrategy() + ")");
+        }
+    }
+
     private void checkForPageLoadTimeout(Throwable throwable) {
         final Throwable throwableContainedIn = ThrowableUtils.getThrowableContainedIn(throwable, TimeoutException.class);
         if (throwableContainedIn == null) {
@@ -235,9 +235,9 @@ public class ConfigurableGuiElementAssert implements GuiElementAssert {
             public void run() {
                 LayoutCheck.MatchStep matchStep;
                 try {
-                    matchStep = LayoutCheck.matchPixels(guiElementCore.takeScreenshot(), targetImageName);
+                    matchStep = LayoutCheck.matchPixels(guiElementCore.takeScreenshot(), targetImageName, confidenceThreshold);
                     if (!matchStep.takeReferenceOnly) {
-                        LayoutCheck.toReport(matchStep);
+                        LayoutCheck.toReport(matchStep, confidenceThreshold);
                     }
                     AssertUtils.assertLowerEqualThan(new BigDecimal(matchStep.distance).setScale(2, RoundingMode.HALF_UP), expectedDistanceThreshold.setScale(2, RoundingMode.HALF_UP), assertMessage);
                 } catch (LayoutCheckException e) {
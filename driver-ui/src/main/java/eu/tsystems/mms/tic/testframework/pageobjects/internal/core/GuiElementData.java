@@ -26,8 +26,6 @@ import eu.tsystems.mms.tic.testframework.pageobjects.POConfig;
 import eu.tsystems.mms.tic.testframework.pageobjects.internal.TimerWrapper;
 import eu.tsystems.mms.tic.testframework.pageobjects.internal.frames.FrameLogic;
 import eu.tsystems.mms.tic.testframework.utils.StringUtils;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -35,8 +33,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class GuiElementData {
-    public static final Map<WebElement, GuiElement> WEBELEMENT_MAP = new ConcurrentHashMap<>();
-
     public final By by;
     /**
      * // TODO This will not @deprecated in Testerra 2
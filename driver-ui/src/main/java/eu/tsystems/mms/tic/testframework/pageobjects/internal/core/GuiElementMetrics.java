@@ -0,0 +1,151 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.pageobjects.internal.core;
+
+import eu.tsystems.mms.tic.testframework.internal.LatencyHistogram;
+import eu.tsystems.mms.tic.testframework.report.model.context.ExecutionContext;
+import eu.tsystems.mms.tic.testframework.report.model.context.MethodContext;
+import eu.tsystems.mms.tic.testframework.report.model.context.SessionContext;
+import eu.tsystems.mms.tic.testframework.report.utils.ExecutionContextController;
+import eu.tsystems.mms.tic.testframework.webdrivermanager.WebDriverSessionsManager;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Collects the durations of GuiElement find() calls per locator, per session and per test method.
+ * The locator histograms are part of the {@link ExecutionContext}, the session histograms part of the {@link SessionContext}.
+ * The amount of tracked locators is limited, further ones are aggregated as {@link #OTHERS}.
+ * The method histograms are not part of the report model and can be read by the pull API only.
+ */
+public final class GuiElementMetrics {
+
+    public static final String OTHERS = "(others)";
+    private static final int MAX_LOCATORS = 1000;
+    private static final int MAX_METHODS = 10000;
+
+    private static final LatencyHistogram FIND = new LatencyHistogram();
+    private static final LatencyHistogram FIND_WITH_PARENT = new LatencyHistogram();
+    private static final Map<String, LatencyHistogram> LOCATORS = ExecutionContextController.getCurrentExecutionContext().getGuiElementFindDurations();
+    private static final Map<String, LatencyHistogram> METHODS = new ConcurrentHashMap<>();
+
+    private GuiElementMetrics() {
+    }
+
+    static void recordFind(GuiElementData guiElementData, boolean withParent, long durationInMs) {
+        if (withParent) {
+            FIND_WITH_PARENT.record(durationInMs);
+        } else {
+            FIND.record(durationInMs);
+        }
+        getOrCreateLocatorHistogram(guiElementData.by.toString()).record(durationInMs);
+        getSessionContext(guiElementData.webDriver)
+                .ifPresent(sessionContext -> sessionContext.getGuiElementFindDurations().record(durationInMs));
+
+        ExecutionContextController.getMethodContextForThread()
+                .flatMap(GuiElementMetrics::getOrCreateMethodHistogram)
+                .ifPresent(histogram -> histogram.record(durationInMs));
+    }
+
+    private static Optional<SessionContext> getSessionContext(WebDriver webDriver) {
+        if (webDriver == null) {
+            return Optional.empty();
+        }
+        return WebDriverSessionsManager.getSessionContext(webDriver);
+    }
+
+    private static LatencyHistogram getOrCreateLocatorHistogram(String locator) {
+        LatencyHistogram histogram = LOCATORS.get(locator);
+        if (histogram == null) {
+            if (LOCATORS.size() >= MAX_LOCATORS) {
+                locator = OTHERS;
+            }
+            histogram = LOCATORS.computeIfAbsent(locator, k -> new LatencyHistogram());
+        }
+        return histogram;
+    }
+
+    /**
+     * Methods beyond the limit are tracked by the global histograms only
+     */
+    private static Optional<LatencyHistogram> getOrCreateMethodHistogram(MethodContext methodContext) {
+        LatencyHistogram histogram = METHODS.get(methodContext.getId());
+        if (histogram == null) {
+            if (METHODS.size() >= MAX_METHODS) {
+                return Optional.empty();
+            }
+            histogram = METHODS.computeIfAbsent(methodContext.getId(), k -> new LatencyHistogram());
+        }
+        return Optional.of(histogram);
+    }
+
+    /**
+     * @return Durations of all find() calls of GuiElements without parent
+     */
+    public static LatencyHistogram getFindHistogram() {
+        return FIND;
+    }
+
+    /**
+     * @return Durations of all find() calls of sub elements
+     */
+    public static LatencyHistogram getFindWithParentHistogram() {
+        return FIND_WITH_PARENT;
+    }
+
+    public static Optional<LatencyHistogram> getLocatorHistogram(String locator) {
+        return Optional.ofNullable(LOCATORS.get(locator));
+    }
+
+    public static Optional<LatencyHistogram> getSessionHistogram(SessionContext sessionContext) {
+        return Optional.of(sessionContext.getGuiElementFindDurations()).filter(histogram -> histogram.getCount() > 0);
+    }
+
+    public static Optional<LatencyHistogram> getMethodHistogram(MethodContext methodContext) {
+        return Optional.ofNullable(METHODS.get(methodContext.getId()));
+    }
+
+    /**
+     * @return The histograms of all tracked locators, ordered by their total find duration descending
+     */
+    public static Stream<Map.Entry<String, LatencyHistogram>> readLocatorHistograms() {
+        return LOCATORS.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LatencyHistogram> entry) -> entry.getValue().getTotal()).reversed());
+    }
+
+    public static String getStatistics(int topLocators) {
+        String statistics = String.format("GuiElement find(): %s\nGuiElement find() with parent: %s", FIND, FIND_WITH_PARENT);
+        String locators = readLocatorHistograms()
+                .limit(topLocators)
+                .map(entry -> "  " + entry.getKey() + ": " + entry.getValue())
+                .collect(Collectors.joining("\n"));
+        if (!locators.isEmpty()) {
+            statistics += "\nSlowest locators:\n" + locators;
+        }
+        return statistics;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.pageobjects.internal.core;
+
+import eu.tsystems.mms.tic.testframework.common.PropertyManager;
+import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+
+/**
+ * Controls the reuse of already found WebElements by GuiElements.
+ * A cached WebElement is valid until its TTL expires, it became stale, or the page of its WebDriver has changed.
+ * The page changes on navigation and on every command which may change the DOM.
+ */
+public final class WebElementCache {
+
+    private static final Map<WebDriver, AtomicLong> PAGE_GENERATIONS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder SAVED_ROUND_TRIPS = new LongAdder();
+
+    /**
+     * Invalidates all cached WebElements of a WebDriver when it navigates, switches the window,
+     * or sends a command which may change the DOM.
+     */
+    public static class InvalidationListener extends AbstractWebDriverEventListener {
+        private final WebDriver webDriver;
+
+        /**
+         * @param webDriver The WebDriver the GuiElements are created with, which is not the driver passed to the listener methods
+         */
+        public InvalidationListener(WebDriver webDriver) {
+            this.webDriver = webDriver;
+        }
+
+        @Override
+        public void afterNavigateTo(String url, WebDriver driver) {
+            invalidate(webDriver);
+        }
+
+        @Override
+        public void afterNavigateBack(WebDriver driver) {
+            invalidate(webDriver);
+        }
+
+        @Override
+        public void afterNavigateForward(WebDriver driver) {
+            invalidate(webDriver);
+        }
+
+        @Override
+        public void afterNavigateRefresh(WebDriver driver) {
+            invalidate(webDriver);
+        }
+
+        @Override
+        public void afterSwitchToWindow(String windowName, WebDriver driver) {
+            invalidate(webDriver);
+        }
+
+        @Override
+        public void afterClickOn(WebElement element, WebDriver driver) {
+            invalidate(webDriver);
+        }
+
+        @Override
+        public void afterChangeValueOf(WebElement element, WebDriver driver, CharSequence[] keysToSend) {
+            invalidate(webDriver);
+        }
+
+        @Override
+        public void afterScript(String script, WebDriver driver) {
+            invalidate(webDriver);
+        }
+
+        @Override
+        public void afterAlertAccept(WebDriver driver) {
+            invalidate(webDriver);
+        }
+
+        @Override
+        public void afterAlertDismiss(WebDriver driver) {
+            invalidate(webDriver);
+        }
+    }
+
+    private WebElementCache() {
+    }
+
+    public static boolean isActive() {
+        return PropertyManager.getBooleanProperty(TesterraProperties.GUIELEMENT_CACHE_ACTIVE, false);
+    }
+
+    public static long getTtlInMs() {
+        return PropertyManager.getLongProperty(TesterraProperties.GUIELEMENT_CACHE_TTL_MILLIS, 5000);
+    }
+
+    /**
+     * @return A number that changes every time the page of the WebDriver changes
+     */
+    public static long getPageGeneration(WebDriver webDriver) {
+        AtomicLong generation = PAGE_GENERATIONS.get(webDriver);
+        return generation == null ? 0 : generation.get();
+    }
+
+    public static void invalidate(WebDriver webDriver) {
+        PAGE_GENERATIONS.computeIfAbsent(webDriver, driver -> new AtomicLong()).incrementAndGet();
+    }
+
+    static void countHit(int savedRoundTrips) {
+        HITS.increment();
+        SAVED_ROUND_TRIPS.add(savedRoundTrips);
+    }
+
+    static void countMiss() {
+        MISSES.increment();
+    }
+
+    public static long getHits() {
+        return HITS.sum();
+    }
+
+    public static long getMisses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * @return The number of WebDriver commands that have not been sent because of cache hits
+     */
+    public static long getSavedRoundTrips() {
+        return SAVED_ROUND_TRIPS.sum();
+    }
+
+    public static String getStatistics() {
+        return String.format("WebElement cache: %d hits, %d misses, %d round-trips saved", getHits(), getMisses(), getSavedRoundTrips());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.pageobjects.internal.core;
+
+import com.google.common.collect.MapMaker;
+import eu.tsystems.mms.tic.testframework.pageobjects.GuiElement;
+import eu.tsystems.mms.tic.testframework.utils.WebDriverUtils;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Reverse lookup of the GuiElements by their found WebElements, separated by WebDriver session.
+ * WebElements and GuiElements are referenced weakly, so the registry never keeps them alive.
+ * The entries of a session are removed when it gets shut down.
+ */
+public final class WebElementRegistry {
+
+    private static final ConcurrentMap<WebDriver, ConcurrentMap<WebElement, GuiElement>> SESSIONS = new MapMaker().weakKeys().makeMap();
+
+    private WebElementRegistry() {
+    }
+
+    public static void register(WebDriver webDriver, WebElement webElement, GuiElement guiElement) {
+        SESSIONS.computeIfAbsent(WebDriverUtils.getLowestWebDriver(webDriver), driver -> new MapMaker().weakKeys().weakValues().makeMap())
+                .put(webElement, guiElement);
+    }
+
+    /**
+     * @param webElement A WebElement as returned by {@link GuiElementCore#getWebElement()}
+     */
+    public static Optional<GuiElement> getGuiElement(WebElement webElement) {
+        return SESSIONS.values().stream()
+                .map(guiElements -> guiElements.get(webElement))
+                .filter(guiElement -> guiElement != null)
+                .findFirst();
+    }
+
+    public static void clear(WebDriver webDriver) {
+        SESSIONS.remove(WebDriverUtils.getLowestWebDriver(webDriver));
+    }
+
+    /**
+     * @return The number of registered WebElements, including entries that are already garbage collected but not yet removed
+     */
+    public static int getSize() {
+        return SESSIONS.values().stream().mapToInt(Map::size).sum();
+    }
+}
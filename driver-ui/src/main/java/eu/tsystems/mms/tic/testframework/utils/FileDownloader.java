@@ -22,22 +22,42 @@
 
 package eu.tsystems.mms.tic.testframework.utils;
 
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.Striped;
 import eu.tsystems.mms.tic.testframework.exceptions.SystemException;
 import eu.tsystems.mms.tic.testframework.logging.Loggable;
 import eu.tsystems.mms.tic.testframework.pageobjects.GuiElement;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
 import java.net.Proxy;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Consumer;
-import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.net.ssl.HttpsURLConnection;
@@ -57,10 +77,96 @@ public class FileDownloader implements Loggable {
 
     private static int DEFAULT_TIMEOUT_MS = 10 * 1000;
 
+    /**
+     * Ranges smaller than this are not worth an own connection.
+     */
+    private static final long MIN_CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * Maximum bytes per {@link FileChannel#transferFrom} call.
+     */
+    private static final long TRANSFER_SIZE = 8 * 1024 * 1024;
+
+    private static final String PART_FILE_SUFFIX = ".part";
+
+    /**
+     * Stores the URL and the validator of the response, a part file belongs to
+     */
+    private static final String PART_INFO_FILE_SUFFIX = ".part.properties";
+    private static final String PART_INFO_URL = "url";
+    private static final String PART_INFO_VALIDATOR = "validator";
+
     /**
      * List of downloaded files. need for cleanup
      */
-    private static final List<String> downloadList = new ArrayList<>();
+    private static final Queue<String> downloadList = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Prevents concurrent downloads from writing into the same file
+     */
+    private static final Striped<Lock> TARGET_FILE_LOCKS = Striped.lock(64);
+
+    private static class ExecutorHolder {
+        private static final ExecutorService DOWNLOAD_EXECUTOR = Executors.newFixedThreadPool(4, createThreadFactory("Testerra Download "));
+        private static final ExecutorService CHUNK_EXECUTOR = Executors.newCachedThreadPool(createThreadFactory("Testerra Download Chunk "));
+
+        private static ThreadFactory createThreadFactory(String namePrefix) {
+            AtomicInteger threadCount = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+
+    /**
+     * Downloads of this test run, deduplicated by the SHA-256 hash of their content.
+     */
+    private static class DownloadCache {
+        private static final Map<String, CachedDownload> DOWNLOADS = new ConcurrentHashMap<>();
+        private static final Map<String, File> CONTENTS = new ConcurrentHashMap<>();
+        private static final File DIRECTORY = createDirectory();
+
+        private static File createDirectory() {
+            try {
+                File directory = Files.createTempDirectory("testerra-downloads-").toFile();
+                directory.deleteOnExit();
+                return directory;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static void put(String url, File file) throws IOException {
+            String hash = com.google.common.io.Files.asByteSource(file).hash(Hashing.sha256()).toString();
+            try {
+                File content = CONTENTS.computeIfAbsent(hash, key -> {
+                    File contentFile = new File(DIRECTORY, key);
+                    try {
+                        Files.copy(file.toPath(), contentFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    contentFile.deleteOnExit();
+                    return contentFile;
+                });
+                DOWNLOADS.put(url, new CachedDownload(content, file.getName()));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static class CachedDownload {
+        private final File content;
+        private final String fileName;
+
+        private CachedDownload(File content, String fileName) {
+            this.content = content;
+            this.fileName = fileName;
+        }
+    }
 
     /**
      * Determines download Location of this instance
@@ -85,6 +191,16 @@ public class FileDownloader implements Loggable {
 
     private Consumer<URLConnection> connectionConfigurator;
 
+    /**
+     * Number of parallel range requests for large files
+     */
+    private int parallelChunks = 1;
+
+    /**
+     * Determines if downloads of the same URL should be reused within the test run
+     */
+    private boolean cacheActive = false;
+
     /**
      * Instantiate FileDownloader
      *
@@ -138,20 +254,43 @@ public class FileDownloader implements Loggable {
     }
 
     public FileDownloader cleanup() {
-        synchronized (downloadList) {
-            for (String path : downloadList) {
-                File file = FileUtils.getFile(path);
-                if (!file.delete()) {
-                    log().warn(String.format("File >%s< couldn't be deleted on cleanup. Please remove file manually.",
-                            file.getAbsolutePath()));
-                }
+        String path;
+        while ((path = downloadList.poll()) != null) {
+            File file = FileUtils.getFile(path);
+            if (file.exists() && !file.delete()) {
+                log().warn(String.format("File >%s< couldn't be deleted on cleanup. Please remove file manually.",
+                        file.getAbsolutePath()));
             }
-
-            downloadList.clear();
         }
         return this;
     }
 
+    public int getParallelChunks() {
+        return this.parallelChunks;
+    }
+
+    /**
+     * Downloads large files in the given number of parallel range requests (Default: 1).
+     * Only applies when the server accepts byte ranges.
+     */
+    public FileDownloader setParallelChunks(int parallelChunks) {
+        this.parallelChunks = Math.max(1, parallelChunks);
+        return this;
+    }
+
+    public boolean isCacheActive() {
+        return this.cacheActive;
+    }
+
+    /**
+     * Reuses former downloads of the same URL within the test run, instead of downloading them again (Default: false).
+     * Only use this for resources which don't change during the test run.
+     */
+    public FileDownloader setCacheActive(boolean cacheActive) {
+        this.cacheActive = cacheActive;
+        return this;
+    }
+
     public String getDownloadLocation() {
         return this.downloadLocation;
     }
@@ -237,6 +376,24 @@ public class FileDownloader implements Loggable {
         return new File(this.pDownload(null, urlString, targetFileName, DEFAULT_TIMEOUT_MS));
     }
 
+    public CompletableFuture<File> downloadAsync(String urlString) {
+        return this.downloadAsync(urlString, null);
+    }
+
+    /**
+     * Downloads the file in background.
+     * The future completes exceptionally with a {@link CompletionException} when the download failed.
+     */
+    public CompletableFuture<File> downloadAsync(String urlString, String targetFileName) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return this.download(urlString, targetFileName);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, ExecutorHolder.DOWNLOAD_EXECUTOR);
+    }
+
     /**
      * @deprecated Use {@link #setConnectionConfigurator(Consumer)} and {@link #download(String)} instead
      * @param driver
@@ -324,30 +481,315 @@ public class FileDownloader implements Loggable {
 
         log().info("Start downloading " + url);
 
-        String targetFileName = "";
+        String cacheKey = url.toString();
+        if (this.cacheActive) {
+            CachedDownload cachedDownload = DownloadCache.DOWNLOADS.get(cacheKey);
+            if (cachedDownload != null) {
+                if (targetFile == null) {
+                    targetFile = FileUtils.getFile(this.getDownloadLocation() + "/" + cachedDownload.fileName);
+                }
+                FileUtils.copyFile(cachedDownload.content, targetFile);
+                log().info("Reused former download of " + url + " for " + targetFile.getAbsolutePath());
+                downloadList.add(targetFile.getAbsolutePath());
+                return targetFile.getAbsolutePath();
+            }
+        }
+
+        // Only chunked downloads need the headers in advance
+        HttpURLConnection headConnection = null;
+        if (isHttpUrl(url) && this.parallelChunks > 1) {
+            headConnection = openHeadConnection(url, proxy, timeoutMS, trustAll, sslSocketFactory, cookieString);
+        }
+
+        // Resume a former incomplete download of the same URL, as long as the server's validator matches
+        long offset = 0;
+        File resolvedTargetFile = resolveTargetFile(url, targetFile, headConnection);
+        File resumablePartFile = getPartFile(resolvedTargetFile);
+        String validator = readPartValidator(resumablePartFile, url);
+        if (validator != null) {
+            offset = resumablePartFile.length();
+        }
+        if (offset > 0 || headConnection != null) {
+            targetFile = resolvedTargetFile;
+        }
+
+        if (offset == 0 && this.parallelChunks > 1 && headConnection != null) {
+            String path = downloadChunked(url, targetFile, headConnection, proxy, timeoutMS, trustAll, sslSocketFactory, cookieString);
+            if (path != null) {
+                return this.finishDownload(url, new File(path), cacheKey);
+            }
+        }
+
         URLConnection connection = openConnection(url, proxy, timeoutMS, trustAll, cookieString, sslSocketFactory);
-        if (connection instanceof HttpURLConnection) {
-            targetFileName = readFileNameFromConnection((HttpURLConnection) connection);
+
+        if (offset > 0 && connection instanceof HttpURLConnection) {
+            HttpURLConnection httpConnection = (HttpURLConnection) connection;
+            httpConnection.setRequestProperty("Range", "bytes=" + offset + "-");
+            // The server responds the whole file, when it has been changed
+            httpConnection.setRequestProperty("If-Range", validator);
+            if (!isRangeResponse(httpConnection, offset)) {
+                log().info("Unable to resume, restart download of " + url);
+                if (httpConnection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                    httpConnection.disconnect();
+                    connection = openConnection(url, proxy, timeoutMS, trustAll, cookieString, sslSocketFactory);
+                }
+                offset = 0;
+            }
         }
+
         InputStream inputStream = connection.getInputStream();
 
-        if (targetFile == null) {
-            if (targetFileName.isEmpty()) {
-                targetFileName = FilenameUtils.getBaseName(url.getPath());
+        targetFile = resolveTargetFile(url, targetFile, connection);
+        File partFile = getPartFile(targetFile);
+        if (offset > 0) {
+            log().info(String.format("Resume download of %s at %d bytes", url, offset));
+        }
+
+        Lock lock = TARGET_FILE_LOCKS.get(targetFile.getAbsolutePath());
+        lock.lock();
+        try (ReadableByteChannel source = Channels.newChannel(inputStream)) {
+            Files.createDirectories(partFile.getAbsoluteFile().getParentFile().toPath());
+            writePartInfo(partFile, url, connection);
+            try (FileChannel target = openPartFile(partFile, offset > 0)) {
+                long position = offset;
+                long transferred;
+                while ((transferred = target.transferFrom(source, position, TRANSFER_SIZE)) > 0) {
+                    position += transferred;
+                }
+                long contentLength = connection.getContentLengthLong();
+                if (contentLength >= 0 && position != offset + contentLength) {
+                    throw new IOException(String.format("Incomplete download of %s: %d of %d bytes", url, position - offset, contentLength));
+                }
             }
-            targetFile = FileUtils.getFile(this.getDownloadLocation() + "/" + targetFileName);
+            Files.move(partFile.toPath(), targetFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            Files.deleteIfExists(getPartInfoFile(partFile).toPath());
+        } finally {
+            lock.unlock();
         }
 
+        return this.finishDownload(url, targetFile, cacheKey);
+    }
+
+    private String finishDownload(URL url, File targetFile, String cacheKey) throws IOException {
         log().info("Downloaded " + url + " to " + targetFile.getAbsolutePath());
+        downloadList.add(targetFile.getAbsolutePath());
+        if (this.cacheActive) {
+            DownloadCache.put(cacheKey, targetFile);
+        }
+        return targetFile.getAbsolutePath();
+    }
 
-        FileUtils.copyInputStreamToFile(inputStream, targetFile);
+    /**
+     * Requests the headers of the file.
+     *
+     * @return The finished connection or NULL, if the server doesn't respond the headers.
+     */
+    private HttpURLConnection openHeadConnection(
+            URL url,
+            Proxy proxy,
+            int timeoutMS,
+            boolean trustAll,
+            SSLSocketFactory sslSocketFactory,
+            String cookieString
+    ) {
+        HttpURLConnection headConnection = null;
+        try {
+            headConnection = (HttpURLConnection) openConnection(url, proxy, timeoutMS, trustAll, cookieString, sslSocketFactory);
+            headConnection.setRequestMethod("HEAD");
+            if (headConnection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                headConnection.disconnect();
+                return null;
+            }
+            // Returns the connection to the keep-alive cache, the headers remain readable
+            headConnection.getInputStream().close();
+            return headConnection;
+        } catch (IOException e) {
+            log().debug("Unable to request the headers of " + url, e);
+            if (headConnection != null) {
+                headConnection.disconnect();
+            }
+            return null;
+        }
+    }
 
-        synchronized (downloadList) {
-            downloadList.add(targetFile.getAbsolutePath());
+    /**
+     * Downloads the file in parallel range requests, when the server accepts ranges and the file is large enough.
+     *
+     * @return The absolute path of the downloaded file or NULL, if the file should be downloaded in one request.
+     */
+    private String downloadChunked(
+            URL url,
+            File targetFile,
+            HttpURLConnection headConnection,
+            Proxy proxy,
+            int timeoutMS,
+            boolean trustAll,
+            SSLSocketFactory sslSocketFactory,
+            String cookieString
+    ) throws IOException {
+        if (!"bytes".equalsIgnoreCase(headConnection.getHeaderField("Accept-Ranges"))) {
+            return null;
+        }
+        long contentLength = headConnection.getContentLengthLong();
+
+        int chunks = (int) Math.min(this.parallelChunks, contentLength / MIN_CHUNK_SIZE);
+        if (chunks < 2) {
+            return null;
+        }
+
+        log().info(String.format("Download %d bytes of %s in %d chunks", contentLength, url, chunks));
+        File partFile = getPartFile(targetFile);
+        downloadList.add(partFile.getAbsolutePath());
+
+        Lock lock = TARGET_FILE_LOCKS.get(targetFile.getAbsolutePath());
+        lock.lock();
+        try {
+            Files.createDirectories(partFile.getAbsoluteFile().getParentFile().toPath());
+            try (FileChannel target = openPartFile(partFile, false)) {
+                // Allocate the whole file, since channels don't transfer beyond their current size
+                target.write(ByteBuffer.allocate(1), contentLength - 1);
+                List<CompletableFuture<Void>> futures = new ArrayList<>();
+                for (int i = 0; i < chunks; i++) {
+                    long start = contentLength * i / chunks;
+                    long end = contentLength * (i + 1) / chunks - 1;
+                    futures.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            downloadRange(url, target, start, end, proxy, timeoutMS, trustAll, sslSocketFactory, cookieString);
+                        } catch (IOException e) {
+                            throw new CompletionException(e);
+                        }
+                    }, ExecutorHolder.CHUNK_EXECUTOR));
+                }
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+            } catch (CompletionException e) {
+                // A partial chunked download can't be resumed
+                Files.deleteIfExists(partFile.toPath());
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw e;
+            }
+            Files.move(partFile.toPath(), targetFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            lock.unlock();
         }
         return targetFile.getAbsolutePath();
     }
 
+    private void downloadRange(
+            URL url,
+            FileChannel target,
+            long start,
+            long end,
+            Proxy proxy,
+            int timeoutMS,
+            boolean trustAll,
+            SSLSocketFactory sslSocketFactory,
+            String cookieString
+    ) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) openConnection(url, proxy, timeoutMS, trustAll, cookieString, sslSocketFactory);
+        connection.setRequestProperty("Range", "bytes=" + start + "-" + end);
+        if (!isRangeResponse(connection, start)) {
+            connection.disconnect();
+            throw new IOException(String.format("Server doesn't respond range %d-%d of %s", start, end, url));
+        }
+        try (ReadableByteChannel source = Channels.newChannel(connection.getInputStream())) {
+            long position = start;
+            while (position <= end) {
+                long transferred = target.transferFrom(source, position, end - position + 1);
+                if (transferred <= 0) {
+                    throw new IOException(String.format("Incomplete range %d-%d of %s", start, end, url));
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    private static boolean isRangeResponse(HttpURLConnection connection, long start) throws IOException {
+        String contentRange = connection.getHeaderField("Content-Range");
+        return connection.getResponseCode() == HttpURLConnection.HTTP_PARTIAL
+                && contentRange != null
+                && contentRange.startsWith("bytes " + start + "-");
+    }
+
+    private File resolveTargetFile(URL url, File targetFile, URLConnection connection) {
+        if (targetFile != null) {
+            return targetFile;
+        }
+        String targetFileName = "";
+        if (connection instanceof HttpURLConnection) {
+            targetFileName = readFileNameFromConnection((HttpURLConnection) connection);
+        }
+        if (targetFileName.isEmpty()) {
+            targetFileName = FilenameUtils.getBaseName(url.getPath());
+        }
+        return FileUtils.getFile(this.getDownloadLocation() + "/" + targetFileName);
+    }
+
+    private static File getPartFile(File targetFile) {
+        return new File(targetFile.getAbsolutePath() + PART_FILE_SUFFIX);
+    }
+
+    private static File getPartInfoFile(File partFile) {
+        String partPath = partFile.getAbsolutePath();
+        return new File(partPath.substring(0, partPath.length() - PART_FILE_SUFFIX.length()) + PART_INFO_FILE_SUFFIX);
+    }
+
+    /**
+     * @return The validator of the response the part file has been downloaded from,
+     * or NULL if the part file can't be resumed for the given URL
+     */
+    private String readPartValidator(File partFile, URL url) {
+        File partInfoFile = getPartInfoFile(partFile);
+        if (partFile.length() == 0 || !partInfoFile.exists()) {
+            return null;
+        }
+        Properties partInfo = new Properties();
+        try (InputStream inputStream = Files.newInputStream(partInfoFile.toPath())) {
+            partInfo.load(inputStream);
+        } catch (IOException e) {
+            log().debug("Unable to read " + partInfoFile, e);
+            return null;
+        }
+        String validator = partInfo.getProperty(PART_INFO_VALIDATOR, "");
+        if (!url.toString().equals(partInfo.getProperty(PART_INFO_URL)) || validator.isEmpty()) {
+            return null;
+        }
+        return validator;
+    }
+
+    /**
+     * Stores the URL and the strong validator of the response next to the part file for resuming it.
+     * Without a validator, the part file can't be resumed.
+     */
+    private void writePartInfo(File partFile, URL url, URLConnection connection) throws IOException {
+        File partInfoFile = getPartInfoFile(partFile);
+        String validator = connection.getHeaderField("ETag");
+        if (validator == null || validator.startsWith("W/")) {
+            validator = connection.getHeaderField("Last-Modified");
+        }
+        downloadList.add(partFile.getAbsolutePath());
+        downloadList.add(partInfoFile.getAbsolutePath());
+        if (validator == null) {
+            Files.deleteIfExists(partInfoFile.toPath());
+            return;
+        }
+        Properties partInfo = new Properties();
+        partInfo.setProperty(PART_INFO_URL, url.toString());
+        partInfo.setProperty(PART_INFO_VALIDATOR, validator);
+        try (OutputStream outputStream = Files.newOutputStream(partInfoFile.toPath())) {
+            partInfo.store(outputStream, null);
+        }
+    }
+
+    private static FileChannel openPartFile(File partFile, boolean append) throws IOException {
+        if (append) {
+            return FileChannel.open(partFile.toPath(), StandardOpenOption.WRITE);
+        } else {
+            return FileChannel.open(partFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+    }
+
     private String readFileNameFromConnection(HttpURLConnection connection) {
         String fileName = "";
 
@@ -402,6 +844,10 @@ public class FileDownloader implements Loggable {
         return url.getProtocol().toLowerCase().equals("https");
     }
 
+    private static boolean isHttpUrl(final URL url) {
+        return url.getProtocol().toLowerCase().startsWith("http");
+    }
+
     /**
      * Ensure Location exists
      *
@@ -61,6 +61,8 @@ public final class JSUtils {
 
     private enum Snippet {
         HIGHLIGHT("snippets/highlight.js"),
+        AWAIT_DOM_MUTATION("snippets/awaitDomMutation.js"),
+        CHECK_ELEMENTS("snippets/checkElements.js"),
         ;
         private final String resourcePath;
         Snippet(String resourcePath) {
@@ -74,6 +76,9 @@ public final class JSUtils {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JSUtils.class);
 
+    private static String awaitDomMutationScript;
+    private static String checkElementsScript;
+
     /**
      * try to implement javascript on page
      *
@@ -154,6 +159,44 @@ public final class JSUtils {
         return javascriptExecutor.executeAsyncScript(script, parameters);
     }
 
+    /**
+     * Blocks until the DOM of the current document mutates or the timeout elapses.
+     * Mutations before minDelayInMs end the wait not earlier than minDelayInMs,
+     * which limits the polling rate on constantly changing pages.
+     *
+     * @param driver        .
+     * @param minDelayInMs  Minimum time to block
+     * @param timeoutInMs   Maximum time to block, should be lower than the script timeout
+     * @return TRUE when the DOM mutated, FALSE on timeout
+     */
+    public static boolean awaitDomMutation(final WebDriver driver, final long minDelayInMs, final long timeoutInMs) {
+        if (awaitDomMutationScript == null) {
+            awaitDomMutationScript = readSnippets(Snippet.AWAIT_DOM_MUTATION)
+                    + "\nttAwaitDomMutation(arguments[0], arguments[1], arguments[arguments.length - 1]);";
+        }
+        Object result = executeAsyncScript(driver, awaitDomMutationScript, minDelayInMs, timeoutInMs);
+        return Boolean.TRUE.equals(result);
+    }
+
+    /**
+     * Evaluates multiple locators of the current document in a single script execution.
+     * Every locator is a map like <code>{type: "css", value: "#id"}</code>
+     * where type is one of <code>css</code>, <code>xpath</code>, <code>id</code>, <code>name</code>, <code>className</code> or <code>tagName</code>.
+     *
+     * @param driver   .
+     * @param locators .
+     * @return For every locator a list of the number of found elements and if the first element is displayed.
+     * The number is -1 when the locator could not be evaluated.
+     */
+    @SuppressWarnings("unchecked")
+    public static List<List<Object>> checkElements(final WebDriver driver, final List<Map<String, String>> locators) {
+        if (checkElementsScript == null) {
+            checkElementsScript = readSnippets(Snippet.CHECK_ELEMENTS)
+                    + "\nreturn ttCheckElements(arguments[0]);";
+        }
+        return (List<List<Object>>) executeScriptWOCatch(driver, checkElementsScript, locators);
+    }
+
     /**
      * Try to execute javascript. If an error occurs it will be thrown.
      *
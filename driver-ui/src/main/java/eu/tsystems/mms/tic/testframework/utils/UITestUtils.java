@@ -26,6 +26,7 @@ import eu.tsystems.mms.tic.testframework.common.PropertyManager;
 import eu.tsystems.mms.tic.testframework.constants.Browsers;
 import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
 import eu.tsystems.mms.tic.testframework.internal.Flags;
+import eu.tsystems.mms.tic.testframework.report.EvidencePipeline;
 import eu.tsystems.mms.tic.testframework.report.Report;
 import eu.tsystems.mms.tic.testframework.report.TesterraListener;
 import eu.tsystems.mms.tic.testframework.report.model.context.MethodContext;
@@ -48,9 +49,9 @@ import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -90,7 +91,8 @@ public class UITestUtils {
     }
 
     public static Screenshot takeScreenshot(final WebDriver driver, boolean intoReport) {
-        Screenshot screenshot = takeScreenshot(driver, driver.getWindowHandle());
+        String windowHandle = driver.getWindowHandle();
+        Screenshot screenshot = takeScreenshot(driver, windowHandle, windowHandle, driver.getWindowHandles());
 
         if (intoReport) {
             if (screenshot != null) {
@@ -103,7 +105,14 @@ public class UITestUtils {
         return screenshot;
     }
 
-    private static Screenshot takeScreenshot(WebDriver eventFiringWebDriver, String originalWindowHandle) {
+    /**
+     * Captures the screenshot, page source and browser meta data in the current thread.
+     * The files are written and added to the report by the {@link EvidencePipeline}.
+     *
+     * @param windowHandle The current window handle of the driver
+     * @param windowHandles All window handles of the driver
+     */
+    private static Screenshot takeScreenshot(WebDriver eventFiringWebDriver, String originalWindowHandle, String windowHandle, Set<String> windowHandles) {
 
         Optional<SessionContext> sessionContext = WebDriverSessionsManager.getSessionContext(eventFiringWebDriver);
 
@@ -118,37 +127,22 @@ public class UITestUtils {
         if (eventFiringWebDriver != null) {
             try {
                 Screenshot screenshot = new Screenshot();
-                takeWebDriverScreenshotToFile(eventFiringWebDriver, screenshot.getScreenshotFile());
+                Optional<byte[]> screenshotBytes = takeWebDriverScreenshot(eventFiringWebDriver);
 
                 // get page source (webdriver)
                 String pageSource = eventFiringWebDriver.getPageSource();
 
                 if (pageSource == null) {
                     LOGGER.error("getPageSource() returned nothing, skipping to add page source");
-                } else {
-
-                    // save page source to file
-                    savePageSource(pageSource, screenshot.createPageSourceFile());
                 }
 
-                Report report = TesterraListener.getReport();
-                report.addScreenshot(screenshot, Report.FileMode.MOVE);
-
                 Map<String, String> metaData = screenshot.getMetaData();
-
-                /*
-                get infos
-                 */
-                sessionContext.flatMap(SessionContext::getRemoteSessionId).ifPresent(s -> metaData.put(Screenshot.MetaData.REMOTE_SESSION_ID, s));
-                sessionContext.map(SessionContext::getSessionKey).ifPresent(s -> metaData.put(Screenshot.MetaData.SESSION_KEY, s));
-                sessionContext.map(SessionContext::getId).ifPresent(s -> metaData.put(Screenshot.MetaData.SESSION_CONTEXT_ID, s));
                 metaData.put(Screenshot.MetaData.TITLE, eventFiringWebDriver.getTitle());
 
                 /*
                 window and focus infos
                  */
                 String window = "";
-                String windowHandle = eventFiringWebDriver.getWindowHandle();
                 if (originalWindowHandle != null) {
                     if (windowHandle.equals(originalWindowHandle)) {
                         metaData.put(Screenshot.MetaData.DRIVER_FOCUS, "true");
@@ -156,7 +150,6 @@ public class UITestUtils {
                         metaData.put(Screenshot.MetaData.DRIVER_FOCUS, "false");
                     }
                 }
-                Set<String> windowHandles = eventFiringWebDriver.getWindowHandles();
                 if (windowHandles.size() < 2) {
                     window = "#1/1";
                 } else {
@@ -172,6 +165,14 @@ public class UITestUtils {
                 metaData.put(Screenshot.MetaData.WINDOW, window);
                 metaData.put(Screenshot.MetaData.URL, currentUrl);
 
+                sessionContext.flatMap(SessionContext::getRemoteSessionId).ifPresent(s -> metaData.put(Screenshot.MetaData.REMOTE_SESSION_ID, s));
+                sessionContext.map(SessionContext::getSessionKey).ifPresent(s -> metaData.put(Screenshot.MetaData.SESSION_KEY, s));
+                sessionContext.map(SessionContext::getId).ifPresent(s -> metaData.put(Screenshot.MetaData.SESSION_CONTEXT_ID, s));
+
+                File screenshotFile = screenshot.getScreenshotFile();
+                File pageSourceFile = (pageSource != null) ? screenshot.createPageSourceFile() : null;
+
+                screenshot.setProcessing(EvidencePipeline.submit(() -> persistScreenshot(screenshot, screenshotBytes.orElse(null), screenshotFile, pageSource, pageSourceFile)));
                 return screenshot;
 
             } catch (final Exception e) {
@@ -184,7 +185,26 @@ public class UITestUtils {
         return null;
     }
 
+    /**
+     * Writes the captured data to the screenshot files and moves them into the report.
+     */
+    private static void persistScreenshot(Screenshot screenshot, byte[] screenshotBytes, File screenshotFile, String pageSource, File pageSourceFile) {
+        if (screenshotBytes != null) {
+            writeFile(screenshotBytes, screenshotFile);
+        }
+        if (pageSource != null) {
+            writeFile(pageSource.getBytes(StandardCharsets.UTF_8), pageSourceFile);
+        }
+
+        Report report = TesterraListener.getReport();
+        report.addScreenshot(screenshot, Report.FileMode.MOVE);
+    }
+
     public static void takeWebDriverScreenshotToFile(WebDriver eventFiringWebDriver, File screenShotTargetFile) {
+        takeWebDriverScreenshot(eventFiringWebDriver).ifPresent(bytes -> writeFile(bytes, screenShotTargetFile));
+    }
+
+    private static Optional<byte[]> takeWebDriverScreenshot(WebDriver eventFiringWebDriver) {
         WebDriver driver;
         if (eventFiringWebDriver instanceof EventFiringWebDriver) {
             driver = ((EventFiringWebDriver) eventFiringWebDriver).getWrappedDriver();
@@ -203,20 +223,19 @@ public class UITestUtils {
 
             if (viewport.height > IE_SCREENSHOT_LIMIT) {
                 LOGGER.warn("IE: Not taking screenshot because screen size is larger than height limit of " + IE_SCREENSHOT_LIMIT);
-                return;
+                return Optional.empty();
             }
         }
 
         // take screenshot
-        makeSimpleScreenshot(driver, screenShotTargetFile);
+        return Optional.of(((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
     }
 
-    private static void makeSimpleScreenshot(WebDriver driver, File screenShotTargetFile) {
-        File file = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
+    private static void writeFile(byte[] bytes, File targetFile) {
         try {
-            FileUtils.moveFile(file, screenShotTargetFile);
+            Files.write(targetFile.toPath(), bytes);
         } catch (IOException e) {
-            LOGGER.error("Error moving screenshot: " + e.getLocalizedMessage());
+            LOGGER.error("Error writing " + targetFile + ": " + e.getLocalizedMessage());
         }
     }
 
@@ -237,26 +256,6 @@ public class UITestUtils {
         }
     }
 
-    /**
-     * Save page source to file.
-     *
-     * @param pageSource page source.
-     * @param sourceTargetFile target file.
-     */
-    private static void savePageSource(final String pageSource, final File sourceTargetFile) {
-        try {
-            final FileOutputStream fos = new FileOutputStream(sourceTargetFile);
-            OutputStreamWriter outputStreamWriter = new OutputStreamWriter(fos, "UTF-8");
-            outputStreamWriter.write(pageSource);
-            outputStreamWriter.close();
-        } catch (final FileNotFoundException ex) {
-            LoggerFactory.getLogger(UITestUtils.class).warn(
-                    ("PageSource file could not be written to file system: " + ex.toString()));
-        } catch (final IOException ioe) {
-            LoggerFactory.getLogger(UITestUtils.class).warn(ioe.toString());
-        }
-    }
-
     public static void takeScreenshot(ScreenRegion screenRegion) {
         if (screenRegion != null) {
             LOGGER.info("Taking screenshot from desktop");
@@ -290,7 +289,7 @@ public class UITestUtils {
                 // switch to
                 try {
                     webDriver.switchTo().window(windowHandle);
-                    Screenshot screenshot = takeScreenshot(webDriver, originalWindowHandle);
+                    Screenshot screenshot = takeScreenshot(webDriver, originalWindowHandle, windowHandle, windowHandles);
                     if (screenshot != null) {
                         screenshots.add(screenshot);
                     }
@@ -301,7 +300,7 @@ public class UITestUtils {
             // Switch back to original window handle
             webDriver.switchTo().window(originalWindowHandle);
         } else {
-            Screenshot screenshot = takeScreenshot(webDriver, originalWindowHandle);
+            Screenshot screenshot = takeScreenshot(webDriver, originalWindowHandle, originalWindowHandle, windowHandles);
             if (screenshot != null) {
                 screenshots.add(screenshot);
             }
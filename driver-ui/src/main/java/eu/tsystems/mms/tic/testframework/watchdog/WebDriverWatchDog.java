@@ -22,212 +22,163 @@
 
 package eu.tsystems.mms.tic.testframework.watchdog;
 
-import eu.tsystems.mms.tic.testframework.events.ExecutionAbortEvent;
-import eu.tsystems.mms.tic.testframework.report.TesterraListener;
-import eu.tsystems.mms.tic.testframework.utils.SecUtils;
 import eu.tsystems.mms.tic.testframework.webdrivermanager.TimingConstants;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Tracks the deadline of every running WebDriver command and aborts the commands that exceed it.
+ * Only overdue commands are inspected, the command and its session are aborted, the JVM keeps running.
+ * Commands are registered by the HTTP client of the WebDriver sessions via {@link #watch(String, String, Runnable)}.
+ */
 public final class WebDriverWatchDog {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WebDriverWatchDog.class);
 
-    private static class WatchDogThread extends Thread {
+    /**
+     * Remote session ids of sessions with aborted commands
+     */
+    private static final Set<String> ABORTED_SESSIONS = ConcurrentHashMap.newKeySet();
 
-        private boolean stop = false;
+    private static volatile ScheduledThreadPoolExecutor scheduler;
 
-        private final WatchDogRunnable watchDogRunnable;
+    /**
+     * A running command, which needs to be closed when the command has finished.
+     */
+    public static final class WatchedCommand implements AutoCloseable {
+        private final String sessionId;
+        private final String command;
+        private final Thread thread;
+        private final Runnable abortAction;
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private ScheduledFuture<?> announcement;
+        private ScheduledFuture<?> deadline;
+
+        private WatchedCommand(String sessionId, String command, Runnable abortAction) {
+            this.sessionId = sessionId;
+            this.command = command;
+            this.thread = Thread.currentThread();
+            this.abortAction = abortAction;
+        }
 
-        public WatchDogThread(WatchDogRunnable target) {
-            super(target);
-            this.watchDogRunnable = target;
+        private void announce() {
+            if (!finished.get()) {
+                LOGGER.warn(String.format(
+                        "(%d/%d s) hanging a while now: %s",
+                        TimingConstants.WATCHDOG_FIRST_ANNOUNCEMENT_SECONDS,
+                        TimingConstants.WEBDRIVER_COMMAND_TIMEOUT_SECONDS,
+                        this
+                ));
+            }
         }
 
-        private void stopWatchDog() throws InterruptedException {
-            watchDogRunnable.stop();
-            stop = true;
+        private void abort() {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            Throwable stackTrace = new Throwable("Stacktrace of " + thread.getName());
+            stackTrace.setStackTrace(thread.getStackTrace());
+            LOGGER.error(String.format(
+                    "Aborting stuck WebDriver command after %d s: %s\nThe reason could be a stuck basic auth window, have a look at the browser!",
+                    TimingConstants.WEBDRIVER_COMMAND_TIMEOUT_SECONDS,
+                    this
+            ), stackTrace);
+            if (sessionId != null) {
+                ABORTED_SESSIONS.add(sessionId);
+            }
+            try {
+                abortAction.run();
+            } catch (Exception e) {
+                LOGGER.error("Unable to abort command: " + this, e);
+            }
+        }
 
-            // dont join, its not bad when it ends with the whole process
-            //            join(THREAD_JOIN_TIMEOUT_MS);
+        @Override
+        public void close() {
+            finished.set(true);
+            if (announcement != null) {
+                announcement.cancel(false);
+            }
+            if (deadline != null) {
+                deadline.cancel(false);
+            }
         }
 
-        public boolean isStop() {
-            return stop;
+        @Override
+        public String toString() {
+            return String.format("%s (session=%s, thread=%s)", command, sessionId, thread.getName());
         }
     }
 
+    private WebDriverWatchDog() {
+    }
+
     /**
-     * threadId + threadName = nrOfIntervalsAlive
+     * Starts watching a command of the current thread. Does nothing if the watchdog is not started.
+     *
+     * @param sessionId Remote session id of the command, if any
+     * @param abortAction Aborts the command in the calling thread
      */
-    private static final Map<String, Integer> ACTIVE_FORWARDS = new HashMap<String, Integer>();
-
-    private static class WatchDogRunnable implements Runnable {
-
-        private boolean stop = false;
-
-        private void stop() throws InterruptedException {
-            stop = true;
-        }
-
-        private boolean isStop() {
-            return stop;
-        }
-
-        @Override
-        public void run() {
-            LOGGER.info("Started");
-            while (!isStop()) {
-                final Map<Thread, StackTraceElement[]> allStackTraces = Thread.getAllStackTraces();
-                final List<String> actualThreads = new ArrayList<String>();
-                for (Thread thread : allStackTraces.keySet()) {
-                    final String name = thread.getName();
-
-                    /*
-                    Check selenium sessions "Forwarding" that do a socket read (i think they all do) for more that the
-                    specified time. Close them if they are in the timeout.
-                     */
-                    if (name != null && name.startsWith("Forwarding")) {
-                        final StackTraceElement[] stackTrace = thread.getStackTrace();
-                        if (stackTrace != null && stackTrace.length > 0) {
-                            final StackTraceElement stackTraceElement = stackTrace[0];
-                            if (stackTraceElement.toString().contains("java.net.SocketInputStream.socketRead0")) {
-                                final long threadId = thread.getId();
-
-                                /*
-                                get readable stacktrace
-                                 */
-                                String readableStacktrace = "";
-                                for (StackTraceElement traceElement : stackTrace) {
-                                    readableStacktrace += traceElement.toString() + "\n";
-                                }
-
-                                /*
-                                hash the fingerprint
-                                 */
-                                String stackTraceFingerprint = SecUtils.hash(readableStacktrace);
-
-                                /*
-                                Fingerprint
-                                 */
-                                final String key = "Thread " + threadId + ": " + name + " (" + stackTraceFingerprint + ")";
-
-                                /*
-                                add to actual thread list of found treads
-                                 */
-                                actualThreads.add(key);
-
-                                /*
-                                update map for this thread
-                                */
-                                int newCount = 1;
-                                if (ACTIVE_FORWARDS.containsKey(key)) {
-                                    newCount = ACTIVE_FORWARDS.get(key) + 1;
-                                }
-                                ACTIVE_FORWARDS.put(key, newCount);
-
-                                final int passedSeconds = newCount * TimingConstants.WATCHDOG_THREAD_POLL_INTERVAL_SECONDS;
-
-                                if (passedSeconds > TimingConstants.WATCHDOG_FIRST_ANNOUNCEMENT_SECONDS) {
-                                    LOGGER.warn("(" + passedSeconds + "/" + TimingConstants.WEBDRIVER_COMMAND_TIMEOUT_SECONDS +
-                                            " s) hanging a while now: " + key);
-                                }
-
-                                /*
-                                Check for max interval
-                                 */
-                                if (passedSeconds > TimingConstants.WATCHDOG_THREAD_HANGING_TIMEOUT_SECONDS) {
-
-                                    LOGGER.error("Hung thread, awaiting safe stop: " + key);
-
-                                    if (passedSeconds > TimingConstants.WATCHDOG_FORCE_QUIT_TIMEOUT_SECONDS) {
-                                        /*
-                                        Generate Report and give up
-                                         */
-                                        try {
-                                            //ReportInfo.getDashboardWarning().addInfo(0, "Watchdog stopped the test");
-                                            TesterraListener.getEventBus().post(new ExecutionAbortEvent());
-                                        } finally {
-                                            System.err.println("Causing stacktrace on thread " + threadId + ":\n" + readableStacktrace);
-                                            System.err.println("\n" +
-                                                    "\n" +
-                                                    "!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\n" +
-                                                    "\n" +
-                                                    "STUCK SELENIUM COMMAND: " + key + "\n" +
-                                                    "\n" +
-                                                    "No chance to recover from that. \n" +
-                                                    "\n" +
-                                                    "The reason could be a stuck basic auth window, have a look at the browser!\n" +
-                                                    "The browser windows used are still open.\n" +
-                                                    "\n" +
-                                                    "Exiting without parachute, system.exit..............................\n" +
-                                                    "\n" +
-                                                    "!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\n" +
-                                                    "\n");
-                                            System.exit(99);
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
-
-                /*
-                Remove old threads from list
-                 */
-                List<String> toRemove = new ArrayList<String>();
-                for (String key : ACTIVE_FORWARDS.keySet()) {
-                    if (!actualThreads.contains(key)) {
-                        toRemove.add(key);
-                    }
-                }
-                for (String key : toRemove) {
-                    LOGGER.debug("Session gone: " + key);
-                    ACTIVE_FORWARDS.remove(key);
-                }
-
-                try {
-                    Thread.sleep(TimingConstants.WATCHDOG_THREAD_POLL_INTERVAL_SECONDS * 1000);
-                } catch (InterruptedException e) {
-                    LOGGER.error("Interrupted", e);
-                }
+    public static WatchedCommand watch(String sessionId, String command, Runnable abortAction) {
+        WatchedCommand watchedCommand = new WatchedCommand(sessionId, command, abortAction);
+        ScheduledThreadPoolExecutor currentScheduler = scheduler;
+        if (currentScheduler != null) {
+            try {
+                watchedCommand.announcement = currentScheduler.schedule(watchedCommand::announce, TimingConstants.WATCHDOG_FIRST_ANNOUNCEMENT_SECONDS, TimeUnit.SECONDS);
+                watchedCommand.deadline = currentScheduler.schedule(watchedCommand::abort, TimingConstants.WEBDRIVER_COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (RejectedExecutionException e) {
+                LOGGER.trace("Watchdog stopped");
             }
         }
+        return watchedCommand;
     }
 
-    private static final WatchDogThread WATCH_DOG_THREAD = new WatchDogThread(new WatchDogRunnable());
+    /**
+     * @return TRUE if a command of the session has been aborted, the session should not be used anymore
+     */
+    public static boolean isSessionAborted(String sessionId) {
+        return ABORTED_SESSIONS.contains(sessionId);
+    }
 
-    private static boolean started = false;
+    /**
+     * Called when an aborted session has been quit.
+     */
+    public static void forgetSession(String sessionId) {
+        ABORTED_SESSIONS.remove(sessionId);
+    }
 
-    public static void start() {
-        if (started) {
+    public static synchronized void start() {
+        if (scheduler != null) {
             return;
         }
 
-        started = true;
-
         LOGGER.debug("Starting...");
-        WATCH_DOG_THREAD.start();
+        scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "Testerra WatchDog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Finished commands must not pile up in the queue
+        scheduler.setRemoveOnCancelPolicy(true);
+        LOGGER.info("Started");
     }
 
-    public static void stop() {
-        if (!started) {
+    public static synchronized void stop() {
+        if (scheduler == null) {
             return;
         }
 
-        try {
-            LOGGER.debug("Stopping...");
-            WATCH_DOG_THREAD.stopWatchDog();
-            LOGGER.debug("Stopped");
-        } catch (InterruptedException e) {
-            LOGGER.error("Unable to stop", e);
-        }
-        started = false;
+        LOGGER.debug("Stopping...");
+        scheduler.shutdownNow();
+        scheduler = null;
+        LOGGER.debug("Stopped");
     }
 
 }
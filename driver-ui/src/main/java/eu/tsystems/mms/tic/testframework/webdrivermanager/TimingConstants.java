@@ -30,11 +30,23 @@ public final class TimingConstants {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TimingConstants.class);
 
+    /**
+     * @deprecated The watchdog does not poll anymore
+     */
+    @Deprecated
     public static final int WATCHDOG_THREAD_POLL_INTERVAL_SECONDS = 10;
 
     public static final int WEBDRIVER_COMMAND_TIMEOUT_SECONDS = PropertyManager.getIntProperty(TesterraProperties.WATCHDOG_TIMEOUT_SECONDS, 6 * 60);
     public static final int WATCHDOG_FIRST_ANNOUNCEMENT_SECONDS; // calculated
+    /**
+     * @deprecated Commands are aborted after {@link #WEBDRIVER_COMMAND_TIMEOUT_SECONDS}
+     */
+    @Deprecated
     public static final int WATCHDOG_THREAD_HANGING_TIMEOUT_SECONDS; // calculated
+    /**
+     * @deprecated The watchdog does not quit the JVM anymore
+     */
+    @Deprecated
     public static final int WATCHDOG_FORCE_QUIT_TIMEOUT_SECONDS; // calculated
 
     private TimingConstants() {
@@ -52,9 +64,8 @@ public final class TimingConstants {
         WATCHDOG_FORCE_QUIT_TIMEOUT_SECONDS = WEBDRIVER_COMMAND_TIMEOUT_SECONDS + 60; // + 1 min
 
         LOGGER.info("WatchDog Timings:" +
-                "\n FlagUp:    " + WATCHDOG_THREAD_HANGING_TIMEOUT_SECONDS + "s" +
-                "\n SelfStop:  " + WEBDRIVER_COMMAND_TIMEOUT_SECONDS + "s" +
-                "\n ForceQuit: " + WATCHDOG_FORCE_QUIT_TIMEOUT_SECONDS + "s");
+                "\n Announce: " + WATCHDOG_FIRST_ANNOUNCEMENT_SECONDS + "s" +
+                "\n Abort:    " + WEBDRIVER_COMMAND_TIMEOUT_SECONDS + "s");
     }
 
 }
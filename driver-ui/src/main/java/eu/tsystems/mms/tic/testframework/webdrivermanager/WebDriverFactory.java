@@ -21,11 +21,15 @@
  */
  package eu.tsystems.mms.tic.testframework.webdrivermanager;
 
+import eu.tsystems.mms.tic.testframework.exceptions.SystemException;
 import eu.tsystems.mms.tic.testframework.logging.Loggable;
 import eu.tsystems.mms.tic.testframework.report.model.context.SessionContext;
 import eu.tsystems.mms.tic.testframework.report.utils.ExecutionContextController;
 import eu.tsystems.mms.tic.testframework.useragents.BrowserInformation;
 import eu.tsystems.mms.tic.testframework.utils.ObjectUtils;
+import eu.tsystems.mms.tic.testframework.utils.WebDriverUtils;
+import java.net.URL;
+import java.util.Optional;
 import org.apache.commons.lang3.time.StopWatch;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.remote.DesiredCapabilities;
@@ -68,6 +72,79 @@ public abstract class WebDriverFactory<R extends AbstractWebDriverRequest> imple
         //tapOptions.setCapability("sessionKey", finalRequest.getSessionKey());
         preparedCaps.setCapability("tapOptions", tapOptions);
 
+        String poolKey = null;
+        if (WebDriverSessionPool.isActive()) {
+            poolKey = getPoolKey(finalRequest, preparedCaps);
+            Optional<EventFiringWebDriver> pooledWebDriver = WebDriverSessionPool.acquire(poolKey, sessionContext);
+
+            /*
+            refill the pool in background, the baseUrl is opened when the session gets acquired
+             */
+            DesiredCapabilities prewarmCaps = new DesiredCapabilities(preparedCaps);
+            R prewarmRequest = createPrewarmRequest(finalRequest);
+            WebDriverSessionPool.prewarm(
+                    poolKey,
+                    () -> new SessionContext(prewarmRequest),
+                    prewarmSessionContext -> {
+                        EventFiringWebDriver eventFiringWebDriver = startSession(prewarmRequest, new DesiredCapabilities(prewarmCaps), prewarmSessionContext);
+                        setupSession(eventFiringWebDriver, prewarmRequest);
+                        return eventFiringWebDriver;
+                    }
+            );
+
+            if (pooledWebDriver.isPresent()) {
+                EventFiringWebDriver eventFiringWebDriver = pooledWebDriver.get();
+                WebDriverSessionsManager.storeWebDriverSession(finalRequest, eventFiringWebDriver, sessionContext);
+                finalRequest.getBaseUrl().ifPresent(baseUrl -> {
+                    WebDriver lowestWebDriver = WebDriverUtils.getLowestWebDriver(eventFiringWebDriver);
+                    try {
+                        log().info("Opening baseUrl with pooled session: " + baseUrl);
+                        eu.tsystems.mms.tic.testframework.internal.StopWatch.startPageLoad(lowestWebDriver);
+                        lowestWebDriver.get(baseUrl.toString());
+                    } catch (Exception e) {
+                        log().error("Unable to open baseUrl", e);
+                    }
+                });
+                return eventFiringWebDriver;
+            }
+        }
+
+        EventFiringWebDriver eventFiringWebDriver = startSession(finalRequest, preparedCaps, sessionContext);
+
+        /*
+        store session
+         */
+        WebDriverSessionsManager.storeWebDriverSession(finalRequest, eventFiringWebDriver, sessionContext);
+        /*
+        finalize the session setup
+         */
+        setupSession(eventFiringWebDriver, finalRequest);
+
+        if (poolKey != null) {
+            WebDriverSessionPool.register(eventFiringWebDriver, poolKey, sessionContext);
+        }
+
+        return eventFiringWebDriver;
+    }
+
+    /**
+     * @return A copy of the request without baseUrl
+     */
+    @SuppressWarnings("unchecked")
+    private R createPrewarmRequest(R finalRequest) {
+        try {
+            R prewarmRequest = (R) finalRequest.clone();
+            prewarmRequest.setBaseUrl((URL) null);
+            return prewarmRequest;
+        } catch (CloneNotSupportedException e) {
+            throw new SystemException("Unable to copy " + finalRequest.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Starts a new session and wraps it for the framework, but does not store it.
+     */
+    private EventFiringWebDriver startSession(R finalRequest, DesiredCapabilities preparedCaps, SessionContext sessionContext) {
         /*
         create the web driver session
          */
@@ -111,18 +188,21 @@ public abstract class WebDriverFactory<R extends AbstractWebDriverRequest> imple
         } catch (Exception e) {
             log().error("Could not create proxy for raw webdriver", e);
         }
-        EventFiringWebDriver eventFiringWebDriver = wrapRawWebDriverWithEventFiringWebDriver(rawDriver);
-
-        /*
-        store session
-         */
-        WebDriverSessionsManager.storeWebDriverSession(finalRequest, eventFiringWebDriver, sessionContext);
-        /*
-        finalize the session setup
-         */
-        setupSession(eventFiringWebDriver, finalRequest);
+        return wrapRawWebDriverWithEventFiringWebDriver(rawDriver);
+    }
 
-        return eventFiringWebDriver;
+    /**
+     * Sessions are only reused for requests with the same pool key.
+     * Factories should add all request values, which affect the session but are not part of the capabilities.
+     */
+    protected String getPoolKey(R request, DesiredCapabilities desiredCapabilities) {
+        return String.format(
+                "%s:%s:%s:%s",
+                request.getBrowser(),
+                request.getBrowserVersion(),
+                request.getPlatformName().orElse(""),
+                desiredCapabilities.asMap()
+        );
     }
 
     /**
@@ -0,0 +1,397 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.webdrivermanager;
+
+import eu.tsystems.mms.tic.testframework.common.PropertyManager;
+import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
+import eu.tsystems.mms.tic.testframework.internal.Flags;
+import eu.tsystems.mms.tic.testframework.pageobjects.internal.core.WebElementCache;
+import eu.tsystems.mms.tic.testframework.report.model.context.SessionContext;
+import eu.tsystems.mms.tic.testframework.utils.WebDriverUtils;
+import eu.tsystems.mms.tic.testframework.watchdog.WebDriverWatchDog;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps WebDriver sessions with the same capabilities alive to hand them out to the next test method,
+ * instead of quitting and starting a new session for every method.
+ * Released sessions are reset in the background (windows, storage, cookies and URL) and health checked before reuse.
+ * Sessions are also started ahead of demand in the background.
+ */
+public final class WebDriverSessionPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebDriverSessionPool.class);
+
+    private static final Map<WebDriver, PooledSession> MANAGED_SESSIONS = new ConcurrentHashMap<>();
+    private static final Map<String, Deque<PooledSession>> IDLE_SESSIONS = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicInteger> STARTING_SESSIONS = new ConcurrentHashMap<>();
+    /**
+     * Incremented when the pool is cleared, sessions of older generations are never pooled again.
+     */
+    private static final AtomicLong GENERATION = new AtomicLong();
+    private static final AtomicBoolean EVICTION_SCHEDULED = new AtomicBoolean();
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder PREWARMED = new LongAdder();
+    private static final LongAdder EVICTED = new LongAdder();
+
+    private static final ThreadFactory THREAD_FACTORY = runnable -> {
+        Thread thread = new Thread(runnable, "Testerra Session Pool");
+        thread.setDaemon(true);
+        return thread;
+    };
+    /**
+     * Time {@link #clear()} waits for prewarming and resetting sessions
+     */
+    private static final long CLEAR_TIMEOUT_SECONDS = 30;
+    /**
+     * Sessions currently reset in background, which are quit by {@link #clear()} when the reset doesn't finish in time
+     */
+    private static final Set<PooledSession> RESETTING_SESSIONS = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The executors are replaced when the pool is cleared, because the pool can be used again afterwards.
+     */
+    private static volatile ExecutorService executor = Executors.newCachedThreadPool(THREAD_FACTORY);
+    private static volatile ScheduledExecutorService evictionExecutor = Executors.newSingleThreadScheduledExecutor(THREAD_FACTORY);
+
+    private static class PooledSession {
+        private final EventFiringWebDriver webDriver;
+        private final String poolKey;
+        private final long generation;
+        /**
+         * Keeps the information about the browser session, which are copied to the session context of every new user
+         */
+        private final SessionContext sessionInformation;
+        private volatile long idleSince;
+
+        private PooledSession(EventFiringWebDriver webDriver, String poolKey, long generation, SessionContext sessionInformation) {
+            this.webDriver = webDriver;
+            this.poolKey = poolKey;
+            this.generation = generation;
+            this.sessionInformation = sessionInformation;
+        }
+    }
+
+    private WebDriverSessionPool() {
+    }
+
+    public static boolean isActive() {
+        return PropertyManager.getBooleanProperty(TesterraProperties.WEBDRIVER_POOL_ACTIVE, false)
+                && !Flags.REUSE_DATAPROVIDER_DRIVER_BY_THREAD;
+    }
+
+    /**
+     * @return Maximum amount of idle sessions per capabilities
+     */
+    private static int getSize() {
+        return PropertyManager.getIntProperty(TesterraProperties.WEBDRIVER_POOL_SIZE, 2);
+    }
+
+    private static int getPrewarmCount() {
+        return Math.min(getSize(), PropertyManager.getIntProperty(TesterraProperties.WEBDRIVER_POOL_PREWARM, 1));
+    }
+
+    private static long getIdleTimeoutInMs() {
+        return PropertyManager.getLongProperty(TesterraProperties.WEBDRIVER_POOL_IDLE_TIMEOUT_SECONDS, 300) * 1000;
+    }
+
+    /**
+     * Hands out a healthy idle session.
+     *
+     * @param sessionContext Receives the information about the pooled browser session
+     */
+    static Optional<EventFiringWebDriver> acquire(String poolKey, SessionContext sessionContext) {
+        Deque<PooledSession> idleSessions = IDLE_SESSIONS.get(poolKey);
+        PooledSession pooledSession;
+        while (idleSessions != null && (pooledSession = idleSessions.pollFirst()) != null) {
+            if (isHealthy(pooledSession)) {
+                copySessionInformation(pooledSession.sessionInformation, sessionContext);
+                MANAGED_SESSIONS.put(pooledSession.webDriver, new PooledSession(pooledSession.webDriver, poolKey, pooledSession.generation, sessionContext));
+                WebElementCache.invalidate(pooledSession.webDriver);
+                HITS.increment();
+                LOGGER.info(String.format("Reusing pooled %s (sessionKey=%s)", pooledSession.webDriver.getWrappedDriver().getClass().getSimpleName(), sessionContext.getSessionKey()));
+                return Optional.of(pooledSession.webDriver);
+            }
+            LOGGER.warn("Discarding unhealthy pooled session");
+            quit(pooledSession);
+        }
+        MISSES.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Adds a new session to the pool management, so that it gets pooled when it's shut down.
+     */
+    static void register(EventFiringWebDriver webDriver, String poolKey, SessionContext sessionContext) {
+        MANAGED_SESSIONS.put(webDriver, new PooledSession(webDriver, poolKey, GENERATION.get(), sessionContext));
+    }
+
+    /**
+     * Starts new sessions in the background until the configured amount of idle sessions is reached.
+     *
+     * @param sessionStarter Starts and sets up a new session for the given session context
+     */
+    static void prewarm(String poolKey, Supplier<SessionContext> sessionContextSupplier, SessionStarter sessionStarter) {
+        AtomicInteger starting = STARTING_SESSIONS.computeIfAbsent(poolKey, key -> new AtomicInteger());
+        int prewarmCount = getPrewarmCount();
+        while (true) {
+            int current = starting.get();
+            if (current + getIdleCount(poolKey) >= prewarmCount) {
+                return;
+            }
+            if (starting.compareAndSet(current, current + 1)) {
+                break;
+            }
+        }
+        long generation = GENERATION.get();
+        try {
+            executor.execute(() -> {
+                try {
+                    SessionContext sessionInformation = sessionContextSupplier.get();
+                    EventFiringWebDriver webDriver = sessionStarter.start(sessionInformation);
+                    PREWARMED.increment();
+                    offer(new PooledSession(webDriver, poolKey, generation, sessionInformation));
+                } catch (Throwable throwable) {
+                    LOGGER.error("Unable to start pooled session", throwable);
+                } finally {
+                    starting.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The pool has been cleared in the meantime
+            starting.decrementAndGet();
+        }
+    }
+
+    @FunctionalInterface
+    interface SessionStarter {
+        EventFiringWebDriver start(SessionContext sessionContext);
+    }
+
+    /**
+     * @return TRUE if the session should be passed to {@link #release(WebDriver)} instead of being quit
+     */
+    static boolean isReleasable(WebDriver webDriver) {
+        PooledSession pooledSession = MANAGED_SESSIONS.get(webDriver);
+        return pooledSession != null
+                && pooledSession.generation == GENERATION.get()
+                && getIdleCount(pooledSession.poolKey) < getSize()
+                && !pooledSession.sessionInformation.getRemoteSessionId().map(WebDriverWatchDog::isSessionAborted).orElse(false)
+                && !WebDriverSessionsManager.isExclusiveSession(webDriver);
+    }
+
+    /**
+     * Resets the session in background and returns it to the pool, or quits it when the pool is full in the meantime.
+     * Must be called after the session has been completely removed from the session management,
+     * because it could be acquired by another thread right away.
+     */
+    static void release(WebDriver webDriver) {
+        PooledSession pooledSession = MANAGED_SESSIONS.get(webDriver);
+        if (pooledSession == null) {
+            WebDriverSessionsManager.quitWebDriverSession(webDriver);
+            return;
+        }
+        RESETTING_SESSIONS.add(pooledSession);
+        try {
+            executor.execute(() -> {
+                try {
+                    if (reset(pooledSession.webDriver)) {
+                        offer(pooledSession);
+                    } else {
+                        LOGGER.warn("Unable to reset session, it will not be pooled");
+                        quit(pooledSession);
+                    }
+                } finally {
+                    RESETTING_SESSIONS.remove(pooledSession);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The pool has been cleared in the meantime
+            RESETTING_SESSIONS.remove(pooledSession);
+            quit(pooledSession);
+        }
+    }
+
+    private static void offer(PooledSession pooledSession) {
+        Deque<PooledSession> idleSessions = IDLE_SESSIONS.computeIfAbsent(pooledSession.poolKey, key -> new ConcurrentLinkedDeque<>());
+        if (pooledSession.generation != GENERATION.get() || idleSessions.size() >= getSize()) {
+            quit(pooledSession);
+            return;
+        }
+        MANAGED_SESSIONS.put(pooledSession.webDriver, pooledSession);
+        pooledSession.idleSince = System.currentTimeMillis();
+        idleSessions.offerLast(pooledSession);
+        scheduleEviction();
+    }
+
+    private static int getIdleCount(String poolKey) {
+        Deque<PooledSession> idleSessions = IDLE_SESSIONS.get(poolKey);
+        return idleSessions == null ? 0 : idleSessions.size();
+    }
+
+    private static boolean isHealthy(PooledSession pooledSession) {
+        try {
+            return !WebDriverUtils.getLowestWebDriver(pooledSession.webDriver).getWindowHandles().isEmpty();
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Resets the browser state for the next user. The commands are sent to the raw WebDriver to bypass the event listeners.
+     * Cookies and storages can only be cleared for the origin of the current page.
+     */
+    private static boolean reset(EventFiringWebDriver eventFiringWebDriver) {
+        WebDriver webDriver = WebDriverUtils.getLowestWebDriver(eventFiringWebDriver);
+        try {
+            Set<String> windowHandles = webDriver.getWindowHandles();
+            Iterator<String> iterator = windowHandles.iterator();
+            String firstWindowHandle = iterator.next();
+            while (iterator.hasNext()) {
+                webDriver.switchTo().window(iterator.next());
+                webDriver.close();
+            }
+            webDriver.switchTo().window(firstWindowHandle);
+            try {
+                ((JavascriptExecutor) webDriver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+            } catch (WebDriverException e) {
+                // Pages like about:blank have no storage
+                LOGGER.trace("Unable to clear storage", e);
+            }
+            webDriver.manage().deleteAllCookies();
+            webDriver.get("about:blank");
+            return true;
+        } catch (RuntimeException e) {
+            LOGGER.debug("Reset failed", e);
+            return false;
+        }
+    }
+
+    private static void copySessionInformation(SessionContext from, SessionContext to) {
+        from.getRemoteSessionId().ifPresent(to::setRemoteSessionId);
+        from.getNodeInfo().ifPresent(to::setNodeInfo);
+        from.getCapabilities().ifPresent(to::setCapabilities);
+        to.setActualBrowserName(from.getActualBrowserName());
+        to.setActualBrowserVersion(from.getActualBrowserVersion());
+    }
+
+    private static void quit(PooledSession pooledSession) {
+        MANAGED_SESSIONS.remove(pooledSession.webDriver);
+        WebDriverSessionsManager.quitWebDriverSession(pooledSession.webDriver);
+    }
+
+    private static void scheduleEviction() {
+        if (EVICTION_SCHEDULED.compareAndSet(false, true)) {
+            long periodInMs = Math.max(1000, getIdleTimeoutInMs() / 2);
+            evictionExecutor.scheduleAtFixedRate(WebDriverSessionPool::evictIdleSessions, periodInMs, periodInMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void evictIdleSessions() {
+        long evictBefore = System.currentTimeMillis() - getIdleTimeoutInMs();
+        IDLE_SESSIONS.values().forEach(idleSessions -> {
+            for (PooledSession pooledSession : idleSessions) {
+                // remove() fails when the session has been acquired in the meantime
+                if (pooledSession.idleSince < evictBefore && idleSessions.remove(pooledSession)) {
+                    EVICTED.increment();
+                    quit(pooledSession);
+                }
+            }
+        });
+    }
+
+    /**
+     * Quits all idle sessions. Sessions in use will not be pooled anymore.
+     * Waits for sessions currently starting or resetting in background, which quit their session on completion.
+     * Sessions still resetting after {@link #CLEAR_TIMEOUT_SECONDS} are quit right away.
+     */
+    static void clear() {
+        GENERATION.incrementAndGet();
+
+        ExecutorService previousExecutor = executor;
+        ScheduledExecutorService previousEvictionExecutor = evictionExecutor;
+        executor = Executors.newCachedThreadPool(THREAD_FACTORY);
+        evictionExecutor = Executors.newSingleThreadScheduledExecutor(THREAD_FACTORY);
+        EVICTION_SCHEDULED.set(false);
+        previousEvictionExecutor.shutdownNow();
+        previousExecutor.shutdown();
+        try {
+            if (!previousExecutor.awaitTermination(CLEAR_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warn(String.format("Pooled sessions not started or reset within %ds, quitting them", CLEAR_TIMEOUT_SECONDS));
+                previousExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            previousExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        RESETTING_SESSIONS.forEach(pooledSession -> {
+            if (RESETTING_SESSIONS.remove(pooledSession)) {
+                quit(pooledSession);
+            }
+        });
+
+        IDLE_SESSIONS.values().forEach(idleSessions -> {
+            PooledSession pooledSession;
+            while ((pooledSession = idleSessions.pollFirst()) != null) {
+                quit(pooledSession);
+            }
+        });
+        MANAGED_SESSIONS.clear();
+    }
+
+    public static long getHits() {
+        return HITS.sum();
+    }
+
+    public static long getMisses() {
+        return MISSES.sum();
+    }
+
+    public static String getStatistics() {
+        return String.format("WebDriver session pool: %d hits, %d misses, %d prewarmed, %d evicted", getHits(), getMisses(), PREWARMED.sum(), EVICTED.sum());
+    }
+}
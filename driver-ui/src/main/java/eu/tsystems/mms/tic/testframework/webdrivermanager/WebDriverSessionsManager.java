@@ -26,6 +26,7 @@ import eu.tsystems.mms.tic.testframework.events.ContextUpdateEvent;
 import eu.tsystems.mms.tic.testframework.exceptions.SystemException;
 import eu.tsystems.mms.tic.testframework.internal.Flags;
 import eu.tsystems.mms.tic.testframework.internal.utils.DriverStorage;
+import eu.tsystems.mms.tic.testframework.pageobjects.internal.core.WebElementRegistry;
 import eu.tsystems.mms.tic.testframework.report.TesterraListener;
 import eu.tsystems.mms.tic.testframework.report.model.context.ExecutionContext;
 import eu.tsystems.mms.tic.testframework.report.model.context.SessionContext;
@@ -45,6 +46,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -62,8 +64,16 @@ public final class WebDriverSessionsManager {
     public static final Map<Date, Throwable> SESSION_STARTUP_ERRORS = new LinkedHashMap<>();
 
     private static final Map<String, WebDriver> EXCLUSIVE_SESSION_KEY_WEBDRIVER_MAP = new ConcurrentHashMap<>();
+    /**
+     * Reverse index of {@link #EXCLUSIVE_SESSION_KEY_WEBDRIVER_MAP}
+     */
+    private static final Map<WebDriver, String> EXCLUSIVE_WEBDRIVER_SESSION_KEY_MAP = new ConcurrentHashMap<>();
     private static final Map<String, WebDriver> THREAD_SESSION_KEY_WEBDRIVER_MAP = new ConcurrentHashMap<>();
     private static final Map<WebDriver, Long> WEBDRIVER_THREAD_ID_MAP = new ConcurrentHashMap<>();
+    /**
+     * Reverse index of {@link #WEBDRIVER_THREAD_ID_MAP}
+     */
+    private static final Map<Long, Set<WebDriver>> THREAD_ID_WEBDRIVERS_MAP = new ConcurrentHashMap<>();
     private static final Map<WebDriver, SessionContext> WEBDRIVER_SESSIONS_CONTEXTS_MAP = new ConcurrentHashMap<>();
     private static final Queue<Consumer<WebDriver>> beforeQuitActions = new ConcurrentLinkedQueue<>();
     private static final Queue<Consumer<WebDriver>> afterQuitActions = new ConcurrentLinkedQueue<>();
@@ -86,7 +96,7 @@ public final class WebDriverSessionsManager {
         THREAD_SESSION_KEY_WEBDRIVER_MAP.put(threadSessionKey, eventFiringWebDriver);
 
         final long threadId = Thread.currentThread().getId();
-        WEBDRIVER_THREAD_ID_MAP.put(eventFiringWebDriver, threadId);
+        linkToThread(eventFiringWebDriver, threadId);
 
         /*
         storing driver into driver storage, for whatever reason
@@ -106,6 +116,27 @@ public final class WebDriverSessionsManager {
         WEBDRIVER_SESSIONS_CONTEXTS_MAP.put(WebDriverUtils.getLowestWebDriver(eventFiringWebDriver), sessionContext);
     }
 
+    private static void linkToThread(WebDriver webDriver, long threadId) {
+        Long previousThreadId = WEBDRIVER_THREAD_ID_MAP.put(webDriver, threadId);
+        if (previousThreadId != null && previousThreadId != threadId) {
+            removeFromThreadIndex(webDriver, previousThreadId);
+        }
+        THREAD_ID_WEBDRIVERS_MAP.compute(threadId, (id, webDrivers) -> {
+            if (webDrivers == null) {
+                webDrivers = ConcurrentHashMap.newKeySet();
+            }
+            webDrivers.add(webDriver);
+            return webDrivers;
+        });
+    }
+
+    private static void removeFromThreadIndex(WebDriver webDriver, long threadId) {
+        THREAD_ID_WEBDRIVERS_MAP.computeIfPresent(threadId, (id, webDrivers) -> {
+            webDrivers.remove(webDriver);
+            return webDrivers.isEmpty() ? null : webDrivers;
+        });
+    }
+
     private static void unlinkFromThread(String sessionKey, WebDriver eventFiringWebDriver) {
         final String sessionIdentifier = createSessionIdentifier(eventFiringWebDriver, sessionKey);
         LOGGER.trace("Unlink from thread: " + sessionIdentifier);
@@ -113,7 +144,9 @@ public final class WebDriverSessionsManager {
         THREAD_SESSION_KEY_WEBDRIVER_MAP.remove(threadSessionKey, eventFiringWebDriver);
 
         final long threadId = Thread.currentThread().getId();
-        WEBDRIVER_THREAD_ID_MAP.remove(eventFiringWebDriver, threadId);
+        if (WEBDRIVER_THREAD_ID_MAP.remove(eventFiringWebDriver, threadId)) {
+            removeFromThreadIndex(eventFiringWebDriver, threadId);
+        }
 
         ExecutionContextController.clearCurrentSessionContext();
 
@@ -132,20 +165,20 @@ public final class WebDriverSessionsManager {
         /*
         Log something about the session handling maps
          */
-        String msg = "Removed WebDriver session: " + sessionKey;
-        msg += "\n Remaining sessions: ";
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Removed WebDriver session: " + sessionKey + "\n Remaining sessions: " + describeSessions());
+        }
+    }
+
+    private static String describeSessions() {
+        StringBuilder msg = new StringBuilder();
         int i = 0;
-        for (WebDriver webDriver : WEBDRIVER_THREAD_ID_MAP.keySet()) {
-            Long tid = WEBDRIVER_THREAD_ID_MAP.get(webDriver);
-            String key = getSessionKey(webDriver);
-            if (key == null) {
-                key = "!!unknown!!";
-            }
-            msg += "\n  " + key + " in thread " + tid;
+        for (Map.Entry<WebDriver, Long> entry : WEBDRIVER_THREAD_ID_MAP.entrySet()) {
+            msg.append("\n  ").append(getSessionKey(entry.getKey())).append(" in thread ").append(entry.getValue());
             i++;
         }
-        msg += "\n => " + i + " sessions (map: " + THREAD_SESSION_KEY_WEBDRIVER_MAP.size() + ")";
-        LOGGER.debug(msg);
+        msg.append("\n => ").append(i).append(" sessions (map: ").append(THREAD_SESSION_KEY_WEBDRIVER_MAP.size()).append(")");
+        return msg.toString();
     }
 
     /**
@@ -196,9 +229,35 @@ public final class WebDriverSessionsManager {
     }
 
     public static void shutdownWebDriver(WebDriver webDriver) {
+        shutdownWebDriver(webDriver, true);
+    }
+
+    private static void shutdownWebDriver(WebDriver webDriver, boolean allowPooling) {
         String sessionKey = getSessionKey(webDriver);
         String sessionIdentifier = createSessionIdentifier(webDriver, sessionKey);
 
+        boolean releaseToPool = allowPooling && WebDriverSessionPool.isReleasable(webDriver);
+        if (releaseToPool) {
+            LOGGER.info("Releasing " + sessionIdentifier + " to session pool");
+        } else {
+            LOGGER.info("Shutting down " + sessionIdentifier);
+            quitWebDriverSession(webDriver);
+        }
+
+        unlinkFromThread(sessionKey, webDriver);
+        WEBDRIVER_SESSIONS_CONTEXTS_MAP.remove(WebDriverUtils.getLowestWebDriver(webDriver));
+        WebElementRegistry.clear(webDriver);
+        if (releaseToPool) {
+            WebDriverSessionPool.release(webDriver);
+        }
+        LOGGER.debug("Shut down: " + sessionIdentifier + ", registered WebElements left: " + WebElementRegistry.getSize());
+    }
+
+    /**
+     * Quits the session and calls the shutdown handlers.
+     * The session pool calls this when it finally quits a pooled session, but not when a session is only released to the pool.
+     */
+    static void quitWebDriverSession(WebDriver webDriver) {
         beforeQuitActions.forEach(webDriverConsumer -> {
             try {
                 LOGGER.trace("Call before shutdown handler");
@@ -207,7 +266,7 @@ public final class WebDriverSessionsManager {
                 LOGGER.error("Failed executing before shutdown handler", e);
             }
         });
-        LOGGER.info("Shutting down " + sessionIdentifier);
+
         WebDriverManagerUtils.quitWebDriverSession(webDriver);
 
         afterQuitActions.forEach(webDriverConsumer -> {
@@ -218,9 +277,6 @@ public final class WebDriverSessionsManager {
                 LOGGER.error("Failed executing after shutdown handler", e);
             }
         });
-        unlinkFromThread(sessionKey, webDriver);
-        WEBDRIVER_SESSIONS_CONTEXTS_MAP.remove(WebDriverUtils.getLowestWebDriver(webDriver));
-        LOGGER.debug("Shut down: " + sessionIdentifier);
     }
 
     static void shutdownAllThreadSessions() {
@@ -237,13 +293,16 @@ public final class WebDriverSessionsManager {
     }
 
     static void shutdownAllSessions() {
-        THREAD_SESSION_KEY_WEBDRIVER_MAP.values().forEach(WebDriverSessionsManager::shutdownWebDriver);
-        EXCLUSIVE_SESSION_KEY_WEBDRIVER_MAP.values().forEach(WebDriverSessionsManager::shutdownWebDriver);
+        THREAD_SESSION_KEY_WEBDRIVER_MAP.values().forEach(webDriver -> shutdownWebDriver(webDriver, false));
+        EXCLUSIVE_SESSION_KEY_WEBDRIVER_MAP.values().forEach(webDriver -> shutdownWebDriver(webDriver, false));
+        WebDriverSessionPool.clear();
 
         // This should not be necessary but we do it anyway
         THREAD_SESSION_KEY_WEBDRIVER_MAP.clear();
         WEBDRIVER_THREAD_ID_MAP.clear();
+        THREAD_ID_WEBDRIVERS_MAP.clear();
         EXCLUSIVE_SESSION_KEY_WEBDRIVER_MAP.clear();
+        EXCLUSIVE_WEBDRIVER_SESSION_KEY_MAP.clear();
         WEBDRIVER_SESSIONS_CONTEXTS_MAP.clear();
     }
 
@@ -258,26 +317,31 @@ public final class WebDriverSessionsManager {
 
     static boolean hasSessionActiveInThisThread() {
         long threadId = Thread.currentThread().getId();
-        return getWebDriversFromThread(threadId).findAny().isPresent();
+        Set<WebDriver> webDrivers = THREAD_ID_WEBDRIVERS_MAP.get(threadId);
+        return webDrivers != null && !webDrivers.isEmpty();
     }
 
-    static synchronized String makeSessionExclusive(final WebDriver eventFiringWebDriver) {
+    static String makeSessionExclusive(final WebDriver eventFiringWebDriver) {
         if (!(eventFiringWebDriver instanceof EventFiringWebDriver)) {
             throw new RuntimeException("Nah, your WebDriver is not an EventFiringWebDriver.");
         }
 
-        if (EXCLUSIVE_SESSION_KEY_WEBDRIVER_MAP.containsValue(eventFiringWebDriver)) {
+        SessionContext sessionContext = getSessionContext(eventFiringWebDriver).get();
+
+        /*
+        Reserve the exclusive session key, this fails when the session is already exclusive
+         */
+        String exclusiveSessionKey = SessionContext.EXCLUSIVE_PREFIX + UUID.randomUUID().toString();
+        if (EXCLUSIVE_WEBDRIVER_SESSION_KEY_MAP.putIfAbsent(eventFiringWebDriver, exclusiveSessionKey) != null) {
             LOGGER.error("Session already set exclusive.");
             return null;
         }
 
-        SessionContext sessionContext = getSessionContext(eventFiringWebDriver).get();
         String sessionKey = sessionContext.getSessionKey();
         unlinkFromThread(sessionKey, eventFiringWebDriver);
         /*
         Add session to exclusive map.
          */
-        String exclusiveSessionKey = SessionContext.EXCLUSIVE_PREFIX + UUID.randomUUID().toString();
         EXCLUSIVE_SESSION_KEY_WEBDRIVER_MAP.put(exclusiveSessionKey, eventFiringWebDriver);
 
         /*
@@ -298,6 +362,7 @@ public final class WebDriverSessionsManager {
         if (driver != null) {
             shutdownWebDriver(driver);
             EXCLUSIVE_SESSION_KEY_WEBDRIVER_MAP.remove(key);
+            EXCLUSIVE_WEBDRIVER_SESSION_KEY_MAP.remove(driver, key);
         }
     }
 
@@ -309,7 +374,8 @@ public final class WebDriverSessionsManager {
     }
 
     static Stream<WebDriver> getWebDriversFromThread(final long threadId) {
-        return WEBDRIVER_THREAD_ID_MAP.entrySet().stream().filter(entry -> entry.getValue() == threadId).map(Map.Entry::getKey);
+        Set<WebDriver> webDrivers = THREAD_ID_WEBDRIVERS_MAP.get(threadId);
+        return webDrivers == null ? Stream.empty() : webDrivers.stream();
     }
 
     public static WebDriver getWebDriver(AbstractWebDriverRequest webDriverRequest) {
@@ -412,7 +478,7 @@ public final class WebDriverSessionsManager {
     }
 
     public static boolean isExclusiveSession(WebDriver webDriver) {
-        return EXCLUSIVE_SESSION_KEY_WEBDRIVER_MAP.containsValue(webDriver);
+        return EXCLUSIVE_WEBDRIVER_SESSION_KEY_MAP.containsKey(webDriver);
     }
 
     public static Optional<SessionContext> getSessionContext(WebDriver webDriver) {
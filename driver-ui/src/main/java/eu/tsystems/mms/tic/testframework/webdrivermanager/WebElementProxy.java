@@ -24,6 +24,7 @@ package eu.tsystems.mms.tic.testframework.webdrivermanager;
 import eu.tsystems.mms.tic.testframework.logging.Loggable;
 import eu.tsystems.mms.tic.testframework.report.model.context.SessionContext;
 import eu.tsystems.mms.tic.testframework.utils.ObjectUtils;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
@@ -34,10 +35,19 @@ import java.util.stream.Collectors;
 public class WebElementProxy extends ObjectUtils.PassThroughProxy<WebElement> implements Loggable {
 
     private final WebDriver driver;
+    private final Runnable staleElementListener;
 
     public WebElementProxy(WebDriver driver, WebElement webElement) {
+        this(driver, webElement, null);
+    }
+
+    /**
+     * @param staleElementListener Gets called when the WebElement turns out to be stale
+     */
+    public WebElementProxy(WebDriver driver, WebElement webElement, Runnable staleElementListener) {
         super(webElement);
         this.driver = driver;
+        this.staleElementListener = staleElementListener;
     }
 
     @Override
@@ -53,6 +63,13 @@ public class WebElementProxy extends ObjectUtils.PassThroughProxy<WebElement> im
 
             WebDriverProxyUtils.updateSessionContextRelations(sessionContext);
         });
-        return invoke(method, args);
+        try {
+            return invoke(method, args);
+        } catch (StaleElementReferenceException e) {
+            if (staleElementListener != null) {
+                staleElementListener.run();
+            }
+            throw e;
+        }
     }
 }
@@ -0,0 +1,36 @@
+/**
+ * Resolves the async script callback with true on the first DOM mutation after minDelay,
+ * or with false when no mutation happened within timeout.
+ */
+function ttAwaitDomMutation(minDelay, timeout, callback) {
+    var start = Date.now();
+    var done = false;
+    var delayed = false;
+    var observer;
+    var timer;
+
+    function finish(result) {
+        if (!done) {
+            done = true;
+            observer.disconnect();
+            window.clearTimeout(timer);
+            callback(result);
+        }
+    }
+
+    observer = new MutationObserver(function() {
+        var remaining = minDelay - (Date.now() - start);
+        if (remaining <= 0) {
+            finish(true);
+        } else if (!delayed) {
+            delayed = true;
+            window.setTimeout(function() {
+                finish(true);
+            }, remaining);
+        }
+    });
+    observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});
+    timer = window.setTimeout(function() {
+        finish(false);
+    }, timeout);
+}
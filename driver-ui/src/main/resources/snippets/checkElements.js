@@ -0,0 +1,72 @@
+/**
+ * Evaluates a list of locators like {type: 'css', value: '#id'} at once.
+ * Returns [numberOfElements, firstElementIsDisplayed] for every locator,
+ * or [-1, false] if the locator cannot be evaluated.
+ * The visibility check is strict, which means that an element may be displayed
+ * although it's reported as not displayed, but not the other way round.
+ */
+function ttCheckElements(locators) {
+    function find(locator) {
+        switch (locator.type) {
+            case 'css':
+                return document.querySelectorAll(locator.value);
+            case 'id':
+                return document.querySelectorAll('#' + CSS.escape(locator.value));
+            case 'name':
+                return document.getElementsByName(locator.value);
+            case 'className':
+                return document.getElementsByClassName(locator.value);
+            case 'tagName':
+                return document.getElementsByTagName(locator.value);
+            case 'xpath':
+                var result = document.evaluate(locator.value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                var nodes = [];
+                for (var i = 0; i < result.snapshotLength; i++) {
+                    var node = result.snapshotItem(i);
+                    if (node.nodeType !== Node.ELEMENT_NODE) {
+                        throw new Error('Not an element');
+                    }
+                    nodes.push(node);
+                }
+                return nodes;
+        }
+        throw new Error('Unsupported locator type');
+    }
+
+    function isDisplayed(element) {
+        var rect = element.getBoundingClientRect();
+        if (element.getClientRects().length === 0 || rect.width <= 0 || rect.height <= 0) {
+            return false;
+        }
+        if (rect.right + window.pageXOffset <= 0 || rect.bottom + window.pageYOffset <= 0) {
+            return false;
+        }
+        var style = window.getComputedStyle(element);
+        if (style.visibility !== 'visible') {
+            return false;
+        }
+        for (var parent = element; parent && parent.nodeType === Node.ELEMENT_NODE; parent = parent.parentElement) {
+            var parentStyle = window.getComputedStyle(parent);
+            if (parentStyle.display === 'none' || parseFloat(parentStyle.opacity) === 0) {
+                return false;
+            }
+            if (parent !== element && parentStyle.overflow !== 'visible') {
+                var parentRect = parent.getBoundingClientRect();
+                if (rect.right <= parentRect.left || rect.left >= parentRect.right
+                    || rect.bottom <= parentRect.top || rect.top >= parentRect.bottom) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    return locators.map(function (locator) {
+        try {
+            var elements = find(locator);
+            return [elements.length, elements.length > 0 && isDisplayed(elements[0])];
+        } catch (e) {
+            return [-1, false];
+        }
+    });
+}
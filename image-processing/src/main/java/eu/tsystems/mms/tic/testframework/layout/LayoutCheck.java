@@ -32,7 +32,6 @@ import eu.tsystems.mms.tic.testframework.report.TesterraListener;
 import eu.tsystems.mms.tic.testframework.report.model.context.MethodContext;
 import eu.tsystems.mms.tic.testframework.report.utils.ExecutionContextController;
 import eu.tsystems.mms.tic.testframework.utils.AssertUtils;
-import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
@@ -42,7 +41,6 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import javax.imageio.ImageIO;
@@ -70,7 +68,15 @@ public final class LayoutCheck {
         String consecutiveTargetImageName;
         public boolean takeReferenceOnly;
         public double distance = NO_DISTANCE;
+        /**
+         * FALSE when the pixel comparison stopped early and {@link #distance} is only a bound.
+         * A step passed early reports the maximum distance as its distance.
+         */
+        public boolean exactDistance = true;
         public LayoutComparator layoutComparator;
+        public PixelComparator pixelComparator;
+        boolean identicalToReference = false;
+        boolean distanceImageWritten = false;
     }
 
     /**
@@ -90,7 +96,6 @@ public final class LayoutCheck {
 
     private static final double NO_DISTANCE = 0;
     private static final int RGB_DEVIATION_PERCENT = PropertyManager.getIntProperty(TesterraProperties.LAYOUTCHECK_PIXEL_RGB_DEVIATION_PERCENT, 0);
-    private static final double RGB_MAX_DEVIATION = 255;
 
     private static final HashMap<String, Integer> runCount = new HashMap<>();
 
@@ -237,15 +242,31 @@ public final class LayoutCheck {
     }
 
     public static MatchStep matchPixels(final File screenshot, final String targetImageName) {
+        return matchPixels(screenshot, targetImageName, Double.NaN);
+    }
+
+    /**
+     * Matches image pixels, but stops as soon as the distance is provably above or below maxDistance.
+     * The distance is exact after {@link #toReport(MatchStep)}, or after {@link #toReport(MatchStep, double)} when it exceeds maxDistance.
+     * A step passed early has maxDistance as its distance, see {@link MatchStep#exactDistance}.
+     *
+     * @param maxDistance Maximum distance in percent the step is expected to pass with
+     */
+    public static MatchStep matchPixels(final TakesScreenshot takesScreenshot, final String targetImageName, final double maxDistance) {
+        final File screenshot = takesScreenshot.getScreenshotAs(OutputType.FILE);
+        return matchPixels(screenshot, targetImageName, maxDistance);
+    }
+
+    public static MatchStep matchPixels(final File screenshot, final String targetImageName, final double maxDistance) {
         final MatchStep step = prepare(screenshot, targetImageName);
         step.mode = Mode.PIXEL;
         if (!step.takeReferenceOnly) {
-            matchPixels(step);
+            matchPixels(step, maxDistance);
         }
         return step;
     }
 
-    private static void matchPixels(final MatchStep matchStep) {
+    private static void matchPixels(final MatchStep matchStep, final double maxDistance) {
         try {
             // read images
             File refFile = matchStep.referenceFileName.toFile();
@@ -258,62 +279,57 @@ public final class LayoutCheck {
                 throw new FileNotFoundException(matchStep.actualFileName.toString());
             }
 
-            final BufferedImage referenceImage = ImageIO.read(refFile);
-            final BufferedImage actualImage = ImageIO.read(actualFile);
-
             final boolean useIgnoreColor = PropertyManager.getBooleanProperty(
                     TesterraProperties.LAYOUTCHECK_USE_IGNORE_COLOR,
                     false
             );
+            final boolean useExplicitRectangles = PropertyManager.getBooleanProperty(TesterraProperties.LAYOUTCHECK_USE_AREA_COLOR, false);
+
+            // identical files don't need to be decoded
+            if (!useIgnoreColor && !useExplicitRectangles && FileUtils.contentEquals(refFile, actualFile)) {
+                LOGGER.debug(String.format("Screenshot '%s' is identical to the reference.", matchStep.actualFileName));
+                matchStep.distance = NO_DISTANCE;
+                matchStep.identicalToReference = true;
+                return;
+            }
+
+            final BufferedImage referenceImage = ImageIO.read(refFile);
+            final BufferedImage actualImage = ImageIO.read(actualFile);
 
-            // create distance image to given reference
-            matchStep.distance = generateDistanceImage(
+            matchStep.pixelComparator = comparePixels(
                     referenceImage,
                     actualImage,
-                    matchStep.distanceFileName.toAbsolutePath().toString(),
-                    useIgnoreColor
+                    useIgnoreColor,
+                    useExplicitRectangles,
+                    maxDistance
             );
+            matchStep.exactDistance = matchStep.pixelComparator.isExact();
+            if (matchStep.exactDistance || matchStep.pixelComparator.getDistance() > maxDistance) {
+                matchStep.distance = matchStep.pixelComparator.getDistance();
+            } else {
+                // the counted errors are only a part of all, the distance is known to be within the maximum
+                matchStep.distance = maxDistance;
+            }
         } catch (Exception e) {
             throw new LayoutCheckException(matchStep, e);
         }
     }
 
     /**
-     * Returns the color of a pixel at a certain position of the image
-     *
-     * @param image with a certain colored pixel
-     * @param x Position of the pixel
-     * @param y Position of the pixel
-     * @return color code of the pixel
-     */
-    private static int getColorOfPixel(BufferedImage image, int x, int y) {
-        return image.getRGB(x, y);
-    }
-
-    /**
-     * Creates an image showing the differences of the given images and calculates the difference between the images in
-     * percent.
+     * Calculates the difference between the images in percent.
      *
      * @param expectedImage The expected image
      * @param actualImage The actual image
-     * @param resultFilename Filename to the save the image containing the differences
-     * @return Percents of pixels that are different
+     * @param maxDistance Distance in percent the comparison may stop early at, or NaN
+     * @return The comparator holding the distance and creating the distance image on demand
      */
-    private static double generateDistanceImage(
+    private static PixelComparator comparePixels(
             final BufferedImage expectedImage,
             final BufferedImage actualImage,
-            final String resultFilename,
-            final boolean useIgnoreColor
+            final boolean useIgnoreColor,
+            final boolean useExplicitRectangles,
+            final double maxDistance
     ) {
-        // for counting the pixels that are different
-        int pixelsInError = 0;
-        int noOfIgnoredPixels = 0;
-        // calculate the size of the distance image and create an empty image
-        final Dimension distanceImageSize = calculateMaxImageSize(expectedImage, actualImage);
-        final BufferedImage distanceImage = new BufferedImage(
-                distanceImageSize.width, distanceImageSize.height,
-                expectedImage.getType());
-
         Dimension expectedImageDimension = new Dimension(expectedImage.getWidth(), expectedImage.getHeight());
         Dimension actualImageDimension = new Dimension(actualImage.getWidth(), actualImage.getHeight());
 
@@ -330,7 +346,6 @@ public final class LayoutCheck {
         }
 
         List<Rectangle> markedRectangles = null;
-        boolean useExplicitRectangles = PropertyManager.getBooleanProperty(TesterraProperties.LAYOUTCHECK_USE_AREA_COLOR, false);
         if (!useIgnoreColor && useExplicitRectangles) {
             AnnotationReader annotationReader = new AnnotationReader();
             markedRectangles = annotationReader.readAnnotationDimensions(expectedImage);
@@ -339,143 +354,71 @@ public final class LayoutCheck {
             }
         }
 
-        if (markedRectangles == null) {
-            markedRectangles = new ArrayList<Rectangle>();
-            Rectangle rectangle = new Rectangle(0, 0, distanceImageSize.width, distanceImageSize.height);
-            markedRectangles.add(rectangle);
-        } else {
-            for (int currentY = 0; currentY < distanceImage.getHeight(); currentY++) {
-                for (int currentX = 0; currentX < distanceImage.getWidth(); currentX++) {
-                    boolean pixelIsInsideExpectedImage = isPixelInImageBounds(expectedImage, currentX, currentY);
-                    if (pixelIsInsideExpectedImage) {
-                        int rgb = expectedImage.getRGB(currentX, currentY);
-                        Color color = new Color(rgb);
-                        color = color.darker().darker();
-                        distanceImage.setRGB(currentX, currentY, color.getRGB());
-                    } else {
-                        distanceImage.setRGB(currentX, currentY, Color.BLUE.getRGB());
-                    }
-                }
-            }
-        }
+        return new PixelComparator(expectedImage, actualImage)
+                .setUseIgnoreColor(useIgnoreColor)
+                .setRgbDeviationPercent(RGB_DEVIATION_PERCENT)
+                .setMarkedRectangles(markedRectangles)
+                .setMaxDistance(maxDistance)
+                .compare();
+    }
 
-        int ignoreColor = getColorOfPixel(expectedImage, 0, 0);
-
-        for (Rectangle rectangle : markedRectangles) {
-            for (int currentY = rectangle.y; currentY < rectangle.y + rectangle.height; currentY++) {
-                for (int currentX = rectangle.x; currentX < rectangle.x + rectangle.width; currentX++) {
-                    boolean pixelIsInsideExpectedImage = isPixelInImageBounds(expectedImage, currentX, currentY);
-                    boolean pixelIsInsideActualImage = isPixelInImageBounds(actualImage, currentX, currentY);
-
-                    if (pixelIsInsideExpectedImage) {
-                        // draw every pixel that is available in the expected image
-                        distanceImage.setRGB(currentX, currentY,
-                                expectedImage.getRGB(currentX, currentY));
-                    }
-
-                    if (pixelIsInsideExpectedImage && pixelIsInsideActualImage) {
-                        // if the pixel color at x,y is not equal and the pixel is not marked as 'to ignore'
-                        int expectedRgb = expectedImage.getRGB(currentX, currentY);
-                        int actualImageRGB = actualImage.getRGB(currentX, currentY);
-
-                        boolean ignoredPixel = useIgnoreColor && expectedRgb == ignoreColor;
-
-                        //
-
-                        if (!ignoredPixel) {
-                            boolean match = doRGBsMatch(expectedRgb, actualImageRGB);
-                            if (!match) {
-                                // mark the current pixel as error by painting it red
-                                distanceImage.setRGB(currentX, currentY, Color.RED.getRGB());
-                                pixelsInError++;
-                            }
-                        }
-
-                        // count the ignored pixels for calculating
-                        if (useIgnoreColor && expectedRgb == ignoreColor) {
-                            noOfIgnoredPixels++;
-                        }
-                    } else {
-                        // this pixel is not inside one or the other image - mark it, but not as error
-                        distanceImage.setRGB(currentX, currentY, Color.BLUE.getRGB());
-                    }
-                }
-            }
+    /**
+     * Writes the distance image of a pixel match step, once.
+     * Updates the distance, because creating the distance image counts all pixels.
+     */
+    private static void writeDistanceImage(final MatchStep step) {
+        if (step.mode != Mode.PIXEL || step.takeReferenceOnly || step.distanceImageWritten) {
+            return;
         }
-
+        // the comparison failed before
+        if (step.pixelComparator == null && !step.identicalToReference) {
+            return;
+        }
+        step.distanceImageWritten = true;
+        File distanceFile = step.distanceFileName.toFile();
         try {
-            // write image to given file
-            ImageIO.write(distanceImage, "PNG", new File(resultFilename));
+            if (step.pixelComparator != null && step.pixelComparator.hasDifferences()) {
+                ImageIO.write(step.pixelComparator.createDistanceImage(), "PNG", distanceFile);
+                step.distance = step.pixelComparator.getDistance();
+                step.exactDistance = true;
+            } else {
+                // the distance image would be a copy of the expected image
+                FileUtils.copyFile(step.referenceFileName.toFile(), distanceFile);
+            }
         } catch (IOException ioe) {
             LOGGER.error(
-                    String.format("An error occurred while trying to persist image to '%s'.", resultFilename),
+                    String.format("An error occurred while trying to persist image to '%s'.", distanceFile),
                     ioe);
         }
-
-        int totalPixels = 0;
-        for (Rectangle rectangleToCompare : markedRectangles) {
-            totalPixels += rectangleToCompare.height * rectangleToCompare.width;
-        }
-
-        // calculate and return the percentage number of pixels in error
-        return ((double) pixelsInError / (totalPixels - noOfIgnoredPixels)) * 100;
     }
 
     public static boolean doRGBsMatch(int expectedRgb, int actualImageRGB) {
-        if (expectedRgb == actualImageRGB) {
-            return true;
-        }
-
-        if (RGB_DEVIATION_PERCENT > 0) {
-            Color expectedColor = new Color(expectedRgb);
-            Color actualColor = new Color(actualImageRGB);
-
-            int percentR = (int) (100 * (Math.abs(expectedColor.getRed() - actualColor.getRed())) / RGB_MAX_DEVIATION);
-            int percentG = (int) (100 * (Math.abs(expectedColor.getGreen() - actualColor.getGreen())) / RGB_MAX_DEVIATION);
-            int percentB = (int) (100 * (Math.abs(expectedColor.getBlue() - actualColor.getBlue())) / RGB_MAX_DEVIATION);
-
-//            LOGGER.info("RGB deviation percent: " + percentR + "/" + percentG + "/" + percentB);
-            if (percentR <= RGB_DEVIATION_PERCENT && percentG <= RGB_DEVIATION_PERCENT && percentB <= RGB_DEVIATION_PERCENT) {
-                return true;
-            }
-        }
-        return false;
+        return PixelComparator.doRGBsMatch(expectedRgb, actualImageRGB, RGB_DEVIATION_PERCENT);
     }
 
     /**
-     * Calculates the sizes thats result from the maximum sizes of both pictures.
-     *
-     * @param expectedImage The expected image
-     * @param actualImage The actual image
-     * @return Calculated maximum size of the images
+     * Reports the step including its distance image.
      */
-    private static Dimension calculateMaxImageSize(
-            final BufferedImage expectedImage,
-            final BufferedImage actualImage
-    ) {
-        return new Dimension(
-                Math.max(expectedImage.getWidth(), actualImage.getWidth()),
-                Math.max(expectedImage.getHeight(), actualImage.getHeight())
-        );
+    public static void toReport(final MatchStep step) {
+        writeDistanceImage(step);
+        addToReport(step);
     }
 
     /**
-     * Determines whether a pixel is within the bounds of an image.
+     * Reports the step, but creates the distance image only when the distance exceeds the given maximum.
+     * Steps within the maximum distance are reported with the expected and actual screenshot only.
+     * Steps passed early are reported with the maximum distance and without {@link MatchStep#exactDistance}.
      *
-     * @param image The image
-     * @param x X-coordinate of the pixel
-     * @param y Y-coordinate of the pixel
-     * @return true, if the pixel is within the images bounds, otherwise false
+     * @param maxDistance Maximum distance in percent the step is expected to pass with
      */
-    private static boolean isPixelInImageBounds(
-            final BufferedImage image,
-            final int x,
-            final int y
-    ) {
-        return (image.getWidth() > x) && (image.getHeight() > y);
+    public static void toReport(final MatchStep step, final double maxDistance) {
+        if (step.distance > maxDistance) {
+            writeDistanceImage(step);
+        }
+        addToReport(step);
     }
 
-    public static void toReport(final MatchStep step) {
+    private static void addToReport(final MatchStep step) {
         final String name = step.consecutiveTargetImageName;
         final Path referenceScreenshotPath = step.referenceFileName;
         final Path actualScreenshotPath = step.actualFileName;
@@ -486,13 +429,17 @@ public final class LayoutCheck {
         context.mode = step.mode.name();
         // For readable report
         context.distance = new BigDecimal(step.distance).setScale(2, RoundingMode.HALF_UP).doubleValue();
+        context.exactDistance = step.exactDistance;
 
         Report report = TesterraListener.getReport();
         // Always copy the reference image
         context.expectedScreenshot = report.provideScreenshot(referenceScreenshotPath.toFile(), Report.FileMode.COPY);
         context.actualScreenshot = report.provideScreenshot(actualScreenshotPath.toFile(), Report.FileMode.MOVE);
-        context.distanceScreenshot = report.provideScreenshot(distanceScreenshotPath.toFile(), Report.FileMode.MOVE);
-        context.distanceScreenshot.getMetaData().put("Distance", Double.toString(step.distance));
+        File distanceFile = distanceScreenshotPath.toFile();
+        if (distanceFile.exists()) {
+            context.distanceScreenshot = report.provideScreenshot(distanceFile, Report.FileMode.MOVE);
+            context.distanceScreenshot.getMetaData().put("Distance", Double.toString(step.distance));
+        }
 
         File annotatedReferenceFile = step.annotatedReferenceFileName.toFile();
         if (annotatedReferenceFile.exists()) {
@@ -509,10 +456,10 @@ public final class LayoutCheck {
         final String assertMessage = String.format("Expected that pixel distance (%%) of WebDriver screenshot to image '%s'", targetImageName);
         try {
             //PropertyManager.setPriorityResolvers(Stream.of(new WebDriverPropertyResolver(webDriver)));
-            matchStep = LayoutCheck.matchPixels((TakesScreenshot) webDriver, targetImageName);
+            matchStep = LayoutCheck.matchPixels((TakesScreenshot) webDriver, targetImageName, confidenceThreshold);
             //PropertyManager.clearPriorityResolvers();
             if (!matchStep.takeReferenceOnly) {
-                LayoutCheck.toReport(matchStep);
+                LayoutCheck.toReport(matchStep, confidenceThreshold);
             }
             // Check for 2 decimals of % value is enough --> Readable assertion message
             AssertUtils.assertLowerEqualThan(new BigDecimal(matchStep.distance).setScale(2, RoundingMode.HALF_UP), new BigDecimal(confidenceThreshold), assertMessage);
@@ -48,6 +48,7 @@ import java.io.FileNotFoundException;
 import java.util.List;
 import org.opencv.core.Core;
 import org.opencv.core.Mat;
+import org.opencv.core.Rect;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -146,67 +147,78 @@ public class LayoutComparator {
 
         loadProperties();
 
-        Mat referenceImage = loadImageFromFile(referenceAbsoluteFileName);
-        Mat annotatedImage = loadImageFromFile(annotatedScreenshotAbsoluteFileName);
-        Mat actualImage = loadImageFromFile(actualScreenshotAbsoluteFileName);
-        AnnotationContainer annotationContainer = loadContainerFromFile(annotationDataFileName);
-
-        if (annotationContainer == null) {
-            // no annotator data file given, we need to rely on the image.
-            // The reference image and the annotated image have to be the same size.
-            if (referenceImage.height() != annotatedImage.height()
-                    || referenceImage.width() != annotatedImage.width()) {
-                throw new SystemException(
-                        Messages.referenceAndAnnotationNotEquallySized(referenceImage.size().toString(),
-                                annotatedImage.size().toString()));
+        LayoutReferenceCache.Reference reference = LayoutReferenceCache.acquire(
+            referenceAbsoluteFileName,
+            annotatedScreenshotAbsoluteFileName,
+            annotationDataFileName,
+            LayoutComparator::loadImageFromFile,
+            this::loadContainerFromFile
+        );
+        Mat actualImage = null;
+        Mat reportImage = null;
+        try {
+            actualImage = loadImageFromFile(actualScreenshotAbsoluteFileName);
+            Mat referenceImage = reference.getReferenceImage();
+            Mat annotatedImage = reference.getAnnotatedImage();
+            AnnotationContainer annotationContainer = reference.getAnnotationContainer();
+
+            if (annotationContainer == null) {
+                // no annotator data file given, we need to rely on the image.
+                // The reference image and the annotated image have to be the same size.
+                if (referenceImage.height() != annotatedImage.height()
+                        || referenceImage.width() != annotatedImage.width()) {
+                    throw new SystemException(
+                            Messages.referenceAndAnnotationNotEquallySized(referenceImage.size().toString(),
+                                    annotatedImage.size().toString()));
+                }
             }
-        }
 
-        if (referenceImage.height() > actualImage.height() || referenceImage.width() > actualImage.width()) {
-            NonFunctionalAssert.fail(
-                String.format(
-                    "The actual image (width=%fpx, height=%fpx) is smaller than the reference image (width=%fpx, height=%fpx)." +
-                    "This should not happen, as it is ignored by the algorithm and will " +
-                    "probably lead to falsely positive movement errors.",
-                    actualImage.size().width,
-                    actualImage.size().height,
-                    referenceImage.size().width,
-                    referenceImage.size().height
-                )
-            );
-        }
+            if (referenceImage.height() > actualImage.height() || referenceImage.width() > actualImage.width()) {
+                NonFunctionalAssert.fail(
+                    String.format(
+                        "The actual image (width=%fpx, height=%fpx) is smaller than the reference image (width=%fpx, height=%fpx)." +
+                        "This should not happen, as it is ignored by the algorithm and will " +
+                        "probably lead to falsely positive movement errors.",
+                        actualImage.size().width,
+                        actualImage.size().height,
+                        referenceImage.size().width,
+                        referenceImage.size().height
+                    )
+                );
+            }
 
-        // Adjustments have to be made, if the reference image is only a part of the original screenshot.
-        boolean referenceImageIsSubImage = referenceImage.height() <= actualImage.height()
-                - minimalSizeDifferenceOfSubImages ||
-                referenceImage.width() <= actualImage.width() - minimalSizeDifferenceOfSubImages;
-        templateMatcher.setReferenceImageIsSubImage(referenceImageIsSubImage);
+            // Adjustments have to be made, if the reference image is only a part of the original screenshot.
+            boolean referenceImageIsSubImage = referenceImage.height() <= actualImage.height()
+                    - minimalSizeDifferenceOfSubImages ||
+                    referenceImage.width() <= actualImage.width() - minimalSizeDifferenceOfSubImages;
+            templateMatcher.setReferenceImageIsSubImage(referenceImageIsSubImage);
 
-        // extract annotated elements
-        List<LayoutElement> annotatedElements = annotationReader.extractAnnotatedElementsFromAnnotationContainer(
-            referenceImage,
-            annotationContainer
-        );
+            // extract annotated elements, once per reference
+            List<LayoutElement> annotatedElements = reference.getLayoutElements(annotationReader);
 
-        // create distance graph
-        LOGGER.info("Comparing Reference and Actual image based on given annotations.");
-        DistanceGraph distanceGraph = templateMatcher.matchTemplates(actualImage, annotatedElements);
+            // create distance graph
+            LOGGER.info("Comparing Reference and Actual image based on given annotations.");
+            DistanceGraph distanceGraph = templateMatcher.matchTemplates(actualImage, annotatedElements);
 
-        // interpret the distance graph
-        layoutMatch = distanceGraphInterpreter.generateLayoutErrors(distanceGraph);
+            // interpret the distance graph
+            layoutMatch = distanceGraphInterpreter.generateLayoutErrors(distanceGraph);
 
-        Mat reportImage = prepareImageForReport(actualImage, annotatedImage);
+            reportImage = prepareImageForReport(actualImage, annotatedImage);
 
-        graphicalReporter.report(layoutMatch, reportImage, distanceAbsoluteFileName);
-
-        /* Garbage collector has to be kind of forced here.
-            openCV uses native c++, thus allocating memory not governed by java. With the java wrapper, there are small
-            objects that link to the c++ objects that allocate lots of memory. When the java object is garbage collected,
-            the memory allocated by c++ is also freed. However, the java objects are so small that they do not trigger
-            garbage collection most of the time. Thus, the system runs out of memory.
-         */
-        System.gc();
-        System.runFinalization();
+            graphicalReporter.report(layoutMatch, reportImage, distanceAbsoluteFileName);
+        } finally {
+            /*
+             * openCV uses native c++, thus allocating memory not governed by java. The small java wrapper objects
+             * hardly ever trigger a garbage collection, so the native memory is released explicitly.
+             */
+            if (reportImage != null && reportImage != actualImage) {
+                reportImage.release();
+            }
+            if (actualImage != null) {
+                actualImage.release();
+            }
+            reference.release();
+        }
     }
 
     /**
@@ -251,15 +263,9 @@ public class LayoutComparator {
         } else {
             int maxY = Math.max(actualWidth, annotatedWidth);
             int maxX = Math.max(actualHeight, annotatedHeight);
-            Mat reportMat = ImageUtil.createMat(maxX, maxY);
-            for (int x = 0; x < maxX; x++) {
-                for (int y = 0; y < maxY; y++) {
-                    double[] doubles = actualImage.get(x, y);
-                    if (doubles != null) {
-                        reportMat.put(x, y, doubles);
-                    }
-                }
-            }
+            Mat reportMat = Mat.zeros(maxX, maxY, actualImage.type());
+            // copy the whole actual image at once instead of pixel by pixel
+            actualImage.copyTo(reportMat.submat(new Rect(0, 0, actualWidth, actualHeight)));
             return reportMat;
         }
     }
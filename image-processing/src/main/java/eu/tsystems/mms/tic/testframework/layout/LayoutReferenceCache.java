@@ -0,0 +1,209 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.layout;
+
+import eu.tsystems.mms.tic.testframework.annotator.AnnotationContainer;
+import eu.tsystems.mms.tic.testframework.common.PropertyManager;
+import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
+import eu.tsystems.mms.tic.testframework.layout.core.LayoutElement;
+import eu.tsystems.mms.tic.testframework.layout.extraction.AnnotationReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.opencv.core.Mat;
+
+/**
+ * Caches decoded reference images, their annotations and the extracted layout elements across layout checks.
+ * OpenCV allocates image data natively, where the garbage collector doesn't see it. Therefore every
+ * {@link #acquire acquired} reference has to be {@link Reference#release() released}, which frees
+ * the native memory as soon as the reference is evicted from the cache and not in use anymore.
+ */
+final class LayoutReferenceCache {
+
+    private static final int DEFAULT_SIZE = 4;
+
+    private static final Map<String, Reference> REFERENCES = new LinkedHashMap<>(16, 0.75f, true);
+
+    interface ImageLoader {
+        Mat load(String absoluteFileName) throws FileNotFoundException;
+    }
+
+    interface ContainerLoader {
+        AnnotationContainer load(String annotationDataFileName);
+    }
+
+    /**
+     * The reference images of a layout check. The images must not be modified.
+     */
+    static final class Reference {
+        private final Mat referenceImage;
+        private final Mat annotatedImage;
+        private final AnnotationContainer annotationContainer;
+        private List<LayoutElement> layoutElements;
+        private int users = 0;
+        private boolean evicted = false;
+
+        private Reference(Mat referenceImage, Mat annotatedImage, AnnotationContainer annotationContainer) {
+            this.referenceImage = referenceImage;
+            this.annotatedImage = annotatedImage;
+            this.annotationContainer = annotationContainer;
+        }
+
+        Mat getReferenceImage() {
+            return referenceImage;
+        }
+
+        Mat getAnnotatedImage() {
+            return annotatedImage;
+        }
+
+        AnnotationContainer getAnnotationContainer() {
+            return annotationContainer;
+        }
+
+        /**
+         * Extracts the annotated elements once per reference and returns copies of them,
+         * because the template matching moves the elements by the displacement of sub images.
+         */
+        synchronized List<LayoutElement> getLayoutElements(AnnotationReader annotationReader) {
+            if (layoutElements == null) {
+                layoutElements = Collections.unmodifiableList(new ArrayList<>(
+                        annotationReader.extractAnnotatedElementsFromAnnotationContainer(referenceImage, annotationContainer)
+                ));
+            }
+            List<LayoutElement> copies = new ArrayList<>(layoutElements.size());
+            for (LayoutElement layoutElement : layoutElements) {
+                copies.add(new LayoutElement(layoutElement));
+            }
+            return copies;
+        }
+
+        private synchronized void retain() {
+            users++;
+        }
+
+        /**
+         * Frees the native memory when the reference is not cached and used anymore
+         */
+        synchronized void release() {
+            users--;
+            freeIfUnused();
+        }
+
+        private synchronized void evict() {
+            evicted = true;
+            freeIfUnused();
+        }
+
+        private void freeIfUnused() {
+            if (!evicted || users > 0) {
+                return;
+            }
+            if (layoutElements != null) {
+                for (LayoutElement layoutElement : layoutElements) {
+                    if (layoutElement.getImage() != null) {
+                        layoutElement.getImage().release();
+                    }
+                }
+            }
+            referenceImage.release();
+            annotatedImage.release();
+        }
+    }
+
+    private LayoutReferenceCache() {
+    }
+
+    /**
+     * Returns the cached reference or loads it, if one of the files has changed.
+     * The caller has to {@link Reference#release() release} it afterwards.
+     */
+    static Reference acquire(
+            String referenceAbsoluteFileName,
+            String annotatedAbsoluteFileName,
+            String annotationDataFileName,
+            ImageLoader imageLoader,
+            ContainerLoader containerLoader
+    ) throws FileNotFoundException {
+        final String key = createKey(referenceAbsoluteFileName) + "|" + createKey(annotatedAbsoluteFileName) + "|" + createKey(annotationDataFileName);
+        synchronized (REFERENCES) {
+            Reference reference = REFERENCES.get(key);
+            if (reference != null) {
+                reference.retain();
+                return reference;
+            }
+        }
+
+        Mat referenceImage = imageLoader.load(referenceAbsoluteFileName);
+        Mat annotatedImage;
+        try {
+            annotatedImage = imageLoader.load(annotatedAbsoluteFileName);
+        } catch (FileNotFoundException e) {
+            referenceImage.release();
+            throw e;
+        }
+        Reference reference = new Reference(referenceImage, annotatedImage, containerLoader.load(annotationDataFileName));
+        reference.retain();
+
+        int size = PropertyManager.getIntProperty(TesterraProperties.LAYOUTCHECK_REFERENCE_CACHE_SIZE, DEFAULT_SIZE);
+        synchronized (REFERENCES) {
+            Reference replaced = REFERENCES.put(key, reference);
+            if (replaced != null) {
+                // loaded concurrently
+                replaced.evict();
+            }
+            Iterator<Reference> iterator = REFERENCES.values().iterator();
+            while (REFERENCES.size() > size && iterator.hasNext()) {
+                Reference eldest = iterator.next();
+                iterator.remove();
+                eldest.evict();
+            }
+        }
+        return reference;
+    }
+
+    /**
+     * Releases all cached references that are not in use
+     */
+    static void clear() {
+        synchronized (REFERENCES) {
+            for (Reference reference : REFERENCES.values()) {
+                reference.evict();
+            }
+            REFERENCES.clear();
+        }
+    }
+
+    private static String createKey(String fileName) {
+        if (fileName == null) {
+            return "";
+        }
+        File file = new File(fileName);
+        return fileName + "@" + file.lastModified() + ":" + file.length();
+    }
+}
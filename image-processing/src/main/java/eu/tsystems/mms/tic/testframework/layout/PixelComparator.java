@@ -0,0 +1,607 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.layout;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Compares two images pixel by pixel.
+ * The pixels are read in rows directly from the raster data and compared in tiles of rows
+ * on the common {@link ForkJoinPool}, without allocating objects per pixel.
+ * The distance image is only created on demand by {@link #createDistanceImage()}.
+ * <p>
+ * Images with equal raster data are detected without comparing single pixels.
+ * With a {@link #setMaxDistance(double) maximum distance}, the comparison stops as soon as
+ * the distance is known to be above or below it.
+ *
+ * @see LayoutCheck#matchPixels(java.io.File, String)
+ */
+public class PixelComparator {
+
+    private static final double RGB_MAX_DEVIATION = 255;
+    private static final int COLOR_ERROR = 0xFFFF0000;
+    private static final int COLOR_OUT_OF_BOUNDS = 0xFF0000FF;
+    /**
+     * Amount of rows per tile
+     */
+    private static final int TILE_HEIGHT = 32;
+    /**
+     * Images with less pixels are compared in the calling thread
+     */
+    private static final int MIN_PIXELS_FOR_PARALLELISM = 256 * 256;
+    /**
+     * Image types whose raster data can be compared directly
+     */
+    private static final List<Integer> RASTER_COMPARABLE_TYPES = Arrays.asList(
+            BufferedImage.TYPE_INT_RGB,
+            BufferedImage.TYPE_INT_ARGB,
+            BufferedImage.TYPE_INT_BGR,
+            BufferedImage.TYPE_3BYTE_BGR,
+            BufferedImage.TYPE_4BYTE_ABGR
+    );
+
+    private final BufferedImage expectedImage;
+    private final BufferedImage actualImage;
+    private final int width;
+    private final int height;
+    private List<Rectangle> markedRectangles;
+    private boolean useIgnoreColor = false;
+    private int rgbDeviationPercent = 0;
+    private double maxDistance = Double.NaN;
+
+    private long pixelsInError = 0;
+    private long ignoredPixels = 0;
+    private long totalPixels = 0;
+    private boolean compared = false;
+    private boolean exact = false;
+
+    public PixelComparator(BufferedImage expectedImage, BufferedImage actualImage) {
+        this.expectedImage = expectedImage;
+        this.actualImage = actualImage;
+        this.width = Math.max(expectedImage.getWidth(), actualImage.getWidth());
+        this.height = Math.max(expectedImage.getHeight(), actualImage.getHeight());
+    }
+
+    /**
+     * Pixels of the expected image with the color of its top left pixel are not compared
+     */
+    public PixelComparator setUseIgnoreColor(boolean useIgnoreColor) {
+        this.useIgnoreColor = useIgnoreColor;
+        return this;
+    }
+
+    /**
+     * @param rgbDeviationPercent Maximum deviation of each color channel in percent to treat pixels as equal
+     */
+    public PixelComparator setRgbDeviationPercent(int rgbDeviationPercent) {
+        this.rgbDeviationPercent = rgbDeviationPercent;
+        return this;
+    }
+
+    /**
+     * Restricts the comparison to the given areas. The remaining pixels of the distance image are darkened.
+     *
+     * @param markedRectangles Areas to compare or NULL to compare the whole image
+     */
+    public PixelComparator setMarkedRectangles(List<Rectangle> markedRectangles) {
+        this.markedRectangles = markedRectangles;
+        return this;
+    }
+
+    /**
+     * Allows {@link #compare()} to stop early, when the distance is provably above or below the given value.
+     * The distance is exact after {@link #createDistanceImage()} in any case.
+     *
+     * @param maxDistance Maximum distance in percent
+     */
+    public PixelComparator setMaxDistance(double maxDistance) {
+        this.maxDistance = maxDistance;
+        return this;
+    }
+
+    public PixelComparator compare() {
+        List<Rectangle> rectangles = getRectanglesToCompare();
+        totalPixels = 0;
+        for (Rectangle rectangle : rectangles) {
+            totalPixels += (long) rectangle.height * rectangle.width;
+        }
+        compared = true;
+        exact = true;
+
+        // Ignored pixels need to be counted
+        if (!useIgnoreColor && hasEqualRasterData()) {
+            pixelsInError = 0;
+            ignoredPixels = 0;
+            return this;
+        }
+
+        final int ignoreColor = expectedImage.getRGB(0, 0);
+        final int overlapWidth = Math.min(expectedImage.getWidth(), actualImage.getWidth());
+        final int overlapHeight = Math.min(expectedImage.getHeight(), actualImage.getHeight());
+        final RowReader expectedReader = RowReader.of(expectedImage);
+        final RowReader actualReader = RowReader.of(actualImage);
+
+        // Only pixels inside both images are compared
+        List<Rectangle> tiles = new ArrayList<>();
+        for (Rectangle rectangle : rectangles) {
+            Rectangle overlap = rectangle.intersection(new Rectangle(0, 0, overlapWidth, overlapHeight));
+            if (!overlap.isEmpty()) {
+                addTiles(overlap, tiles);
+            }
+        }
+
+        long comparablePixels = 0;
+        for (Rectangle tile : tiles) {
+            comparablePixels += (long) tile.width * tile.height;
+        }
+        final Progress progress = new Progress(comparablePixels);
+
+        long[] counts = process(tiles, totalPixels, (tile, tileCounts) -> {
+            if (progress.decided) {
+                return;
+            }
+            int[] expectedRow = new int[tile.width];
+            int[] actualRow = new int[tile.width];
+            long errors = 0;
+            long ignored = 0;
+            for (int y = tile.y; y < tile.y + tile.height; y++) {
+                expectedReader.read(tile.x, y, tile.width, expectedRow);
+                actualReader.read(tile.x, y, tile.width, actualRow);
+                for (int i = 0; i < tile.width; i++) {
+                    int expectedRgb = expectedRow[i];
+                    if (useIgnoreColor && expectedRgb == ignoreColor) {
+                        ignored++;
+                    } else if (!doRGBsMatch(expectedRgb, actualRow[i], rgbDeviationPercent)) {
+                        errors++;
+                    }
+                }
+            }
+            tileCounts[0] += errors;
+            tileCounts[1] += ignored;
+            progress.add(errors, ignored, (long) tile.width * tile.height);
+        });
+        pixelsInError = counts[0];
+        ignoredPixels = counts[1];
+        exact = !progress.decided;
+        return this;
+    }
+
+    /**
+     * @return TRUE if the counters cover all pixels, FALSE if the comparison stopped early
+     */
+    public boolean isExact() {
+        assertCompared();
+        return exact;
+    }
+
+    /**
+     * @return Percentage of pixels that are different
+     */
+    public double getDistance() {
+        assertCompared();
+        return ((double) pixelsInError / (totalPixels - ignoredPixels)) * 100;
+    }
+
+    public long getPixelsInError() {
+        assertCompared();
+        return pixelsInError;
+    }
+
+    public long getIgnoredPixels() {
+        assertCompared();
+        return ignoredPixels;
+    }
+
+    public long getTotalPixels() {
+        assertCompared();
+        return totalPixels;
+    }
+
+    /**
+     * @return FALSE if the distance image would be equal to the expected image
+     */
+    public boolean hasDifferences() {
+        assertCompared();
+        return !exact
+                || pixelsInError > 0
+                || markedRectangles != null
+                || expectedImage.getWidth() != actualImage.getWidth()
+                || expectedImage.getHeight() != actualImage.getHeight();
+    }
+
+    /**
+     * Creates an image of the size of both images, showing the expected image with errors in red
+     * and pixels that are not part of both images in blue.
+     * Counts all pixels again, so that the distance is exact afterwards.
+     */
+    public BufferedImage createDistanceImage() {
+        final BufferedImage distanceImage = new BufferedImage(width, height, expectedImage.getType());
+        final List<Rectangle> rectangles = getRectanglesToCompare();
+        final int ignoreColor = expectedImage.getRGB(0, 0);
+        final RowReader expectedReader = RowReader.of(expectedImage);
+        final RowReader actualReader = RowReader.of(actualImage);
+        final RowWriter distanceWriter = RowWriter.of(distanceImage);
+        final int expectedWidth = expectedImage.getWidth();
+        final int expectedHeight = expectedImage.getHeight();
+        final int actualWidth = actualImage.getWidth();
+        final int actualHeight = actualImage.getHeight();
+
+        List<Rectangle> tiles = new ArrayList<>();
+        addTiles(new Rectangle(0, 0, width, height), tiles);
+
+        long[] counts = process(tiles, (long) width * height, (tile, tileCounts) -> {
+            int[] expectedRow = new int[width];
+            int[] actualRow = new int[width];
+            int[] distanceRow = new int[width];
+            for (int y = tile.y; y < tile.y + tile.height; y++) {
+                int expectedRowWidth = y < expectedHeight ? expectedWidth : 0;
+                int actualRowWidth = y < actualHeight ? actualWidth : 0;
+                if (expectedRowWidth > 0) {
+                    expectedReader.read(0, y, expectedRowWidth, expectedRow);
+                }
+                if (actualRowWidth > 0) {
+                    actualReader.read(0, y, actualRowWidth, actualRow);
+                }
+
+                if (markedRectangles != null) {
+                    // Darken everything outside of the marked areas
+                    for (int x = 0; x < width; x++) {
+                        distanceRow[x] = x < expectedRowWidth ? darker(darker(expectedRow[x])) : COLOR_OUT_OF_BOUNDS;
+                    }
+                }
+
+                for (Rectangle rectangle : rectangles) {
+                    if (y < rectangle.y || y >= rectangle.y + rectangle.height) {
+                        continue;
+                    }
+                    int endX = Math.min(width, rectangle.x + rectangle.width);
+                    for (int x = Math.max(0, rectangle.x); x < endX; x++) {
+                        if (x < expectedRowWidth && x < actualRowWidth) {
+                            int expectedRgb = expectedRow[x];
+                            boolean ignoredPixel = useIgnoreColor && expectedRgb == ignoreColor;
+                            if (ignoredPixel) {
+                                tileCounts[1]++;
+                                distanceRow[x] = expectedRgb;
+                            } else if (!doRGBsMatch(expectedRgb, actualRow[x], rgbDeviationPercent)) {
+                                tileCounts[0]++;
+                                distanceRow[x] = COLOR_ERROR;
+                            } else {
+                                distanceRow[x] = expectedRgb;
+                            }
+                        } else {
+                            distanceRow[x] = COLOR_OUT_OF_BOUNDS;
+                        }
+                    }
+                }
+                distanceWriter.write(0, y, width, distanceRow);
+            }
+        });
+        if (compared) {
+            pixelsInError = counts[0];
+            ignoredPixels = counts[1];
+            exact = true;
+        }
+        return distanceImage;
+    }
+
+    /**
+     * Compares two ARGB values by their exact value or their deviation per color channel
+     */
+    public static boolean doRGBsMatch(int expectedRgb, int actualRgb, int rgbDeviationPercent) {
+        if (expectedRgb == actualRgb) {
+            return true;
+        }
+        if (rgbDeviationPercent > 0) {
+            return getDeviationPercent(expectedRgb >> 16, actualRgb >> 16) <= rgbDeviationPercent
+                    && getDeviationPercent(expectedRgb >> 8, actualRgb >> 8) <= rgbDeviationPercent
+                    && getDeviationPercent(expectedRgb, actualRgb) <= rgbDeviationPercent;
+        }
+        return false;
+    }
+
+    private static int getDeviationPercent(int expectedChannel, int actualChannel) {
+        return (int) (100 * Math.abs((expectedChannel & 0xFF) - (actualChannel & 0xFF)) / RGB_MAX_DEVIATION);
+    }
+
+    /**
+     * Same as calling {@link java.awt.Color#darker()} on an opaque color
+     */
+    private static int darker(int rgb) {
+        int red = (int) (((rgb >> 16) & 0xFF) * 0.7);
+        int green = (int) (((rgb >> 8) & 0xFF) * 0.7);
+        int blue = (int) ((rgb & 0xFF) * 0.7);
+        return 0xFF000000 | (red << 16) | (green << 8) | blue;
+    }
+
+    /**
+     * Compares the raster data of both images at once, if they are stored in the same layout.
+     * Only the standard RGB types are supported, because their pixel values depend on the raster data only.
+     */
+    private boolean hasEqualRasterData() {
+        if (expectedImage.getType() != actualImage.getType()
+                || !RASTER_COMPARABLE_TYPES.contains(expectedImage.getType())
+                || !expectedImage.getColorModel().equals(actualImage.getColorModel())
+                || expectedImage.getWidth() != actualImage.getWidth()
+                || expectedImage.getHeight() != actualImage.getHeight()) {
+            return false;
+        }
+        Raster expectedRaster = expectedImage.getRaster();
+        Raster actualRaster = actualImage.getRaster();
+        if (expectedRaster.getSampleModelTranslateX() != 0 || expectedRaster.getSampleModelTranslateY() != 0
+                || actualRaster.getSampleModelTranslateX() != 0 || actualRaster.getSampleModelTranslateY() != 0
+                || !expectedRaster.getSampleModel().equals(actualRaster.getSampleModel())
+                || expectedRaster.getDataBuffer().getOffset() != 0 || actualRaster.getDataBuffer().getOffset() != 0) {
+            return false;
+        }
+        DataBuffer expectedBuffer = expectedRaster.getDataBuffer();
+        DataBuffer actualBuffer = actualRaster.getDataBuffer();
+        if (expectedBuffer instanceof DataBufferInt && actualBuffer instanceof DataBufferInt) {
+            return Arrays.equals(((DataBufferInt) expectedBuffer).getData(), ((DataBufferInt) actualBuffer).getData());
+        } else if (expectedBuffer instanceof DataBufferByte && actualBuffer instanceof DataBufferByte) {
+            return Arrays.equals(((DataBufferByte) expectedBuffer).getData(), ((DataBufferByte) actualBuffer).getData());
+        }
+        return false;
+    }
+
+    private List<Rectangle> getRectanglesToCompare() {
+        if (markedRectangles == null) {
+            return Collections.singletonList(new Rectangle(0, 0, width, height));
+        }
+        return markedRectangles;
+    }
+
+    private static void addTiles(Rectangle area, List<Rectangle> tiles) {
+        for (int y = area.y; y < area.y + area.height; y += TILE_HEIGHT) {
+            tiles.add(new Rectangle(area.x, y, area.width, Math.min(TILE_HEIGHT, area.y + area.height - y)));
+        }
+    }
+
+    /**
+     * @return The summed up counters of all tiles
+     */
+    private static long[] process(List<Rectangle> tiles, long pixels, TileProcessor processor) {
+        if (pixels < MIN_PIXELS_FOR_PARALLELISM) {
+            long[] counts = new long[2];
+            for (Rectangle tile : tiles) {
+                processor.process(tile, counts);
+            }
+            return counts;
+        }
+        TileTask task = new TileTask(tiles, 0, tiles.size(), processor);
+        ForkJoinPool.commonPool().invoke(task);
+        return task.counts;
+    }
+
+    private void assertCompared() {
+        if (!compared) {
+            throw new IllegalStateException("Images not compared yet");
+        }
+    }
+
+    /**
+     * Tracks the compared tiles to decide about the {@link #maxDistance} as early as possible
+     */
+    private class Progress {
+        private final long comparablePixels;
+        private long errors = 0;
+        private long ignored = 0;
+        private long processed = 0;
+        private volatile boolean decided = false;
+
+        Progress(long comparablePixels) {
+            this.comparablePixels = comparablePixels;
+        }
+
+        synchronized void add(long tileErrors, long tileIgnored, long tilePixels) {
+            errors += tileErrors;
+            ignored += tileIgnored;
+            processed += tilePixels;
+            if (Double.isNaN(maxDistance) || decided || processed >= comparablePixels) {
+                return;
+            }
+            long unprocessed = comparablePixels - processed;
+            double pixels = totalPixels - ignored;
+            // Further ignored pixels can only increase the distance
+            boolean exceeded = errors / pixels * 100 > maxDistance;
+            // Worst case: all remaining pixels are errors, or all of them are ignored
+            double worstDistance = Math.max(
+                    (errors + unprocessed) / pixels,
+                    pixels - unprocessed > 0 ? errors / (pixels - unprocessed) : Double.POSITIVE_INFINITY
+            ) * 100;
+            decided = exceeded || worstDistance <= maxDistance;
+        }
+    }
+
+    private interface TileProcessor {
+        /**
+         * @param counts Counters for errors and ignored pixels
+         */
+        void process(Rectangle tile, long[] counts);
+    }
+
+    /**
+     * Processes a range of tiles by splitting it in halves and sums up their counters
+     */
+    private static class TileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final List<Rectangle> tiles;
+        private final int from;
+        private final int to;
+        private final TileProcessor processor;
+        private final long[] counts = new long[2];
+
+        TileTask(List<Rectangle> tiles, int from, int to, TileProcessor processor) {
+            this.tiles = tiles;
+            this.from = from;
+            this.to = to;
+            this.processor = processor;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (to > from) {
+                    processor.process(tiles.get(from), counts);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            TileTask left = new TileTask(tiles, from, middle, processor);
+            TileTask right = new TileTask(tiles, middle, to, processor);
+            invokeAll(left, right);
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = left.counts[i] + right.counts[i];
+            }
+        }
+    }
+
+    /**
+     * Reads rows of pixels as ARGB values like {@link BufferedImage#getRGB(int, int)},
+     * directly from the raster data for the common image types.
+     */
+    private interface RowReader {
+        void read(int x, int y, int width, int[] rgbRow);
+
+        static RowReader of(BufferedImage image) {
+            Raster raster = image.getRaster();
+            int translateX = raster.getSampleModelTranslateX();
+            int translateY = raster.getSampleModelTranslateY();
+            switch (image.getType()) {
+                case BufferedImage.TYPE_INT_RGB:
+                case BufferedImage.TYPE_INT_ARGB: {
+                    DataBufferInt dataBuffer = (DataBufferInt) raster.getDataBuffer();
+                    int[] data = dataBuffer.getData();
+                    int offset = dataBuffer.getOffset();
+                    int scanlineStride = ((SinglePixelPackedSampleModel) raster.getSampleModel()).getScanlineStride();
+                    int alpha = image.getType() == BufferedImage.TYPE_INT_RGB ? 0xFF000000 : 0;
+                    return (x, y, width, rgbRow) -> {
+                        int index = offset + (y - translateY) * scanlineStride + (x - translateX);
+                        for (int i = 0; i < width; i++) {
+                            rgbRow[i] = data[index + i] | alpha;
+                        }
+                    };
+                }
+                case BufferedImage.TYPE_3BYTE_BGR:
+                case BufferedImage.TYPE_4BYTE_ABGR: {
+                    DataBufferByte dataBuffer = (DataBufferByte) raster.getDataBuffer();
+                    byte[] data = dataBuffer.getData();
+                    int offset = dataBuffer.getOffset();
+                    ComponentSampleModel sampleModel = (ComponentSampleModel) raster.getSampleModel();
+                    int scanlineStride = sampleModel.getScanlineStride();
+                    int pixelStride = sampleModel.getPixelStride();
+                    int[] bandOffsets = sampleModel.getBandOffsets();
+                    int red = bandOffsets[0];
+                    int green = bandOffsets[1];
+                    int blue = bandOffsets[2];
+                    boolean hasAlpha = bandOffsets.length > 3;
+                    int alpha = hasAlpha ? bandOffsets[3] : 0;
+                    return (x, y, width, rgbRow) -> {
+                        int index = offset + (y - translateY) * scanlineStride + (x - translateX) * pixelStride;
+                        for (int i = 0; i < width; i++, index += pixelStride) {
+                            int a = hasAlpha ? (data[index + alpha] & 0xFF) : 0xFF;
+                            rgbRow[i] = (a << 24)
+                                    | ((data[index + red] & 0xFF) << 16)
+                                    | ((data[index + green] & 0xFF) << 8)
+                                    | (data[index + blue] & 0xFF);
+                        }
+                    };
+                }
+                default:
+                    return (x, y, width, rgbRow) -> image.getRGB(x, y, width, 1, rgbRow, 0, width);
+            }
+        }
+    }
+
+    /**
+     * Writes rows of ARGB values like {@link BufferedImage#setRGB(int, int, int)},
+     * directly into the raster data for the common image types.
+     */
+    private interface RowWriter {
+        void write(int x, int y, int width, int[] rgbRow);
+
+        static RowWriter of(BufferedImage image) {
+            WritableRaster raster = image.getRaster();
+            int translateX = raster.getSampleModelTranslateX();
+            int translateY = raster.getSampleModelTranslateY();
+            switch (image.getType()) {
+                case BufferedImage.TYPE_INT_RGB:
+                case BufferedImage.TYPE_INT_ARGB: {
+                    DataBufferInt dataBuffer = (DataBufferInt) raster.getDataBuffer();
+                    int[] data = dataBuffer.getData();
+                    int offset = dataBuffer.getOffset();
+                    int scanlineStride = ((SinglePixelPackedSampleModel) raster.getSampleModel()).getScanlineStride();
+                    int mask = image.getType() == BufferedImage.TYPE_INT_RGB ? 0x00FFFFFF : 0xFFFFFFFF;
+                    return (x, y, width, rgbRow) -> {
+                        int index = offset + (y - translateY) * scanlineStride + (x - translateX);
+                        for (int i = 0; i < width; i++) {
+                            data[index + i] = rgbRow[i] & mask;
+                        }
+                    };
+                }
+                case BufferedImage.TYPE_3BYTE_BGR:
+                case BufferedImage.TYPE_4BYTE_ABGR: {
+                    DataBufferByte dataBuffer = (DataBufferByte) raster.getDataBuffer();
+                    byte[] data = dataBuffer.getData();
+                    int offset = dataBuffer.getOffset();
+                    ComponentSampleModel sampleModel = (ComponentSampleModel) raster.getSampleModel();
+                    int scanlineStride = sampleModel.getScanlineStride();
+                    int pixelStride = sampleModel.getPixelStride();
+                    int[] bandOffsets = sampleModel.getBandOffsets();
+                    int red = bandOffsets[0];
+                    int green = bandOffsets[1];
+                    int blue = bandOffsets[2];
+                    boolean hasAlpha = bandOffsets.length > 3;
+                    int alpha = hasAlpha ? bandOffsets[3] : 0;
+                    return (x, y, width, rgbRow) -> {
+                        int index = offset + (y - translateY) * scanlineStride + (x - translateX) * pixelStride;
+                        for (int i = 0; i < width; i++, index += pixelStride) {
+                            int rgb = rgbRow[i];
+                            if (hasAlpha) {
+                                data[index + alpha] = (byte) (rgb >>> 24);
+                            }
+                            data[index + red] = (byte) (rgb >> 16);
+                            data[index + green] = (byte) (rgb >> 8);
+                            data[index + blue] = (byte) rgb;
+                        }
+                    };
+                }
+                default:
+                    return (x, y, width, rgbRow) -> image.setRGB(x, y, width, 1, rgbRow, 0, width);
+            }
+        }
+    }
+}
@@ -68,6 +68,21 @@ public class LayoutElement implements Serializable {
         corners[Corners.LOWER_RIGHT.i] = new Point2D(upperLeftCorner.x + size.x, upperLeftCorner.y + size.y);
     }
 
+    /**
+     * Copy constructor. The copy has its own corners, but shares the points and the image with the given element.
+     *
+     * @param layoutElement Element to copy.
+     */
+    public LayoutElement(LayoutElement layoutElement) {
+        points = layoutElement.points;
+        image = layoutElement.image;
+        corners = new Point2D[numberOfCorners];
+        for (int i = 0; i < numberOfCorners; i++) {
+            Point2D corner = layoutElement.corners[i];
+            corners[i] = (corner != null) ? new Point2D(corner) : null;
+        }
+    }
+
     public void addPoint(Point2D point) {
         points.add(point);
     }
@@ -30,8 +30,17 @@ import eu.tsystems.mms.tic.testframework.layout.matching.graph.DistanceGraph;
 import eu.tsystems.mms.tic.testframework.layout.matching.matchers.TemplateMatchingAlgorithm;
 import org.opencv.core.Mat;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * User: rnhb
@@ -39,6 +48,22 @@ import java.util.List;
  */
 public class GraphBasedTemplateMatcher extends TemplateMatcher {
 
+    private static final int MATCHING_THREADS = Math.max(1, PropertyManager.getIntProperty(
+            TesterraProperties.LAYOUTCHECK_MATCHING_THREADS,
+            Math.min(4, Runtime.getRuntime().availableProcessors())));
+
+    /**
+     * Shared by all layout checks to limit the memory used for the correlation results
+     */
+    private static class ExecutorHolder {
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(MATCHING_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "Testerra Template Matching " + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     private double minimalDistanceBetweenMatches = PropertyManager.getIntProperty(
             TesterraProperties.LAYOUTCHECK_MIN_MATCH_DISTANCE,
             DefaultParameter.LAYOUTCHECK_MIN_MATCH_DISTANCE);
@@ -59,11 +84,10 @@ public class GraphBasedTemplateMatcher extends TemplateMatcher {
     @Override
     public DistanceGraph matchTemplates(Mat imageToMatch, List<LayoutElement> layoutElements) {
         DistanceGraph distanceGraph = generateInitialDistanceGraph(layoutElements);
-        for (LayoutElement layoutElement : layoutElements) {
-            List<ValuedPoint2D> matchingPoints = templateMatchingAlgorithm.findMatchingPoints(layoutElement, imageToMatch);
-            List<ValuedPoint2D> isolatedPoints = cleanGroupedPoints(matchingPoints);
-            for (ValuedPoint2D isolatedPoint : isolatedPoints) {
-                distanceGraph.createMatchNode(layoutElement, isolatedPoint);
+        List<List<ValuedPoint2D>> isolatedPointsPerElement = findIsolatedPoints(imageToMatch, layoutElements);
+        for (int i = 0; i < layoutElements.size(); i++) {
+            for (ValuedPoint2D isolatedPoint : isolatedPointsPerElement.get(i)) {
+                distanceGraph.createMatchNode(layoutElements.get(i), isolatedPoint);
             }
         }
         distanceGraph.combineMatchNodes();
@@ -76,66 +100,116 @@ public class GraphBasedTemplateMatcher extends TemplateMatcher {
         return distanceGraph;
     }
 
+    /**
+     * Matches the templates concurrently, when more than one matching thread is configured.
+     *
+     * @return Isolated points in the same order as the layout elements
+     */
+    private List<List<ValuedPoint2D>> findIsolatedPoints(Mat imageToMatch, List<LayoutElement> layoutElements) {
+        List<List<ValuedPoint2D>> isolatedPointsPerElement = new ArrayList<>(layoutElements.size());
+        if (MATCHING_THREADS == 1 || layoutElements.size() < 2) {
+            for (LayoutElement layoutElement : layoutElements) {
+                isolatedPointsPerElement.add(cleanGroupedPoints(templateMatchingAlgorithm.findMatchingPoints(layoutElement, imageToMatch)));
+            }
+            return isolatedPointsPerElement;
+        }
+
+        List<Future<List<ValuedPoint2D>>> futures = new ArrayList<>(layoutElements.size());
+        for (LayoutElement layoutElement : layoutElements) {
+            futures.add(ExecutorHolder.EXECUTOR.submit(() -> cleanGroupedPoints(templateMatchingAlgorithm.findMatchingPoints(layoutElement, imageToMatch))));
+        }
+        try {
+            for (Future<List<ValuedPoint2D>> future : futures) {
+                isolatedPointsPerElement.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while matching templates", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Unable to match templates", e.getCause());
+        }
+        return isolatedPointsPerElement;
+    }
+
     /**
      * Sometimes matches are found on the same object at different pixels, for example two matches 1 pixel apart from each other,
      * because both scored very high. We need to detect such cases and regard it as a single match.
+     * Points closer than 'MINIMAL_DISTANCE_BETWEEN_MATCHES' to each other belong to the same match. To find them,
+     * the points are sorted into a grid with this cell size, so only the neighbour cells need to be compared.
      *
      * @param matchedPoints Points where a match is found.
      * @return List of locations of actually matched object.
      */
     private List<ValuedPoint2D> cleanGroupedPoints(List<ValuedPoint2D> matchedPoints) {
-        if (matchedPoints.size() == 1) {
+        if (matchedPoints.size() <= 1) {
             return matchedPoints;
         }
 
-        List<ValuedPoint2D> isolatedPoints = new LinkedList<>();
-        while (!matchedPoints.isEmpty()) {
-            float x = 0;
-            float y = 0;
-            float value = 0;
-            float count = 0;
-            List<ValuedPoint2D> pointsInArea = getPointsInArea(matchedPoints, minimalDistanceBetweenMatches);
-            for (ValuedPoint2D point : pointsInArea) {
-                matchedPoints.remove(point);
-                x += point.x;
-                y += point.y;
-                value += point.value;
-                count++;
+        ValuedPoint2D[] points = matchedPoints.toArray(new ValuedPoint2D[0]);
+        int[] parents = new int[points.length];
+        double cellSize = Math.max(1, minimalDistanceBetweenMatches);
+        Map<Long, List<Integer>> grid = new HashMap<>();
+        for (int i = 0; i < points.length; i++) {
+            parents[i] = i;
+            long cellX = (long) Math.floor(points[i].x / cellSize);
+            long cellY = (long) Math.floor(points[i].y / cellSize);
+            for (long neighbourX = cellX - 1; neighbourX <= cellX + 1; neighbourX++) {
+                for (long neighbourY = cellY - 1; neighbourY <= cellY + 1; neighbourY++) {
+                    List<Integer> cell = grid.get(getCellKey(neighbourX, neighbourY));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int j : cell) {
+                        if (points[i].getEuclideanDistance(points[j]) < minimalDistanceBetweenMatches) {
+                            union(parents, i, j);
+                        }
+                    }
+                }
             }
-            isolatedPoints.add(new ValuedPoint2D(Math.round(x / count), Math.round(y / count), value / count));
+            grid.computeIfAbsent(getCellKey(cellX, cellY), key -> new ArrayList<>()).add(i);
+        }
+
+        /*
+        summarize each group of points into one point, in the order of their first point
+         */
+        Map<Integer, float[]> groups = new LinkedHashMap<>();
+        for (int i = 0; i < points.length; i++) {
+            float[] group = groups.computeIfAbsent(find(parents, i), root -> new float[4]);
+            group[0] += points[i].x;
+            group[1] += points[i].y;
+            group[2] += points[i].value;
+            group[3]++;
+        }
+        List<ValuedPoint2D> isolatedPoints = new LinkedList<>();
+        for (float[] group : groups.values()) {
+            isolatedPoints.add(new ValuedPoint2D(Math.round(group[0] / group[3]), Math.round(group[1] / group[3]), group[2] / group[3]));
         }
         return isolatedPoints;
     }
 
-    /**
-     * Returns all Points in an area defined by 'MINIMAL_DISTANCE_BETWEEN_MATCHES', so we can summarize them into one point.
-     *
-     * @param allPoints List of all points where this method should look for areas of near points.
-     * @return The first area that is found.
-     */
-    private List<ValuedPoint2D> getPointsInArea(List<ValuedPoint2D> allPoints, double maximalDistance) {
-        ValuedPoint2D basePoint;
-        if (allPoints.isEmpty())
-            return new LinkedList<>();
-        else basePoint = allPoints.get(0);
-
-        List<ValuedPoint2D> pointsInArea = new LinkedList<>();
-        pointsInArea.add(basePoint);
-        for (ValuedPoint2D point : allPoints) {
-            if (point != basePoint) {
-                boolean pointIsNear = false;
-                for (ValuedPoint2D potentialNearPoint : pointsInArea) {
-                    if (point.getEuclideanDistance(potentialNearPoint) < maximalDistance) {
-                        pointIsNear = true;
-                        break;
-                    }
-                }
-                if (pointIsNear) {
-                    pointsInArea.add(point);
-                }
-            }
+    private static long getCellKey(long cellX, long cellY) {
+        return (cellX << 32) ^ (cellY & 0xffffffffL);
+    }
+
+    private static int find(int[] parents, int i) {
+        while (parents[i] != i) {
+            parents[i] = parents[parents[i]];
+            i = parents[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parents, int i, int j) {
+        int rootI = find(parents, i);
+        int rootJ = find(parents, j);
+        if (rootI != rootJ) {
+            parents[Math.max(rootI, rootJ)] = Math.min(rootI, rootJ);
         }
-        return pointsInArea;
     }
 
 
@@ -31,6 +31,7 @@ import org.opencv.core.CvType;
 import org.opencv.core.Mat;
 import org.opencv.imgproc.Imgproc;
 
+import java.util.Comparator;
 import java.util.LinkedList;
 
 public class OpenCvTemplateMatcher implements
@@ -81,17 +82,25 @@ public class OpenCvTemplateMatcher implements
         int resultRows = imageToMatch.rows() - template.rows() + 1;
         Mat result = new Mat(resultRows, resultCols, CvType.CV_32FC1);
         Imgproc.matchTemplate(imageToMatch, template, result, matchingMode.i);
+        // read the scores with a single native call instead of one per pixel
+        float[] values = new float[resultRows * resultCols];
+        result.get(0, 0, values);
+        result.release();
         LinkedList<ValuedPoint2D> matchedPoints = new LinkedList<>();
-        for (int x = 0; x < resultCols; x++) {
-            for (int y = 0; y < resultRows; y++) {
-                double value = result.get(y, x)[0];
+        // scan in memory order
+        for (int y = 0, i = 0; y < resultRows; y++) {
+            for (int x = 0; x < resultCols; x++, i++) {
+                double value = values[i];
                 if (value > matchThreshold) {
-                    ValuedPoint2D p = new ValuedPoint2D(x, y, value);
-                    log().info(String.format("Found point %s for image %s with match: %f > %f", p, template.size(), value, matchThreshold));
-                    matchedPoints.add(p);
+                    matchedPoints.add(new ValuedPoint2D(x, y, value));
                 }
             }
         }
+        // keep the column wise order of the matches
+        matchedPoints.sort(Comparator.<ValuedPoint2D>comparingInt(point -> point.x).thenComparingInt(point -> point.y));
+        if (log().isDebugEnabled()) {
+            matchedPoints.forEach(point -> log().debug(String.format("Found point %s for image %s with match: %f > %f", point, template.size(), point.value, matchThreshold)));
+        }
         return matchedPoints;
     }
 }
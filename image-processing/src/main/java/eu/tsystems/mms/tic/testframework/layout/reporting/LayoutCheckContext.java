@@ -32,6 +32,10 @@ public class LayoutCheckContext implements CustomContext {
     public String image;
     public String mode;
     public double distance;
+    /**
+     * FALSE when the distance is only known to be lower or equal than the reported one
+     */
+    public boolean exactDistance = true;
     public Screenshot expectedScreenshot;
     public Screenshot actualScreenshot;
     public Screenshot distanceScreenshot;
@@ -43,9 +47,12 @@ public class LayoutCheckContext implements CustomContext {
         exported.put("image", this.image);
         exported.put("mode", this.mode);
         exported.put("actualDistance", this.distance);
+        exported.put("exactDistance", this.exactDistance);
         exported.put("expectedScreenshotPath", report.getRelativePath(expectedScreenshot.getScreenshotFile()));
         exported.put("actualScreenshotPath", report.getRelativePath(actualScreenshot.getScreenshotFile()));
-        exported.put("distanceScreenshotPath", report.getRelativePath(distanceScreenshot.getScreenshotFile()));
+        if (distanceScreenshot != null) {
+            exported.put("distanceScreenshotPath", report.getRelativePath(distanceScreenshot.getScreenshotFile()));
+        }
         return exported;
     }
 }
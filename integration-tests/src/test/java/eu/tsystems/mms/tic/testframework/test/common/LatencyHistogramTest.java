@@ -0,0 +1,113 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.test.common;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.protobuf.InvalidProtocolBufferException;
+import eu.tsystems.mms.tic.testframework.adapters.ContextExporter;
+import eu.tsystems.mms.tic.testframework.internal.LatencyHistogram;
+import eu.tsystems.mms.tic.testframework.report.model.context.ExecutionContext;
+import eu.tsystems.mms.tic.testframework.report.model.context.SessionContext;
+import eu.tsystems.mms.tic.testframework.report.utils.ExecutionContextController;
+import eu.tsystems.mms.tic.testframework.testing.TesterraTest;
+import eu.tsystems.mms.tic.testframework.webdrivermanager.UnspecificWebDriverRequest;
+import java.util.stream.IntStream;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class LatencyHistogramTest extends TesterraTest {
+
+    @Test
+    public void testT01_EmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(histogram.getCount(), 0);
+        Assert.assertEquals(histogram.getMean(), 0);
+        Assert.assertEquals(histogram.getPercentile(95), 0);
+    }
+
+    @Test
+    public void testT02_Percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        Assert.assertEquals(histogram.getCount(), 1000);
+        Assert.assertEquals(histogram.getTotal(), 500500);
+        Assert.assertEquals(histogram.getMax(), 1000);
+        long p50 = histogram.getPercentile(50);
+        Assert.assertTrue(p50 >= 500 && p50 <= 625, "p50 was " + p50);
+        long p95 = histogram.getPercentile(95);
+        Assert.assertTrue(p95 >= 950 && p95 <= 1000, "p95 was " + p95);
+        Assert.assertEquals(histogram.getPercentile(100), 1000);
+    }
+
+    @Test
+    public void testT03_LargeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-5);
+        Assert.assertEquals(histogram.getCount(), 2);
+        Assert.assertEquals(histogram.getPercentile(1), 0);
+        Assert.assertEquals(histogram.getPercentile(100), Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testT04_ConcurrentRecording() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.range(0, 100_000).parallel().forEach(i -> histogram.record(i % 100));
+        Assert.assertEquals(histogram.getCount(), 100_000);
+        Assert.assertEquals(histogram.getMax(), 99);
+    }
+
+    @Test
+    public void testT05_ExportToReportModel() throws InvalidProtocolBufferException {
+        ContextExporter contextExporter = new ContextExporter();
+
+        SessionContext sessionContext = new SessionContext(new UnspecificWebDriverRequest());
+        Assert.assertTrue(contextExporter.buildSessionContext(sessionContext).getGuiElementFindDurations().isEmpty());
+        sessionContext.getGuiElementFindDurations().record(10);
+        sessionContext.getGuiElementFindDurations().record(30);
+
+        byte[] sessionBytes = contextExporter.buildSessionContext(sessionContext).build().toByteArray();
+        JsonObject sessionDurations = JsonParser.parseString(
+                eu.tsystems.mms.tic.testframework.report.model.SessionContext.parseFrom(sessionBytes).getGuiElementFindDurations()
+        ).getAsJsonObject();
+        Assert.assertEquals(sessionDurations.get("count").getAsLong(), 2);
+        Assert.assertEquals(sessionDurations.get("totalMs").getAsLong(), 40);
+        Assert.assertEquals(sessionDurations.get("maxMs").getAsLong(), 30);
+
+        String locator = "By.id: " + getClass().getSimpleName();
+        LatencyHistogram locatorHistogram = new LatencyHistogram();
+        locatorHistogram.record(5);
+        ExecutionContextController.getCurrentExecutionContext().getGuiElementFindDurations().put(locator, locatorHistogram);
+
+        ExecutionContext executionContext = ExecutionContextController.getCurrentExecutionContext();
+        byte[] executionBytes = contextExporter.buildExecutionContext(executionContext).build().toByteArray();
+        JsonObject locatorDurations = JsonParser.parseString(
+                eu.tsystems.mms.tic.testframework.report.model.ExecutionContext.parseFrom(executionBytes).getGuiElementFindDurations()
+        ).getAsJsonObject();
+        Assert.assertEquals(locatorDurations.getAsJsonObject(locator).get("count").getAsLong(), 1);
+        Assert.assertEquals(locatorDurations.getAsJsonObject(locator).get("p95Ms").getAsLong(), 5);
+    }
+}
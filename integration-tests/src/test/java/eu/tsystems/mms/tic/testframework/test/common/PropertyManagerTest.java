@@ -28,6 +28,8 @@ import eu.tsystems.mms.tic.testframework.testing.TesterraTest;
 import eu.tsystems.mms.tic.testframework.webdrivermanager.WebDriverManager;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
 import org.openqa.selenium.WebDriver;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -452,4 +454,84 @@ public class PropertyManagerTest extends TesterraTest {
             Assert.assertEquals(PropertyManager.getProperty(TesterraProperties.BROWSER), actualBrowser);
         });
     }
+
+    @Test
+    public void test_cachedPropertyFollowsSystemProperties() {
+        PropertyManager.clearThreadlocalProperties();
+        System.setProperty("pm.cache.ref", "ref_{pm.cache.value}");
+        System.setProperty("pm.cache.value", "a");
+        try {
+            Assert.assertEquals(PropertyManager.getProperty("pm.cache.ref"), "ref_a");
+            Assert.assertEquals(PropertyManager.getProperty("pm.cache.ref"), "ref_a");
+
+            System.setProperty("pm.cache.value", "b");
+            Assert.assertEquals(PropertyManager.getProperty("pm.cache.ref"), "ref_b");
+
+            System.clearProperty("pm.cache.value");
+            Assert.assertEquals(PropertyManager.getProperty("pm.cache.ref"), "ref_{pm.cache.value}");
+
+            System.setProperty("pm.cache.ref", "changed");
+            Assert.assertEquals(PropertyManager.getProperty("pm.cache.ref"), "changed");
+        } finally {
+            System.clearProperty("pm.cache.ref");
+            System.clearProperty("pm.cache.value");
+        }
+        Assert.assertNull(PropertyManager.getProperty("pm.cache.ref"));
+    }
+
+    @Test
+    public void test_systemPropertiesAreNotReplaced() {
+        Properties systemProperties = System.getProperties();
+        PropertyManager.getProperty("pm.cache.any");
+        Assert.assertSame(System.getProperties(), systemProperties);
+        Assert.assertEquals(systemProperties.getClass(), Properties.class);
+
+        Properties replacedProperties = new Properties();
+        replacedProperties.putAll(systemProperties);
+        replacedProperties.setProperty("pm.cache.replaced", "replaced");
+        System.setProperties(replacedProperties);
+        try {
+            Assert.assertEquals(PropertyManager.getProperty("pm.cache.replaced"), "replaced");
+        } finally {
+            System.setProperties(systemProperties);
+        }
+        Assert.assertNull(PropertyManager.getProperty("pm.cache.replaced"));
+    }
+
+    @Test
+    public void test_cachedPropertyFollowsFileProperties() {
+        PropertyManager.clearThreadlocalProperties();
+        Properties fileProperties = PropertyManager.getFileProperties();
+        fileProperties.setProperty("pm.cache.file", "1");
+        try {
+            Assert.assertEquals(PropertyManager.getIntProperty("pm.cache.file"), 1);
+            fileProperties.setProperty("pm.cache.file", "2");
+            Assert.assertEquals(PropertyManager.getIntProperty("pm.cache.file"), 2);
+        } finally {
+            fileProperties.remove("pm.cache.file");
+        }
+        Assert.assertEquals(PropertyManager.getIntProperty("pm.cache.file"), -1);
+    }
+
+    @Test
+    public void test_testLocalPropertiesDontAffectOtherThreads() throws InterruptedException {
+        PropertyManager.clearThreadlocalProperties();
+        System.setProperty("pm.cache.shared", "system");
+        try {
+            Assert.assertEquals(PropertyManager.getProperty("pm.cache.shared"), "system");
+
+            AtomicReference<String> otherThreadValue = new AtomicReference<>();
+            Thread thread = new Thread(() -> {
+                PropertyManager.getTestLocalProperties().setProperty("pm.cache.shared", "local");
+                otherThreadValue.set(PropertyManager.getProperty("pm.cache.shared"));
+            });
+            thread.start();
+            thread.join();
+
+            Assert.assertEquals(otherThreadValue.get(), "local");
+            Assert.assertEquals(PropertyManager.getProperty("pm.cache.shared"), "system");
+        } finally {
+            System.clearProperty("pm.cache.shared");
+        }
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.test.events;
+
+import eu.tsystems.mms.tic.testframework.events.SubscriberLock;
+import eu.tsystems.mms.tic.testframework.testing.TesterraTest;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class SubscriberLockTest extends TesterraTest {
+
+    private static class ShardedSubscriber {
+    }
+
+    private static class ContendedSubscriber {
+    }
+
+    @Test
+    public void testDifferentShardsRunConcurrently() throws Exception {
+        SubscriberLock subscriberLock = SubscriberLock.of(ShardedSubscriber.class);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread thread = new Thread(() -> subscriberLock.run("first", () -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        thread.start();
+        Assert.assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // would block if the shards shared a lock
+        subscriberLock.run("second", release::countDown);
+        thread.join();
+
+        Assert.assertEquals(subscriberLock.getInvocations(), 2);
+        Assert.assertEquals(subscriberLock.getContentions(), 0);
+    }
+
+    @Test
+    public void testSameShardIsSerialized() throws Exception {
+        SubscriberLock subscriberLock = SubscriberLock.of(ContendedSubscriber.class);
+        Object shard = new Object();
+        CountDownLatch entered = new CountDownLatch(1);
+
+        Thread thread = new Thread(() -> subscriberLock.run(shard, () -> {
+            entered.countDown();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        thread.start();
+        Assert.assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        subscriberLock.run(shard, () -> {});
+        thread.join();
+
+        Assert.assertEquals(subscriberLock.getContentions(), 1);
+        Assert.assertTrue(subscriberLock.getWaitTimeInMs() > 0);
+        Assert.assertTrue(SubscriberLock.readLocks().anyMatch(lock -> lock == subscriberLock));
+    }
+}
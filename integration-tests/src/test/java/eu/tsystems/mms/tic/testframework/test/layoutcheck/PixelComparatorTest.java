@@ -0,0 +1,344 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+ package eu.tsystems.mms.tic.testframework.test.layoutcheck;
+
+import eu.tsystems.mms.tic.testframework.common.PropertyManager;
+import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
+import eu.tsystems.mms.tic.testframework.layout.LayoutCheck;
+import eu.tsystems.mms.tic.testframework.layout.PixelComparator;
+import eu.tsystems.mms.tic.testframework.testing.TesterraTest;
+import java.awt.Color;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Compares the results of the {@link PixelComparator} with the former single threaded
+ * implementation of LayoutCheck on randomized images.
+ */
+public class PixelComparatorTest extends TesterraTest {
+
+    private static final int[] IMAGE_TYPES = {
+            BufferedImage.TYPE_INT_RGB,
+            BufferedImage.TYPE_INT_ARGB,
+            BufferedImage.TYPE_3BYTE_BGR,
+            BufferedImage.TYPE_4BYTE_ABGR,
+            BufferedImage.TYPE_USHORT_565_RGB,
+    };
+
+    private static final int CASES = 150;
+
+    private static class LegacyResult {
+        private BufferedImage distanceImage;
+        private double distance;
+    }
+
+    @Test
+    public void testRandomizedImagesMatchLegacyImplementation() {
+        Random random = new Random(4711);
+
+        for (int i = 0; i < CASES; i++) {
+            // Every 5th case is large enough to be compared in parallel
+            int width = (i % 5 == 0) ? 260 + random.nextInt(200) : 1 + random.nextInt(80);
+            int height = (i % 5 == 0) ? 260 + random.nextInt(200) : 1 + random.nextInt(80);
+            int type = IMAGE_TYPES[random.nextInt(IMAGE_TYPES.length)];
+            BufferedImage expectedImage = createRandomImage(width, height, type, random);
+
+            int actualWidth = width;
+            int actualHeight = height;
+            if (random.nextInt(4) == 0) {
+                actualWidth = Math.max(1, width + random.nextInt(21) - 10);
+                actualHeight = Math.max(1, height + random.nextInt(21) - 10);
+            }
+            int actualType = random.nextBoolean() ? type : IMAGE_TYPES[random.nextInt(IMAGE_TYPES.length)];
+            BufferedImage actualImage = createModifiedImage(expectedImage, actualWidth, actualHeight, actualType, random);
+
+            boolean useIgnoreColor = random.nextInt(3) == 0;
+            int rgbDeviationPercent = random.nextBoolean() ? 0 : random.nextInt(10);
+            List<Rectangle> markedRectangles = null;
+            if (!useIgnoreColor && random.nextInt(3) == 0) {
+                markedRectangles = createRandomRectangles(Math.min(width, actualWidth), Math.min(height, actualHeight), random);
+            }
+
+            String description = String.format("case %d: %dx%d type %d, actual %dx%d type %d, ignoreColor=%s, deviation=%d, marked=%s",
+                    i, width, height, type, actualWidth, actualHeight, actualType, useIgnoreColor, rgbDeviationPercent, markedRectangles);
+
+            LegacyResult legacyResult = compareLegacy(expectedImage, actualImage, useIgnoreColor, rgbDeviationPercent, markedRectangles);
+
+            PixelComparator pixelComparator = new PixelComparator(expectedImage, actualImage)
+                    .setUseIgnoreColor(useIgnoreColor)
+                    .setRgbDeviationPercent(rgbDeviationPercent)
+                    .setMarkedRectangles(markedRectangles)
+                    .compare();
+            Assert.assertEquals(pixelComparator.getDistance(), legacyResult.distance, 0.0, description);
+
+            if (pixelComparator.hasDifferences()) {
+                assertEqualPixels(pixelComparator.createDistanceImage(), legacyResult.distanceImage, description);
+            } else {
+                // The reference image is used as distance image
+                assertEqualPixels(expectedImage, legacyResult.distanceImage, description);
+            }
+
+            double maxDistance = random.nextDouble() * 10;
+            PixelComparator earlyExitComparator = new PixelComparator(expectedImage, actualImage)
+                    .setUseIgnoreColor(useIgnoreColor)
+                    .setRgbDeviationPercent(rgbDeviationPercent)
+                    .setMarkedRectangles(markedRectangles)
+                    .setMaxDistance(maxDistance)
+                    .compare();
+            Assert.assertEquals(earlyExitComparator.getDistance() > maxDistance, legacyResult.distance > maxDistance, description + ", maxDistance=" + maxDistance);
+            if (earlyExitComparator.isExact()) {
+                Assert.assertEquals(earlyExitComparator.getDistance(), legacyResult.distance, 0.0, description + ", maxDistance=" + maxDistance);
+            } else {
+                Assert.assertTrue(earlyExitComparator.getDistance() <= legacyResult.distance, description + ", maxDistance=" + maxDistance);
+            }
+        }
+    }
+
+    @Test
+    public void testEqualRasterDataWithDifferentColorModels() {
+        byte[] black = {0, 0};
+        byte[] white = {(byte) 0xFF, (byte) 0xFF};
+        BufferedImage expectedImage = new BufferedImage(10, 10, BufferedImage.TYPE_BYTE_INDEXED, new IndexColorModel(1, 2, black, black, black));
+        BufferedImage actualImage = new BufferedImage(10, 10, BufferedImage.TYPE_BYTE_INDEXED, new IndexColorModel(1, 2, white, white, white));
+
+        PixelComparator pixelComparator = new PixelComparator(expectedImage, actualImage).compare();
+        Assert.assertEquals(pixelComparator.getDistance(), 100.0);
+    }
+
+    @Test
+    public void testEarlyPassedLayoutCheckReportsMaxDistance() throws IOException {
+        Path tempDir = Files.createTempDirectory("layoutcheck");
+        Properties properties = PropertyManager.getTestLocalProperties();
+        properties.setProperty(TesterraProperties.LAYOUTCHECK_REFERENCE_PATH, tempDir.resolve("reference").toString());
+        properties.setProperty(TesterraProperties.LAYOUTCHECK_ACTUAL_PATH, tempDir.resolve("actual").toString());
+        properties.setProperty(TesterraProperties.LAYOUTCHECK_DISTANCE_PATH, tempDir.resolve("distance").toString());
+        properties.setProperty(TesterraProperties.LAYOUTCHECK_REFERENCE_NAMETEMPLATE, "Reference%s.png");
+        properties.setProperty(TesterraProperties.LAYOUTCHECK_DISTANCE_NAMETEMPLATE, "Distance%s.png");
+
+        // Many tiles with a single different pixel each, so that the comparison passes after the first tiles
+        BufferedImage expectedImage = new BufferedImage(100, 6400, BufferedImage.TYPE_INT_RGB);
+        BufferedImage actualImage = new BufferedImage(100, 6400, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < actualImage.getHeight(); y += 32) {
+            actualImage.setRGB(0, y, Color.WHITE.getRGB());
+        }
+        double exactDistance = 200 * 100.0 / (100 * 6400);
+
+        File referenceFile = tempDir.resolve("reference").resolve("ReferenceEarlyPass.png").toFile();
+        Assert.assertTrue(referenceFile.getParentFile().mkdirs());
+        ImageIO.write(expectedImage, "png", referenceFile);
+        File screenshot = tempDir.resolve("EarlyPass.png").toFile();
+        ImageIO.write(actualImage, "png", screenshot);
+
+        LayoutCheck.MatchStep step = LayoutCheck.matchPixels(screenshot, "EarlyPass", 90);
+        Assert.assertFalse(step.exactDistance);
+        Assert.assertEquals(step.distance, 90.0);
+
+        LayoutCheck.toReport(step, 90);
+        Assert.assertFalse(step.exactDistance);
+        Assert.assertFalse(tempDir.resolve("distance").resolve("DistanceEarlyPass.png").toFile().exists());
+
+        step = LayoutCheck.matchPixels(screenshot, "EarlyPass", 90);
+        LayoutCheck.toReport(step);
+        Assert.assertTrue(step.exactDistance);
+        Assert.assertEquals(step.distance, exactDistance, 0.0);
+    }
+
+    private BufferedImage createRandomImage(int width, int height, int type, Random random) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        int blockSize = 1 + random.nextInt(16);
+        int[] palette = new int[4 + random.nextInt(8)];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = random.nextInt();
+        }
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, palette[((x / blockSize) * 31 + (y / blockSize) * 17) % palette.length]);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Copies the image into a new one and changes some pixels completely or slightly
+     */
+    private BufferedImage createModifiedImage(BufferedImage source, int width, int height, int type, Random random) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (x < source.getWidth() && y < source.getHeight()) {
+                    image.setRGB(x, y, source.getRGB(x, y));
+                } else {
+                    image.setRGB(x, y, random.nextInt());
+                }
+            }
+        }
+        int changes = random.nextInt(4) == 0 ? 0 : random.nextInt(width * height / 10 + 1);
+        for (int i = 0; i < changes; i++) {
+            int x = random.nextInt(width);
+            int y = random.nextInt(height);
+            int rgb = image.getRGB(x, y);
+            if (random.nextBoolean()) {
+                image.setRGB(x, y, random.nextInt());
+            } else {
+                int offset = random.nextInt(31) - 15;
+                Color color = new Color(rgb, true);
+                image.setRGB(x, y, new Color(
+                        clamp(color.getRed() + offset),
+                        clamp(color.getGreen() - offset),
+                        clamp(color.getBlue() + offset),
+                        color.getAlpha()
+                ).getRGB());
+            }
+        }
+        return image;
+    }
+
+    private int clamp(int channel) {
+        return Math.max(0, Math.min(255, channel));
+    }
+
+    private List<Rectangle> createRandomRectangles(int width, int height, Random random) {
+        List<Rectangle> rectangles = new ArrayList<>();
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            int x = random.nextInt(width);
+            int y = random.nextInt(height);
+            rectangles.add(new Rectangle(x, y, 1 + random.nextInt(width - x), 1 + random.nextInt(height - y)));
+        }
+        return rectangles;
+    }
+
+    private void assertEqualPixels(BufferedImage actual, BufferedImage expected, String description) {
+        Assert.assertEquals(actual.getWidth(), expected.getWidth(), description);
+        Assert.assertEquals(actual.getHeight(), expected.getHeight(), description);
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                if (actual.getRGB(x, y) != expected.getRGB(x, y)) {
+                    Assert.fail(String.format("%s: pixel %d,%d differs: %08X != %08X", description, x, y, actual.getRGB(x, y), expected.getRGB(x, y)));
+                }
+            }
+        }
+    }
+
+    /**
+     * The distance image generation as it was implemented in LayoutCheck before
+     */
+    private LegacyResult compareLegacy(
+            BufferedImage expectedImage,
+            BufferedImage actualImage,
+            boolean useIgnoreColor,
+            int rgbDeviationPercent,
+            List<Rectangle> markedRectangles
+    ) {
+        int pixelsInError = 0;
+        int noOfIgnoredPixels = 0;
+        int width = Math.max(expectedImage.getWidth(), actualImage.getWidth());
+        int height = Math.max(expectedImage.getHeight(), actualImage.getHeight());
+        BufferedImage distanceImage = new BufferedImage(width, height, expectedImage.getType());
+
+        if (markedRectangles == null) {
+            markedRectangles = Collections.singletonList(new Rectangle(0, 0, width, height));
+        } else {
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    if (isInside(expectedImage, x, y)) {
+                        Color color = new Color(expectedImage.getRGB(x, y)).darker().darker();
+                        distanceImage.setRGB(x, y, color.getRGB());
+                    } else {
+                        distanceImage.setRGB(x, y, Color.BLUE.getRGB());
+                    }
+                }
+            }
+        }
+
+        int ignoreColor = expectedImage.getRGB(0, 0);
+
+        for (Rectangle rectangle : markedRectangles) {
+            for (int y = rectangle.y; y < rectangle.y + rectangle.height; y++) {
+                for (int x = rectangle.x; x < rectangle.x + rectangle.width; x++) {
+                    boolean insideExpected = isInside(expectedImage, x, y);
+                    boolean insideActual = isInside(actualImage, x, y);
+                    if (insideExpected) {
+                        distanceImage.setRGB(x, y, expectedImage.getRGB(x, y));
+                    }
+                    if (insideExpected && insideActual) {
+                        int expectedRgb = expectedImage.getRGB(x, y);
+                        int actualRgb = actualImage.getRGB(x, y);
+                        boolean ignoredPixel = useIgnoreColor && expectedRgb == ignoreColor;
+                        if (!ignoredPixel && !doRGBsMatchLegacy(expectedRgb, actualRgb, rgbDeviationPercent)) {
+                            distanceImage.setRGB(x, y, Color.RED.getRGB());
+                            pixelsInError++;
+                        }
+                        if (ignoredPixel) {
+                            noOfIgnoredPixels++;
+                        }
+                    } else {
+                        distanceImage.setRGB(x, y, Color.BLUE.getRGB());
+                    }
+                }
+            }
+        }
+
+        int totalPixels = 0;
+        for (Rectangle rectangle : markedRectangles) {
+            totalPixels += rectangle.height * rectangle.width;
+        }
+
+        LegacyResult result = new LegacyResult();
+        result.distanceImage = distanceImage;
+        result.distance = ((double) pixelsInError / (totalPixels - noOfIgnoredPixels)) * 100;
+        return result;
+    }
+
+    private boolean isInside(BufferedImage image, int x, int y) {
+        return image.getWidth() > x && image.getHeight() > y;
+    }
+
+    private boolean doRGBsMatchLegacy(int expectedRgb, int actualRgb, int rgbDeviationPercent) {
+        if (expectedRgb == actualRgb) {
+            return true;
+        }
+        if (rgbDeviationPercent > 0) {
+            Color expectedColor = new Color(expectedRgb);
+            Color actualColor = new Color(actualRgb);
+            int percentR = (int) (100 * (Math.abs(expectedColor.getRed() - actualColor.getRed())) / 255d);
+            int percentG = (int) (100 * (Math.abs(expectedColor.getGreen() - actualColor.getGreen())) / 255d);
+            int percentB = (int) (100 * (Math.abs(expectedColor.getBlue() - actualColor.getBlue())) / 255d);
+            return percentR <= rgbDeviationPercent && percentG <= rgbDeviationPercent && percentB <= rgbDeviationPercent;
+        }
+        return false;
+    }
+}
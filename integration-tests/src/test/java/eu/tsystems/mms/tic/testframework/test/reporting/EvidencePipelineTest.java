@@ -0,0 +1,133 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+ package eu.tsystems.mms.tic.testframework.test.reporting;
+
+import eu.tsystems.mms.tic.testframework.common.PropertyManager;
+import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
+import eu.tsystems.mms.tic.testframework.report.EvidencePipeline;
+import eu.tsystems.mms.tic.testframework.report.model.context.Screenshot;
+import eu.tsystems.mms.tic.testframework.testing.TesterraTest;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class EvidencePipelineTest extends TesterraTest {
+
+    @Test
+    public void testT01_QueueFullRunsInCallerThreadAndFlushAwaitsPendingTasks() throws InterruptedException {
+        PropertyManager.getTestLocalProperties().setProperty(TesterraProperties.SCREENSHOTTER_ASYNC_ACTIVE, "true");
+        int threads = Math.max(1, PropertyManager.getIntProperty(TesterraProperties.SCREENSHOTTER_ASYNC_THREADS, 2));
+        int queueSize = Math.max(1, PropertyManager.getIntProperty(TesterraProperties.SCREENSHOTTER_ASYNC_QUEUE_SIZE, 32));
+
+        CountDownLatch started = new CountDownLatch(threads);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger finished = new AtomicInteger();
+        Runnable blockingTask = () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finished.incrementAndGet();
+        };
+
+        // Occupy all workers before filling the queue
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(EvidencePipeline.submit(blockingTask));
+        }
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS), "Workers didn't start");
+        for (int i = 0; i < queueSize; i++) {
+            futures.add(EvidencePipeline.submit(blockingTask));
+        }
+
+        Thread caller = Thread.currentThread();
+        AtomicReference<Thread> executingThread = new AtomicReference<>();
+        CompletableFuture<Void> overflow = EvidencePipeline.submit(() -> executingThread.set(Thread.currentThread()));
+        Assert.assertTrue(overflow.isDone());
+        Assert.assertSame(executingThread.get(), caller);
+        Assert.assertEquals(finished.get(), 0);
+
+        Thread releaser = new Thread(() -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+        releaser.setDaemon(true);
+        releaser.start();
+
+        EvidencePipeline.flush();
+        Assert.assertEquals(finished.get(), threads + queueSize);
+        futures.forEach(future -> Assert.assertTrue(future.isDone()));
+    }
+
+    @Test
+    public void testT02_InactivePipelineRunsInCallerThread() {
+        PropertyManager.getTestLocalProperties().setProperty(TesterraProperties.SCREENSHOTTER_ASYNC_ACTIVE, "false");
+        Thread caller = Thread.currentThread();
+        AtomicReference<Thread> executingThread = new AtomicReference<>();
+
+        CompletableFuture<Void> future = EvidencePipeline.submit(() -> executingThread.set(Thread.currentThread()));
+        Assert.assertTrue(future.isDone());
+        Assert.assertSame(executingThread.get(), caller);
+
+        CompletableFuture<Void> failing = EvidencePipeline.submit(() -> {
+            throw new RuntimeException("Evidence failure");
+        });
+        Assert.assertTrue(failing.isDone());
+        Assert.assertFalse(failing.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testT03_ScreenshotGettersAwaitProcessing() {
+        PropertyManager.getTestLocalProperties().setProperty(TesterraProperties.SCREENSHOTTER_ASYNC_ACTIVE, "true");
+        Screenshot screenshot = new Screenshot();
+
+        screenshot.setProcessing(EvidencePipeline.submit(() -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // The processing itself doesn't wait for its own completion
+            screenshot.getScreenshotFile();
+            screenshot.setPageSourceFile(new File("source.html"));
+            screenshot.getMetaData().put(Screenshot.MetaData.TITLE, "processed");
+        }));
+
+        Assert.assertEquals(screenshot.getPageSourceFile().map(File::getName).orElse(null), "source.html");
+        Assert.assertEquals(screenshot.getMetaData().get(Screenshot.MetaData.TITLE), "processed");
+    }
+}
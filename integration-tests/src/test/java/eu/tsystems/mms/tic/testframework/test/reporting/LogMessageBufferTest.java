@@ -0,0 +1,143 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package eu.tsystems.mms.tic.testframework.test.reporting;
+
+import eu.tsystems.mms.tic.testframework.common.PropertyManager;
+import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
+import eu.tsystems.mms.tic.testframework.logging.LogMessageBuffer;
+import eu.tsystems.mms.tic.testframework.logging.LogMessageStore;
+import eu.tsystems.mms.tic.testframework.logging.MappedLogMessageStore;
+import eu.tsystems.mms.tic.testframework.report.model.context.LogMessage;
+import eu.tsystems.mms.tic.testframework.report.model.steps.TestStep;
+import eu.tsystems.mms.tic.testframework.report.model.steps.TestStepController;
+import eu.tsystems.mms.tic.testframework.testing.TesterraTest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Runs sequentially, because the {@link LogMessageStore} of the {@link LogMessageBuffer} is static.
+ */
+public class LogMessageBufferTest extends TesterraTest {
+
+    private static final int MEMORY_MESSAGES = PropertyManager.getIntProperty(TesterraProperties.REPORT_LOG_MEMORY_MESSAGES, 1000);
+
+    private interface StoreTest {
+        void run(MappedLogMessageStore store) throws Exception;
+    }
+
+    private void withStore(StoreTest test) throws Exception {
+        LogMessageStore previousStore = LogMessageBuffer.getLogMessageStore().orElse(null);
+        MappedLogMessageStore store = new MappedLogMessageStore(Files.createTempDirectory("testerra-logs-test").toFile(), 1024 * 1024);
+        LogMessageBuffer.setLogMessageStore(store);
+        try {
+            test.run(store);
+        } finally {
+            LogMessageBuffer.setLogMessageStore(previousStore);
+            store.close();
+        }
+    }
+
+    private List<LogMessage> createLogMessages(int count) {
+        List<LogMessage> logMessages = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            logMessages.add(new LogMessage(Log4jLogEvent.newBuilder()
+                    .setLoggerName(getClass().getName())
+                    .setLevel(Level.INFO)
+                    .setMessage(new SimpleMessage("Message " + i))
+                    .build()));
+        }
+        return logMessages;
+    }
+
+    @Test(groups = "SEQUENTIAL")
+    public void testT01_MessagesStayInHeapWithoutStore() {
+        LogMessageStore previousStore = LogMessageBuffer.getLogMessageStore().orElse(null);
+        LogMessageBuffer.setLogMessageStore(null);
+        try {
+            LogMessageBuffer buffer = new LogMessageBuffer();
+            List<LogMessage> logMessages = createLogMessages(MEMORY_MESSAGES + 1);
+            logMessages.forEach(logMessage -> Assert.assertTrue(buffer.add(logMessage)));
+            Assert.assertTrue(logMessages.stream().noneMatch(LogMessage::isStored));
+        } finally {
+            LogMessageBuffer.setLogMessageStore(previousStore);
+        }
+    }
+
+    @Test(groups = "SEQUENTIAL")
+    public void testT02_OldestMessagesAreMovedToStore() throws Exception {
+        withStore(store -> {
+            LogMessageBuffer buffer = new LogMessageBuffer();
+            List<LogMessage> logMessages = createLogMessages(MEMORY_MESSAGES + 2);
+            logMessages.forEach(logMessage -> Assert.assertTrue(buffer.add(logMessage)));
+
+            Assert.assertTrue(logMessages.get(0).isStored());
+            Assert.assertTrue(logMessages.get(1).isStored());
+            Assert.assertFalse(logMessages.get(2).isStored());
+            Assert.assertFalse(logMessages.get(logMessages.size() - 1).isStored());
+            Assert.assertEquals(store.getStoredEntries(), 2);
+            Assert.assertEquals(logMessages.get(0).getMessage(), "Message 0");
+            Assert.assertEquals(logMessages.get(1).getMessage(), "Message 1");
+        });
+    }
+
+    @Test(groups = "SEQUENTIAL")
+    public void testT03_TestStepControllerIsSerializable() throws Exception {
+        withStore(store -> {
+            TestStepController controller = new TestStepController();
+            createLogMessages(MEMORY_MESSAGES + 1).forEach(controller::addLogMessage);
+
+            ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+            try (ObjectOutputStream outputStream = new ObjectOutputStream(byteStream)) {
+                outputStream.writeObject(controller);
+            }
+            TestStepController readController;
+            try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(byteStream.toByteArray()))) {
+                readController = (TestStepController) inputStream.readObject();
+            }
+
+            List<String> messages = readController.getTestSteps().stream()
+                    .flatMap(TestStep::readActions)
+                    .flatMap(testStepAction -> testStepAction.readEntries(LogMessage.class))
+                    .map(LogMessage::getMessage)
+                    .collect(Collectors.toList());
+            Assert.assertEquals(messages.size(), MEMORY_MESSAGES + 1);
+            Assert.assertEquals(messages.get(0), "Message 0");
+
+            // the buffer gets recreated
+            readController.addLogMessage(createLogMessages(1).get(0));
+        });
+    }
+}
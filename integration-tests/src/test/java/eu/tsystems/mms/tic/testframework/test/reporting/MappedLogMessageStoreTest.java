@@ -0,0 +1,167 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package eu.tsystems.mms.tic.testframework.test.reporting;
+
+import eu.tsystems.mms.tic.testframework.logging.LogMessageStore;
+import eu.tsystems.mms.tic.testframework.logging.MappedLogMessageStore;
+import eu.tsystems.mms.tic.testframework.report.model.context.LogMessage;
+import eu.tsystems.mms.tic.testframework.testing.TesterraTest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.util.Optional;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class MappedLogMessageStoreTest extends TesterraTest {
+
+    private static class NotSerializableException extends RuntimeException {
+        private final Thread thread = Thread.currentThread();
+
+        private NotSerializableException(String message) {
+            super(message);
+        }
+    }
+
+    private MappedLogMessageStore createStore(int segmentSize) throws IOException {
+        return new MappedLogMessageStore(Files.createTempDirectory("testerra-logs-test").toFile(), segmentSize);
+    }
+
+    private LogMessage createLogMessage(String message, Throwable thrown) {
+        return new LogMessage(Log4jLogEvent.newBuilder()
+                .setLoggerName(getClass().getName())
+                .setLevel(Level.ERROR)
+                .setMessage(new SimpleMessage(message))
+                .setThrown(thrown)
+                .build());
+    }
+
+    @Test
+    public void testT01_StoreMessageAndThrowable() throws IOException {
+        MappedLogMessageStore store = createStore(1024);
+        try {
+            LogMessageStore.Entry entry = store.store("Stored message äöü", new IllegalStateException("Stored throwable"));
+            Assert.assertEquals(entry.getMessage(), "Stored message äöü");
+            Optional<Throwable> thrown = entry.getThrown();
+            Assert.assertTrue(thrown.isPresent());
+            Assert.assertTrue(thrown.get() instanceof IllegalStateException);
+            Assert.assertEquals(thrown.get().getMessage(), "Stored throwable");
+
+            LogMessageStore.Entry emptyEntry = store.store(null, null);
+            Assert.assertEquals(emptyEntry.getMessage(), "");
+            Assert.assertFalse(emptyEntry.getThrown().isPresent());
+            Assert.assertEquals(store.getStoredEntries(), 2);
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    public void testT02_NotSerializableThrowableIsKeptInHeap() throws IOException {
+        MappedLogMessageStore store = createStore(1024);
+        try {
+            NotSerializableException exception = new NotSerializableException("Heap throwable");
+            LogMessageStore.Entry entry = store.store("Message", exception);
+            Assert.assertEquals(entry.getMessage(), "Message");
+            Assert.assertSame(entry.getThrown().orElse(null), exception);
+            Assert.assertEquals(store.getStoredBytes(), "Message".length());
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    public void testT03_EntriesSpanMultipleSegments() throws IOException {
+        MappedLogMessageStore store = createStore(64);
+        try {
+            LogMessageStore.Entry[] entries = new LogMessageStore.Entry[10];
+            for (int i = 0; i < entries.length; ++i) {
+                entries[i] = store.store(String.format("Message %020d", i), null);
+            }
+            StringBuilder largeMessage = new StringBuilder();
+            for (int i = 0; i < 100; ++i) {
+                largeMessage.append("Large message ");
+            }
+            LogMessageStore.Entry largeEntry = store.store(largeMessage.toString(), null);
+            LogMessageStore.Entry lastEntry = store.store("Last message", null);
+
+            for (int i = 0; i < entries.length; ++i) {
+                Assert.assertEquals(entries[i].getMessage(), String.format("Message %020d", i));
+            }
+            Assert.assertEquals(largeEntry.getMessage(), largeMessage.toString());
+            Assert.assertEquals(lastEntry.getMessage(), "Last message");
+            Assert.assertEquals(store.getStoredEntries(), 12);
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    public void testT04_CloseDeletesDirectory() throws IOException {
+        File directory = Files.createTempDirectory("testerra-logs-test").toFile();
+        MappedLogMessageStore store = new MappedLogMessageStore(directory, 64);
+        store.store("Message", null);
+        store.store(String.format("%0100d", 0), null);
+        Assert.assertEquals(directory.listFiles().length, 2);
+
+        store.close();
+        Assert.assertFalse(directory.exists());
+    }
+
+    @Test
+    public void testT05_MovedLogMessageIsSerializable() throws IOException, ClassNotFoundException {
+        MappedLogMessageStore store = createStore(1024);
+        try {
+            LogMessage logMessage = createLogMessage("Moved message", new IllegalArgumentException("Moved throwable"));
+            logMessage.moveTo(store);
+            Assert.assertTrue(logMessage.isStored());
+
+            ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+            try (ObjectOutputStream outputStream = new ObjectOutputStream(byteStream)) {
+                outputStream.writeObject(logMessage);
+            }
+            LogMessage readMessage;
+            try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(byteStream.toByteArray()))) {
+                readMessage = (LogMessage) inputStream.readObject();
+            }
+
+            Assert.assertFalse(readMessage.isStored());
+            Assert.assertEquals(readMessage.getMessage(), "Moved message");
+            Assert.assertEquals(readMessage.getThrown().map(Throwable::getMessage).orElse(null), "Moved throwable");
+            Assert.assertEquals(readMessage.getLogLevel(), Level.ERROR);
+            // the original message is still read from the store
+            Assert.assertTrue(logMessage.isStored());
+            Assert.assertEquals(logMessage.getMessage(), "Moved message");
+        } finally {
+            store.close();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Testerra
+ *
+ * (C) 2020, Eric Kubenka, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package eu.tsystems.mms.tic.testframework.test.testdata;
+
+import eu.tsystems.mms.tic.testframework.exceptions.SystemException;
+import eu.tsystems.mms.tic.testframework.testdata.CSVRowIterator;
+import eu.tsystems.mms.tic.testframework.testdata.IndexedTestDataTable;
+import eu.tsystems.mms.tic.testframework.testdata.TestDataProviders;
+import eu.tsystems.mms.tic.testframework.testdata.XLSXRowIterator;
+import eu.tsystems.mms.tic.testframework.testing.TesterraTest;
+import java.util.Iterator;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the streaming and indexed test data providers.
+ */
+public class TestDataProvidersTest extends TesterraTest {
+
+    private static final String XLSX = "testfiles/TestXLSReader.xlsx";
+
+    @DataProvider
+    public Iterator<Object[]> xlsxDataSets() {
+        return TestDataProviders.xlsxFromResource(XLSX, "Sheet1", 3);
+    }
+
+    @Test(dataProvider = "xlsxDataSets")
+    public void testT01_XlsxDataProvider(Map<String, String> dataSet) {
+        Assert.assertTrue(dataSet.get("ID").startsWith("testdata"));
+    }
+
+    @Test
+    public void testT02_XlsxRowIterator_CellFormats() {
+        try (XLSXRowIterator rowIterator = TestDataProviders.xlsxFromResource(XLSX, "Sheet1", 3)) {
+            final Map<String, String> dataSet = rowIterator.nextDataSet();
+            Assert.assertEquals(dataSet.get("ID"), "testdata");
+            Assert.assertEquals(dataSet.get("Service Number"), "8001888972600");
+            Assert.assertEquals(dataSet.get("Product Name"), "iPhone 16GB");
+            Assert.assertEquals(dataSet.get("Date"), "01.08.2014");
+            Assert.assertEquals(dataSet.get("Price").replace(".", ","), "10,00 EUR");
+            Assert.assertEquals(dataSet.get("Calculate").replace(".", ","), "15,00 EUR");
+        }
+    }
+
+    @Test
+    public void testT03_XlsxRowIterator_EmptyHeaderRow() {
+        try {
+            TestDataProviders.xlsxFromResource(XLSX, "Sheet1", 2).hasNext();
+        } catch (SystemException e) {
+            Assert.assertEquals(e.getMessage(), "Header row is empty. Row 2 (1-based)");
+            return;
+        }
+        Assert.fail("No exception for an empty header row");
+    }
+
+    @Test
+    public void testT04_CsvRowIterator() {
+        try (CSVRowIterator rowIterator = TestDataProviders.csvFromResource("testfiles/TestCsvReader.csv", ';', 1)) {
+            Assert.assertEquals(rowIterator.getHeader(), new String[]{"id", "name", "firstName"});
+            Assert.assertEquals(rowIterator.nextDataSet().get("id"), "AH_1");
+            Assert.assertEquals(rowIterator.nextDataSet().get("name"), "Siemens");
+            Assert.assertFalse(rowIterator.hasNext());
+        }
+    }
+
+    @Test
+    public void testT05_IndexedTable() {
+        final IndexedTestDataTable table = TestDataProviders.indexedXlsxFromResource(XLSX, "Sheet1", 3, "ID");
+        Assert.assertEquals(table.size(), 3);
+        Assert.assertEquals(table.getDataSet("testdata2").get("ID"), "testdata2");
+        Assert.assertSame(TestDataProviders.indexedXlsxFromResource(XLSX, "Sheet1", 3, "ID"), table);
+        Assert.assertFalse(table.containsDataSet("notexisting"));
+    }
+}
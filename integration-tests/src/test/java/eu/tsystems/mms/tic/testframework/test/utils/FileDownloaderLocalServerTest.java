@@ -0,0 +1,315 @@
+/*
+ * Testerra
+ *
+ * (C) 2020, Eric Kubenka, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package eu.tsystems.mms.tic.testframework.test.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import eu.tsystems.mms.tic.testframework.testing.TesterraTest;
+import eu.tsystems.mms.tic.testframework.utils.FileDownloader;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for chunked, resumed, cached and async downloads of {@link FileDownloader} against a local HTTP server.
+ * Every test downloads its own file from the server, because the tests run in parallel.
+ */
+public class FileDownloaderLocalServerTest extends TesterraTest {
+
+    private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d+)-(\\d*)");
+
+    private final byte[] content = new byte[3 * 1024 * 1024 + 17];
+    private HttpServer server;
+    private File downloadLocation;
+
+    private class ServedFile {
+        private final String path;
+        private final List<String> requests = new CopyOnWriteArrayList<>();
+        private final List<String> ifRanges = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean interruptNextDownload = new AtomicBoolean();
+        private final AtomicBoolean failHead = new AtomicBoolean();
+        private volatile String etag;
+
+        private ServedFile(String name) {
+            path = "/" + name + ".bin";
+            etag = "\"" + name + "-1\"";
+            server.createContext(path, this::handle);
+        }
+
+        private String getUrl() {
+            return "http://localhost:" + server.getAddress().getPort() + path;
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            String range = exchange.getRequestHeaders().getFirst("Range");
+            requests.add(exchange.getRequestMethod() + " " + (range != null ? range : ""));
+            if (exchange.getRequestMethod().equals("HEAD") && failHead.get()) {
+                // Closing without a response aborts the connection
+                exchange.close();
+                return;
+            }
+            String ifRange = exchange.getRequestHeaders().getFirst("If-Range");
+            if (ifRange != null) {
+                ifRanges.add(ifRange);
+                if (!ifRange.equals(etag)) {
+                    range = null;
+                }
+            }
+            exchange.getResponseHeaders().add("ETag", etag);
+            boolean interrupt = exchange.getRequestMethod().equals("GET") && interruptNextDownload.compareAndSet(true, false);
+            respond(exchange, range, interrupt);
+        }
+    }
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        new Random(42).nextBytes(content);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.start();
+        downloadLocation = Files.createTempDirectory("file-downloader-test").toFile();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop(0);
+        FileUtils.deleteQuietly(downloadLocation);
+    }
+
+    private void respond(HttpExchange exchange, String range, boolean interrupt) throws IOException {
+        exchange.getResponseHeaders().add("Accept-Ranges", "bytes");
+
+        int start = 0;
+        int end = content.length - 1;
+        int status = 200;
+        if (range != null) {
+            Matcher matcher = RANGE_PATTERN.matcher(range);
+            Assert.assertTrue(matcher.matches(), range);
+            start = Integer.parseInt(matcher.group(1));
+            if (!matcher.group(2).isEmpty()) {
+                end = Integer.parseInt(matcher.group(2));
+            }
+            status = 206;
+            exchange.getResponseHeaders().add("Content-Range", String.format("bytes %d-%d/%d", start, end, content.length));
+        }
+
+        int length = end - start + 1;
+        if (exchange.getRequestMethod().equals("HEAD")) {
+            exchange.getResponseHeaders().add("Content-Length", String.valueOf(length));
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+        }
+
+        exchange.sendResponseHeaders(status, length);
+        OutputStream body = exchange.getResponseBody();
+        if (interrupt) {
+            body.write(content, start, length / 2);
+            // Closing an incomplete response aborts the connection
+            exchange.close();
+            return;
+        }
+        body.write(content, start, length);
+        exchange.close();
+    }
+
+    private void assertContent(File file) throws IOException {
+        Assert.assertTrue(file.exists(), "File was downloaded");
+        Assert.assertTrue(Arrays.equals(Files.readAllBytes(file.toPath()), content), "Content matches");
+    }
+
+    @Test
+    public void testT01_Download() throws IOException {
+        ServedFile servedFile = new ServedFile("testT01");
+        File file = new FileDownloader().setDownloadLocation(downloadLocation.getAbsolutePath()).download(servedFile.getUrl(), "testT01.bin");
+        assertContent(file);
+        Assert.assertEquals(servedFile.requests, Arrays.asList("GET "));
+    }
+
+    @Test
+    public void testT02_ParallelChunks() throws IOException {
+        ServedFile servedFile = new ServedFile("testT02");
+        FileDownloader downloader = new FileDownloader().setDownloadLocation(downloadLocation.getAbsolutePath()).setParallelChunks(3);
+        File file = downloader.download(servedFile.getUrl(), "testT02.bin");
+        assertContent(file);
+        Assert.assertEquals(servedFile.requests.get(0), "HEAD ");
+        Assert.assertEquals(servedFile.requests.stream().filter(request -> request.startsWith("GET bytes=")).count(), 3);
+    }
+
+    @Test
+    public void testT03_ResumeDownload() throws IOException {
+        ServedFile servedFile = new ServedFile("testT03");
+        FileDownloader downloader = new FileDownloader().setDownloadLocation(downloadLocation.getAbsolutePath());
+        servedFile.interruptNextDownload.set(true);
+        try {
+            downloader.download(servedFile.getUrl(), "testT03.bin");
+            Assert.fail("Download should have been interrupted");
+        } catch (IOException e) {
+            // expected
+        }
+        File partFile = new File(downloadLocation, "testT03.bin.part");
+        Assert.assertTrue(partFile.exists(), "Part file exists");
+        long partLength = partFile.length();
+        Assert.assertTrue(partLength > 0, "Part file contains data");
+
+        File file = downloader.download(servedFile.getUrl(), "testT03.bin");
+        assertContent(file);
+        Assert.assertFalse(partFile.exists(), "Part file has been moved");
+        Assert.assertFalse(new File(downloadLocation, "testT03.bin.part.properties").exists(), "Part info file has been removed");
+        Assert.assertEquals(servedFile.requests.get(servedFile.requests.size() - 1), "GET bytes=" + partLength + "-");
+        Assert.assertEquals(servedFile.ifRanges, Arrays.asList(servedFile.etag));
+    }
+
+    @Test
+    public void testT04_CachedDownload() throws IOException {
+        ServedFile servedFile = new ServedFile("testT04");
+        FileDownloader downloader = new FileDownloader().setDownloadLocation(downloadLocation.getAbsolutePath()).setCacheActive(true);
+        assertContent(downloader.download(servedFile.getUrl(), "testT04-1.bin"));
+        assertContent(downloader.download(servedFile.getUrl(), "testT04-2.bin"));
+        Assert.assertEquals(servedFile.requests.size(), 1);
+    }
+
+    @Test
+    public void testT05_AsyncDownload() throws IOException {
+        ServedFile servedFile = new ServedFile("testT05");
+        FileDownloader downloader = new FileDownloader().setDownloadLocation(downloadLocation.getAbsolutePath());
+        File file = downloader.downloadAsync(servedFile.getUrl(), "testT05.bin").join();
+        assertContent(file);
+    }
+
+    @Test
+    public void testT06_ResumeDownloadWithoutTargetFileName() throws IOException {
+        ServedFile servedFile = new ServedFile("testT06");
+        FileDownloader downloader = new FileDownloader().setDownloadLocation(downloadLocation.getAbsolutePath());
+        servedFile.interruptNextDownload.set(true);
+        try {
+            downloader.download(servedFile.getUrl());
+            Assert.fail("Download should have been interrupted");
+        } catch (IOException e) {
+            // expected
+        }
+        File partFile = new File(downloadLocation, "testT06.part");
+        Assert.assertTrue(partFile.exists(), "Part file exists");
+        long partLength = partFile.length();
+
+        File file = downloader.download(servedFile.getUrl());
+        assertContent(file);
+        Assert.assertEquals(file.getName(), "testT06");
+        Assert.assertEquals(servedFile.requests, Arrays.asList("GET ", "GET bytes=" + partLength + "-"));
+    }
+
+    @Test
+    public void testT07_RestartChangedDownload() throws IOException {
+        ServedFile servedFile = new ServedFile("testT07");
+        FileDownloader downloader = new FileDownloader().setDownloadLocation(downloadLocation.getAbsolutePath());
+        servedFile.interruptNextDownload.set(true);
+        try {
+            downloader.download(servedFile.getUrl(), "testT07.bin");
+            Assert.fail("Download should have been interrupted");
+        } catch (IOException e) {
+            // expected
+        }
+        String formerEtag = servedFile.etag;
+        servedFile.etag = "\"testT07-2\"";
+
+        File file = downloader.download(servedFile.getUrl(), "testT07.bin");
+        assertContent(file);
+        Assert.assertEquals(servedFile.ifRanges, Arrays.asList(formerEtag));
+        Assert.assertEquals(file.length(), content.length);
+    }
+
+    @Test
+    public void testT08_DontResumePartFileOfOtherUrl() throws IOException {
+        ServedFile otherFile = new ServedFile("testT08-other");
+        ServedFile servedFile = new ServedFile("testT08");
+        FileDownloader downloader = new FileDownloader().setDownloadLocation(downloadLocation.getAbsolutePath());
+        otherFile.interruptNextDownload.set(true);
+        try {
+            downloader.download(otherFile.getUrl(), "testT08.bin");
+            Assert.fail("Download should have been interrupted");
+        } catch (IOException e) {
+            // expected
+        }
+        Assert.assertTrue(new File(downloadLocation, "testT08.bin.part").exists(), "Part file exists");
+
+        File file = downloader.download(servedFile.getUrl(), "testT08.bin");
+        assertContent(file);
+        Assert.assertEquals(servedFile.requests, Arrays.asList("GET "));
+    }
+
+    /**
+     * Runs after the other tests, because the cleanup removes the files of all downloads
+     */
+    @Test(dependsOnMethods = {
+            "testT01_Download",
+            "testT02_ParallelChunks",
+            "testT03_ResumeDownload",
+            "testT04_CachedDownload",
+            "testT05_AsyncDownload",
+            "testT06_ResumeDownloadWithoutTargetFileName",
+            "testT07_RestartChangedDownload",
+            "testT08_DontResumePartFileOfOtherUrl",
+            "testT10_FailingHeadRequestFallsBackToSingleRequest"
+    }, alwaysRun = true)
+    public void testT09_CleanupRemovesPartFiles() throws IOException {
+        ServedFile servedFile = new ServedFile("testT09");
+        FileDownloader downloader = new FileDownloader().setDownloadLocation(downloadLocation.getAbsolutePath());
+        servedFile.interruptNextDownload.set(true);
+        try {
+            downloader.download(servedFile.getUrl(), "testT09.bin");
+            Assert.fail("Download should have been interrupted");
+        } catch (IOException e) {
+            // expected
+        }
+        File partFile = new File(downloadLocation, "testT09.bin.part");
+        File partInfoFile = new File(downloadLocation, "testT09.bin.part.properties");
+        Assert.assertTrue(partFile.exists(), "Part file exists");
+        Assert.assertTrue(partInfoFile.exists(), "Part info file exists");
+
+        downloader.cleanup();
+        Assert.assertFalse(partFile.exists(), "Part file has been removed");
+        Assert.assertFalse(partInfoFile.exists(), "Part info file has been removed");
+    }
+
+    @Test
+    public void testT10_FailingHeadRequestFallsBackToSingleRequest() throws IOException {
+        ServedFile servedFile = new ServedFile("testT10");
+        servedFile.failHead.set(true);
+        FileDownloader downloader = new FileDownloader().setDownloadLocation(downloadLocation.getAbsolutePath()).setParallelChunks(3);
+        File file = downloader.download(servedFile.getUrl(), "testT10.bin");
+        assertContent(file);
+        Assert.assertEquals(servedFile.requests.get(servedFile.requests.size() - 1), "GET ");
+    }
+}
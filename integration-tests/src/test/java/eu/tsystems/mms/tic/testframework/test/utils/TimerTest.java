@@ -27,6 +27,7 @@ import eu.tsystems.mms.tic.testframework.report.utils.ExecutionContextController
 import eu.tsystems.mms.tic.testframework.testing.TesterraTest;
 import eu.tsystems.mms.tic.testframework.transfer.ThrowablePackedResponse;
 import eu.tsystems.mms.tic.testframework.utils.AssertUtils;
+import eu.tsystems.mms.tic.testframework.utils.BackoffPollingStrategy;
 import eu.tsystems.mms.tic.testframework.utils.Timer;
 import eu.tsystems.mms.tic.testframework.utils.TimerUtils;
 import org.testng.Assert;
@@ -379,4 +380,50 @@ public class TimerTest extends TesterraTest implements Loggable {
         final String returningObject = (String) sequenceToRun.getReturningObject();
         Assert.assertEquals(returningObject, "False!");
     }
+
+    @Test
+    public void testT12_ExecuteSequence_BackoffPollingStrategy() {
+        BackoffPollingStrategy pollingStrategy = new BackoffPollingStrategy(10, 200, 2, 0);
+        Assert.assertEquals(pollingStrategy.getSleepTimeInMs(1), 10);
+        Assert.assertEquals(pollingStrategy.getSleepTimeInMs(2), 20);
+        Assert.assertEquals(pollingStrategy.getSleepTimeInMs(5), 160);
+        Assert.assertEquals(pollingStrategy.getSleepTimeInMs(20), 200);
+
+        Timer timer = new Timer(SLEEP_TIME_IN_MS, DURATION_IN_MS);
+        timer.setPollingStrategy(pollingStrategy);
+
+        final long fulfilledAt = System.currentTimeMillis() + 100;
+        ThrowablePackedResponse<String> out = timer.executeSequence(new Timer.Sequence<String>() {
+            @Override
+            public void run() {
+                setPassState(System.currentTimeMillis() >= fulfilledAt);
+            }
+        });
+
+        Assert.assertTrue(out.isSuccessful(), msgCorrectPass);
+        Assert.assertEquals(out.getIterations(), timer.getIterations());
+        Assert.assertTrue(out.getIterations() >= 4, "Backoff probed the first iterations quickly");
+        Assert.assertTrue(out.getDurationInMs() < UPPER_BOUND_IN_MS, "Timer passed sequence in less than 200ms");
+    }
+
+    @Test
+    public void testT13_ExecuteSequence_WakeUpSignal() {
+        Timer timer = new Timer(1000, DURATION_IN_MS);
+        final long fulfilledAt = System.currentTimeMillis() + 100;
+        timer.setWakeUpSignal(timeoutInMs -> {
+            Thread.sleep(Math.max(0, Math.min(timeoutInMs, fulfilledAt - System.currentTimeMillis())));
+            return true;
+        });
+
+        ThrowablePackedResponse<String> out = timer.executeSequence(new Timer.Sequence<String>() {
+            @Override
+            public void run() {
+                setPassState(System.currentTimeMillis() >= fulfilledAt);
+            }
+        });
+
+        Assert.assertTrue(out.isSuccessful(), msgCorrectPass);
+        Assert.assertEquals(out.getIterations(), 2);
+        Assert.assertTrue(out.getDurationInMs() < UPPER_BOUND_IN_MS, "Woken up before the sleep time elapsed");
+    }
 }
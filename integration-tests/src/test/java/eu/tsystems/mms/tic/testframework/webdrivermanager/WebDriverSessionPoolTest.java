@@ -0,0 +1,240 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.webdrivermanager;
+
+import eu.tsystems.mms.tic.testframework.report.model.context.SessionContext;
+import eu.tsystems.mms.tic.testframework.testing.TesterraTest;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the {@link WebDriverSessionPool} with fake sessions, which record the commands they receive.
+ * The tests use different pool keys, because the pool is static.
+ */
+public class WebDriverSessionPoolTest extends TesterraTest {
+
+    private static class FakeSession {
+        private final List<String> commands = Collections.synchronizedList(new ArrayList<>());
+        private final Set<String> windowHandles = new LinkedHashSet<>(Arrays.asList("first", "second"));
+        private volatile CountDownLatch resetLatch;
+        private volatile boolean healthy = true;
+        /**
+         * The session becomes unhealthy when the reset opens the blank page
+         */
+        private volatile boolean crashAfterReset;
+        private volatile boolean quit;
+        private final EventFiringWebDriver webDriver;
+
+        private FakeSession() {
+            WebDriver.TargetLocator targetLocator = (WebDriver.TargetLocator) Proxy.newProxyInstance(
+                    getClass().getClassLoader(),
+                    new Class[]{WebDriver.TargetLocator.class},
+                    (proxy, method, args) -> {
+                        commands.add(method.getName() + " " + args[0]);
+                        return null;
+                    }
+            );
+            WebDriver.Options options = (WebDriver.Options) Proxy.newProxyInstance(
+                    getClass().getClassLoader(),
+                    new Class[]{WebDriver.Options.class},
+                    (proxy, method, args) -> {
+                        commands.add(method.getName());
+                        return null;
+                    }
+            );
+            WebDriver driver = (WebDriver) Proxy.newProxyInstance(
+                    getClass().getClassLoader(),
+                    new Class[]{WebDriver.class, JavascriptExecutor.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getWindowHandles":
+                                if (!healthy) {
+                                    throw new WebDriverException("Session is gone");
+                                }
+                                if (resetLatch != null) {
+                                    resetLatch.await();
+                                }
+                                return new LinkedHashSet<>(windowHandles);
+                            case "switchTo":
+                                return targetLocator;
+                            case "manage":
+                                return options;
+                            case "quit":
+                                quit = true;
+                                commands.add("quit");
+                                return null;
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "equals":
+                                return proxy == args[0];
+                            case "toString":
+                                return "FakeSession";
+                            case "get":
+                                commands.add("get " + args[0]);
+                                healthy = !crashAfterReset;
+                                return null;
+                            default:
+                                commands.add(method.getName() + (args != null && args.length > 0 ? " " + args[0] : ""));
+                                return null;
+                        }
+                    }
+            );
+            webDriver = new EventFiringWebDriver(driver);
+        }
+    }
+
+    private SessionContext createSessionContext() {
+        return new SessionContext(new UnspecificWebDriverRequest());
+    }
+
+    private Optional<EventFiringWebDriver> awaitAcquire(String poolKey) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 5000;
+        Optional<EventFiringWebDriver> acquired = WebDriverSessionPool.acquire(poolKey, createSessionContext());
+        while (!acquired.isPresent() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(50);
+            acquired = WebDriverSessionPool.acquire(poolKey, createSessionContext());
+        }
+        return acquired;
+    }
+
+    private void awaitQuit(FakeSession session) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 5000;
+        while (!session.quit && System.currentTimeMillis() < timeout) {
+            Thread.sleep(50);
+        }
+        Assert.assertTrue(session.quit, "Session has been quit");
+    }
+
+    @Test
+    public void testT01_ReleasedSessionIsResetAndAcquired() throws InterruptedException {
+        String poolKey = "reset";
+        FakeSession session = new FakeSession();
+        WebDriverSessionPool.register(session.webDriver, poolKey, createSessionContext());
+        Assert.assertFalse(WebDriverSessionPool.acquire(poolKey, createSessionContext()).isPresent());
+
+        Assert.assertTrue(WebDriverSessionPool.isReleasable(session.webDriver));
+        WebDriverSessionPool.release(session.webDriver);
+
+        Optional<EventFiringWebDriver> acquired = awaitAcquire(poolKey);
+        Assert.assertTrue(acquired.isPresent());
+        Assert.assertSame(acquired.get(), session.webDriver);
+        Assert.assertEquals(session.commands, Arrays.asList(
+                "window second",
+                "close",
+                "window first",
+                "executeScript window.localStorage.clear(); window.sessionStorage.clear();",
+                "deleteAllCookies",
+                "get about:blank"
+        ));
+        Assert.assertFalse(session.quit);
+        Assert.assertFalse(WebDriverSessionPool.acquire(poolKey, createSessionContext()).isPresent());
+    }
+
+    @Test
+    public void testT02_UnhealthySessionIsQuit() throws InterruptedException {
+        String poolKey = "unhealthy";
+        FakeSession session = new FakeSession();
+        WebDriverSessionPool.register(session.webDriver, poolKey, createSessionContext());
+        WebDriverSessionPool.release(session.webDriver);
+        Assert.assertTrue(awaitAcquire(poolKey).isPresent());
+
+        session.crashAfterReset = true;
+        WebDriverSessionPool.release(session.webDriver);
+        long timeout = System.currentTimeMillis() + 5000;
+        while (!session.quit && System.currentTimeMillis() < timeout) {
+            Assert.assertFalse(WebDriverSessionPool.acquire(poolKey, createSessionContext()).isPresent());
+            Thread.sleep(50);
+        }
+        Assert.assertTrue(session.quit);
+    }
+
+    @Test
+    public void testT03_ClearAwaitsResettingAndPrewarmingSessions() throws InterruptedException {
+        String poolKey = "clear";
+        FakeSession resettingSession = new FakeSession();
+        resettingSession.resetLatch = new CountDownLatch(1);
+        WebDriverSessionPool.register(resettingSession.webDriver, poolKey, createSessionContext());
+        WebDriverSessionPool.release(resettingSession.webDriver);
+
+        FakeSession prewarmedSession = new FakeSession();
+        CountDownLatch prewarmLatch = new CountDownLatch(1);
+        WebDriverSessionPool.prewarm(poolKey, this::createSessionContext, sessionContext -> {
+            try {
+                prewarmLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return prewarmedSession.webDriver;
+        });
+
+        Thread clearThread = new Thread(WebDriverSessionPool::clear);
+        clearThread.start();
+        clearThread.join(500);
+        Assert.assertTrue(clearThread.isAlive(), "Clear waits for the background tasks");
+
+        resettingSession.resetLatch.countDown();
+        prewarmLatch.countDown();
+        clearThread.join(5000);
+        Assert.assertFalse(clearThread.isAlive());
+
+        Assert.assertTrue(resettingSession.quit);
+        Assert.assertTrue(prewarmedSession.quit);
+        Assert.assertFalse(WebDriverSessionPool.acquire(poolKey, createSessionContext()).isPresent());
+
+        // The pool is usable after clearing
+        FakeSession session = new FakeSession();
+        WebDriverSessionPool.register(session.webDriver, poolKey, createSessionContext());
+        WebDriverSessionPool.release(session.webDriver);
+        Assert.assertTrue(awaitAcquire(poolKey).isPresent());
+    }
+
+    @Test
+    public void testT04_ClearQuitsIdleSessions() throws InterruptedException {
+        String poolKey = "idle";
+        FakeSession session = new FakeSession();
+        WebDriverSessionPool.register(session.webDriver, poolKey, createSessionContext());
+        WebDriverSessionPool.release(session.webDriver);
+        long timeout = System.currentTimeMillis() + 5000;
+        while (!session.commands.contains("get about:blank") && System.currentTimeMillis() < timeout) {
+            Thread.sleep(50);
+        }
+
+        WebDriverSessionPool.clear();
+        awaitQuit(session);
+        Assert.assertFalse(WebDriverSessionPool.isReleasable(session.webDriver));
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package eu.tsystems.mms.tic.testframework.webdrivermanager;
+
+import eu.tsystems.mms.tic.testframework.common.PropertyManager;
+import eu.tsystems.mms.tic.testframework.constants.Browsers;
+import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
+import eu.tsystems.mms.tic.testframework.pageobjects.GuiElement;
+import eu.tsystems.mms.tic.testframework.pageobjects.internal.core.WebElementCache;
+import eu.tsystems.mms.tic.testframework.report.model.context.SessionContext;
+import eu.tsystems.mms.tic.testframework.testing.TesterraTest;
+import eu.tsystems.mms.tic.testframework.utils.TimerUtils;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the invalidation of the {@link WebElementCache} with a fake session, which counts the searches of WebElements.
+ */
+public class WebElementCacheTest extends TesterraTest {
+
+    private static class FakeSession {
+        private final AtomicInteger searches = new AtomicInteger();
+        private final List<FakeElement> foundElements = Collections.synchronizedList(new ArrayList<>());
+        private volatile int numberOfElements = 1;
+        private final EventFiringWebDriver webDriver;
+
+        private FakeSession() {
+            WebDriver.Navigation navigation = (WebDriver.Navigation) Proxy.newProxyInstance(
+                    getClass().getClassLoader(),
+                    new Class[]{WebDriver.Navigation.class},
+                    (proxy, method, args) -> null
+            );
+            WebDriver driver = (WebDriver) Proxy.newProxyInstance(
+                    getClass().getClassLoader(),
+                    new Class[]{WebDriver.class, JavascriptExecutor.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "findElements":
+                                searches.incrementAndGet();
+                                List<WebElement> elements = new ArrayList<>();
+                                for (int i = 0; i < numberOfElements; ++i) {
+                                    FakeElement element = new FakeElement();
+                                    foundElements.add(element);
+                                    elements.add(element.webElement);
+                                }
+                                return elements;
+                            case "navigate":
+                                return navigation;
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "equals":
+                                return proxy == args[0];
+                            case "toString":
+                                return "FakeSession";
+                            default:
+                                return null;
+                        }
+                    }
+            );
+            webDriver = new EventFiringWebDriver(driver);
+            webDriver.register(new WebElementCache.InvalidationListener(webDriver));
+        }
+
+        private FakeElement getLastFoundElement() {
+            return foundElements.get(foundElements.size() - 1);
+        }
+    }
+
+    private static class FakeElement {
+        private volatile boolean stale = false;
+        private final WebElement webElement;
+
+        private FakeElement() {
+            webElement = (WebElement) Proxy.newProxyInstance(
+                    getClass().getClassLoader(),
+                    new Class[]{WebElement.class},
+                    (proxy, method, args) -> {
+                        if (stale) {
+                            throw new StaleElementReferenceException("Element has been removed");
+                        }
+                        switch (method.getName()) {
+                            case "getTagName":
+                                return "div";
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "equals":
+                                return proxy == args[0];
+                            case "toString":
+                                return "FakeElement";
+                            default:
+                                return null;
+                        }
+                    }
+            );
+        }
+    }
+
+    private void withSession(Consumer<FakeSession> test) {
+        Properties properties = PropertyManager.getTestLocalProperties();
+        properties.setProperty(TesterraProperties.GUIELEMENT_CACHE_ACTIVE, "true");
+        properties.setProperty(TesterraProperties.GUIELEMENT_CACHE_TTL_MILLIS, "60000");
+
+        FakeSession session = new FakeSession();
+        UnspecificWebDriverRequest request = new UnspecificWebDriverRequest();
+        request.setBrowser(Browsers.chrome);
+        request.setSessionKey("cache-" + System.identityHashCode(session));
+        WebDriverSessionsManager.storeWebDriverSession(request, session.webDriver, new SessionContext(request));
+        try {
+            test.accept(session);
+        } finally {
+            WebDriverSessionsManager.shutdownWebDriver(session.webDriver);
+        }
+    }
+
+    @Test
+    public void testT01_CachedWebElementIsReused() {
+        withSession(session -> {
+            GuiElement guiElement = new GuiElement(session.webDriver, By.id("cached"));
+            WebElement webElement = guiElement.getWebElement();
+            Assert.assertSame(guiElement.getWebElement(), webElement);
+            Assert.assertEquals(session.searches.get(), 1);
+        });
+    }
+
+    @Test
+    public void testT02_ExpiredWebElementIsSearchedAgain() {
+        withSession(session -> {
+            PropertyManager.getTestLocalProperties().setProperty(TesterraProperties.GUIELEMENT_CACHE_TTL_MILLIS, "50");
+            GuiElement guiElement = new GuiElement(session.webDriver, By.id("cached"));
+            guiElement.getWebElement();
+            TimerUtils.sleep(100);
+            guiElement.getWebElement();
+            Assert.assertEquals(session.searches.get(), 2);
+        });
+    }
+
+    @Test
+    public void testT03_StaleWebElementIsSearchedAgain() {
+        withSession(session -> {
+            GuiElement guiElement = new GuiElement(session.webDriver, By.id("cached"));
+            guiElement.getWebElement();
+            session.getLastFoundElement().stale = true;
+            Assert.assertTrue(guiElement.isPresent());
+            Assert.assertEquals(session.searches.get(), 2);
+
+            session.getLastFoundElement().stale = true;
+            Assert.assertThrows(StaleElementReferenceException.class, () -> guiElement.getWebElement().getTagName());
+            guiElement.getWebElement();
+            Assert.assertEquals(session.searches.get(), 3);
+        });
+    }
+
+    @Test
+    public void testT04_NavigationInvalidatesWebElements() {
+        withSession(session -> {
+            GuiElement guiElement = new GuiElement(session.webDriver, By.id("cached"));
+            guiElement.getWebElement();
+            session.webDriver.navigate().refresh();
+            guiElement.getWebElement();
+            Assert.assertEquals(session.searches.get(), 2);
+
+            session.webDriver.navigate().to("about:blank");
+            guiElement.getWebElement();
+            Assert.assertEquals(session.searches.get(), 3);
+        });
+    }
+
+    @Test
+    public void testT05_DomChangingCommandsInvalidateWebElements() {
+        withSession(session -> {
+            GuiElement guiElement = new GuiElement(session.webDriver, By.id("cached"));
+            guiElement.getWebElement().click();
+            guiElement.getWebElement();
+            Assert.assertEquals(session.searches.get(), 2);
+
+            guiElement.getWebElement().sendKeys("text");
+            guiElement.getWebElement();
+            Assert.assertEquals(session.searches.get(), 3);
+
+            session.webDriver.executeScript("document.body.innerHTML = ''");
+            guiElement.getWebElement();
+            Assert.assertEquals(session.searches.get(), 4);
+        });
+    }
+
+    @Test
+    public void testT06_NumberOfFoundElementsIsNotCached() {
+        withSession(session -> {
+            GuiElement guiElement = new GuiElement(session.webDriver, By.id("cached"));
+            guiElement.getWebElement();
+            session.numberOfElements = 3;
+            Assert.assertEquals(guiElement.getNumberOfFoundElements(), 3);
+            session.numberOfElements = 0;
+            Assert.assertEquals(guiElement.getNumberOfFoundElements(), 0);
+        });
+    }
+}
@@ -23,20 +23,67 @@ package io.testerra.test.logging;
 
 import eu.tsystems.mms.tic.testframework.annotations.NoRetry;
 import eu.tsystems.mms.tic.testframework.logging.Loggable;
+import eu.tsystems.mms.tic.testframework.logging.MethodContextLogAppender;
 import eu.tsystems.mms.tic.testframework.report.model.context.LogMessage;
 import eu.tsystems.mms.tic.testframework.report.model.context.MethodContext;
 import eu.tsystems.mms.tic.testframework.report.model.steps.TestStep;
+import eu.tsystems.mms.tic.testframework.report.model.steps.TestStepAction;
 import eu.tsystems.mms.tic.testframework.report.utils.ExecutionContextController;
 import io.testerra.test.pretest_status.TestStatusTest;
 import eu.tsystems.mms.tic.testframework.testing.TesterraTest;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.Collectors;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 public class LoggingTest extends TesterraTest implements Loggable, TestStatusTest {
 
+    /**
+     * Blocks the log consumer thread until it gets released
+     */
+    private static class BlockingMethodContext extends MethodContext {
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        private BlockingMethodContext(MethodContext methodContext) {
+            super(methodContext.getName(), Type.TEST_METHOD, methodContext.getClassContext());
+        }
+
+        @Override
+        public TestStepAction addLogMessage(TestStep testStep, String actionContext, LogMessage logMessage) {
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.addLogMessage(testStep, actionContext, logMessage);
+        }
+
+        private void release() {
+            released.countDown();
+        }
+
+        private long countLogMessages() {
+            return readTestSteps()
+                    .flatMap(TestStep::readActions)
+                    .flatMap(testStepAction -> testStepAction.readEntries(LogMessage.class))
+                    .count();
+        }
+    }
+
+    private void appendLogEvent(MethodContextLogAppender appender, MethodContext methodContext, int index) {
+        appender.append(Log4jLogEvent.newBuilder()
+                .setLoggerName(getClass().getName())
+                .setLevel(Level.INFO)
+                .setMessage(new ParameterizedMessage("Queued message {}", index, methodContext))
+                .build());
+    }
+
     @Test(groups = "LOGS")
     public void test_regularLog() {
         log().info("Regular log");
@@ -89,4 +136,90 @@ public class LoggingTest extends TesterraTest implements Loggable, TestStatusTes
 
         Assert.assertTrue(ExecutionContextController.getCurrentExecutionContext().readMethodContextLessLogs().anyMatch(logMessage -> logMessage.getMessage().equals("Prompt outside method context")));
     }
+
+    @Test
+    public void test_asyncLogFormatsMutableParameters() {
+        Optional<MethodContext> optionalMethodContext = ExecutionContextController.getMethodContextForThread();
+        Assert.assertTrue(optionalMethodContext.isPresent());
+
+        MethodContextLogAppender appender = new MethodContextLogAppender(16, MethodContextLogAppender.OverflowPolicy.BLOCK);
+        appender.start();
+        try {
+            List<String> values = new ArrayList<>();
+            values.add("before");
+            appender.append(Log4jLogEvent.newBuilder()
+                    .setLoggerName(getClass().getName())
+                    .setLevel(Level.INFO)
+                    .setMessage(new ParameterizedMessage("Async values {}", values, optionalMethodContext.get()))
+                    .build());
+            values.set(0, "after");
+            appender.flush();
+        } finally {
+            appender.stop();
+        }
+
+        List<String> messages = optionalMethodContext.get().readTestSteps()
+                .flatMap(TestStep::readActions)
+                .flatMap(testStepAction -> testStepAction.readEntries(LogMessage.class))
+                .map(LogMessage::getMessage)
+                .collect(Collectors.toList());
+        Assert.assertTrue(messages.contains("Async values [before]"), messages.toString());
+    }
+
+    @Test
+    public void test_asyncLogDropsEventsWhenQueueIsFull() {
+        Optional<MethodContext> optionalMethodContext = ExecutionContextController.getMethodContextForThread();
+        Assert.assertTrue(optionalMethodContext.isPresent());
+
+        BlockingMethodContext methodContext = new BlockingMethodContext(optionalMethodContext.get());
+        MethodContextLogAppender appender = new MethodContextLogAppender(4, MethodContextLogAppender.OverflowPolicy.DROP);
+        appender.start();
+        int appended = 20;
+        try {
+            for (int i = 0; i < appended; ++i) {
+                appendLogEvent(appender, methodContext, i);
+            }
+            // The consumer holds at most one event, the queue at most four
+            Assert.assertTrue(appender.getDroppedEvents() >= appended - 5, "Dropped events: " + appender.getDroppedEvents());
+            methodContext.release();
+            appender.flush();
+        } finally {
+            methodContext.release();
+            appender.stop();
+        }
+
+        Assert.assertEquals(methodContext.countLogMessages(), appended - appender.getDroppedEvents());
+    }
+
+    @Test
+    public void test_asyncLogBlocksWhenQueueIsFull() throws InterruptedException {
+        Optional<MethodContext> optionalMethodContext = ExecutionContextController.getMethodContextForThread();
+        Assert.assertTrue(optionalMethodContext.isPresent());
+
+        BlockingMethodContext methodContext = new BlockingMethodContext(optionalMethodContext.get());
+        MethodContextLogAppender appender = new MethodContextLogAppender(4, MethodContextLogAppender.OverflowPolicy.BLOCK);
+        appender.start();
+        int appended = 20;
+        try {
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < appended; ++i) {
+                    appendLogEvent(appender, methodContext, i);
+                }
+            });
+            producer.start();
+            producer.join(500);
+            Assert.assertTrue(producer.isAlive(), "Producer should wait for free slots");
+
+            methodContext.release();
+            producer.join(10_000);
+            Assert.assertFalse(producer.isAlive());
+            appender.flush();
+        } finally {
+            methodContext.release();
+            appender.stop();
+        }
+
+        Assert.assertEquals(appender.getDroppedEvents(), 0);
+        Assert.assertEquals(methodContext.countLogMessages(), appended);
+    }
 }
@@ -31,7 +31,6 @@ import javax.mail.Folder;
 import javax.mail.Message;
 import javax.mail.MessagingException;
 import javax.mail.NoSuchProviderException;
-import javax.mail.Store;
 
 /**
  * MailConnector using the IMAP Protocol. Creates a session with values from mailconnection.properties.
@@ -94,18 +93,15 @@ public class ImapMailConnector extends AbstractInboxConnector implements Loggabl
      * @throws SystemException Error connecting with Server.
      */
     private void pMarkAllMailsAsSeen() throws SystemException {
-        Store store;
         try {
-            store = getSession().getStore();
-            store.connect(getServer(), getUsername(), getPassword());
-            final Folder root = store.getDefaultFolder();
+            final Folder root = getStore().getDefaultFolder();
             final Folder folder = root.getFolder(getInboxFolder());
             folder.open(Folder.READ_WRITE);
             final Message[] messages = folder.getMessages();
             for (Message message : messages) {
                 message.setFlag(Flag.SEEN, true);
             }
-            store.close();
+            folder.close(false);
         } catch (final NoSuchProviderException e) {
             log().error(e.getMessage());
             throw new SystemException(e);
@@ -21,6 +21,8 @@
  */
 package eu.tsystems.mms.tic.testframework.mailconnector.util;
 
+import com.sun.mail.imap.IMAPFolder;
+import com.sun.mail.imap.IMAPStore;
 import eu.tsystems.mms.tic.testframework.exceptions.SystemException;
 import eu.tsystems.mms.tic.testframework.logging.Loggable;
 import eu.tsystems.mms.tic.testframework.utils.TimerUtils;
@@ -28,18 +30,27 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.mail.FetchProfile;
 import javax.mail.Flags;
 import javax.mail.Folder;
 import javax.mail.Message;
 import javax.mail.MessageRemovedException;
 import javax.mail.MessagingException;
 import javax.mail.NoSuchProviderException;
-import javax.mail.Session;
 import javax.mail.Store;
+import javax.mail.UIDFolder;
 import javax.mail.internet.AddressException;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
@@ -58,7 +69,199 @@ import org.apache.commons.lang3.ArrayUtils;
  *
  * @author sepr
  */
-public abstract class AbstractInboxConnector extends AbstractMailConnector implements Loggable {
+public abstract class AbstractInboxConnector extends AbstractMailConnector implements Loggable, AutoCloseable {
+
+    /**
+     * Interval for checking watched folders for new messages, when the server doesn't support IMAP IDLE.
+     */
+    private static final int NOOP_INTERVAL_MS = 500;
+
+    /**
+     * Interval for aborting IMAP IDLE after the waiting time has been reached.
+     */
+    private static final long IDLE_ABORT_INTERVAL_MS = 1000;
+
+    /**
+     * Default time after the last request, when the store and the watched folders get closed.
+     */
+    private static final long DEFAULT_CONNECTION_IDLE_TIMEOUT_MS = 60_000;
+
+    private static class SchedulerHolder {
+        /**
+         * Closes idle connections, never waits for running queries
+         */
+        private static final ScheduledExecutorService CLOSE_SCHEDULER = createScheduler("Testerra Mail Close");
+        /**
+         * Aborts IMAP IDLE commands at the end of the waiting time
+         */
+        private static final ScheduledExecutorService IDLE_ABORT_SCHEDULER = createScheduler("Testerra Mail Idle");
+
+        private static ScheduledExecutorService createScheduler(String threadName) {
+            return Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Long-lived store of this connector
+     */
+    private Store store;
+
+    /**
+     * Folders kept open for waiting for new messages and loading the contents of their emails
+     */
+    private final Map<String, WatchedFolder> watchedFolders = new HashMap<>();
+
+    private static class WatchedFolder {
+        private final Folder folder;
+        /**
+         * Highest UID of the messages already known by this connector
+         */
+        private long searchedUid;
+        /**
+         * Status of the folder on the server at the last query
+         */
+        private int messageCount;
+        private long uidNext;
+
+        private WatchedFolder(Folder folder) {
+            this.folder = folder;
+        }
+    }
+
+    private long connectionIdleTimeoutMs = DEFAULT_CONNECTION_IDLE_TIMEOUT_MS;
+    private long lastUsage;
+    private ScheduledFuture<?> idleClose;
+
+    /**
+     * Only one thread at a time waits in the watched folders
+     */
+    private final ReentrantLock watchLock = new ReentrantLock();
+
+    /**
+     * Emails of the watched folders, whose messages haven't been copied yet
+     */
+    private final Set<Email> attachedEmails = Collections.newSetFromMap(new WeakHashMap<>());
+
+    /**
+     * Returns the connected store of this connector, which is kept open for further requests.
+     * The store gets reconnected when the connection has been lost
+     * and closed when it hasn't been used for {@link #getConnectionIdleTimeoutMs()}.
+     */
+    protected synchronized Store getStore() throws MessagingException {
+        if (store == null) {
+            store = getSession().getStore();
+        }
+        if (!store.isConnected()) {
+            store.connect();
+        }
+        touch();
+        return store;
+    }
+
+    /**
+     * @return Time in milliseconds after the last request, when the connection gets closed
+     */
+    public long getConnectionIdleTimeoutMs() {
+        return connectionIdleTimeoutMs;
+    }
+
+    /**
+     * Sets the time in milliseconds after the last request, when the connection gets closed.
+     *
+     * @param connectionIdleTimeoutMs the idle timeout
+     */
+    public void setConnectionIdleTimeoutMs(final long connectionIdleTimeoutMs) {
+        this.connectionIdleTimeoutMs = connectionIdleTimeoutMs;
+    }
+
+    private synchronized void touch() {
+        lastUsage = System.currentTimeMillis();
+        if (idleClose == null) {
+            scheduleIdleClose(connectionIdleTimeoutMs);
+        }
+    }
+
+    private synchronized void scheduleIdleClose(long delayMs) {
+        idleClose = SchedulerHolder.CLOSE_SCHEDULER.schedule(this::closeIfIdle, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs on the shared close scheduler and must not wait for a query, which may wait for messages much longer.
+     */
+    private void closeIfIdle() {
+        if (!watchLock.tryLock()) {
+            scheduleIdleClose(connectionIdleTimeoutMs);
+            return;
+        }
+        try {
+            synchronized (this) {
+                idleClose = null;
+                long idleMs = System.currentTimeMillis() - lastUsage;
+                if (idleMs < connectionIdleTimeoutMs) {
+                    scheduleIdleClose(connectionIdleTimeoutMs - idleMs);
+                } else if (store != null) {
+                    log().debug("Closing idle connection");
+                    close();
+                }
+            }
+        } finally {
+            watchLock.unlock();
+        }
+    }
+
+    /**
+     * Closes the watched folders and the store of this connector.
+     * The contents of emails still referring to a watched folder are copied before.
+     * This happens automatically when the connector hasn't been used for {@link #getConnectionIdleTimeoutMs()}.
+     */
+    @Override
+    public synchronized void close() {
+        if (idleClose != null) {
+            idleClose.cancel(false);
+            idleClose = null;
+        }
+        detachEmails();
+        for (WatchedFolder watchedFolder : watchedFolders.values()) {
+            closeFolder(watchedFolder.folder, false);
+        }
+        watchedFolders.clear();
+        if (store != null) {
+            try {
+                store.close();
+            } catch (MessagingException e) {
+                log().error("Unable to close", e);
+            }
+            store = null;
+        }
+    }
+
+    /**
+     * Copies the messages of all emails still referring to a watched folder,
+     * before they get removed or their folder gets closed.
+     */
+    private void detachEmails() {
+        List<Email> emails;
+        synchronized (attachedEmails) {
+            emails = new ArrayList<>(attachedEmails);
+            attachedEmails.clear();
+        }
+        emails.forEach(Email::getMessage);
+    }
+
+    private void closeFolder(Folder folder, boolean expunge) {
+        try {
+            if (folder.isOpen()) {
+                folder.close(expunge);
+            }
+        } catch (MessagingException e) {
+            log().error("Unable to close", e);
+        }
+    }
+
     /**
      * Wait until messages with search criteria are received.
      *
@@ -244,8 +447,7 @@ public abstract class AbstractInboxConnector extends AbstractMailConnector imple
 
         Stream<Email> emailStream;
         try {
-            Stream<MimeMessage> messageStream = waitForMessages(query.getSearchTerm(), query.getRetryCount(), query.getPauseMs(), folderName);
-            emailStream = messageStream.map(Email::new);
+            emailStream = waitForMessages(query.getSearchTerm(), query.getRetryCount(), query.getPauseMs(), folderName);
         } catch (MessagingException e) {
             throw new RuntimeException("Could not query emails", e);
         }
@@ -253,62 +455,221 @@ public abstract class AbstractInboxConnector extends AbstractMailConnector imple
     }
 
     /**
-     * Waits for messages and returns a stream
+     * Waits for messages and returns a stream.
+     * Folders supporting UIDs (IMAP) are kept open and only new messages are searched after the first try.
+     * Other folders (POP3) are searched completely on every try.
      * @throws MessagingException
      */
-    private Stream<MimeMessage> waitForMessages(final SearchTerm searchTerm, int maxReadTries, long pauseMs, final String foldername) throws MessagingException {
-        Stream<MimeMessage> mimeMessages = Stream.empty();
-
+    private Stream<Email> waitForMessages(final SearchTerm searchTerm, int maxReadTries, long pauseMs, final String foldername) throws MessagingException {
         if (maxReadTries < 1) {
             maxReadTries = 1;
         }
 
-        for (int i = 0; i < maxReadTries; i++) {
-            Session session = getSession();
-            Store store = session.getStore();
-            store.connect();
+        if (getStore().getFolder(foldername) instanceof UIDFolder) {
+            return watchMessages(searchTerm, maxReadTries * pauseMs, foldername);
+        } else {
+            return pollMessages(searchTerm, maxReadTries, pauseMs, foldername);
+        }
+    }
 
-            Folder folder = store.getFolder(foldername);
+    /**
+     * Opens the folder on every try and copies the found messages before closing it.
+     */
+    private Stream<Email> pollMessages(final SearchTerm searchTerm, int maxReadTries, long pauseMs, final String foldername) throws MessagingException {
+        for (int i = 0; i < maxReadTries; i++) {
+            Folder folder = getStore().getFolder(foldername);
             folder.open(Folder.READ_ONLY);
 
-            Runnable closeStoreAndFolder = () -> {
-                try {
-                    folder.close();
-                    store.close();
-                } catch (MessagingException e) {
-                    log().error("Unable to close", e);
+            List<Email> emails = new ArrayList<>();
+            try {
+                Message[] messages;
+                if (searchTerm != null) {
+                    messages = folder.search(searchTerm);
+                } else {
+                    messages = folder.getMessages();
                 }
-            };
 
-            Message[] messages;
+                for (Message message : messages) {
+                    try {
+                        emails.add(new Email(new MimeMessage((MimeMessage) message)));
+                    } catch (MessagingException e) {
+                        log().warn("Unable to create " + MimeMessage.class.getSimpleName(), e);
+                    }
+                }
+            } finally {
+                closeFolder(folder, false);
+            }
 
-            if (searchTerm != null) {
-                messages = folder.search(searchTerm);
-            } else {
-                messages = folder.getMessages();
+            if (!emails.isEmpty()) {
+                return emails.stream();
             }
+            TimerUtils.sleep(Long.valueOf(pauseMs).intValue(), "waiting for emails (try: " + (i+1) +"/" + maxReadTries + ")");
+        }
+        return Stream.empty();
+    }
 
-            if (messages.length == 0) {
-                TimerUtils.sleep(Long.valueOf(pauseMs).intValue(), "waiting for emails (try: " + (i+1) +"/" + maxReadTries + ")");
-                closeStoreAndFolder.run();
-            } else {
-                mimeMessages = Stream.of(messages)
-                        .onClose(closeStoreAndFolder)
-                        .map(message -> {
-                            MimeMessage mimeMessage = null;
-                            try {
-                                mimeMessage = new MimeMessage((MimeMessage) message);
-                            } catch (MessagingException e) {
-                                log().warn("Unable to create " + MimeMessage.class.getSimpleName(), e);
-                            }
-                            return Optional.ofNullable(mimeMessage);
-                        })
-                        .filter(Optional::isPresent)
-                        .map(Optional::get);
-                break;
+    /**
+     * Keeps the folder open and waits for new messages by IMAP IDLE, or by NOOP polling when IDLE is not supported.
+     * The first search of a query covers the whole folder on the server, because former messages may match a new search term.
+     * While waiting, only messages with higher UIDs than the known ones are searched.
+     * The found messages are not copied until their content is accessed.
+     */
+    private Stream<Email> watchMessages(final SearchTerm searchTerm, long timeoutMs, final String foldername) throws MessagingException {
+        final long deadline = System.currentTimeMillis() + timeoutMs;
+
+        watchLock.lock();
+        try {
+            try {
+                WatchedFolder watchedFolder = getWatchedFolder(foldername);
+                Folder folder = watchedFolder.folder;
+                UIDFolder uidFolder = (UIDFolder) folder;
+
+                // Updates the open folder by a NOOP command
+                folder.getMessageCount();
+                Message[] messages = (searchTerm != null) ? folder.search(searchTerm) : folder.getMessages();
+                watchedFolder.searchedUid = Math.max(watchedFolder.searchedUid, getLastUid(uidFolder));
+
+                while (true) {
+                    messages = Stream.of(messages).filter(message -> !message.isExpunged()).toArray(Message[]::new);
+                    if (messages.length > 0) {
+                        FetchProfile fetchProfile = new FetchProfile();
+                        fetchProfile.add(FetchProfile.Item.ENVELOPE);
+                        folder.fetch(messages, fetchProfile);
+                        List<Email> emails = Stream.of(messages)
+                                .map(message -> Email.fromFolderMessage((MimeMessage) message))
+                                .collect(Collectors.toList());
+                        synchronized (attachedEmails) {
+                            attachedEmails.addAll(emails);
+                        }
+                        return emails.stream();
+                    }
+
+                    long remainingMs = deadline - System.currentTimeMillis();
+                    if (remainingMs <= 0) {
+                        return Stream.empty();
+                    }
+                    log().info(String.format("Waiting up to %d ms for new emails in %s", remainingMs, foldername));
+                    waitForNewMessages(folder, watchedFolder.searchedUid, remainingMs);
+
+                    Message[] candidates = getMessagesAfterUid(uidFolder, watchedFolder.searchedUid);
+                    if (candidates.length > 0) {
+                        messages = (searchTerm != null) ? folder.search(searchTerm, candidates) : candidates;
+                        watchedFolder.searchedUid = getUid(uidFolder, candidates[candidates.length - 1]);
+                    }
+                }
+            } finally {
+                touch();
+            }
+        } finally {
+            watchLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the open watched folder, which is kept open for further queries and loading the contents of the found emails.
+     * The folder only gets reopened, when messages have been removed since the last query,
+     * because removals by other sessions (like POP3) are not always notified to the open folder.
+     */
+    private synchronized WatchedFolder getWatchedFolder(String folderName) throws MessagingException {
+        WatchedFolder watchedFolder = watchedFolders.get(folderName);
+        Store store = getStore();
+
+        // The STATUS command of an unopened folder returns the current state on the server
+        Folder statusFolder = store.getFolder(folderName);
+        int messageCount = statusFolder.getMessageCount();
+        long uidNext = ((UIDFolder) statusFolder).getUIDNext();
+
+        if (watchedFolder != null && watchedFolder.folder.isOpen()) {
+            long addedCount = uidNext - watchedFolder.uidNext;
+            if (messageCount != watchedFolder.messageCount + addedCount) {
+                detachEmails();
+                closeFolder(watchedFolder.folder, false);
+                watchedFolder = null;
+            }
+        }
+        if (watchedFolder == null || !watchedFolder.folder.isOpen()) {
+            Folder folder = store.getFolder(folderName);
+            folder.open(Folder.READ_ONLY);
+            watchedFolder = new WatchedFolder(folder);
+            watchedFolders.put(folderName, watchedFolder);
+        }
+        watchedFolder.messageCount = messageCount;
+        watchedFolder.uidNext = uidNext;
+        return watchedFolder;
+    }
+
+    /**
+     * @return The UID of the last message, which has not been expunged, or 0 if there is none
+     */
+    private long getLastUid(UIDFolder uidFolder) throws MessagingException {
+        Folder folder = (Folder) uidFolder;
+        for (int messageNumber = folder.getMessageCount(); messageNumber > 0; messageNumber--) {
+            Message message = folder.getMessage(messageNumber);
+            if (!message.isExpunged()) {
+                return getUid(uidFolder, message);
             }
         }
-        return mimeMessages;
+        return 0;
+    }
+
+    /**
+     * Returns the messages with a higher UID than the given one.
+     * The UID range "n:*" always contains the last message, even when its UID is lower than n.
+     */
+    private Message[] getMessagesAfterUid(UIDFolder uidFolder, long uid) throws MessagingException {
+        return Stream.of(uidFolder.getMessagesByUID(uid + 1, UIDFolder.LASTUID))
+                .filter(message -> message != null && !message.isExpunged())
+                .filter(message -> getUid(uidFolder, message) > uid)
+                .toArray(Message[]::new);
+    }
+
+    private long getUid(UIDFolder uidFolder, Message message) {
+        try {
+            return uidFolder.getUID(message);
+        } catch (MessagingException e) {
+            throw new RuntimeException("Unable to get UID of message", e);
+        }
+    }
+
+    /**
+     * Returns when the folder contains a message with a higher UID than the given one, or the timeout has been reached.
+     */
+    private void waitForNewMessages(Folder folder, long searchedUid, long timeoutMs) throws MessagingException {
+        final long deadline = System.currentTimeMillis() + timeoutMs;
+
+        if (folder instanceof IMAPFolder && ((IMAPStore) folder.getStore()).hasCapability("IDLE")) {
+            // Any other command on the folder aborts the IDLE command
+            ScheduledFuture<?> abortIdle = SchedulerHolder.IDLE_ABORT_SCHEDULER.scheduleWithFixedDelay(() -> {
+                try {
+                    folder.getMessageCount();
+                } catch (MessagingException e) {
+                    log().debug("Unable to abort IDLE", e);
+                }
+            }, timeoutMs, IDLE_ABORT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            try {
+                while (!hasNewMessages(folder, searchedUid) && System.currentTimeMillis() < deadline) {
+                    ((IMAPFolder) folder).idle(true);
+                }
+            } finally {
+                abortIdle.cancel(false);
+            }
+        } else {
+            long remainingMs;
+            while ((remainingMs = deadline - System.currentTimeMillis()) > 0) {
+                TimerUtils.sleepSilent((int) Math.min(NOOP_INTERVAL_MS, remainingMs));
+                if (hasNewMessages(folder, searchedUid)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks for new messages, {@link Folder#getMessageCount()} updates the open folder by a NOOP command.
+     */
+    private boolean hasNewMessages(Folder folder, long searchedUid) throws MessagingException {
+        folder.getMessageCount();
+        return getMessagesAfterUid((UIDFolder) folder, searchedUid).length > 0;
     }
 
     /**
@@ -332,16 +693,13 @@ public abstract class AbstractInboxConnector extends AbstractMailConnector imple
      */
     private int pGetMessageCount(String folderName) {
 
-        Store store;
         int nrOfMessages;
         try {
-            store = getSession().getStore();
-            store.connect(getServer(), getUsername(), getPassword());
-            final Folder root = store.getDefaultFolder();
+            final Folder root = getStore().getDefaultFolder();
             final Folder folder = root.getFolder(folderName);
             folder.open(Folder.READ_ONLY);
             nrOfMessages = folder.getMessageCount();
-            store.close();
+            closeFolder(folder, false);
         } catch (final NoSuchProviderException e) {
             log().error(e.getMessage());
             throw new RuntimeException(e);
@@ -488,11 +846,10 @@ public abstract class AbstractInboxConnector extends AbstractMailConnector imple
     }
 
     private int pMoveMessage(final String targetFolderName, final SearchTerm... searchTerms) {
-        Store store;
         int count;
+        detachEmails();
         try {
-            store = getSession().getStore();
-            store.connect();
+            final Store store = getStore();
 
             final Folder targetFolder = store.getFolder(targetFolderName);
             if (!targetFolder.exists()) {
@@ -519,7 +876,6 @@ public abstract class AbstractInboxConnector extends AbstractMailConnector imple
             folder.setFlags(msgArray, new Flags(Flags.Flag.DELETED), true);
 
             folder.close(true);
-            store.close();
 
         } catch (final MessagingException e) {
             log().error(e.getMessage());
@@ -593,11 +949,9 @@ public abstract class AbstractInboxConnector extends AbstractMailConnector imple
 
         boolean deleted = false;
 
-        Store store;
+        detachEmails();
         try {
-            store = getSession().getStore();
-            store.connect();
-            final Folder folder = store.getFolder(folderName);
+            final Folder folder = getStore().getFolder(folderName);
             folder.open(Folder.READ_WRITE);
 
             final Message[] messages;
@@ -625,7 +979,6 @@ public abstract class AbstractInboxConnector extends AbstractMailConnector imple
             }
             // leads to error "folder not open" when reading message content
             folder.close(true);
-            store.close();
 
         } catch (final MessagingException e) {
             log().error(e.getMessage());
@@ -650,11 +1003,9 @@ public abstract class AbstractInboxConnector extends AbstractMailConnector imple
 
         boolean deleted = false;
 
-        Store store;
+        detachEmails();
         try {
-            store = getSession().getStore();
-            store.connect();
-            final Folder folder = store.getFolder(getInboxFolder());
+            final Folder folder = getStore().getFolder(getInboxFolder());
             folder.open(Folder.READ_WRITE);
             final Message[] messages = folder.getMessages();
             log().info("Checking messages from " + getInboxFolder() + " for MessageID:");
@@ -668,7 +1019,6 @@ public abstract class AbstractInboxConnector extends AbstractMailConnector imple
             }
             // leads to error "folder not open" when reading message content
             folder.close(true);
-            store.close();
 
         } catch (final MessagingException e) {
             log().error(e.getMessage());
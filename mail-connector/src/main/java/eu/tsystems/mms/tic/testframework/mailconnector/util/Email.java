@@ -56,7 +56,17 @@ public class Email implements Loggable {
     /**
      * Message-Object
      */
-    private final MimeMessage message;
+    private MimeMessage message;
+
+    /**
+     * Message of an open folder, which gets copied on first access of its content
+     */
+    private boolean detachMessage = false;
+
+    /**
+     * Content of the message has been read into {@link #messageText} and {@link #attachments}
+     */
+    private boolean contentsRead = false;
 
     /**
      * Liste der Empfänger (CC,BCC,TO)
@@ -82,7 +92,15 @@ public class Email implements Loggable {
      *
      * @return message
      */
-    public MimeMessage getMessage() {
+    public synchronized MimeMessage getMessage() {
+        if (this.detachMessage) {
+            this.detachMessage = false;
+            try {
+                this.message = new MimeMessage(this.message);
+            } catch (MessagingException e) {
+                log().warn("Unable to create " + MimeMessage.class.getSimpleName(), e);
+            }
+        }
         return this.message;
     }
 
@@ -157,8 +175,6 @@ public class Email implements Loggable {
         attachments = new HashMap<>();
         this.message = javaMessage;
 
-        readMessageContents();
-
         try {
             this.setSubject(javaMessage.getSubject());
         } catch (MessagingException e) {
@@ -189,9 +205,27 @@ public class Email implements Loggable {
     }
 
     /**
-     * Speichert Textinhalt und Anhänge in den lokalen Feldern.
+     * Creates an email of a message in an open folder.
+     * Only the headers are read, the content is downloaded on first access.
+     *
+     * @param folderMessage Message of an open folder
+     */
+    static Email fromFolderMessage(final MimeMessage folderMessage) {
+        Email email = new Email(folderMessage);
+        email.detachMessage = true;
+        return email;
+    }
+
+    /**
+     * Speichert Textinhalt und Anhänge in den lokalen Feldern, beim ersten Zugriff.
      */
-    private void readMessageContents() {
+    private synchronized void readMessageContents() {
+        if (this.contentsRead) {
+            return;
+        }
+        this.contentsRead = true;
+
+        final MimeMessage message = getMessage();
         InputStream is;
         String encoding;
         try {
@@ -269,6 +303,7 @@ public class Email implements Loggable {
      * @return the attachments
      */
     public Map<String, String> getAttachments() {
+        readMessageContents();
         return attachments;
     }
 
@@ -280,6 +315,7 @@ public class Email implements Loggable {
      * @return content of attachment
      */
     public String getAttachmentsContent(String fileName) {
+        readMessageContents();
         return attachments.get(fileName);
     }
 
@@ -289,6 +325,7 @@ public class Email implements Loggable {
      * @return Textinhalt der E-Mail als String
      */
     public String getMessageText() {
+        readMessageContents();
         return messageText;
     }
 
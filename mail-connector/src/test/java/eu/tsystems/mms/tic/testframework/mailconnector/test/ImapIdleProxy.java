@@ -0,0 +1,177 @@
+/*
+ * Testerra
+ *
+ * (C) 2022, T-Systems Multimedia Solutions GmbH, Deutsche Telekom AG
+ *
+ * Deutsche Telekom AG and all other contributors /
+ * copyright owners license this file to you under the Apache
+ * License, Version 2.0 (the "License"); you may not use this
+ * file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package eu.tsystems.mms.tic.testframework.mailconnector.test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Proxy in front of an IMAP server without IDLE support, which announces the IDLE capability
+ * and answers IDLE commands itself. The idling client is never notified, so IDLE only ends when it gets aborted.
+ */
+class ImapIdleProxy implements Closeable {
+
+    private static final Pattern IDLE_COMMAND = Pattern.compile("^(\\S+) IDLE\\r?\\n$", Pattern.CASE_INSENSITIVE);
+
+    private final ServerSocket serverSocket;
+    private final int targetPort;
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "IMAP IDLE Proxy");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicInteger idleCommands = new AtomicInteger();
+    private final AtomicInteger openConnections = new AtomicInteger();
+
+    ImapIdleProxy(int targetPort) throws IOException {
+        this.targetPort = targetPort;
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executor.execute(this::accept);
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    int getIdleCommands() {
+        return idleCommands.get();
+    }
+
+    int getOpenConnections() {
+        return openConnections.get();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                Socket server = new Socket(InetAddress.getLoopbackAddress(), targetPort);
+                openConnections.incrementAndGet();
+                AtomicInteger openPumps = new AtomicInteger(2);
+                Runnable closeBoth = () -> {
+                    closeQuietly(client);
+                    closeQuietly(server);
+                    if (openPumps.decrementAndGet() == 0) {
+                        openConnections.decrementAndGet();
+                    }
+                };
+                executor.execute(() -> pumpToServer(client, server, closeBoth));
+                executor.execute(() -> pumpToClient(server, client, closeBoth));
+            } catch (IOException e) {
+                // closed
+            }
+        }
+    }
+
+    private void pumpToServer(Socket client, Socket server, Runnable closeBoth) {
+        try {
+            InputStream in = new BufferedInputStream(client.getInputStream());
+            OutputStream serverOut = server.getOutputStream();
+            OutputStream clientOut = client.getOutputStream();
+            String line;
+            while ((line = readLine(in)) != null) {
+                Matcher idle = IDLE_COMMAND.matcher(line);
+                if (idle.matches()) {
+                    idleCommands.incrementAndGet();
+                    write(clientOut, "+ idling\r\n");
+                    // Waits for the DONE of the client
+                    if (readLine(in) == null) {
+                        break;
+                    }
+                    write(clientOut, idle.group(1) + " OK IDLE terminated\r\n");
+                } else {
+                    serverOut.write(line.getBytes(StandardCharsets.ISO_8859_1));
+                    serverOut.flush();
+                }
+            }
+        } catch (IOException e) {
+            // closed
+        } finally {
+            closeBoth.run();
+        }
+    }
+
+    private void pumpToClient(Socket server, Socket client, Runnable closeBoth) {
+        try {
+            InputStream in = new BufferedInputStream(server.getInputStream());
+            OutputStream clientOut = client.getOutputStream();
+            String line;
+            while ((line = readLine(in)) != null) {
+                if (line.contains("CAPABILITY") && !line.contains(" IDLE")) {
+                    line = line.replace("IMAP4rev1", "IMAP4rev1 IDLE");
+                }
+                write(clientOut, line);
+            }
+        } catch (IOException e) {
+            // closed
+        } finally {
+            closeBoth.run();
+        }
+    }
+
+    private void write(OutputStream out, String line) throws IOException {
+        synchronized (out) {
+            out.write(line.getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+        }
+    }
+
+    private String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) >= 0) {
+            line.write(b);
+            if (b == '\n') {
+                break;
+            }
+        }
+        return line.size() > 0 ? new String(line.toByteArray(), StandardCharsets.ISO_8859_1) : null;
+    }
+
+    private void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(serverSocket);
+        executor.shutdownNow();
+    }
+}
@@ -36,12 +36,15 @@ import eu.tsystems.mms.tic.testframework.testing.TesterraTest;
 import eu.tsystems.mms.tic.testframework.utils.AssertUtils;
 import eu.tsystems.mms.tic.testframework.utils.FileUtils;
 import eu.tsystems.mms.tic.testframework.utils.StringUtils;
+import eu.tsystems.mms.tic.testframework.utils.TimerUtils;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.security.Security;
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import javax.mail.Address;
 import javax.mail.Message.RecipientType;
@@ -164,6 +167,8 @@ public class MailConnectorTest extends TesterraTest {
 
     @AfterClass
     public void shutDownServer() {
+        pop3.close();
+        imap.close();
         mailServerAll.stop();
     }
 
@@ -733,4 +738,85 @@ public class MailConnectorTest extends TesterraTest {
 
         AssertUtils.assertGreaterEqualThan(new BigDecimal(endTime), new BigDecimal(initPause * initRetry), "Invalid polling time");
     }
+
+    @Test
+    public void testT14_waitForNewMessage() throws Exception {
+        final String mailSubject = "testT14_waitForNewMessage";
+        final MimeMessage msg = this.createDefaultMessage(smtp.getSession(), mailSubject);
+
+        // the message has to be found before the first pause of polling would have elapsed
+        final int pauseMs = 5000;
+        EmailQuery query = new EmailQuery()
+                .setPauseMs(pauseMs)
+                .setRetryCount(4)
+                .setSearchTerm(new SubjectTerm(mailSubject));
+
+        CompletableFuture<Void> sending = CompletableFuture.runAsync(() -> {
+            TimerUtils.sleep(1000);
+            smtp.sendMessage(msg);
+        });
+
+        long startTime = System.currentTimeMillis();
+        Email receivedMsg = this.imap.query(query).findFirst().orElse(null);
+        long endTime = System.currentTimeMillis()-startTime;
+        sending.get();
+
+        Assert.assertNotNull(receivedMsg, ERR_NO_MSG_RECEIVED);
+        AssertUtils.assertLowerThan(new BigDecimal(endTime), new BigDecimal(pauseMs - 1000), "Waiting time for new message");
+
+        // content is still available after the message has been deleted from the server
+        this.imap.deleteMessage(new SubjectTerm(mailSubject));
+        Assert.assertTrue(MailUtils.compareSentAndReceivedEmailContents(msg, receivedMsg), ERR_CONTENT_DIFFERS);
+    }
+
+    @Test
+    public void testT15_queryFormerMessageAfterWaiting() throws Exception {
+        final String firstSubject = "testT15_first";
+        final String secondSubject = "testT15_second";
+        final MimeMessage firstMsg = this.createDefaultMessage(smtp.getSession(), firstSubject);
+        final MimeMessage secondMsg = this.createDefaultMessage(smtp.getSession(), secondSubject);
+
+        smtp.sendMessage(firstMsg);
+        Email firstReceived = this.imap.query(new EmailQuery().setSearchTerm(new SubjectTerm(firstSubject))).findFirst().orElse(null);
+        Assert.assertNotNull(firstReceived, ERR_NO_MSG_RECEIVED);
+
+        smtp.sendMessage(secondMsg);
+        Email secondReceived = this.imap.query(new EmailQuery().setSearchTerm(new SubjectTerm(secondSubject))).findFirst().orElse(null);
+        Assert.assertNotNull(secondReceived, ERR_NO_MSG_RECEIVED);
+
+        // messages already known by the watched folder are found by a new query
+        Email firstReceivedAgain = this.imap.query(new EmailQuery().setSearchTerm(new SubjectTerm(firstSubject))).findFirst().orElse(null);
+        Assert.assertNotNull(firstReceivedAgain, ERR_NO_MSG_RECEIVED);
+        Assert.assertTrue(MailUtils.compareSentAndReceivedEmailContents(firstMsg, firstReceivedAgain), ERR_CONTENT_DIFFERS);
+    }
+
+    @Test
+    public void testT16_abortImapIdleWhileConnectionIsClosedOnIdle() throws Exception {
+        try (ImapIdleProxy proxy = new ImapIdleProxy(ServerSetupTest.IMAP.getPort())) {
+            ImapMailConnector idleImap = new ImapMailConnector();
+            idleImap.setPort(String.valueOf(proxy.getPort()));
+            // the idle close becomes due while the query is still waiting
+            idleImap.setConnectionIdleTimeoutMs(500);
+
+            EmailQuery query = new EmailQuery()
+                    .setPauseMs(1000)
+                    .setRetryCount(3)
+                    .setSearchTerm(new SubjectTerm("testT16_notExisting"));
+
+            long startTime = System.currentTimeMillis();
+            CompletableFuture<Long> emailCount = CompletableFuture.supplyAsync(() -> idleImap.query(query).count());
+            Assert.assertEquals(emailCount.get(10, TimeUnit.SECONDS).longValue(), 0, "Found emails");
+            long endTime = System.currentTimeMillis() - startTime;
+
+            Assert.assertTrue(proxy.getIdleCommands() > 0, "IMAP IDLE has been used");
+            AssertUtils.assertGreaterEqualThan(new BigDecimal(endTime), new BigDecimal(3000), "Waiting time");
+
+            // the connection gets closed after the query
+            long closeDeadline = System.currentTimeMillis() + 5000;
+            while (proxy.getOpenConnections() > 0 && System.currentTimeMillis() < closeDeadline) {
+                TimerUtils.sleep(100);
+            }
+            Assert.assertEquals(proxy.getOpenConnections(), 0, "Open connections");
+        }
+    }
 }
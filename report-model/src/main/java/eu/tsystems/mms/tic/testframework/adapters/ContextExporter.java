@@ -30,6 +30,7 @@ import eu.tsystems.mms.tic.testframework.report.TestStatusController;
 import eu.tsystems.mms.tic.testframework.report.TesterraListener;
 import eu.tsystems.mms.tic.testframework.report.model.ClickPathEvent;
 import eu.tsystems.mms.tic.testframework.internal.IDUtils;
+import eu.tsystems.mms.tic.testframework.internal.LatencyHistogram;
 import eu.tsystems.mms.tic.testframework.report.FailureCorridor;
 import eu.tsystems.mms.tic.testframework.report.model.BuildInformation;
 import eu.tsystems.mms.tic.testframework.report.model.ClassContext;
@@ -64,6 +65,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -146,6 +148,7 @@ public class ContextExporter implements Loggable {
     public File.Builder[] buildScreenshot(Screenshot screenshot) {
         File.Builder[] fileBuilders = new File.Builder[2];
 
+        screenshot.awaitProcessing();
         java.io.File currentScreenshotFile = screenshot.getScreenshotFile();
         File.Builder screenshotBuilder = prepareFile(currentScreenshotFile);
         screenshotBuilder.setRelativePath(report.getRelativePath(currentScreenshotFile));
@@ -442,6 +445,12 @@ public class ContextExporter implements Loggable {
             Optional<LogMessage.Builder> optional = Optional.ofNullable(buildLogMessage(logEvent));
             optional.ifPresent(builder::addLogMessages);
         });
+        Map<String, LatencyHistogram> guiElementFindDurations = executionContext.getGuiElementFindDurations();
+        if (!guiElementFindDurations.isEmpty()) {
+            Map<String, Object> exported = new TreeMap<>();
+            guiElementFindDurations.forEach((locator, histogram) -> exported.put(locator, exportLatencyHistogram(histogram)));
+            builder.setGuiElementFindDurations(jsonEncoder.toJson(exported));
+        }
         builder.putFailureCorridorLimits(FailureCorridorValue.FCV_HIGH_VALUE, FailureCorridor.getAllowedTestFailuresHIGH());
         builder.putFailureCorridorLimits(FailureCorridorValue.FCV_MID_VALUE, FailureCorridor.getAllowedTestFailuresMID());
         builder.putFailureCorridorLimits(FailureCorridorValue.FCV_LOW_VALUE, FailureCorridor.getAllowedTestFailuresLOW());
@@ -510,9 +519,24 @@ public class ContextExporter implements Loggable {
         sessionContext.getCapabilities().ifPresent(map -> builder.setCapabilities(jsonEncoder.toJson(map)));
         sessionContext.getWebDriverRequest().getServerUrl().ifPresent(url -> builder.setServerUrl(url.toString()));
         sessionContext.getNodeInfo().ifPresent(nodeInfo -> builder.setNodeUrl(nodeInfo.toString()));
+        LatencyHistogram guiElementFindDurations = sessionContext.getGuiElementFindDurations();
+        if (guiElementFindDurations.getCount() > 0) {
+            builder.setGuiElementFindDurations(jsonEncoder.toJson(exportLatencyHistogram(guiElementFindDurations)));
+        }
         return builder;
     }
 
+    private Map<String, Object> exportLatencyHistogram(LatencyHistogram histogram) {
+        Map<String, Object> exported = new LinkedHashMap<>();
+        exported.put("count", histogram.getCount());
+        exported.put("totalMs", histogram.getTotal());
+        exported.put("meanMs", histogram.getMean());
+        exported.put("p50Ms", histogram.getPercentile(50));
+        exported.put("p95Ms", histogram.getPercentile(95));
+        exported.put("maxMs", histogram.getMax());
+        return exported;
+    }
+
     public SuiteContext.Builder buildSuiteContext(eu.tsystems.mms.tic.testframework.report.model.context.SuiteContext suiteContext) {
         SuiteContext.Builder builder = SuiteContext.newBuilder();
 
@@ -22,6 +22,7 @@
 
 package eu.tsystems.mms.tic.testframework.listeners;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.events.ExecutionFinishEvent;
 import eu.tsystems.mms.tic.testframework.events.MethodEndEvent;
@@ -50,6 +51,7 @@ import java.util.Properties;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 /**
@@ -87,11 +89,12 @@ public class GenerateJUnitXML2ReportListener implements
         ATTR_ESCAPES.put("&quot;", QUOTE);
     }
 
-    private int m_numFailed = 0;
+    private final AtomicInteger m_numFailed = new AtomicInteger();
     private Queue<ITestResult> m_allTests = new ConcurrentLinkedDeque<>();
     private Queue<ITestResult> m_configIssues = new ConcurrentLinkedDeque<>();
 
     @Subscribe
+    @AllowConcurrentEvents
     @Override
     public void onMethodEnd(MethodEndEvent event) {
         if (event.getMethodContext().isConfigMethod()) {
@@ -106,6 +109,7 @@ public class GenerateJUnitXML2ReportListener implements
     }
 
     @Subscribe
+    @AllowConcurrentEvents
     @Override
     public void onTestStatusUpdate(TestStatusUpdateEvent event) {
 
@@ -125,7 +129,7 @@ public class GenerateJUnitXML2ReportListener implements
                 case FAILED:
                 case FAILED_EXPECTED:
                     m_allTests.add(iTestResult);
-                    m_numFailed++;
+                    m_numFailed.incrementAndGet();
                     break;
                 case NO_RUN:
                 case RETRIED:
@@ -141,6 +145,7 @@ public class GenerateJUnitXML2ReportListener implements
     }
 
     @Subscribe
+    @AllowConcurrentEvents
     @Override
     public void onExecutionFinish(ExecutionFinishEvent event) {
         generateReport(testngTestContext);
@@ -164,7 +169,7 @@ public class GenerateJUnitXML2ReportListener implements
 
         Properties attrs = new Properties();
         attrs.setProperty(XMLConstants.ATTR_ERRORS, "0");
-        attrs.setProperty(XMLConstants.ATTR_FAILURES, Integer.toString(m_numFailed));
+        attrs.setProperty(XMLConstants.ATTR_FAILURES, Integer.toString(m_numFailed.get()));
         attrs.setProperty(
                 XMLConstants.ATTR_IGNORED, Integer.toString(context.getExcludedMethods().size()));
         try {
@@ -322,7 +327,7 @@ public class GenerateJUnitXML2ReportListener implements
     private void resetAll() {
         m_allTests = new ConcurrentLinkedDeque<>();
         m_configIssues = new ConcurrentLinkedDeque<>();
-        m_numFailed = 0;
+        m_numFailed.set(0);
     }
 
 }
@@ -22,6 +22,7 @@
 
 package eu.tsystems.mms.tic.testframework.listeners;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.events.ExecutionFinishEvent;
 import eu.tsystems.mms.tic.testframework.logging.Loggable;
@@ -39,6 +40,7 @@ public class GenerateTestNGXmlReportListener implements Loggable, ExecutionFinis
 
     @Override
     @Subscribe
+    @AllowConcurrentEvents
     public void onExecutionFinish(ExecutionFinishEvent event) {
         log().debug("Generating TestNG XML report...");
         org.testng.reporters.XMLReporter testNgXmlReporter = new org.testng.reporters.XMLReporter();
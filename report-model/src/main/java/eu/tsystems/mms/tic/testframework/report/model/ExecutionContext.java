@@ -23,6 +23,7 @@ private static final long serialVersionUID = 0L;
     taskId_ = "";
     exclusiveSessionContextIds_ = com.google.protobuf.LazyStringArrayList.EMPTY;
     logMessages_ = java.util.Collections.emptyList();
+    guiElementFindDurations_ = "";
   }
 
   @java.lang.Override
@@ -164,6 +165,12 @@ private static final long serialVersionUID = 0L;
                 failureCorridorCounts__.getKey(), failureCorridorCounts__.getValue());
             break;
           }
+          case 146: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            guiElementFindDurations_ = s;
+            break;
+          }
           default: {
             if (!parseUnknownField(
                 input, unknownFields, extensionRegistry, tag)) {
@@ -730,6 +737,44 @@ private static final long serialVersionUID = 0L;
     return map.get(key);
   }
 
+  public static final int GUI_ELEMENT_FIND_DURATIONS_FIELD_NUMBER = 18;
+  private volatile java.lang.Object guiElementFindDurations_;
+  /**
+   * <code>string gui_element_find_durations = 18;</code>
+   * @return The guiElementFindDurations.
+   */
+  @java.lang.Override
+  public java.lang.String getGuiElementFindDurations() {
+    java.lang.Object ref = guiElementFindDurations_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      guiElementFindDurations_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string gui_element_find_durations = 18;</code>
+   * @return The bytes for guiElementFindDurations.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getGuiElementFindDurationsBytes() {
+    java.lang.Object ref = guiElementFindDurations_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      guiElementFindDurations_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -786,6 +831,9 @@ private static final long serialVersionUID = 0L;
         internalGetFailureCorridorCounts(),
         FailureCorridorCountsDefaultEntryHolder.defaultEntry,
         17);
+    if (!getGuiElementFindDurationsBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 18, guiElementFindDurations_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -859,6 +907,9 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(17, failureCorridorCounts__);
     }
+    if (!getGuiElementFindDurationsBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(18, guiElementFindDurations_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -904,6 +955,8 @@ private static final long serialVersionUID = 0L;
         other.internalGetFailureCorridorLimits())) return false;
     if (!internalGetFailureCorridorCounts().equals(
         other.internalGetFailureCorridorCounts())) return false;
+    if (!getGuiElementFindDurations()
+        .equals(other.getGuiElementFindDurations())) return false;
     if (!unknownFields.equals(other.unknownFields)) return false;
     return true;
   }
@@ -953,6 +1006,8 @@ private static final long serialVersionUID = 0L;
       hash = (37 * hash) + FAILURE_CORRIDOR_COUNTS_FIELD_NUMBER;
       hash = (53 * hash) + internalGetFailureCorridorCounts().hashCode();
     }
+    hash = (37 * hash) + GUI_ELEMENT_FIND_DURATIONS_FIELD_NUMBER;
+    hash = (53 * hash) + getGuiElementFindDurations().hashCode();
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -1147,6 +1202,8 @@ private static final long serialVersionUID = 0L;
 
       internalGetMutableFailureCorridorLimits().clear();
       internalGetMutableFailureCorridorCounts().clear();
+      guiElementFindDurations_ = "";
+
       return this;
     }
 
@@ -1212,6 +1269,7 @@ private static final long serialVersionUID = 0L;
       result.failureCorridorLimits_.makeImmutable();
       result.failureCorridorCounts_ = internalGetFailureCorridorCounts();
       result.failureCorridorCounts_.makeImmutable();
+      result.guiElementFindDurations_ = guiElementFindDurations_;
       onBuilt();
       return result;
     }
@@ -1335,6 +1393,10 @@ private static final long serialVersionUID = 0L;
           other.internalGetFailureCorridorLimits());
       internalGetMutableFailureCorridorCounts().mergeFrom(
           other.internalGetFailureCorridorCounts());
+      if (!other.getGuiElementFindDurations().isEmpty()) {
+        guiElementFindDurations_ = other.guiElementFindDurations_;
+        onChanged();
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -2707,6 +2769,81 @@ private static final long serialVersionUID = 0L;
           .putAll(values);
       return this;
     }
+    private java.lang.Object guiElementFindDurations_ = "";
+    /**
+     * <code>string gui_element_find_durations = 18;</code>
+     * @return The guiElementFindDurations.
+     */
+    public java.lang.String getGuiElementFindDurations() {
+      java.lang.Object ref = guiElementFindDurations_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        guiElementFindDurations_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string gui_element_find_durations = 18;</code>
+     * @return The bytes for guiElementFindDurations.
+     */
+    public com.google.protobuf.ByteString
+        getGuiElementFindDurationsBytes() {
+      java.lang.Object ref = guiElementFindDurations_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        guiElementFindDurations_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string gui_element_find_durations = 18;</code>
+     * @param value The guiElementFindDurations to set.
+     * @return This builder for chaining.
+     */
+    public Builder setGuiElementFindDurations(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      guiElementFindDurations_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string gui_element_find_durations = 18;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearGuiElementFindDurations() {
+      
+      guiElementFindDurations_ = getDefaultInstance().getGuiElementFindDurations();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string gui_element_find_durations = 18;</code>
+     * @param value The bytes for guiElementFindDurations to set.
+     * @return This builder for chaining.
+     */
+    public Builder setGuiElementFindDurationsBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      guiElementFindDurations_ = value;
+      onChanged();
+      return this;
+    }
     @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
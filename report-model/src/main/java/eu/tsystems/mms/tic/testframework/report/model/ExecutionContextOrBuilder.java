@@ -256,4 +256,16 @@ public interface ExecutionContextOrBuilder extends
 
   int getFailureCorridorCountsOrThrow(
       int key);
+
+  /**
+   * <code>string gui_element_find_durations = 18;</code>
+   * @return The guiElementFindDurations.
+   */
+  java.lang.String getGuiElementFindDurations();
+  /**
+   * <code>string gui_element_find_durations = 18;</code>
+   * @return The bytes for guiElementFindDurations.
+   */
+  com.google.protobuf.ByteString
+      getGuiElementFindDurationsBytes();
 }
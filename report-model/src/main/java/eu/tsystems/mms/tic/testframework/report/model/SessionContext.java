@@ -24,6 +24,7 @@ private static final long serialVersionUID = 0L;
     capabilities_ = "";
     serverUrl_ = "";
     nodeUrl_ = "";
+    guiElementFindDurations_ = "";
   }
 
   @java.lang.Override
@@ -117,6 +118,12 @@ private static final long serialVersionUID = 0L;
             nodeUrl_ = s;
             break;
           }
+          case 114: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            guiElementFindDurations_ = s;
+            break;
+          }
           default: {
             if (!parseUnknownField(
                 input, unknownFields, extensionRegistry, tag)) {
@@ -491,6 +498,44 @@ private static final long serialVersionUID = 0L;
     }
   }
 
+  public static final int GUI_ELEMENT_FIND_DURATIONS_FIELD_NUMBER = 14;
+  private volatile java.lang.Object guiElementFindDurations_;
+  /**
+   * <code>string gui_element_find_durations = 14;</code>
+   * @return The guiElementFindDurations.
+   */
+  @java.lang.Override
+  public java.lang.String getGuiElementFindDurations() {
+    java.lang.Object ref = guiElementFindDurations_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      guiElementFindDurations_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string gui_element_find_durations = 14;</code>
+   * @return The bytes for guiElementFindDurations.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getGuiElementFindDurationsBytes() {
+    java.lang.Object ref = guiElementFindDurations_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      guiElementFindDurations_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -532,6 +577,9 @@ private static final long serialVersionUID = 0L;
     if (!getNodeUrlBytes().isEmpty()) {
       com.google.protobuf.GeneratedMessageV3.writeString(output, 13, nodeUrl_);
     }
+    if (!getGuiElementFindDurationsBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 14, guiElementFindDurations_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -569,6 +617,9 @@ private static final long serialVersionUID = 0L;
     if (!getNodeUrlBytes().isEmpty()) {
       size += com.google.protobuf.GeneratedMessageV3.computeStringSize(13, nodeUrl_);
     }
+    if (!getGuiElementFindDurationsBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(14, guiElementFindDurations_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -605,6 +656,8 @@ private static final long serialVersionUID = 0L;
         .equals(other.getServerUrl())) return false;
     if (!getNodeUrl()
         .equals(other.getNodeUrl())) return false;
+    if (!getGuiElementFindDurations()
+        .equals(other.getGuiElementFindDurations())) return false;
     if (!unknownFields.equals(other.unknownFields)) return false;
     return true;
   }
@@ -636,6 +689,8 @@ private static final long serialVersionUID = 0L;
     hash = (53 * hash) + getServerUrl().hashCode();
     hash = (37 * hash) + NODE_URL_FIELD_NUMBER;
     hash = (53 * hash) + getNodeUrl().hashCode();
+    hash = (37 * hash) + GUI_ELEMENT_FIND_DURATIONS_FIELD_NUMBER;
+    hash = (53 * hash) + getGuiElementFindDurations().hashCode();
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -791,6 +846,8 @@ private static final long serialVersionUID = 0L;
 
       nodeUrl_ = "";
 
+      guiElementFindDurations_ = "";
+
       return this;
     }
 
@@ -830,6 +887,7 @@ private static final long serialVersionUID = 0L;
       result.capabilities_ = capabilities_;
       result.serverUrl_ = serverUrl_;
       result.nodeUrl_ = nodeUrl_;
+      result.guiElementFindDurations_ = guiElementFindDurations_;
       onBuilt();
       return result;
     }
@@ -913,6 +971,10 @@ private static final long serialVersionUID = 0L;
         nodeUrl_ = other.nodeUrl_;
         onChanged();
       }
+      if (!other.getGuiElementFindDurations().isEmpty()) {
+        guiElementFindDurations_ = other.guiElementFindDurations_;
+        onChanged();
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -1698,6 +1760,81 @@ private static final long serialVersionUID = 0L;
       onChanged();
       return this;
     }
+    private java.lang.Object guiElementFindDurations_ = "";
+    /**
+     * <code>string gui_element_find_durations = 14;</code>
+     * @return The guiElementFindDurations.
+     */
+    public java.lang.String getGuiElementFindDurations() {
+      java.lang.Object ref = guiElementFindDurations_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        guiElementFindDurations_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string gui_element_find_durations = 14;</code>
+     * @return The bytes for guiElementFindDurations.
+     */
+    public com.google.protobuf.ByteString
+        getGuiElementFindDurationsBytes() {
+      java.lang.Object ref = guiElementFindDurations_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        guiElementFindDurations_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string gui_element_find_durations = 14;</code>
+     * @param value The guiElementFindDurations to set.
+     * @return This builder for chaining.
+     */
+    public Builder setGuiElementFindDurations(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      guiElementFindDurations_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string gui_element_find_durations = 14;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearGuiElementFindDurations() {
+      
+      guiElementFindDurations_ = getDefaultInstance().getGuiElementFindDurations();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string gui_element_find_durations = 14;</code>
+     * @param value The bytes for guiElementFindDurations to set.
+     * @return This builder for chaining.
+     */
+    public Builder setGuiElementFindDurationsBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      guiElementFindDurations_ = value;
+      onChanged();
+      return this;
+    }
     @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -129,4 +129,16 @@ public interface SessionContextOrBuilder extends
    */
   com.google.protobuf.ByteString
       getNodeUrlBytes();
+
+  /**
+   * <code>string gui_element_find_durations = 14;</code>
+   * @return The guiElementFindDurations.
+   */
+  java.lang.String getGuiElementFindDurations();
+  /**
+   * <code>string gui_element_find_durations = 14;</code>
+   * @return The bytes for guiElementFindDurations.
+   */
+  com.google.protobuf.ByteString
+      getGuiElementFindDurationsBytes();
 }
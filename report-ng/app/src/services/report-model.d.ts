@@ -190,6 +190,9 @@ export namespace data {
 
         /** ExecutionContext failureCorridorCounts */
         failureCorridorCounts?: ({ [k: string]: number }|null);
+
+        /** ExecutionContext guiElementFindDurations */
+        guiElementFindDurations?: (string|null);
     }
 
     /** Represents an ExecutionContext. */
@@ -237,6 +240,9 @@ export namespace data {
         /** ExecutionContext failureCorridorCounts. */
         public failureCorridorCounts: { [k: string]: number };
 
+        /** ExecutionContext guiElementFindDurations. */
+        public guiElementFindDurations: string;
+
         /**
          * Decodes an ExecutionContext message from the specified reader or buffer.
          * @param r Reader or buffer to decode from
@@ -809,6 +815,9 @@ export namespace data {
 
         /** SessionContext nodeUrl */
         nodeUrl?: (string|null);
+
+        /** SessionContext guiElementFindDurations */
+        guiElementFindDurations?: (string|null);
     }
 
     /** Represents a SessionContext. */
@@ -847,6 +856,9 @@ export namespace data {
         /** SessionContext nodeUrl. */
         public nodeUrl: string;
 
+        /** SessionContext guiElementFindDurations. */
+        public guiElementFindDurations: string;
+
         /**
          * Decodes a SessionContext message from the specified reader or buffer.
          * @param r Reader or buffer to decode from
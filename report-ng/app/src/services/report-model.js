@@ -355,6 +355,7 @@ export const data = $root.data = (() => {
          * @property {number|null} [estimatedTestsCount] ExecutionContext estimatedTestsCount
          * @property {Object.<string,number>|null} [failureCorridorLimits] ExecutionContext failureCorridorLimits
          * @property {Object.<string,number>|null} [failureCorridorCounts] ExecutionContext failureCorridorCounts
+         * @property {string|null} [guiElementFindDurations] ExecutionContext guiElementFindDurations
          */
 
         /**
@@ -473,6 +474,14 @@ export const data = $root.data = (() => {
          */
         ExecutionContext.prototype.failureCorridorCounts = $util.emptyObject;
 
+        /**
+         * ExecutionContext guiElementFindDurations.
+         * @member {string} guiElementFindDurations
+         * @memberof data.ExecutionContext
+         * @instance
+         */
+        ExecutionContext.prototype.guiElementFindDurations = "";
+
         /**
          * Decodes an ExecutionContext message from the specified reader or buffer.
          * @function decode
@@ -571,6 +580,9 @@ export const data = $root.data = (() => {
                     }
                     m.failureCorridorCounts[k] = value;
                     break;
+                case 18:
+                    m.guiElementFindDurations = r.string();
+                    break;
                 default:
                     r.skipType(t & 7);
                     break;
@@ -1792,6 +1804,7 @@ export const data = $root.data = (() => {
          * @property {string|null} [capabilities] SessionContext capabilities
          * @property {string|null} [serverUrl] SessionContext serverUrl
          * @property {string|null} [nodeUrl] SessionContext nodeUrl
+         * @property {string|null} [guiElementFindDurations] SessionContext guiElementFindDurations
          */
 
         /**
@@ -1881,6 +1894,14 @@ export const data = $root.data = (() => {
          */
         SessionContext.prototype.nodeUrl = "";
 
+        /**
+         * SessionContext guiElementFindDurations.
+         * @member {string} guiElementFindDurations
+         * @memberof data.SessionContext
+         * @instance
+         */
+        SessionContext.prototype.guiElementFindDurations = "";
+
         /**
          * Decodes a SessionContext message from the specified reader or buffer.
          * @function decode
@@ -1926,6 +1947,9 @@ export const data = $root.data = (() => {
                 case 13:
                     m.nodeUrl = r.string();
                     break;
+                case 14:
+                    m.guiElementFindDurations = r.string();
+                    break;
                 default:
                     r.skipType(t & 7);
                     break;
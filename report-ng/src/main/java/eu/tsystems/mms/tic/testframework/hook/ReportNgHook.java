@@ -23,6 +23,8 @@
 package eu.tsystems.mms.tic.testframework.hook;
 
 import com.google.common.eventbus.EventBus;
+import eu.tsystems.mms.tic.testframework.common.PropertyManager;
+import eu.tsystems.mms.tic.testframework.constants.TesterraProperties;
 import eu.tsystems.mms.tic.testframework.hooks.ModuleHook;
 import eu.tsystems.mms.tic.testframework.listeners.CopyReportAppListener;
 import eu.tsystems.mms.tic.testframework.listeners.GenerateReportNgModelListener;
@@ -37,7 +39,8 @@ public class ReportNgHook implements ModuleHook {
 
         Report report = TesterraListener.getReport();
         eventBus.register(new CopyReportAppListener(report.getReportDirectory()));
-        eventBus.register(new GenerateReportNgModelListener(report.getReportDirectory("report-ng/model")));
+        boolean streaming = PropertyManager.getBooleanProperty(TesterraProperties.REPORT_MODEL_STREAMING, false);
+        eventBus.register(new GenerateReportNgModelListener(report.getReportDirectory("report-ng/model"), streaming));
     }
 
     @Override
@@ -21,6 +21,7 @@
 
 package eu.tsystems.mms.tic.testframework.listeners;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.events.FinalizeExecutionEvent;
 import eu.tsystems.mms.tic.testframework.logging.Loggable;
@@ -51,6 +52,7 @@ public class CopyReportAppListener implements FinalizeExecutionEvent.Listener, L
     }
 
     @Subscribe
+    @AllowConcurrentEvents
     @Override
     public void onFinalizeExecution(FinalizeExecutionEvent event) {
         try {
@@ -21,9 +21,14 @@
 
 package eu.tsystems.mms.tic.testframework.listeners;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.adapters.ContextExporter;
 import eu.tsystems.mms.tic.testframework.events.FinalizeExecutionEvent;
+import eu.tsystems.mms.tic.testframework.events.TestStatusUpdateEvent;
+import eu.tsystems.mms.tic.testframework.internal.MethodRelations;
+import eu.tsystems.mms.tic.testframework.report.Status;
+import eu.tsystems.mms.tic.testframework.report.TesterraListener;
 import eu.tsystems.mms.tic.testframework.report.model.ExecutionAggregate;
 import eu.tsystems.mms.tic.testframework.report.model.context.MethodContext;
 import eu.tsystems.mms.tic.testframework.report.model.context.SessionContext;
@@ -31,11 +36,43 @@ import eu.tsystems.mms.tic.testframework.report.model.context.ExecutionContext;
 import eu.tsystems.mms.tic.testframework.report.model.context.Screenshot;
 import eu.tsystems.mms.tic.testframework.report.model.context.Video;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Stream;
 
-public class GenerateReportNgModelListener extends AbstractReportModelListener implements FinalizeExecutionEvent.Listener{
+/**
+ * Generates the report-ng model.
+ *
+ * In streaming mode (see {@link eu.tsystems.mms.tic.testframework.constants.TesterraProperties#REPORT_MODEL_STREAMING}),
+ * every method context gets exported as soon as it is final and appended to a method stream file.
+ * Each record is a serialized {@link ExecutionAggregate} containing only this single method context.
+ * Since concatenated protobuf messages are merged on parsing, the stream file is appended as it is
+ * to the small aggregate of all other contexts on {@link FinalizeExecutionEvent}.
+ */
+public class GenerateReportNgModelListener extends AbstractReportModelListener implements
+        FinalizeExecutionEvent.Listener,
+        TestStatusUpdateEvent.Listener
+{
     private final ExecutionAggregate.Builder executionAggregateBuilder = ExecutionAggregate.newBuilder();
+    private final boolean streaming;
+    /**
+     * Finalized method contexts per thread, waiting for their {@link MethodRelations} to be flushed
+     */
+    private final Map<Long, Queue<MethodContext>> pendingMethodContexts = new ConcurrentHashMap<>();
+    /**
+     * The status of every streamed method context at the time it was exported
+     */
+    private final Map<String, Status> streamedMethodContexts = new ConcurrentHashMap<>();
+    private FileOutputStream methodStream;
+    private File methodStreamFile;
 
     private final ContextExporter contextExporter = new ContextExporter() {
 
@@ -59,14 +96,54 @@ public class GenerateReportNgModelListener extends AbstractReportModelListener i
     };
 
     public GenerateReportNgModelListener(File baseDir) {
+        this(baseDir, false);
+    }
+
+    public GenerateReportNgModelListener(File baseDir, boolean streaming) {
         super(baseDir);
+        this.streaming = streaming;
+    }
+
+    @Override
+    @Subscribe
+    @AllowConcurrentEvents
+    public void onTestStatusUpdate(TestStatusUpdateEvent event) {
+        if (!streaming) {
+            return;
+        }
+        Queue<MethodContext> methodContexts = pendingMethodContexts.computeIfAbsent(Thread.currentThread().getId(), threadId -> new ConcurrentLinkedQueue<>());
+        MethodContext methodContext = event.getMethodContext();
+        if (!methodContexts.contains(methodContext)) {
+            methodContexts.add(methodContext);
+        }
+
+        /**
+         * The related method contexts are only known after the relation group has been flushed,
+         * which happens when the next group starts in this thread.
+         */
+        TesterraListener.getLogAppender().flush();
+        Iterator<MethodContext> iterator = methodContexts.iterator();
+        while (iterator.hasNext()) {
+            MethodContext pendingMethodContext = iterator.next();
+            if (!MethodRelations.isPending(pendingMethodContext)) {
+                iterator.remove();
+                streamMethod(pendingMethodContext);
+            }
+        }
     }
 
     @Override
     @Subscribe
+    @AllowConcurrentEvents
     public void onFinalizeExecution(FinalizeExecutionEvent event) {
         ExecutionContext executionContext = event.getExecutionContext();
 
+        if (streaming) {
+            TesterraListener.getLogAppender().flush();
+            pendingMethodContexts.values().forEach(methodContexts -> methodContexts.forEach(this::streamMethod));
+            pendingMethodContexts.clear();
+        }
+
         executionContext.readSuiteContexts().forEach(suiteContext -> {
             executionAggregateBuilder.putSuiteContexts(suiteContext.getId(), contextExporter.buildSuiteContext(suiteContext).build());
 
@@ -88,7 +165,12 @@ public class GenerateReportNgModelListener extends AbstractReportModelListener i
 
         eu.tsystems.mms.tic.testframework.report.model.ExecutionContext.Builder executionContextBuilder = contextExporter.buildExecutionContext(executionContext);
         executionAggregateBuilder.setExecutionContext(executionContextBuilder);
-        writeBuilderToFile(executionAggregateBuilder, new File(baseDir, "execution"));
+        File executionFile = new File(baseDir, "execution");
+        writeBuilderToFile(executionAggregateBuilder, executionFile);
+
+        if (methodStreamFile != null) {
+            appendMethodStream(executionFile);
+        }
     }
 
     private void buildUniqueSession(SessionContext sessionContext) {
@@ -99,8 +181,61 @@ public class GenerateReportNgModelListener extends AbstractReportModelListener i
     }
 
     private void buildUniqueMethod(MethodContext methodContext) {
-        if (!executionAggregateBuilder.containsMethodContexts(methodContext.getId())) {
+        if (streaming) {
+            // Export it again, when the status has changed after streaming
+            if (streamedMethodContexts.get(methodContext.getId()) != methodContext.getStatus()) {
+                streamMethod(methodContext);
+            }
+        } else if (!executionAggregateBuilder.containsMethodContexts(methodContext.getId())) {
             executionAggregateBuilder.putMethodContexts(methodContext.getId(), contextExporter.buildMethodContext(methodContext).build());
         }
     }
+
+    private void streamMethod(MethodContext methodContext) {
+        streamedMethodContexts.put(methodContext.getId(), methodContext.getStatus());
+        byte[] bytes = ExecutionAggregate.newBuilder()
+                .putMethodContexts(methodContext.getId(), contextExporter.buildMethodContext(methodContext).build())
+                .build()
+                .toByteArray();
+
+        synchronized (streamedMethodContexts) {
+            try {
+                if (methodStream == null) {
+                    methodStreamFile = new File(getMethodsDir(), "stream");
+                    methodStream = new FileOutputStream(methodStreamFile);
+                }
+                methodStream.write(bytes);
+            } catch (IOException e) {
+                log().error("Unable to write method context " + methodContext.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Appends the method stream to the execution file and removes it.
+     */
+    private void appendMethodStream(File executionFile) {
+        synchronized (streamedMethodContexts) {
+            try {
+                methodStream.close();
+                try (
+                        FileChannel source = new FileInputStream(methodStreamFile).getChannel();
+                        FileChannel target = new FileOutputStream(executionFile, true).getChannel()
+                ) {
+                    long position = 0;
+                    long size = source.size();
+                    while (position < size) {
+                        position += source.transferTo(position, size - position, target);
+                    }
+                }
+            } catch (IOException e) {
+                log().error("Unable to append method stream to " + executionFile, e);
+            } finally {
+                methodStream = null;
+                methodStreamFile.delete();
+                getMethodsDir().delete();
+                methodStreamFile = null;
+            }
+        }
+    }
 }
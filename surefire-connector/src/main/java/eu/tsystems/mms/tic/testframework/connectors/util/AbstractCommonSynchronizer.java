@@ -21,8 +21,10 @@
  */
 package eu.tsystems.mms.tic.testframework.connectors.util;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.Subscribe;
 import eu.tsystems.mms.tic.testframework.events.MethodEndEvent;
+import eu.tsystems.mms.tic.testframework.events.SubscriberLock;
 import eu.tsystems.mms.tic.testframework.logging.Loggable;
 import org.testng.ITestResult;
 
@@ -51,8 +53,14 @@ public abstract class AbstractCommonSynchronizer implements Loggable, MethodEndE
     }
 
     @Subscribe
+    @AllowConcurrentEvents
     @Override
     public void onMethodEnd(MethodEndEvent event) {
+        // Synchronizers are not required to be thread safe, so each instance runs one event at a time
+        SubscriberLock.of(getClass()).run(this, () -> synchronize(event));
+    }
+
+    private void synchronize(MethodEndEvent event) {
         final ITestResult currentTestResult = event.getTestResult();
 
         switch (currentTestResult.getStatus()) {
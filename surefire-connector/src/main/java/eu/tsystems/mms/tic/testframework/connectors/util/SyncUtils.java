@@ -216,7 +216,7 @@ public final class SyncUtils {
         final List<File> fileList = new ArrayList<>();
 
         for (Screenshot screenshot : screenshotList) {
-            fileList.add(screenshot.getScreenshotFile());
+            fileList.add(screenshot.awaitProcessing().getScreenshotFile());
         }
 
         return fileList;